@@ -12,6 +12,7 @@ import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.Array;
 import components.BlocklyUIComponent;
 import core.Entity;
+import core.game.RandomService;
 import core.level.utils.DesignLabel;
 import core.level.utils.LevelElement;
 import core.level.utils.TileTextureFactory;
@@ -20,8 +21,8 @@ import core.utils.components.path.SimpleIPath;
 import entities.utility.HUDVariable;
 import java.util.ArrayList;
 import java.util.Optional;
-import java.util.Random;
 import java.util.TreeSet;
+import java.util.random.RandomGenerator;
 
 /**
  * This class will control the variable HUD. It will display tiles on the right, left and bottom
@@ -45,7 +46,7 @@ public class VariableHUD extends BlocklyHUD {
   // Monster table
   private Table monsterTable;
   private ArrayList<Texture> monsterTextures;
-  private final Random RANDOM = new Random();
+  private final RandomGenerator RANDOM = RandomService.stream(VariableHUD.class);
   // For Labels
   private float initialWidth;
   TreeSet<HUDVariable> variables = new TreeSet<>();
@@ -1,5 +1,6 @@
 package level;
 
+import core.game.RandomService;
 import core.level.utils.Coordinate;
 import core.level.utils.DesignLabel;
 import core.level.utils.LevelElement;
@@ -12,6 +13,7 @@ import java.net.URISyntaxException;
 import java.nio.file.*;
 import java.util.*;
 import java.util.logging.Logger;
+import java.util.random.RandomGenerator;
 import java.util.stream.Stream;
 
 /**
@@ -29,7 +31,7 @@ public class LevelParser {
   // Top Level key is the level name -> Returns another Map. Key for this map is the difficulty of
   // the level.
   private static final Map<String, Map<String, List<String>>> LEVELS = new HashMap<>();
-  protected static final Random RANDOM = new Random();
+  protected static final RandomGenerator RANDOM = RandomService.stream(LevelParser.class);
 
   /**
    * Retrieve a random layout for the specified level.
@@ -14,6 +14,7 @@ import core.Entity;
 import core.Game;
 import core.components.PositionComponent;
 import core.components.VelocityComponent;
+import core.game.Replay;
 import core.utils.Point;
 import core.utils.components.MissingComponentException;
 import entities.VariableHUD;
@@ -23,7 +24,10 @@ import java.io.OutputStream;
 import java.net.InetSocketAddress;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -116,13 +120,23 @@ public class Server {
    */
   public static VariableHUD variableHUD = null;
 
+  /** Name under which the actions in the dungeon are recorded, see {@link Replay}. */
+  public static final String REPLAY_CHANNEL = "blockly";
+
+  /**
+   * Time in milliseconds to wait for the game thread to execute an action. If the game does not
+   * tick (e.g., because it is paused or was closed), the action is dropped after this time.
+   */
+  private static final long ACTION_TIMEOUT_MS = 5000;
+
   /**
-   * Constructor of the server. Sets the hero.
+   * Constructor of the server. Sets the hero and registers the handler for replayed actions.
    *
    * @param hero The hero entity. Used to control the movement of the hero.
    */
   public Server(Entity hero) {
     Server.hero = hero;
+    Replay.onAction(REPLAY_CHANNEL, Server::executeAction);
   }
 
   /**
@@ -1045,9 +1059,42 @@ public class Server {
    * Perform an actual action in the dungeon with the hero. This can either be movement or a
    * fireball in a specific direction.
    *
+   * <p>The server runs on its own thread, so the action is submitted to the game thread (see {@link
+   * Replay#submitAction(String, String)}), where it is executed and, if the input of the game is
+   * recorded, recorded at the beginning of the next tick. Waits until the action was executed and
+   * the hero had time to move.
+   *
+   * <p>If the action is not executed within {@link #ACTION_TIMEOUT_MS} or throws an exception, the
+   * action is dropped and the error is reported to the blockly frontend.
+   *
    * @param action Current action
    */
   private static void performAction(String action) {
+    CompletableFuture<Void> done = Replay.submitAction(REPLAY_CHANNEL, action);
+    try {
+      done.get(ACTION_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      done.cancel(false);
+      setError("The game did not execute the action " + action + " in time");
+      return;
+    } catch (ExecutionException e) {
+      setError(e.getCause().getMessage());
+      return;
+    } catch (InterruptedException e) {
+      done.cancel(false);
+      Thread.currentThread().interrupt();
+      setError("Interrupted while waiting for the action " + action);
+      return;
+    }
+    waitDelta();
+  }
+
+  /**
+   * Execute an action on the game thread.
+   *
+   * @param action Current action
+   */
+  private static void executeAction(String action) {
     switch (action) {
       case "oben();" -> up();
       case "unten();" -> down();
@@ -1067,8 +1114,6 @@ public class Server {
         hero.fetch(VelocityComponent.class)
             .orElseThrow(() -> MissingComponentException.build(hero, VelocityComponent.class));
     vc.currentYVelocity(1 * vc.yVelocity());
-
-    waitDelta();
   }
 
   /** Move the hero down. */
@@ -1077,8 +1122,6 @@ public class Server {
         hero.fetch(VelocityComponent.class)
             .orElseThrow(() -> MissingComponentException.build(hero, VelocityComponent.class));
     vc.currentYVelocity(-1 * vc.yVelocity());
-
-    waitDelta();
   }
 
   /** Move the hero to the left. */
@@ -1087,8 +1130,6 @@ public class Server {
         hero.fetch(VelocityComponent.class)
             .orElseThrow(() -> MissingComponentException.build(hero, VelocityComponent.class));
     vc.currentXVelocity(-1 * vc.xVelocity());
-
-    waitDelta();
   }
 
   /** Move the hero to the right. */
@@ -1097,8 +1138,6 @@ public class Server {
         hero.fetch(VelocityComponent.class)
             .orElseThrow(() -> MissingComponentException.build(hero, VelocityComponent.class));
     vc.currentXVelocity(1 * vc.xVelocity());
-
-    waitDelta();
   }
 
   private static void waitDelta() {
@@ -1209,7 +1248,6 @@ public class Server {
                 }),
             1);
     fireball.execute(hero);
-    waitDelta();
   }
 
   /** Throw a fireball downwards. */
@@ -1228,7 +1266,6 @@ public class Server {
                 }),
             1);
     fireball.execute(hero);
-    waitDelta();
   }
 
   /** Throw a fireball to the left. */
@@ -1247,7 +1284,6 @@ public class Server {
                 }),
             1);
     fireball.execute(hero);
-    waitDelta();
   }
 
   /** Throw a fireball to the right. */
@@ -1266,7 +1302,6 @@ public class Server {
                 }),
             1);
     fireball.execute(hero);
-    waitDelta();
   }
 
   /*public static void interact() {
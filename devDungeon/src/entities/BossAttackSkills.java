@@ -23,9 +23,9 @@ import core.utils.components.path.SimpleIPath;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.random.RandomGenerator;
 import level.utils.LevelUtils;
 import systems.EventScheduler;
 import utils.EntityUtils;
@@ -362,7 +362,7 @@ public class BossAttackSkills {
    */
   private static boolean getBossAttackChance(Entity boss) {
     double healthPercentage = calculateBossHealthPercentage(boss);
-    Random random = Game.currentLevel().RANDOM;
+    RandomGenerator random = Game.currentLevel().RANDOM;
 
     if (healthPercentage > 75) {
       return random.nextDouble() < 0.4;
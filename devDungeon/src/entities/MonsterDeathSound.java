@@ -1,12 +1,13 @@
 package entities;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.audio.Sound;
+import core.utils.components.path.IPath;
+import core.utils.components.path.SimpleIPath;
 
 /**
  * An enumeration of the different sounds that a monster can make when it dies.
  *
- * <p>Each sound is represented by a Sound object that can be played when the monster dies.
+ * <p>Each sound is represented by a path to the sound file that can be played when the monster
+ * dies.
  */
 public enum MonsterDeathSound {
   /** A basic death sound. */
@@ -20,22 +21,19 @@ public enum MonsterDeathSound {
   /** No sound. */
   NONE("");
 
-  private final Sound sound;
+  private final IPath path;
 
   MonsterDeathSound(String path) {
-    if (path.isEmpty()) {
-      this.sound = null;
-    } else {
-      this.sound = Gdx.audio.newSound(Gdx.files.internal(path));
-    }
+    this.path = path.isEmpty() ? null : new SimpleIPath(path);
   }
 
   /**
-   * Returns the sound of the monster's death.
+   * Returns the path to the sound of the monster's death.
    *
-   * @return The sound of the monster's death. If the monster has no sound, returns null.
+   * @return The path to the sound of the monster's death. If the monster has no sound, returns
+   *     null.
    */
-  public Sound getSound() {
-    return sound;
+  public IPath getPath() {
+    return path;
   }
 }
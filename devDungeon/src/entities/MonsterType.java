@@ -1,6 +1,5 @@
 package entities;
 
-import com.badlogic.gdx.audio.Sound;
 import components.ReviveComponent;
 import contrib.components.AIComponent;
 import contrib.components.InteractionComponent;
@@ -295,7 +294,7 @@ public enum MonsterType {
 
   private final String name;
   private final IPath texture;
-  private final Sound deathSound;
+  private final IPath deathSound;
   private final Supplier<Consumer<Entity>> fightAISupplier;
   private final Supplier<Consumer<Entity>> idleAISupplier;
   private final Supplier<Function<Entity, Boolean>> transitionAISupplier;
@@ -344,7 +343,7 @@ public enum MonsterType {
     this.health = health;
     this.speed = speed;
     this.itemChance = canHaveItems;
-    this.deathSound = deathSound.getSound();
+    this.deathSound = deathSound.getPath();
     this.reviveCount = reviveCount;
     this.fightAISupplier = fightAISupplier;
     this.idleAISupplier = idleAISupplier;
@@ -392,7 +391,7 @@ public enum MonsterType {
    *
    * @return A new Entity representing the monster.
    * @throws IOException if the animation could not be loaded.
-   * @see MonsterFactory#buildMonster(String, IPath, int, float, float, Sound, AIComponent, int,
+   * @see MonsterFactory#buildMonster(String, IPath, int, float, float, IPath, AIComponent, int,
    *     int, IPath) MonsterFactory.buildMonster
    */
   public Entity buildMonster() throws IOException {
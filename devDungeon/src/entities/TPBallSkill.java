@@ -1,11 +1,10 @@
 package entities;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.math.MathUtils;
 import contrib.utils.components.health.DamageType;
 import contrib.utils.components.skill.DamageProjectile;
 import core.components.PlayerComponent;
+import core.game.SoundService;
 import core.utils.Point;
 import core.utils.components.path.IPath;
 import core.utils.components.path.SimpleIPath;
@@ -68,18 +67,12 @@ public final class TPBallSkill extends DamageProjectile {
 
   @Override
   protected void playSound() {
-    Sound soundEffect = Gdx.audio.newSound(Gdx.files.internal(PROJECTILE_SOUND.pathString()));
-
     // Generate a random pitch between 1.5f and 2.0f
     float minPitch = 2f;
     float maxPitch = 3f;
     float randomPitch = MathUtils.random(minPitch, maxPitch);
 
     // Play the sound with the adjusted pitch
-    long soundId = soundEffect.play();
-    soundEffect.setPitch(soundId, randomPitch);
-
-    // Set the volume
-    soundEffect.setVolume(soundId, 0.05f);
+    SoundService.play(PROJECTILE_SOUND, 0.05f, randomPitch, SoundService.PRIORITY_NORMAL);
   }
 }
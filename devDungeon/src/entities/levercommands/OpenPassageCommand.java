@@ -1,14 +1,12 @@
 package entities.levercommands;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.audio.Sound;
 import core.Game;
+import core.game.SoundService;
 import core.level.Tile;
 import core.level.utils.Coordinate;
 import core.level.utils.LevelElement;
 import core.utils.components.path.IPath;
 import core.utils.components.path.SimpleIPath;
-import systems.EventScheduler;
 import systems.FogOfWarSystem;
 import utils.ICommand;
 
@@ -91,15 +89,7 @@ public class OpenPassageCommand implements ICommand {
   }
 
   private void playSound() {
-    Sound soundEffect = Gdx.audio.newSound(Gdx.files.internal(OPEN_PASSAGE.pathString()));
-
     // Play the sound with the adjusted pitch
-    long soundId = soundEffect.play();
-    soundEffect.setPitch(soundId, 0.57f);
-
-    // Set the volume
-    soundEffect.setVolume(soundId, 0.1f);
-
-    EventScheduler.getInstance().scheduleAction(soundEffect::dispose, 10000L);
+    SoundService.play(OPEN_PASSAGE, 0.1f, 0.57f, SoundService.PRIORITY_NORMAL);
   }
 }
@@ -2,10 +2,12 @@ package level;
 
 import contrib.hud.DialogUtils;
 import core.Game;
+import core.game.RandomService;
 import core.level.Tile;
 import core.level.TileLevel;
 import core.level.elements.tile.DoorTile;
 import core.level.elements.tile.ExitTile;
+import core.level.utils.AutoTiler;
 import core.level.utils.Coordinate;
 import core.level.utils.DesignLabel;
 import core.level.utils.LevelElement;
@@ -13,11 +15,15 @@ import core.utils.Point;
 import core.utils.components.path.IPath;
 import java.io.*;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Random;
+import java.util.Set;
+import java.util.random.RandomGenerator;
 import java.util.stream.IntStream;
 import level.devlevel.*;
+import level.utils.BinaryLevelFormat;
 import level.utils.ITickable;
+import level.utils.LevelFile;
 import level.utils.MissingLevelException;
 import starter.DevDungeon;
 
@@ -28,7 +34,7 @@ import starter.DevDungeon;
  */
 public abstract class DevDungeonLevel extends TileLevel implements ITickable {
 
-  protected static final Random RANDOM = new Random();
+  protected static final RandomGenerator RANDOM = RandomService.stream(DevDungeonLevel.class);
   private final List<Coordinate> customPoints = new ArrayList<>();
   private final List<Coordinate> tpTargets = new ArrayList<>();
 
@@ -107,19 +113,93 @@ public abstract class DevDungeonLevel extends TileLevel implements ITickable {
    * @return The loaded DevDungeonLevel.
    */
   public static DevDungeonLevel loadFromPath(IPath path) {
-    try {
-      BufferedReader reader;
-      if (path.pathString().startsWith("jar:")) {
-        InputStream is = DevDungeonLevel.class.getResourceAsStream(path.pathString().substring(4));
-        reader = new BufferedReader(new InputStreamReader(is));
-      } else {
-        File file = new File(path.pathString());
-        if (!file.exists()) {
-          throw new MissingLevelException(path.toString());
-        }
-        reader = new BufferedReader(new FileReader(file));
+    return fromLevelFile(readLevelFile(path));
+  }
+
+  /**
+   * Creates a DevDungeonLevel from the content of a level file.
+   *
+   * <p>The level file is not changed, so it can be used to create the level again.
+   *
+   * @param levelFile The parsed level file.
+   * @return The created DevDungeonLevel.
+   */
+  public static DevDungeonLevel fromLevelFile(LevelFile levelFile) {
+    DevDungeonLevel newLevel;
+    newLevel =
+        getDevLevel(
+            DevDungeon.DUNGEON_LOADER.currentLevel(),
+            levelFile.layout(),
+            levelFile.design(),
+            levelFile.customPoints());
+
+    // Set Hero Position
+    Tile heroTile = newLevel.tileAt(levelFile.heroPos());
+    if (heroTile == null) {
+      throw new RuntimeException("Invalid Hero Position: " + levelFile.heroPos());
+    }
+    newLevel.startTile(heroTile);
+
+    return newLevel;
+  }
+
+  /**
+   * Get the paths of all tile textures the level at the given path will use.
+   *
+   * <p>The level itself is not created, so this can be used on a background thread to prefetch the
+   * textures of an upcoming level, as long as the level file defines its design. Otherwise, a
+   * random design is drawn from the {@link core.game.RandomService}, which must only happen on the
+   * game thread.
+   *
+   * @param path The path to the level file.
+   * @return The texture paths of the tiles of the level.
+   * @see core.game.AssetStreamer
+   */
+  public static Set<IPath> texturePaths(IPath path) {
+    return texturePaths(readLevelFile(path));
+  }
+
+  /**
+   * Get the paths of all tile textures the level of the given level file will use.
+   *
+   * <p>If the level file does not define a design, a random design is drawn (see {@link
+   * LevelFile#design()}).
+   *
+   * @param levelFile The parsed level file.
+   * @return The texture paths of the tiles of the level.
+   * @see #texturePaths(IPath)
+   */
+  public static Set<IPath> texturePaths(LevelFile levelFile) {
+    LevelElement[][] layout = levelFile.layout();
+    DesignLabel design = levelFile.design();
+    AutoTiler tiler = new AutoTiler(layout);
+    Set<IPath> paths = new HashSet<>();
+    for (int y = 0; y < layout.length; y++) {
+      for (int x = 0; x < layout[0].length; x++) {
+        paths.add(tiler.texturePath(x, y, design));
       }
+    }
+    return paths;
+  }
 
+  /**
+   * Reads and parses the level file at the given path.
+   *
+   * <p>Files with the extension {@value BinaryLevelFormat#EXTENSION} are read with the {@link
+   * BinaryLevelFormat}, all other files are parsed as text.
+   *
+   * @param path The path to the level file.
+   * @return The parsed content of the level file.
+   */
+  public static LevelFile readLevelFile(IPath path) {
+    if (BinaryLevelFormat.isBinary(path)) {
+      try {
+        return BinaryLevelFormat.load(path);
+      } catch (IOException e) {
+        throw new RuntimeException("Error reading level file", e);
+      }
+    }
+    try (BufferedReader reader = openLevelFile(path)) {
       // Parse DesignLabel
       String designLabelLine = readLine(reader);
       DesignLabel designLabel = parseDesignLabel(designLabelLine);
@@ -140,23 +220,24 @@ public abstract class DevDungeonLevel extends TileLevel implements ITickable {
       }
       LevelElement[][] layout = loadLevelLayoutFromString(layoutLines);
 
-      DevDungeonLevel newLevel;
-      newLevel =
-          getDevLevel(DevDungeon.DUNGEON_LOADER.currentLevel(), layout, designLabel, customPoints);
-
-      // Set Hero Position
-      Tile heroTile = newLevel.tileAt(heroPos);
-      if (heroTile == null) {
-        throw new RuntimeException("Invalid Hero Position: " + heroPos);
-      }
-      newLevel.startTile(heroTile);
-
-      return newLevel;
+      return new LevelFile(designLabel, heroPos, customPoints, layout);
     } catch (IOException e) {
       throw new RuntimeException("Error reading level file", e);
     }
   }
 
+  private static BufferedReader openLevelFile(IPath path) throws IOException {
+    if (path.pathString().startsWith("jar:")) {
+      InputStream is = DevDungeonLevel.class.getResourceAsStream(path.pathString().substring(4));
+      return new BufferedReader(new InputStreamReader(is));
+    }
+    File file = new File(path.pathString());
+    if (!file.exists()) {
+      throw new MissingLevelException(path.toString());
+    }
+    return new BufferedReader(new FileReader(file));
+  }
+
   /**
    * Read a line from the reader, ignoring comments. It skips lines that start with a '#' (comments)
    * and returns the next non-empty line.
@@ -209,7 +290,7 @@ public abstract class DevDungeonLevel extends TileLevel implements ITickable {
   }
 
   private static DesignLabel parseDesignLabel(String line) {
-    if (line.isEmpty()) return DesignLabel.randomDesign();
+    if (line.isEmpty()) return null; // random design, see LevelFile#design()
     try {
       return DesignLabel.valueOf(line);
     } catch (IllegalArgumentException e) {
@@ -4,6 +4,7 @@ import components.TorchComponent;
 import contrib.components.AIComponent;
 import core.Entity;
 import core.level.Tile;
+import core.level.elements.ILevel;
 import core.level.utils.Coordinate;
 import java.util.List;
 import level.utils.LevelUtils;
@@ -106,7 +107,7 @@ public class DevDungeonRoom {
       mobs[i] =
           EntityUtils.spawnMonster(
               IllusionRiddleLevel.MONSTER_TYPES[
-                  (int) (Math.random() * IllusionRiddleLevel.MONSTER_TYPES.length)],
+                  ILevel.RANDOM.nextInt(IllusionRiddleLevel.MONSTER_TYPES.length)],
               mobSpawns[i]);
       if (mobs[i] != null)
         mobs[i]
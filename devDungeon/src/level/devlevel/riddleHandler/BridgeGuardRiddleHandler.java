@@ -18,6 +18,7 @@ import core.Game;
 import core.components.PlayerComponent;
 import core.components.PositionComponent;
 import core.level.TileLevel;
+import core.level.elements.ILevel;
 import core.level.elements.tile.DoorTile;
 import core.level.elements.tile.FloorTile;
 import core.level.elements.tile.PitTile;
@@ -166,7 +167,7 @@ public class BridgeGuardRiddleHandler implements IHealthObserver {
     lastRiddle.taskName("Riddle: Bridge Guard");
 
     for (int i = 0; i < 6; i++) {
-      lastRiddle.addAnswer(new Quiz.Content("" + (int) (Math.random() * Integer.MAX_VALUE)));
+      lastRiddle.addAnswer(new Quiz.Content("" + ILevel.RANDOM.nextInt(Integer.MAX_VALUE)));
     }
     lastRiddle.addCorrectAnswerIndex(0);
 
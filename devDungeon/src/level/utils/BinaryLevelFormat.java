@@ -0,0 +1,236 @@
+package level.utils;
+
+import core.level.utils.Coordinate;
+import core.level.utils.DesignLabel;
+import core.level.utils.LevelElement;
+import core.utils.Point;
+import core.utils.components.path.IPath;
+import core.utils.components.path.SimpleIPath;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import level.DevDungeonLevel;
+
+/**
+ * Reads and writes levels in a compact binary format.
+ *
+ * <p>The text format (".level") is easy to edit, but slow to parse. The binary format (".dlvl")
+ * stores the same content:
+ *
+ * <ul>
+ *   <li>a header with the magic number "DLVL" and the format version,
+ *   <li>the design label (or -1 for a random design),
+ *   <li>the hero position as two floats,
+ *   <li>the custom points as variable-length integers,
+ *   <li>the size of the layout and the layout itself, run-length encoded in row-major order: each
+ *       run is one byte with the element in the upper three bits and the run length - 1 in the
+ *       lower five bits; longer runs are followed by the rest of the length as variable-length
+ *       integer.
+ * </ul>
+ *
+ * <p>Level files are loaded with a {@link MappedByteBuffer}, so the file content is not copied.
+ * Levels inside a jar are read into a buffer in one go.
+ *
+ * <p>Run {@link #main(String[])} (or the gradle task {@code convertLevels}) to convert the text
+ * files to the binary format.
+ */
+public final class BinaryLevelFormat {
+
+  /** File extension of binary level files. */
+  public static final String EXTENSION = ".dlvl";
+
+  private static final Logger LOGGER = Logger.getLogger(BinaryLevelFormat.class.getSimpleName());
+  private static final int MAGIC = 0x444C564C; // "DLVL"
+  private static final byte VERSION = 1;
+  private static final byte RANDOM_DESIGN = -1;
+  private static final int RUN_BITS = 5;
+  private static final int MAX_SHORT_RUN = (1 << RUN_BITS) - 1;
+  private static final LevelElement[] ELEMENTS = LevelElement.values();
+  private static final DesignLabel[] DESIGNS = DesignLabel.values();
+
+  // for singleton
+  private BinaryLevelFormat() {}
+
+  /**
+   * Check if the given path is a binary level file.
+   *
+   * @param path The path to check.
+   * @return true if the path has the extension of binary level files, false if not.
+   */
+  public static boolean isBinary(final IPath path) {
+    return path.pathString().endsWith(EXTENSION);
+  }
+
+  /**
+   * Load the binary level file at the given path.
+   *
+   * <p>Paths starting with "jar:" are read as resources (see {@link DungeonLoader}).
+   *
+   * @param path The path to the level file.
+   * @return The content of the level file.
+   * @throws MissingLevelException If there is no file at the path.
+   * @throws IOException If the file can not be read or is not a binary level file.
+   */
+  public static LevelFile load(final IPath path) throws IOException {
+    if (path.pathString().startsWith("jar:")) {
+      try (InputStream in =
+          DevDungeonLevel.class.getResourceAsStream(path.pathString().substring(4))) {
+        if (in == null) throw new MissingLevelException(path.pathString());
+        return read(ByteBuffer.wrap(in.readAllBytes()));
+      }
+    }
+    Path file = Path.of(path.pathString());
+    if (!Files.exists(file)) throw new MissingLevelException(path.pathString());
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    }
+  }
+
+  /**
+   * Read a level in the binary format from the given buffer.
+   *
+   * @param buffer Buffer positioned at the start of the level.
+   * @return The content of the level file.
+   * @throws IOException If the buffer does not contain a binary level.
+   */
+  public static LevelFile read(final ByteBuffer buffer) throws IOException {
+    try {
+      if (buffer.getInt() != MAGIC) throw new IOException("Not a binary level file.");
+      byte version = buffer.get();
+      if (version != VERSION) throw new IOException("Unsupported level version " + version);
+      byte design = buffer.get();
+      DesignLabel designLabel = design == RANDOM_DESIGN ? null : DESIGNS[design];
+      Point heroPos = new Point(buffer.getFloat(), buffer.getFloat());
+      int pointCount = readVarInt(buffer);
+      List<Coordinate> customPoints = new ArrayList<>(pointCount);
+      for (int i = 0; i < pointCount; i++) {
+        customPoints.add(new Coordinate(readVarInt(buffer), readVarInt(buffer)));
+      }
+      int width = readVarInt(buffer);
+      int height = readVarInt(buffer);
+      LevelElement[][] layout = new LevelElement[height][width];
+      int cells = width * height;
+      int i = 0;
+      while (i < cells) {
+        int run = buffer.get() & 0xFF;
+        LevelElement element = ELEMENTS[run >>> RUN_BITS];
+        int length = run & MAX_SHORT_RUN;
+        if (length == MAX_SHORT_RUN) length += readVarInt(buffer);
+        length++;
+        if (i + length > cells) throw new IOException("Layout is larger than its size.");
+        for (int end = i + length; i < end; i++) layout[i / width][i % width] = element;
+      }
+      return new LevelFile(designLabel, heroPos, customPoints, layout);
+    } catch (BufferUnderflowException | ArrayIndexOutOfBoundsException e) {
+      throw new IOException("Malformed binary level file.", e);
+    }
+  }
+
+  /**
+   * Write a level in the binary format.
+   *
+   * @param level The content of the level file.
+   * @param out Stream to write to; it is flushed but not closed.
+   * @throws IOException If the stream can not be written.
+   */
+  public static void write(final LevelFile level, final OutputStream out) throws IOException {
+    DataOutputStream data = new DataOutputStream(out);
+    data.writeInt(MAGIC);
+    data.writeByte(VERSION);
+    data.writeByte(level.designLabel() == null ? RANDOM_DESIGN : level.designLabel().ordinal());
+    data.writeFloat(level.heroPos().x);
+    data.writeFloat(level.heroPos().y);
+    writeVarInt(data, level.customPoints().size());
+    for (Coordinate point : level.customPoints()) {
+      writeVarInt(data, point.x);
+      writeVarInt(data, point.y);
+    }
+    LevelElement[][] layout = level.layout();
+    int height = layout.length;
+    int width = height == 0 ? 0 : layout[0].length;
+    writeVarInt(data, width);
+    writeVarInt(data, height);
+    int cells = width * height;
+    int i = 0;
+    while (i < cells) {
+      LevelElement element = layout[i / width][i % width];
+      int length = 1;
+      while (i + length < cells && layout[(i + length) / width][(i + length) % width] == element)
+        length++;
+      int rest = length - 1;
+      data.writeByte(element.ordinal() << RUN_BITS | Math.min(rest, MAX_SHORT_RUN));
+      if (rest >= MAX_SHORT_RUN) writeVarInt(data, rest - MAX_SHORT_RUN);
+      i += length;
+    }
+    data.flush();
+  }
+
+  /**
+   * Write a level in the binary format to the given file.
+   *
+   * @param level The content of the level file.
+   * @param file Path of the file; an existing file is overwritten.
+   * @throws IOException If the file can not be written.
+   */
+  public static void save(final LevelFile level, final Path file) throws IOException {
+    try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+      write(level, out);
+    }
+  }
+
+  /**
+   * Convert level files from the text format to the binary format.
+   *
+   * <p>Each argument is a ".level" file or a directory that is searched for ".level" files. The
+   * binary file is written next to the text file, with the extension {@value #EXTENSION}.
+   *
+   * @param args The files and directories to convert.
+   * @throws IOException If a file can not be read or written.
+   */
+  public static void main(String[] args) throws IOException {
+    for (String arg : args) {
+      List<Path> files;
+      try (Stream<Path> paths = Files.walk(Path.of(arg))) {
+        files = paths.filter(path -> path.toString().endsWith(".level")).toList();
+      }
+      for (Path file : files) {
+        LevelFile level = DevDungeonLevel.readLevelFile(new SimpleIPath(file.toString()));
+        String name = file.getFileName().toString();
+        Path target = file.resolveSibling(name.substring(0, name.length() - 6) + EXTENSION);
+        save(level, target);
+        LOGGER.info("Converted " + file + " to " + target);
+      }
+    }
+  }
+
+  private static void writeVarInt(final DataOutputStream data, int value) throws IOException {
+    while ((value & ~0x7F) != 0) {
+      data.writeByte((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    data.writeByte(value);
+  }
+
+  private static int readVarInt(final ByteBuffer buffer) throws IOException {
+    int value = 0;
+    for (int shift = 0; shift < 32; shift += 7) {
+      byte b = buffer.get();
+      value |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) return value;
+    }
+    throw new IOException("Malformed variable-length number.");
+  }
+}
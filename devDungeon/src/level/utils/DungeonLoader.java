@@ -1,15 +1,20 @@
 package level.utils;
 
 import core.Game;
+import core.game.AssetStreamer;
+import core.game.RandomService;
 import core.level.elements.ILevel;
-import core.utils.components.path.IPath;
 import core.utils.components.path.SimpleIPath;
 import java.io.IOException;
+import java.lang.ref.SoftReference;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.file.*;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
+import java.util.random.RandomGenerator;
 import java.util.stream.Stream;
 import level.DevDungeonLevel;
 
@@ -18,18 +23,24 @@ import level.DevDungeonLevel;
  * specific order or to load a specific level. The DungeonLoader class is used to load levels from
  * the file system or from a jar file.
  *
+ * <p>Levels are stored in the text format (".level") or in the {@link BinaryLevelFormat binary
+ * format} (".dlvl"). If a variant exists in both formats, the binary file is used.
+ *
+ * <p>The level files are indexed when the first level is loaded and parsed on demand; parsed levels
+ * are cached. Each time a level is loaded, the next level in the level order is parsed and its tile
+ * textures are prefetched in the background with the {@link AssetStreamer}.
+ *
  * @see DevDungeonLevel
  */
 public class DungeonLoader {
 
   private static final Logger LOGGER = Logger.getLogger(DungeonLoader.class.getSimpleName());
-  private static final Random RANDOM = new Random();
+  private static final RandomGenerator RANDOM = RandomService.stream(DungeonLoader.class);
   private static final String LEVEL_PATH_PREFIX = "/levels";
-  private static final Map<String, List<String>> LEVELS = new HashMap<>();
-
-  static {
-    getAllLevelFilePaths();
-  }
+  private static final String TEXT_EXTENSION = ".level";
+  private static final Map<String, SoftReference<LevelFile>> PARSED_LEVELS =
+      new ConcurrentHashMap<>();
+  private static Map<String, List<String>> levels;
 
   private final String[] levelOrder;
   private int currentLevel = 0;
@@ -51,6 +62,42 @@ public class DungeonLoader {
     this.levelOrder = levelOrder;
   }
 
+  /**
+   * Get the catalogue of all level files, indexed by level name.
+   *
+   * <p>The catalogue is built on the first call. Only the paths of the files are indexed; the files
+   * are parsed when a level is loaded (see {@link #levelFile(String)}).
+   *
+   * @return Map from level names to the paths of their variants.
+   */
+  private static synchronized Map<String, List<String>> levels() {
+    if (levels == null) {
+      levels = new HashMap<>();
+      getAllLevelFilePaths();
+    }
+    return levels;
+  }
+
+  /**
+   * Get the parsed content of the level file at the given path.
+   *
+   * <p>Parsed level files are kept in a cache of soft references, so a level is parsed only once
+   * while there is enough memory, and parsed levels do not prevent the garbage collector from
+   * freeing memory. This method can be called from any thread.
+   *
+   * @param path The path to the level file, see {@link #levels()}.
+   * @return The content of the level file.
+   */
+  private static LevelFile levelFile(String path) {
+    SoftReference<LevelFile> cached = PARSED_LEVELS.get(path);
+    LevelFile levelFile = cached == null ? null : cached.get();
+    if (levelFile == null) {
+      levelFile = DevDungeonLevel.readLevelFile(new SimpleIPath(path));
+      PARSED_LEVELS.put(path, new SoftReference<>(levelFile));
+    }
+    return levelFile;
+  }
+
   private static void getAllLevelFilePaths() {
     if (isRunningFromJar()) {
       try {
@@ -94,12 +141,18 @@ public class DungeonLoader {
           .forEach(
               file -> {
                 String fileName = file.getFileName().toString();
-                if (fileName.endsWith(".level")) {
-                  String[] parts = fileName.split("_");
+                boolean binary = fileName.endsWith(BinaryLevelFormat.EXTENSION);
+                if (binary || fileName.endsWith(TEXT_EXTENSION)) {
+                  String baseName = fileName.substring(0, fileName.lastIndexOf('.'));
+                  // a converted variant is only loaded from its binary file
+                  if (!binary
+                      && Files.exists(file.resolveSibling(baseName + BinaryLevelFormat.EXTENSION)))
+                    return;
+                  String[] parts = baseName.split("_");
                   if (parts.length == 2) {
                     String levelName = parts[0];
                     String levelFilePath = file.toString();
-                    LEVELS
+                    levels
                         .computeIfAbsent(levelName, k -> new ArrayList<>())
                         .add(isJar ? "jar:" + levelFilePath : levelFilePath);
                   } else {
@@ -129,16 +182,16 @@ public class DungeonLoader {
   }
 
   private ILevel getRandomVariant(String levelName) {
-    List<String> levelVariants = LEVELS.get(levelName);
+    List<String> levelVariants = levels().get(levelName);
 
     if (levelVariants == null || levelVariants.isEmpty()) {
       throw new MissingLevelException(levelName);
     }
 
     // Random Level Variant Path
-    IPath levelPath = new SimpleIPath(levelVariants.get(RANDOM.nextInt(levelVariants.size())));
+    String levelPath = levelVariants.get(RANDOM.nextInt(levelVariants.size()));
 
-    return DevDungeonLevel.loadFromPath(levelPath);
+    return DevDungeonLevel.fromLevelFile(levelFile(levelPath));
   }
 
   /**
@@ -152,6 +205,7 @@ public class DungeonLoader {
     this.currentLevel++;
     try {
       Game.currentLevel(getRandomVariant(levelOrder[currentLevel]));
+      prefetchNextLevel();
     } catch (MissingLevelException | ArrayIndexOutOfBoundsException e) {
       System.out.println("Game Over!");
       System.out.println("You have passed all " + currentLevel + " levels!");
@@ -167,6 +221,7 @@ public class DungeonLoader {
   public void loadLevel(String levelName) {
     setCurrentLevelByLevelName(levelName);
     Game.currentLevel(getRandomVariant(levelName));
+    prefetchNextLevel();
   }
 
   /**
@@ -177,12 +232,41 @@ public class DungeonLoader {
    */
   public void loadLevel(String levelName, int variant) {
     setCurrentLevelByLevelName(levelName);
-    List<String> levelVariants = LEVELS.get(levelName);
+    List<String> levelVariants = levels().get(levelName);
     if (levelVariants == null || levelVariants.isEmpty() || variant >= levelVariants.size()) {
       throw new MissingLevelException(levelName);
     }
-    IPath levelPath = new SimpleIPath(levelVariants.get(variant));
-    Game.currentLevel(DevDungeonLevel.loadFromPath(levelPath));
+    Game.currentLevel(DevDungeonLevel.fromLevelFile(levelFile(levelVariants.get(variant))));
+    prefetchNextLevel();
+  }
+
+  /**
+   * Prefetch all variants of the next level in the level order.
+   *
+   * <p>The level files are parsed on a background thread and put into the cache of parsed levels,
+   * the textures are then loaded by the {@link AssetStreamer}. If there is no next level, nothing
+   * happens.
+   *
+   * <p>The textures of variants without a design label are not prefetched: their design is drawn
+   * from the {@link core.game.RandomService} on the game thread when the level is loaded, so it is
+   * not known in advance, and the background thread must not draw random numbers.
+   */
+  private void prefetchNextLevel() {
+    if (currentLevel + 1 >= levelOrder.length) return;
+    List<String> levelVariants = levels().get(levelOrder[currentLevel + 1]);
+    if (levelVariants == null) return;
+    CompletableFuture.runAsync(
+        () ->
+            levelVariants.forEach(
+                variant -> {
+                  try {
+                    LevelFile levelFile = levelFile(variant);
+                    if (levelFile.designLabel() == null) return;
+                    AssetStreamer.prefetch(DevDungeonLevel.texturePaths(levelFile));
+                  } catch (RuntimeException e) {
+                    LOGGER.warning("Failed to prefetch level " + variant + ": " + e.getMessage());
+                  }
+                }));
   }
 
   private void setCurrentLevelByLevelName(String levelName) {
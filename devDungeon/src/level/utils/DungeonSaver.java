@@ -3,10 +3,14 @@ package level.utils;
 import core.Entity;
 import core.Game;
 import core.components.PositionComponent;
+import core.level.Tile;
 import core.level.utils.Coordinate;
+import core.level.utils.DesignLabel;
 import core.level.utils.LevelElement;
 import core.utils.Point;
 import core.utils.components.MissingComponentException;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
@@ -30,38 +34,10 @@ public class DungeonSaver {
    * single string and prints it.
    */
   public static void saveCurrentDungeon() {
-    String designLabel;
-    if (Game.currentLevel().endTile() == null) {
-      designLabel =
-          Game.currentLevel()
-              .randomTile(LevelElement.FLOOR)
-              .orElseThrow(
-                  () ->
-                      new NoSuchElementException(
-                          "There is no floor tile in the level; cannot place the missing exit and cannot save the dungeon"))
-              .designLabel()
-              .name();
-    } else {
-      designLabel = Game.currentLevel().endTile().designLabel().name();
-    }
-
-    Entity hero = Game.hero().orElse(null);
-    Point heroPos;
-    if (hero != null) {
-      heroPos =
-          hero.fetch(PositionComponent.class)
-              .orElseThrow(
-                  () -> MissingComponentException.build(Game.hero().get(), PositionComponent.class))
-              .position();
-    } else {
-      heroPos = new Point(0, 0);
-    }
-    List<Coordinate> customPoints = new ArrayList<>();
-    if (Game.currentLevel() instanceof DevDungeonLevel) {
-      customPoints = ((DevDungeonLevel) Game.currentLevel()).customPoints();
-    }
+    String designLabel = designLabel().name();
+    Point heroPos = heroPosition();
     StringBuilder customPointsString = new StringBuilder();
-    for (Coordinate customPoint : customPoints) {
+    for (Coordinate customPoint : customPoints()) {
       customPointsString.append(customPoint.x).append(",").append(customPoint.y).append(";");
     }
 
@@ -82,6 +58,53 @@ public class DungeonSaver {
     System.out.println(result);
   }
 
+  /**
+   * Saves the current state of the dungeon to the given file in the {@link BinaryLevelFormat}.
+   *
+   * <p>The file contains the same information as the output of {@link #saveCurrentDungeon()}; the
+   * layout is not trimmed, since empty lines are run-length encoded anyway.
+   *
+   * @param file Path of the file; an existing file is overwritten.
+   * @throws IOException If the file can not be written.
+   */
+  public static void saveCurrentDungeon(Path file) throws IOException {
+    Tile[][] tiles = Game.currentLevel().layout();
+    LevelElement[][] layout = new LevelElement[tiles.length][tiles[0].length];
+    for (int y = 0; y < tiles.length; y++) {
+      for (int x = 0; x < tiles[0].length; x++) {
+        layout[y][x] = tiles[y][x].levelElement();
+      }
+    }
+    LevelFile level = new LevelFile(designLabel(), heroPosition(), customPoints(), layout);
+    BinaryLevelFormat.save(level, file);
+  }
+
+  private static DesignLabel designLabel() {
+    if (Game.currentLevel().endTile() == null) {
+      return Game.currentLevel()
+          .randomTile(LevelElement.FLOOR)
+          .orElseThrow(
+              () ->
+                  new NoSuchElementException(
+                      "There is no floor tile in the level; cannot place the missing exit and cannot save the dungeon"))
+          .designLabel();
+    }
+    return Game.currentLevel().endTile().designLabel();
+  }
+
+  private static Point heroPosition() {
+    Entity hero = Game.hero().orElse(null);
+    if (hero == null) return new Point(0, 0);
+    return hero.fetch(PositionComponent.class)
+        .orElseThrow(() -> MissingComponentException.build(hero, PositionComponent.class))
+        .position();
+  }
+
+  private static List<Coordinate> customPoints() {
+    if (Game.currentLevel() instanceof DevDungeonLevel level) return level.customPoints();
+    return new ArrayList<>();
+  }
+
   /**
    * The compressDungeonLayout method takes a multi-line string as input and returns a string where
    * all lines containing only 'S' are removed. It does this by using the replaceAll method with a
@@ -0,0 +1,35 @@
+package level.utils;
+
+import core.level.utils.Coordinate;
+import core.level.utils.DesignLabel;
+import core.level.utils.LevelElement;
+import core.utils.Point;
+import java.util.List;
+
+/**
+ * The content of a level file.
+ *
+ * <p>Level files are stored either in the text format (".level", see {@link
+ * level.DevDungeonLevel#readLevelFile(core.utils.components.path.IPath)}) or in the binary format
+ * (".dlvl", see {@link BinaryLevelFormat}).
+ *
+ * @param designLabel The design of the level, or null if a random design should be used.
+ * @param heroPos The start position of the hero.
+ * @param customPoints The custom points of the level.
+ * @param layout The layout of the level, indexed by [y][x].
+ */
+public record LevelFile(
+    DesignLabel designLabel,
+    Point heroPos,
+    List<Coordinate> customPoints,
+    LevelElement[][] layout) {
+
+  /**
+   * Get the design of the level.
+   *
+   * @return The design of the level, or a random design if the file does not define one.
+   */
+  public DesignLabel design() {
+    return designLabel == null ? DesignLabel.randomDesign() : designLabel;
+  }
+}
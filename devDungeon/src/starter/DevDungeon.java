@@ -19,6 +19,7 @@ import core.Entity;
 import core.Game;
 import core.System;
 import core.game.ECSManagment;
+import core.game.Replay;
 import core.systems.LevelSystem;
 import core.utils.components.path.SimpleIPath;
 import entities.BurningFireballSkill;
@@ -173,13 +174,13 @@ public class DevDungeon {
         new System() {
           @Override
           public void execute() {
-            if (Gdx.input.isKeyJustPressed(Input.Keys.NUMPAD_1)) {
+            if (Replay.isJustPressed(Input.Keys.NUMPAD_1)) {
               Game.hero()
                   .orElseThrow()
                   .fetch(InventoryComponent.class)
                   .orElseThrow()
                   .add(new ItemPotionHealth(HealthPotionType.GREATER));
-            } else if (Gdx.input.isKeyJustPressed(Input.Keys.NUMPAD_2)) {
+            } else if (Replay.isJustPressed(Input.Keys.NUMPAD_2)) {
               if (BurningFireballSkill.DAMAGE_AMOUNT == 2) {
                 BurningFireballSkill.DAMAGE_AMOUNT = 6;
               } else {
@@ -191,17 +192,17 @@ public class DevDungeon {
               DialogUtils.showTextPopup(
                   "Fireball damage set to " + BurningFireballSkill.DAMAGE_AMOUNT,
                   "Cheat: Fireball Damage");
-            } else if (Gdx.input.isKeyJustPressed(Input.Keys.NUMPAD_3)) {
+            } else if (Replay.isJustPressed(Input.Keys.NUMPAD_3)) {
               Debugger.TELEPORT_TO_END();
-            } else if (Gdx.input.isKeyJustPressed(Input.Keys.NUMPAD_4)) {
+            } else if (Replay.isJustPressed(Input.Keys.NUMPAD_4)) {
               FallingSystem.DEBUG_DONT_KILL = !FallingSystem.DEBUG_DONT_KILL;
               DialogUtils.showTextPopup(
                   "Falling damage is now "
                       + (FallingSystem.DEBUG_DONT_KILL ? "disabled" : "enabled"),
                   "Cheat: Falling Damage");
-            } else if (Gdx.input.isKeyJustPressed(Input.Keys.NUMPAD_5)) {
+            } else if (Replay.isJustPressed(Input.Keys.NUMPAD_5)) {
               Debugger.TELEPORT_TO_CURSOR();
-            } else if (Gdx.input.isKeyJustPressed(Input.Keys.NUMPAD_6)) {
+            } else if (Replay.isJustPressed(Input.Keys.NUMPAD_6)) {
               BurningFireballSkill.UNLOCKED = !BurningFireballSkill.UNLOCKED;
             }
           }
@@ -1,8 +1,8 @@
 package systems;
 
 import com.badlogic.gdx.utils.DelayedRemovalArray;
-import com.badlogic.gdx.utils.TimeUtils;
 import core.System;
+import core.game.FixedTimestep;
 import utils.TimedEffect;
 
 /**
@@ -42,14 +42,15 @@ public class EventScheduler extends System {
    * Schedules a new action to be executed after a specified delay.
    *
    * <p>This method creates a new ScheduledAction with the provided action and execution time, and
-   * adds it to the list of scheduled actions. The execution time is calculated as the current time
-   * plus the provided delay.
+   * adds it to the list of scheduled actions. The execution time is calculated as the current game
+   * time (see {@link FixedTimestep#gameTimeMillis()}) plus the provided delay, so the action is
+   * executed in the same tick in the live game, in headless mode and in a replay.
    *
    * @param action The action to be executed.
    * @param delayMillis The delay in milliseconds after which the action should be executed.
    */
   public void scheduleAction(TimedEffect action, long delayMillis) {
-    long executeAt = TimeUtils.millis() + delayMillis;
+    long executeAt = FixedTimestep.gameTimeMillis() + delayMillis;
     scheduledActions.add(new ScheduledAction(action, executeAt));
   }
 
@@ -66,15 +67,15 @@ public class EventScheduler extends System {
   /**
    * Executes the scheduled actions.
    *
-   * <p>This method is called to process all the scheduled actions. It first gets the current time,
-   * then it starts iterating over the scheduled actions. For each scheduled action, it checks if
-   * the current time is greater than or equal to the execution time of the action. If it is, it
+   * <p>This method is called to process all the scheduled actions. It first gets the current game
+   * time, then it starts iterating over the scheduled actions. For each scheduled action, it checks
+   * if the current time is greater than or equal to the execution time of the action. If it is, it
    * applies the effect of the action and removes the action from the list of scheduled actions.
    * After all actions have been processed, it ends the iteration over the scheduled actions.
    */
   @Override
   public void execute() {
-    long currentTime = TimeUtils.millis();
+    long currentTime = FixedTimestep.gameTimeMillis();
     scheduledActions.begin();
     for (int i = 0; i < scheduledActions.size; i++) {
       ScheduledAction scheduledAction = scheduledActions.get(i);
@@ -7,8 +7,9 @@ import core.System;
 import core.components.DrawComponent;
 import core.components.PositionComponent;
 import core.level.Tile;
+import core.level.elements.ILevel;
+import core.level.utils.Coordinate;
 import core.level.utils.LevelElement;
-import core.level.utils.LevelUtils;
 import core.utils.Point;
 import core.utils.components.MissingComponentException;
 import java.util.*;
@@ -19,21 +20,33 @@ import utils.EntityUtils;
  *
  * <p>The fog of war is a game mechanic where areas of the game world that are not in the player's
  * line of sight are obscured. This class maintains a set of tiles that are currently darkened (not
- * visible to the player) and a list of entities that are hidden. It also keeps track of the last
- * known position of the hero (player character) and whether the fog of war system is currently
- * active.
+ * visible to the player) and a set of entities that are hidden.
+ *
+ * <p>The line of sight is computed with symmetric shadowcasting on a grid of the opaque tiles: a
+ * tile is visible from the hero if and only if the hero is visible from the tile. For each tile in
+ * the view range, the system computes the fog (the alpha of the tint color, or none). The fog is
+ * double-buffered, so only tiles whose fog differs from the previous computation are tinted. The
+ * fog is only computed again if the hero moves to another tile, the view distance changes or a tile
+ * in the view range becomes opaque or transparent (e.g., a door is opened).
+ *
+ * <p>Only the tiles within {@link #MAX_VIEW_DISTANCE} of the hero are darkened. This is intended:
+ * a tile that leaves this range gets its original tint back instead of keeping its fog, so the
+ * number of tinted tiles does not grow with the explored part of the level. These tiles are far
+ * outside the view distance and are not shown on the screen.
  */
 public class FogOfWarSystem extends System {
   private static final int DISTANCE_TRANSITION_SIZE = 2; // size of distance transition (in tiles)
   private static final int HIDE_ENTITY_THRESHOLD =
       0xFFFFFF99; // tint color threshold for hiding entities
-  private static final int[][] mult = { // needed for casting light
-    {1, 0, 0, -1}, {0, 1, -1, 0}, {0, -1, -1, 0}, {-1, 0, 0, -1},
-    {-1, 0, 0, 1}, {0, -1, 1, 0}, {0, 1, 1, 0}, {1, 0, 0, 1}
-  };
   private static final float TINT_COLOR_WALL_DISTANCE_SCALE =
       1.5f; // scale factor for behind wall distance fog
   private static final float TINT_COLOR_DISTANCE_SCALE = .5f; // scale factor for distance fog
+  private static final int LIT = -1; // fog value of tiles that are not darkened
+  private static final int STALE = 0; // fog value of tiles that have to be tinted again
+  // (column x, depth x, column y, depth y) factors of the four quadrants
+  private static final int[][] QUADRANTS = {
+    {1, 0, 0, 1}, {1, 0, 0, -1}, {0, 1, 1, 0}, {0, -1, 1, 0}
+  };
 
   /** The view distance (range for tiles that are fully visible). */
   private static int currentViewDistance = 7;
@@ -42,9 +55,22 @@ public class FogOfWarSystem extends System {
   private static final int MAX_VIEW_DISTANCE = 25;
 
   private final Map<Tile, Integer> darkenedTiles = new HashMap<>();
-  private final List<Entity> hiddenEntities = new ArrayList<>();
+  private final Set<Entity> hiddenEntities = new HashSet<>();
   private boolean active = true;
 
+  // state of the last computation; level == null means the fog has to be computed from scratch
+  private ILevel level;
+  private Tile[][] layout;
+  private int width;
+  private int height;
+  private BitSet opaque;
+  private BitSet visible;
+  private int[] fog;
+  private int[] previousFog;
+  private Coordinate heroTile;
+  private int viewDistance;
+  private boolean stale;
+
   /**
    * Resets the FogOfWarSystem.
    *
@@ -57,6 +83,7 @@ public class FogOfWarSystem extends System {
   public void reset(boolean revert) {
     darkenedTiles.clear();
     hiddenEntities.clear();
+    level = null;
     if (revert) {
       revert();
     }
@@ -77,8 +104,10 @@ public class FogOfWarSystem extends System {
 
   /** Reverts the FogOfWarSystem. This reveals all darkened tiles and hidden entities. */
   public void revert() {
-    revertTilesBackToLight(darkenedTiles.keySet().stream().toList());
+    darkenedTiles.forEach(Tile::tintColor);
+    darkenedTiles.clear();
     revealHiddenEntities();
+    level = null;
   }
 
   /**
@@ -136,65 +165,188 @@ public class FogOfWarSystem extends System {
     }
   }
 
-  private List<Tile> castLight(
-      int row, float start, float end, int radius, int xx, int xy, int yx, int yy, Point heroPos) {
-    List<Tile> visibleTiles = new ArrayList<>();
-    if (start < end) {
-      return visibleTiles;
+  @Override
+  public void execute() {
+    if (!active) return;
+
+    Point heroPos = EntityUtils.getHeroPosition();
+    ILevel currentLevel = Game.currentLevel();
+    if (heroPos == null || currentLevel == null) return; // no hero, no fog of war
+
+    Coordinate hero = heroPos.toCoordinate();
+    boolean dirty =
+        stale
+            || currentLevel != level
+            || viewDistance != currentViewDistance
+            || !hero.equals(heroTile);
+    if (currentLevel != level) init(currentLevel);
+    layout = currentLevel.layout();
+    dirty |= updateOpaqueTiles(hero);
+    if (dirty) {
+      computeFog(hero);
+      heroTile = hero;
+      viewDistance = currentViewDistance;
+      stale = false;
+    }
+
+    updateHiddenEntities();
+  }
+
+  private void init(final ILevel newLevel) {
+    level = newLevel;
+    Tile[][] newLayout = newLevel.layout();
+    height = newLayout.length;
+    width = height == 0 ? 0 : newLayout[0].length;
+    opaque = new BitSet(width * height);
+    visible = new BitSet(width * height);
+    fog = new int[width * height];
+    previousFog = new int[width * height];
+    Arrays.fill(previousFog, LIT);
+    heroTile = null;
+  }
+
+  /**
+   * Updates the opaque tiles in the window around the hero.
+   *
+   * @param hero The tile of the hero.
+   * @return true if a tile became opaque or transparent, false if not.
+   */
+  private boolean updateOpaqueTiles(Coordinate hero) {
+    boolean changed = false;
+    int maxY = Math.min(height - 1, hero.y + MAX_VIEW_DISTANCE);
+    int maxX = Math.min(width - 1, hero.x + MAX_VIEW_DISTANCE);
+    for (int y = Math.max(0, hero.y - MAX_VIEW_DISTANCE); y <= maxY; y++) {
+      for (int x = Math.max(0, hero.x - MAX_VIEW_DISTANCE); x <= maxX; x++) {
+        int i = y * width + x;
+        boolean isOpaque = !layout[y][x].canSeeThrough();
+        if (opaque.get(i) != isOpaque) {
+          opaque.set(i, isOpaque);
+          changed = true;
+        }
+      }
+    }
+    return changed;
+  }
+
+  private void computeFog(Coordinate hero) {
+    visible.clear();
+    if (inBounds(hero.x, hero.y)) visible.set(hero.y * width + hero.x);
+    for (int[] quadrant : QUADRANTS) {
+      scanRow(hero, quadrant, 1, -1, 1, 1, 1);
     }
-    float newStart = 0.0f;
-    for (int i = row; i <= radius; i++) {
-      int dx = -i - 1;
-      int dy = -i;
-      boolean blocked = false;
-      while (dx <= 0) {
-        dx += 1;
-        // Translate the dx, dy coordinates into map coordinates
-        int X = (int) (heroPos.x + (dx * xx + dy * xy));
-        int Y = (int) (heroPos.y + (dx * yx + dy * yy));
-        // l_slope and r_slope store the slopes of the left and right extremities of the square
-        // we're considering
-        float lSlope = (dx - 0.5f) / (dy + 0.5f);
-        float rSlope = (dx + 0.5f) / (dy - 0.5f);
-        if (start < rSlope) {
-          continue;
-        } else if (end > lSlope) {
-          break;
+
+    Arrays.fill(fog, LIT);
+    int maxDistance = MAX_VIEW_DISTANCE * MAX_VIEW_DISTANCE;
+    int viewRange = currentViewDistance * currentViewDistance;
+    int minY = Math.max(0, hero.y - MAX_VIEW_DISTANCE);
+    int maxY = Math.min(height - 1, hero.y + MAX_VIEW_DISTANCE);
+    int minX = Math.max(0, hero.x - MAX_VIEW_DISTANCE);
+    int maxX = Math.min(width - 1, hero.x + MAX_VIEW_DISTANCE);
+    for (int y = minY; y <= maxY; y++) {
+      for (int x = minX; x <= maxX; x++) {
+        int dx = x - hero.x;
+        int dy = y - hero.y;
+        int squaredDistance = dx * dx + dy * dy;
+        if (squaredDistance > maxDistance) continue;
+        int i = y * width + x;
+        if (!visible.get(i)) {
+          fog[i] =
+              getTintColor(squaredDistance, currentViewDistance, TINT_COLOR_WALL_DISTANCE_SCALE);
+        } else if (squaredDistance > viewRange) {
+          fog[i] =
+              getTintColor(
+                  squaredDistance,
+                  currentViewDistance + DISTANCE_TRANSITION_SIZE,
+                  TINT_COLOR_DISTANCE_SCALE);
+        }
+      }
+    }
+
+    // only tint the tiles whose fog changed, in the old and the new window; tiles of the old
+    // window outside the new one are LIT, so they get their original tint back
+    if (heroTile != null) {
+      minY = Math.min(minY, Math.max(0, heroTile.y - MAX_VIEW_DISTANCE));
+      maxY = Math.max(maxY, Math.min(height - 1, heroTile.y + MAX_VIEW_DISTANCE));
+      minX = Math.min(minX, Math.max(0, heroTile.x - MAX_VIEW_DISTANCE));
+      maxX = Math.max(maxX, Math.min(width - 1, heroTile.x + MAX_VIEW_DISTANCE));
+    }
+    for (int y = minY; y <= maxY; y++) {
+      for (int x = minX; x <= maxX; x++) {
+        int i = y * width + x;
+        if (fog[i] == previousFog[i]) continue;
+        Tile tile = layout[y][x];
+        if (fog[i] == LIT) {
+          Integer originalTint = darkenedTiles.remove(tile);
+          if (originalTint != null) tile.tintColor(originalTint);
         } else {
-          // Our light beam is touching this square; light it
-          if (dx * dx + dy * dy < radius * radius) {
-            Tile tile = Game.tileAT(new Point(X, Y));
-            visibleTiles.add(tile);
-          }
-          Tile tile = Game.tileAT(new Point(X, Y));
-          if (tile == null) {
-            continue;
-          }
-          if (blocked) { // previous step was a blocking square
-
-            if (!tile.canSeeThrough()) { // this step is a blocking square
-              newStart = rSlope;
-              continue;
-            } else {
-              blocked = false;
-              start = newStart;
-            }
-          } else {
-            if (!tile.canSeeThrough() && i < radius) { // this step is a blocking square
-              blocked = true;
-              visibleTiles.addAll(castLight(i + 1, start, lSlope, radius, xx, xy, yx, yy, heroPos));
-              newStart = rSlope;
-            }
-          }
+          darkenTile(tile, fog[i]);
         }
       }
-      if (blocked) break;
     }
-    return visibleTiles;
+    int[] swap = previousFog;
+    previousFog = fog;
+    fog = swap;
+  }
+
+  /**
+   * Scans one row of a quadrant (symmetric shadowcasting).
+   *
+   * <p>The slopes are fractions: the start slope is {@code startNum / startDen} and the end slope
+   * is {@code endNum / endDen}; the denominators are positive. Opaque tiles and tiles whose center
+   * is between the slopes are visible. Each run of transparent tiles starts a scan of the next row
+   * with narrowed slopes.
+   *
+   * @param hero The tile of the hero.
+   * @param quadrant The transformation from (depth, column) to the offset from the hero.
+   * @param depth The distance of the row to the hero.
+   * @param startNum Numerator of the start slope.
+   * @param startDen Denominator of the start slope.
+   * @param endNum Numerator of the end slope.
+   * @param endDen Denominator of the end slope.
+   */
+  private void scanRow(
+      Coordinate hero,
+      int[] quadrant,
+      int depth,
+      int startNum,
+      int startDen,
+      int endNum,
+      int endDen) {
+    if (depth > MAX_VIEW_DISTANCE) return;
+    int minCol = Math.floorDiv(2 * depth * startNum + startDen, 2 * startDen);
+    int maxCol = -Math.floorDiv(endDen - 2 * depth * endNum, 2 * endDen);
+    boolean previousOpaque = false;
+    boolean first = true;
+    for (int col = minCol; col <= maxCol; col++) {
+      int x = hero.x + col * quadrant[0] + depth * quadrant[1];
+      int y = hero.y + col * quadrant[2] + depth * quadrant[3];
+      boolean inBounds = inBounds(x, y);
+      boolean isOpaque = !inBounds || opaque.get(y * width + x);
+      if (inBounds
+          && (isOpaque
+              || (col * startDen >= depth * startNum && col * endDen <= depth * endNum))) {
+        visible.set(y * width + x);
+      }
+      if (!first && previousOpaque && !isOpaque) {
+        startNum = 2 * col - 1;
+        startDen = 2 * depth;
+      }
+      if (!first && !previousOpaque && isOpaque) {
+        scanRow(hero, quadrant, depth + 1, startNum, startDen, 2 * col - 1, 2 * depth);
+      }
+      previousOpaque = isOpaque;
+      first = false;
+    }
+    if (!first && !previousOpaque) {
+      scanRow(hero, quadrant, depth + 1, startNum, startDen, endNum, endDen);
+    }
   }
 
-  private void darkenTile(Tile tile, int maxDistance, float scale, Point heroPos) {
-    int newTint = getTintColor(tile.coordinate().toPoint(), maxDistance, scale, heroPos);
+  private boolean inBounds(int x, int y) {
+    return x >= 0 && y >= 0 && x < width && y < height;
+  }
+
+  private void darkenTile(Tile tile, int newTint) {
     int orgTint = tile.tintColor();
     int mixedTint = orgTint == -1 ? newTint : (orgTint & 0xFFFFFF00) | (newTint & 0x000000FF);
     if (!darkenedTiles.containsKey(tile)) {
@@ -204,26 +356,20 @@ public class FogOfWarSystem extends System {
   }
 
   /**
-   * Calculates the tint color for a tile based on its distance from the hero's position. The tint
-   * color is represented as an ARGB integer, where the alpha component is adjusted based on the
-   * distance. The closer the tile is to the hero, the more transparent (closer to white) it
-   * becomes. If the tile is beyond the view distance, it is fully opaque.
+   * Calculates the tint color for a tile based on its distance from the hero's tile. The tint color
+   * is represented as an ARGB integer, where the alpha component is adjusted based on the distance.
+   * The closer the tile is to the hero, the more transparent (closer to white) it becomes. If the
+   * tile is beyond the view distance, it is fully opaque.
    *
-   * @param tilePos The position of the tile for which to calculate the tint color.
+   * @param squaredDistance The squared distance (in tiles) between the tile and the hero's tile.
    * @param maxDistance The maximum distance from the hero's position at which the tile is fully
    *     opaque.
    * @param scale The scale factor for the distance. The larger the scale, the more transparent the
    *     tiles will be.
-   * @param heroPos The position of the hero.
    * @return The calculated tint color as an ARGB integer.
    */
-  private int getTintColor(Point tilePos, int maxDistance, float scale, Point heroPos) {
-    float distance =
-        (float)
-            heroPos
-                .toCoordinate()
-                .toPoint()
-                .distance(tilePos); // point -> coordinate -> point to floor the value
+  private static int getTintColor(int squaredDistance, int maxDistance, float scale) {
+    float distance = (float) Math.sqrt(squaredDistance);
     if (distance > maxDistance) {
       return 0xFFFFFF00;
     }
@@ -233,35 +379,31 @@ public class FogOfWarSystem extends System {
     return 0xFFFFFF00 | alpha;
   }
 
-  private void revertTilesBackToLight(List<Tile> visibleTiles) {
-    Iterator<Tile> iterator = darkenedTiles.keySet().iterator();
-    while (iterator.hasNext()) {
-      Tile darkenTile = iterator.next();
-      Integer originalTint = darkenedTiles.get(darkenTile);
-      // match non-current tile or tile that are far away
-      if (visibleTiles.contains(darkenTile)) {
-        darkenTile.tintColor(originalTint);
-        iterator.remove();
-      }
-    }
-  }
-
-  private void hideAllHiddenEntities() {
-    darkenedTiles.keySet().stream()
-        .filter(tile -> tile.tintColor() < HIDE_ENTITY_THRESHOLD)
-        .flatMap(Game::entityAtTile)
-        .filter(entity -> entity.isPresent(DrawComponent.class))
-        .filter(entity -> !isAntiTorchAndLit(entity)) // Ignore anti-torches
-        .filter(entity -> !entity.name().contains("tpball")) // Ignore tpballs
+  private void updateHiddenEntities() {
+    Game.entityStream(Set.of(PositionComponent.class, DrawComponent.class))
         .forEach(
             entity -> {
+              PositionComponent pc =
+                  entity
+                      .fetch(PositionComponent.class)
+                      .orElseThrow(
+                          () -> MissingComponentException.build(entity, PositionComponent.class));
+              Tile tile = Game.tileAT(pc.position());
+              boolean hide =
+                  tile != null
+                      && darkenedTiles.containsKey(tile)
+                      && tile.tintColor() < HIDE_ENTITY_THRESHOLD
+                      && !isAntiTorchAndLit(entity) // Ignore anti-torches
+                      && !entity.name().contains("tpball"); // Ignore tpballs
+              if (hide == hiddenEntities.contains(entity)) return;
               DrawComponent dc =
                   entity
                       .fetch(DrawComponent.class)
                       .orElseThrow(
                           () -> MissingComponentException.build(entity, DrawComponent.class));
-              dc.setVisible(false);
-              hiddenEntities.add(entity);
+              dc.setVisible(!hide);
+              if (hide) hiddenEntities.add(entity);
+              else hiddenEntities.remove(entity);
             });
   }
 
@@ -275,78 +417,9 @@ public class FogOfWarSystem extends System {
 
   private void revealHiddenEntities() {
     for (Entity entity : hiddenEntities) {
-      PositionComponent pc =
-          entity
-              .fetch(PositionComponent.class)
-              .orElseThrow(() -> MissingComponentException.build(entity, PositionComponent.class));
-      Tile tile = Game.tileAT(pc.position());
-      if (!darkenedTiles.containsKey(tile) || tile.tintColor() >= HIDE_ENTITY_THRESHOLD) {
-        DrawComponent dc =
-            entity
-                .fetch(DrawComponent.class)
-                .orElseThrow(() -> MissingComponentException.build(entity, DrawComponent.class));
-        dc.setVisible(true);
-      }
+      entity.fetch(DrawComponent.class).ifPresent(dc -> dc.setVisible(true));
     }
-  }
-
-  @Override
-  public void execute() {
-    if (!active) return;
-
-    Point heroPos = EntityUtils.getHeroPosition();
-    if (heroPos == null) return; // no hero, no fog of war
-
-    List<Tile> allTilesInView = LevelUtils.tilesInRange(heroPos, MAX_VIEW_DISTANCE);
-    // Revert all darkened tiles back to light that are not in view
-    List<Tile> tilesOutsideView = new ArrayList<>(darkenedTiles.keySet());
-    tilesOutsideView.removeAll(allTilesInView);
-    revertTilesBackToLight(tilesOutsideView);
-
-    List<Tile> visibleTiles = new ArrayList<>();
-    visibleTiles.add(Game.tileAT(heroPos));
-    // Cast light into the surrounding tiles
-    for (int octant = 0; octant < 8; octant++) {
-      visibleTiles.addAll(
-          castLight(
-              1,
-              1.0f,
-              0.0f,
-              MAX_VIEW_DISTANCE,
-              mult[octant][0],
-              mult[octant][1],
-              mult[octant][2],
-              mult[octant][3],
-              heroPos));
-    }
-    List<Tile> distancedTiles = new ArrayList<>(visibleTiles.stream().toList()); // copy
-
-    // Handle tiles that are beyond the view distance
-    distancedTiles.removeAll(LevelUtils.tilesInRange(heroPos, currentViewDistance));
-    distancedTiles.forEach(
-        (tile) ->
-            darkenTile(
-                tile,
-                currentViewDistance + DISTANCE_TRANSITION_SIZE,
-                TINT_COLOR_DISTANCE_SCALE,
-                heroPos));
-    visibleTiles.removeAll(distancedTiles); // remove distanced tiles from visible tiles
-    allTilesInView.removeAll(distancedTiles); // and from tile behind walls
-
-    allTilesInView.removeAll(visibleTiles); // remove visible tiles from tiles behind walls
-
-    // Darken tiles that are behind walls
-    allTilesInView.forEach(
-        (tile) -> darkenTile(tile, currentViewDistance, TINT_COLOR_WALL_DISTANCE_SCALE, heroPos));
-
-    // Revert all visible tiles back to light
-    revertTilesBackToLight(visibleTiles);
-
-    // Hide entities in the fog of war
-    hideAllHiddenEntities();
-
-    // Reveal entities in the visible area
-    revealHiddenEntities();
+    hiddenEntities.clear();
   }
 
   /**
@@ -364,6 +437,12 @@ public class FogOfWarSystem extends System {
     if (darkenedTiles.containsKey(oldTile)) {
       int tint = darkenedTiles.remove(oldTile);
       darkenedTiles.put(newTile, tint);
+      // tint the new tile with the next computation
+      Coordinate coordinate = newTile.coordinate();
+      if (level != null && inBounds(coordinate.x, coordinate.y)) {
+        previousFog[coordinate.y * width + coordinate.x] = STALE;
+        stale = true;
+      }
     }
   }
 }
@@ -1,10 +1,10 @@
 package systems;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import contrib.utils.components.skill.SkillTools;
 import core.Game;
 import core.System;
+import core.game.Replay;
 import core.level.Tile;
 import core.level.utils.Coordinate;
 import core.level.utils.LevelElement;
@@ -57,38 +57,38 @@ public class LevelEditorSystem extends System {
     if (!active) {
       return;
     }
-    if (Gdx.input.isKeyPressed(SKIP_BUTTON)) {
+    if (Replay.isPressed(SKIP_BUTTON)) {
       setTile(LevelElement.SKIP);
     }
-    if (Gdx.input.isKeyPressed(PIT_BUTTON)) {
+    if (Replay.isPressed(PIT_BUTTON)) {
       setTile(LevelElement.PIT);
     }
-    if (Gdx.input.isKeyPressed(FLOOR_BUTTON)) {
+    if (Replay.isPressed(FLOOR_BUTTON)) {
       setTile(LevelElement.FLOOR);
     }
-    if (Gdx.input.isKeyPressed(WALL_BUTTON)) {
+    if (Replay.isPressed(WALL_BUTTON)) {
       setTile(LevelElement.WALL);
     }
-    if (Gdx.input.isKeyPressed(HOLE_BUTTON)) {
+    if (Replay.isPressed(HOLE_BUTTON)) {
       setTile(LevelElement.HOLE);
     }
-    if (Gdx.input.isKeyJustPressed(EXIT_BUTTON)) {
+    if (Replay.isJustPressed(EXIT_BUTTON)) {
       setTile(LevelElement.EXIT);
     }
-    if (Gdx.input.isKeyJustPressed(DOOR_BUTTON)) {
+    if (Replay.isJustPressed(DOOR_BUTTON)) {
       setTile(LevelElement.DOOR);
     }
-    if (Gdx.input.isKeyJustPressed(CUSTOM_POINT)) {
+    if (Replay.isJustPressed(CUSTOM_POINT)) {
       setCustomPoint();
     }
-    if (Gdx.input.isKeyJustPressed(SAVE_BUTTON)) {
+    if (Replay.isJustPressed(SAVE_BUTTON)) {
       if (Game.currentLevel() instanceof DevDungeonLevel) {
         DungeonSaver.saveCurrentDungeon();
       } else {
         java.lang.System.out.println(Game.currentLevel().printLevel());
       }
     }
-    if (Gdx.input.isKeyJustPressed(FILL_WITH_FLOOR)) {
+    if (Replay.isJustPressed(FILL_WITH_FLOOR)) {
       fillWithFloor();
     }
   }
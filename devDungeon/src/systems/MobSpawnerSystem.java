@@ -6,6 +6,7 @@ import core.Entity;
 import core.Game;
 import core.System;
 import core.components.PositionComponent;
+import core.game.FixedTimestep;
 import core.level.Tile;
 import core.level.utils.Coordinate;
 import core.level.utils.LevelUtils;
@@ -28,6 +29,10 @@ import java.util.Map;
  */
 public class MobSpawnerSystem extends System {
 
+  // spawn delays are measured in milliseconds, so checking a few times per second is enough
+  private static final int EXECUTE_EVERY_X_FRAMES = 5;
+  private static final int ENTITY_BUDGET = 8;
+
   private final Map<MobSpawnerComponent, Long> lastSpawnTimes = new HashMap<>();
 
   /**
@@ -39,16 +44,20 @@ public class MobSpawnerSystem extends System {
    * <p>The MobSpawnerSystem will spawn monsters around mob spawner entities based on their spawn
    * parameters.
    *
+   * <p>The spawners are checked every few ticks, and at most a few spawners per execution; the
+   * remaining spawners are checked in the next execution.
+   *
    * @see PositionComponent
    * @see MobSpawnerComponent
    */
   public MobSpawnerSystem() {
-    super(PositionComponent.class, MobSpawnerComponent.class);
+    super(EXECUTE_EVERY_X_FRAMES, PositionComponent.class, MobSpawnerComponent.class);
+    entityBudget(ENTITY_BUDGET);
   }
 
   @Override
   public void execute() {
-    filteredEntityStream().forEach(this::spawnMonsterIfPossible);
+    forEachWithinBudget(this::spawnMonsterIfPossible);
   }
 
   /**
@@ -103,7 +112,7 @@ public class MobSpawnerSystem extends System {
 
     Tile spawnTile = possibleSpawns.get(Game.currentLevel().RANDOM.nextInt(possibleSpawns.size()));
     mobSpawner.spawnRandomMonster(spawnTile.coordinate().toCenteredPoint());
-    lastSpawnTimes.put(mobSpawner, java.lang.System.currentTimeMillis());
+    lastSpawnTimes.put(mobSpawner, FixedTimestep.gameTimeMillis());
   }
 
   /**
@@ -136,11 +145,11 @@ public class MobSpawnerSystem extends System {
    */
   private boolean canSpawnMonster(Point position, MobSpawnerComponent mobSpawner) {
     if (!lastSpawnTimes.containsKey(mobSpawner)) {
-      lastSpawnTimes.put(mobSpawner, java.lang.System.currentTimeMillis());
+      lastSpawnTimes.put(mobSpawner, FixedTimestep.gameTimeMillis());
     }
 
     long lastSpawnTime = lastSpawnTimes.get(mobSpawner);
-    long currentTime = java.lang.System.currentTimeMillis();
+    long currentTime = FixedTimestep.gameTimeMillis();
     long timeSinceLastSpawn = currentTime - lastSpawnTime;
 
     if (timeSinceLastSpawn < mobSpawner.spawnDelay()) {
@@ -149,7 +158,7 @@ public class MobSpawnerSystem extends System {
 
     List<Entity> entitiesAround = getEntitiesAround(position, mobSpawner.maxSpawnRadius() * 2);
     if (entitiesAround.size() >= mobSpawner.maxMobCount()) {
-      lastSpawnTimes.put(mobSpawner, java.lang.System.currentTimeMillis());
+      lastSpawnTimes.put(mobSpawner, FixedTimestep.gameTimeMillis());
       return false;
     }
 
@@ -5,6 +5,7 @@ import core.Entity;
 import core.Game;
 import core.System;
 import core.components.PositionComponent;
+import core.game.FixedTimestep;
 import core.level.Tile;
 import core.level.elements.tile.PitTile;
 import core.utils.components.MissingComponentException;
@@ -43,7 +44,7 @@ public class PitSystem extends System {
               Tile currentTile = Game.tileAT(positionComponent.position());
 
               if (currentTile instanceof PitTile pitTile) {
-                pitTimes.putIfAbsent(pitTile, java.lang.System.currentTimeMillis());
+                pitTimes.putIfAbsent(pitTile, FixedTimestep.gameTimeMillis());
               }
             });
   }
@@ -86,6 +87,6 @@ public class PitSystem extends System {
    * @return true if the time elapsed is greater than the time to open, false otherwise.
    */
   private boolean hasPitOpenTimeElapsed(long stepOnTime, long timeToOpen) {
-    return java.lang.System.currentTimeMillis() - stepOnTime > timeToOpen;
+    return FixedTimestep.gameTimeMillis() - stepOnTime > timeToOpen;
   }
 }
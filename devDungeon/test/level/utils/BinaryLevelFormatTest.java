@@ -0,0 +1,99 @@
+package level.utils;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import core.level.utils.Coordinate;
+import core.level.utils.DesignLabel;
+import core.level.utils.LevelElement;
+import core.utils.Point;
+import core.utils.components.path.SimpleIPath;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import level.DevDungeonLevel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Tests for the {@link BinaryLevelFormat} class. */
+public class BinaryLevelFormatTest {
+
+  @TempDir private Path dir;
+
+  /** A text level has the same content after converting it to the binary format. */
+  @Test
+  public void textToBinary() throws IOException {
+    LevelFile text = readText("FOREST", "1.0,2.0", "1,1;3,2;", "WWWWW", "WFFFW", "WFHEW", "WWDWW");
+    LevelFile binary = roundTrip(text);
+
+    assertEquals(DesignLabel.FOREST, binary.designLabel());
+    assertEquals(1f, binary.heroPos().x);
+    assertEquals(2f, binary.heroPos().y);
+    assertEquals(List.of(new Coordinate(1, 1), new Coordinate(3, 2)), binary.customPoints());
+    assertArrayEquals(text.layout(), binary.layout());
+    assertEquals(LevelElement.EXIT, binary.layout()[2][3]);
+  }
+
+  /** A level without a design label keeps its random design. */
+  @Test
+  public void randomDesign() throws IOException {
+    LevelFile binary = roundTrip(readText("", "0.0,0.0", "", "F"));
+    assertNull(binary.designLabel());
+  }
+
+  /** A run longer than fits into one byte of its variable-length integer is kept. */
+  @Test
+  public void longRun() throws IOException {
+    LevelFile text = readText("DEFAULT", "0.0,0.0", "", "F".repeat(300), "W".repeat(299) + "F");
+    LevelFile binary = roundTrip(text);
+    assertArrayEquals(text.layout(), binary.layout());
+  }
+
+  /** A level with a single tile is kept. */
+  @Test
+  public void oneTile() throws IOException {
+    LevelFile text = readText("DEFAULT", "0.0,0.0", "", "F");
+    LevelFile binary = roundTrip(text);
+    assertArrayEquals(new LevelElement[][] {{LevelElement.FLOOR}}, binary.layout());
+  }
+
+  /** A level without tiles is kept. */
+  @Test
+  public void emptyLayout() throws IOException {
+    LevelFile empty =
+        new LevelFile(DesignLabel.DEFAULT, new Point(0, 0), List.of(), new LevelElement[0][0]);
+    LevelFile binary = roundTrip(empty);
+    assertEquals(0, binary.layout().length);
+    assertTrue(binary.customPoints().isEmpty());
+  }
+
+  /** Reading something that is not a binary level fails. */
+  @Test
+  public void invalidFormat() {
+    assertThrows(IOException.class, () -> BinaryLevelFormat.read(ByteBuffer.allocate(16)));
+  }
+
+  private LevelFile readText(final String... lines) throws IOException {
+    Path file = dir.resolve("test.level");
+    Files.write(file, List.of(lines));
+    return DevDungeonLevel.readLevelFile(new SimpleIPath(file.toString()));
+  }
+
+  private LevelFile roundTrip(final LevelFile level) throws IOException {
+    Path file = dir.resolve("test" + BinaryLevelFormat.EXTENSION);
+    BinaryLevelFormat.save(level, file);
+    LevelFile read = DevDungeonLevel.readLevelFile(new SimpleIPath(file.toString()));
+
+    // the binary file is the same, if it is written from the read level again
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    BinaryLevelFormat.write(read, out);
+    assertArrayEquals(Files.readAllBytes(file), out.toByteArray());
+    return read;
+  }
+}
@@ -0,0 +1,45 @@
+package systems;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import core.game.FixedTimestep;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+/** Tests for the {@link EventScheduler} class. */
+public class EventSchedulerTest {
+
+  private int executed = 0;
+
+  /** Remove the scheduled actions. */
+  @AfterEach
+  public void cleanup() {
+    EventScheduler.getInstance().clear();
+  }
+
+  /** An action is executed once its delay has passed in game time. */
+  @Test
+  public void executeWhenDelayExpired() {
+    EventScheduler scheduler = EventScheduler.getInstance();
+    try (MockedStatic<FixedTimestep> time = Mockito.mockStatic(FixedTimestep.class)) {
+      time.when(FixedTimestep::gameTimeMillis).thenReturn(100L);
+      scheduler.scheduleAction(() -> executed++, 50);
+      scheduler.execute();
+      assertEquals(0, executed);
+
+      // the delay is measured in game time, which only advances with the ticks
+      time.when(FixedTimestep::gameTimeMillis).thenReturn(149L);
+      scheduler.execute();
+      assertEquals(0, executed);
+
+      time.when(FixedTimestep::gameTimeMillis).thenReturn(150L);
+      scheduler.execute();
+      assertEquals(1, executed);
+
+      scheduler.execute();
+      assertEquals(1, executed);
+    }
+  }
+}
@@ -0,0 +1,208 @@
+package systems;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import core.Entity;
+import core.Game;
+import core.components.PlayerComponent;
+import core.components.PositionComponent;
+import core.level.Tile;
+import core.level.TileLevel;
+import core.level.elements.ILevel;
+import core.level.generator.IGenerator;
+import core.level.utils.Coordinate;
+import core.level.utils.DesignLabel;
+import core.level.utils.LevelElement;
+import core.systems.LevelSystem;
+import core.utils.IVoidFunction;
+import core.utils.components.draw.Painter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Tests for the {@link FogOfWarSystem} class.
+ *
+ * <p>The view distance is set to the maximum, so every tile in the tested levels is lit if it is
+ * visible from the hero and darkened if not.
+ */
+public class FogOfWarSystemTest {
+
+  private static final int NO_TINT = -1;
+
+  private FogOfWarSystem system;
+  private PositionComponent heroPosition;
+  private ILevel level;
+
+  /** Create the system and the hero. */
+  @BeforeEach
+  public void setup() {
+    Game.add(
+        new LevelSystem(
+            Mockito.mock(Painter.class),
+            Mockito.mock(IGenerator.class),
+            Mockito.mock(IVoidFunction.class)));
+    FogOfWarSystem.currentViewDistance(25);
+    system = new FogOfWarSystem();
+    Entity hero = new Entity();
+    hero.add(new PlayerComponent());
+    heroPosition = new PositionComponent();
+    hero.add(heroPosition);
+    Game.add(hero);
+  }
+
+  /** Reset the game. */
+  @AfterEach
+  public void cleanup() {
+    FogOfWarSystem.currentViewDistance(7);
+    Game.removeAllEntities();
+    Game.currentLevel(null);
+    Game.removeAllSystems();
+  }
+
+  /** A tile is visible from the hero if and only if the hero is visible from the tile. */
+  @Test
+  public void symmetric() {
+    load(
+        "WWWWWWWWWWW",
+        "WFFFFFFFFFW",
+        "WFFWFFFFFFW",
+        "WFFFFFWFFFW",
+        "WFFFFFFFWFW",
+        "WFWFFFFFFFW",
+        "WFFFFWWFFFW",
+        "WFFFFFFFFFW",
+        "WWWWWWWWWWW");
+    List<Coordinate> floor = new ArrayList<>();
+    for (int y = 0; y < level.layout().length; y++) {
+      for (int x = 0; x < level.layout()[0].length; x++) {
+        if (level.layout()[y][x].canSeeThrough()) floor.add(new Coordinate(x, y));
+      }
+    }
+
+    List<Set<Coordinate>> visible = new ArrayList<>();
+    for (Coordinate from : floor) {
+      moveHero(from);
+      Set<Coordinate> visibleFrom = new HashSet<>();
+      for (Coordinate to : floor) {
+        if (lit(to)) visibleFrom.add(to);
+      }
+      visible.add(visibleFrom);
+    }
+
+    for (int a = 0; a < floor.size(); a++) {
+      for (int b = 0; b < floor.size(); b++) {
+        assertEquals(
+            visible.get(a).contains(floor.get(b)),
+            visible.get(b).contains(floor.get(a)),
+            floor.get(a) + " <-> " + floor.get(b));
+      }
+    }
+  }
+
+  /** Walls block the sight, also around corners; the walls themselves are visible. */
+  @Test
+  public void wallsBlockSight() {
+    load(
+        "WWWWWWW", //
+        "WFFFFFW",
+        "WWWWWFW",
+        "WFFFFFW",
+        "WWWWWWW");
+    moveHero(new Coordinate(1, 1));
+
+    assertTrue(lit(new Coordinate(5, 1)));
+    assertTrue(lit(new Coordinate(3, 2)));
+    assertFalse(lit(new Coordinate(1, 3)));
+    assertFalse(lit(new Coordinate(3, 3)));
+    assertFalse(lit(new Coordinate(5, 3)));
+  }
+
+  /** Only the tiles whose fog changed are tinted again. */
+  @Test
+  public void onlyChangedTilesAreTinted() {
+    load(
+        "WWWWWWW", //
+        "WFFFFFW",
+        "WWWWWWW",
+        "WFFFFFW",
+        "WWWWWWW");
+    moveHero(new Coordinate(1, 1));
+    Tile lit = tile(new Coordinate(5, 1));
+    Tile darkened = tile(new Coordinate(3, 3));
+    int darkenedTint = darkened.tintColor();
+    assertEquals(NO_TINT, lit.tintColor());
+    assertNotEquals(NO_TINT, darkenedTint);
+
+    // the tile stays lit, so the system does not touch it
+    lit.tintColor(0x12345678);
+    moveHero(new Coordinate(2, 1));
+
+    assertEquals(0x12345678, lit.tintColor());
+    assertNotEquals(darkenedTint, darkened.tintColor());
+  }
+
+  /**
+   * A darkened tile replaced with {@link FogOfWarSystem#updateTile} stays darkened and is lit, once
+   * it becomes visible.
+   */
+  @Test
+  public void updateTile() {
+    load(
+        "WWWWWWW", //
+        "WFFWFFW",
+        "WWWWWWW");
+    Coordinate behindWall = new Coordinate(4, 1);
+    Coordinate wall = new Coordinate(3, 1);
+    moveHero(new Coordinate(1, 1));
+    assertFalse(lit(behindWall));
+
+    replace(behindWall, LevelElement.FLOOR);
+    system.execute();
+    assertFalse(lit(behindWall));
+
+    replace(wall, LevelElement.FLOOR);
+    system.execute();
+    assertTrue(lit(behindWall));
+    assertTrue(lit(new Coordinate(5, 1)));
+  }
+
+  private void load(String... rows) {
+    LevelElement[][] layout = new LevelElement[rows.length][];
+    for (int y = 0; y < rows.length; y++) {
+      layout[y] = new LevelElement[rows[y].length()];
+      for (int x = 0; x < rows[y].length(); x++) {
+        layout[y][x] = rows[y].charAt(x) == 'W' ? LevelElement.WALL : LevelElement.FLOOR;
+      }
+    }
+    level = new TileLevel(layout, DesignLabel.DEFAULT);
+    Game.currentLevel(level);
+  }
+
+  private void moveHero(Coordinate coordinate) {
+    heroPosition.position(coordinate.toCenteredPoint());
+    system.execute();
+  }
+
+  private void replace(Coordinate coordinate, LevelElement element) {
+    Tile oldTile = tile(coordinate);
+    level.changeTileElementType(oldTile, element);
+    system.updateTile(oldTile, tile(coordinate));
+  }
+
+  private Tile tile(Coordinate coordinate) {
+    return level.tileAt(coordinate);
+  }
+
+  private boolean lit(Coordinate coordinate) {
+    return tile(coordinate).tintColor() == NO_TINT;
+  }
+}
@@ -1,5 +1,6 @@
 package dojo.compiler;
 
+import core.game.RandomService;
 import java.io.*;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
@@ -10,6 +11,7 @@ import java.util.*;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.random.RandomGenerator;
 import javax.tools.*;
 
 /** Class for compiling and testing sources at runtime. */
@@ -24,6 +26,7 @@ public class DojoCompiler {
   public record TestResult(String testName, boolean passed, List<String> messages) {}
 
   private static final Logger LOGGER = Logger.getLogger(DojoCompiler.class.getName());
+  private static final RandomGenerator RANDOM = RandomService.stream(DojoCompiler.class);
 
   static {
     LOGGER.addHandler(new ConsoleHandler());
@@ -203,7 +206,7 @@ public class DojoCompiler {
         messages.add("output1 wrong");
         return false;
       }
-      int r = new Random().nextInt(1000);
+      int r = RANDOM.nextInt(1000);
       if (!String.valueOf(r + 2).equals(method1.invoke(null, String.valueOf(r)))) {
         messages.add("output1 wrong");
         return false;
@@ -3,16 +3,18 @@ package dojo.rooms;
 import contrib.entities.MonsterFactory;
 import contrib.level.generator.graphBased.RoomGenerator;
 import core.Entity;
+import core.game.RandomService;
 import core.level.utils.DesignLabel;
 import core.level.utils.LevelSize;
 import core.utils.components.path.IPath;
 import java.io.IOException;
 import java.util.HashSet;
-import java.util.Random;
 import java.util.Set;
+import java.util.random.RandomGenerator;
 
 /** Class for a monster spawning room. */
 public class MonsterRoom extends Room {
+  private static final RandomGenerator RANDOM = RandomService.stream(MonsterRoom.class);
 
   private final int monsterCount;
   private final IPath[] monsterPaths;
@@ -48,7 +50,7 @@ public class MonsterRoom extends Room {
     for (int i = 0; i < getMonsterCount(); i++) {
       roomEntities.add(
           MonsterFactory.randomMonster(
-              getMonsterPaths()[new Random().nextInt(getMonsterPaths().length)]));
+              getMonsterPaths()[RANDOM.nextInt(getMonsterPaths().length)]));
     }
 
     return roomEntities;
@@ -6,6 +6,7 @@ import contrib.entities.EntityFactory;
 import contrib.level.generator.graphBased.RoomGenerator;
 import contrib.utils.components.interaction.DropItemsInteraction;
 import core.Entity;
+import core.game.RandomService;
 import core.level.utils.DesignLabel;
 import core.level.utils.LevelSize;
 import core.utils.components.draw.Animation;
@@ -14,9 +15,12 @@ import dojo.item.ItemKey;
 import java.io.IOException;
 import java.util.Set;
 import java.util.function.BiConsumer;
+import java.util.random.RandomGenerator;
 
 /** Class to drop an item in the room to open the door. */
 public class SearchRoom extends MonsterRoom {
+  private static final RandomGenerator RANDOM = RandomService.stream(SearchRoom.class);
+
   private final String keyType;
   private final String keyDescription;
   private final IPath keyTexture;
@@ -61,9 +65,10 @@ public class SearchRoom extends MonsterRoom {
   private void generate() throws IOException {
     // add entities to room
     Set<Entity> roomEntities = populateMonsters(getMonsterCount(), getMonsterPaths());
-    // get random monster from roomEntities
+    // get random monster from roomEntities, sorted by id, so the choice does not depend on the
+    // hash order of the set
     Entity randomMonster =
-        (Entity) roomEntities.toArray()[(int) (Math.random() * getMonsterCount())];
+        roomEntities.stream().sorted().toList().get(RANDOM.nextInt(roomEntities.size()));
 
     Animation keyAnimation = Animation.fromSingleImage(keyTexture);
     ItemKey key =
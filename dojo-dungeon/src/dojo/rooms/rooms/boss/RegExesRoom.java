@@ -6,6 +6,7 @@ import contrib.level.generator.graphBased.RoomGenerator;
 import core.Entity;
 import core.components.DrawComponent;
 import core.components.PositionComponent;
+import core.game.RandomService;
 import core.level.utils.DesignLabel;
 import core.level.utils.LevelSize;
 import core.utils.components.path.SimpleIPath;
@@ -13,10 +14,10 @@ import dojo.rooms.LevelRoom;
 import dojo.rooms.Room;
 import java.io.IOException;
 import java.util.HashSet;
-import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
+import java.util.random.RandomGenerator;
 import task.Task;
 import task.TaskContent;
 import task.game.components.TaskComponent;
@@ -31,12 +32,13 @@ import task.tasktype.quizquestion.FreeText;
  * passende String eingegeben wurde, lässt OgreX den Spieler zur nächsten Ebene weitergehen.
  */
 public class RegExesRoom extends Room {
+  private static final RandomGenerator RANDOM = RandomService.stream(RegExesRoom.class);
+
   private final String[] regexes;
 
   {
-    Random r = new Random();
-    int min = r.nextInt(4) + 2; // 2-5
-    int max = r.nextInt(5) + min; // 2-9
+    int min = RANDOM.nextInt(4) + 2; // 2-5
+    int max = RANDOM.nextInt(5) + min; // 2-9
     regexes =
         new String[] {
           ".",
@@ -168,7 +170,7 @@ public class RegExesRoom extends Room {
   }
 
   private void nextRegex() {
-    currentRegex = regexes[new Random().nextInt(regexes.length)];
+    currentRegex = regexes[RANDOM.nextInt(regexes.length)];
   }
 
   private String getCurrentRegex() {
@@ -11,14 +11,15 @@ import core.components.DrawComponent;
 import core.components.PlayerComponent;
 import core.components.PositionComponent;
 import core.components.VelocityComponent;
+import core.game.RandomService;
 import core.level.utils.DesignLabel;
 import core.level.utils.LevelSize;
 import core.utils.components.path.SimpleIPath;
 import dojo.rooms.LevelRoom;
 import dojo.rooms.Room;
 import java.io.IOException;
-import java.util.Random;
 import java.util.Set;
+import java.util.random.RandomGenerator;
 
 /**
  * Informationen für den Spieler über diesen Raum:
@@ -26,6 +27,7 @@ import java.util.Set;
  * <p>In diesem Raum müssen alle Monster erledigt werden, um weiterzukommen.
  */
 public class KillMonsterRoom extends Room {
+  private static final RandomGenerator RANDOM = RandomService.stream(KillMonsterRoom.class);
 
   private int monsterGroupsSpawned = 0;
   private int activeMonsters = 0;
@@ -70,13 +72,12 @@ public class KillMonsterRoom extends Room {
       return;
     }
     monsterGroupsSpawned++;
-    Random r = new Random();
     // 1-4 monsters in this group
-    int monstersToSpawn = r.nextInt(4) + 1;
+    int monstersToSpawn = RANDOM.nextInt(4) + 1;
     activeMonsters += monstersToSpawn;
     for (int i = 0; i < monstersToSpawn; i++) {
       // 50 % chance of imp or daemon
-      int monsterType = r.nextInt(2);
+      int monsterType = RANDOM.nextInt(2);
       switch (monsterType) {
         case 0:
           spawnNewImp();
@@ -17,12 +17,13 @@ import contrib.utils.components.skill.Skill;
 import contrib.utils.components.skill.SkillTools;
 import core.Entity;
 import core.Game;
+import core.game.RandomService;
 import java.util.List;
 import java.util.Optional;
-import java.util.Random;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.random.RandomGenerator;
 import java.util.stream.Stream;
 
 /**
@@ -35,7 +36,7 @@ import java.util.stream.Stream;
  */
 public final class AIFactory {
 
-  private static final Random RANDOM = new Random();
+  private static final RandomGenerator RANDOM = RandomService.stream(AIFactory.class);
 
   // FightAI Parameters:
   // CollideAI
@@ -1,8 +1,6 @@
 package contrib.entities;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.ai.pfa.GraphPath;
-import com.badlogic.gdx.audio.Sound;
 import com.badlogic.gdx.math.Vector2;
 import contrib.components.*;
 import contrib.configuration.KeyboardConfig;
@@ -17,6 +15,7 @@ import contrib.utils.components.skill.SkillTools;
 import core.Entity;
 import core.Game;
 import core.components.*;
+import core.game.SoundService;
 import core.level.Tile;
 import core.level.utils.LevelUtils;
 import core.utils.Point;
@@ -97,13 +96,8 @@ public final class HeroFactory {
             HERO_HP,
             entity -> {
               // play sound
-              Sound sound = Gdx.audio.newSound(Gdx.files.internal("sounds/death.wav"));
-              long soundId = sound.play();
-              sound.setLooping(soundId, false);
-              sound.setVolume(soundId, 0.3f);
-              sound.setLooping(soundId, false);
-              sound.play();
-              sound.setVolume(soundId, 0.9f);
+              SoundService.play(
+                  new SimpleIPath("sounds/death.wav"), 0.9f, 1f, SoundService.PRIORITY_HIGH);
 
               // relink components for camera
               Entity cameraDummy = new Entity();
@@ -13,19 +13,20 @@ import contrib.utils.components.item.ItemGenerator;
 import core.Entity;
 import core.components.DrawComponent;
 import core.components.PositionComponent;
+import core.game.RandomService;
 import core.utils.Point;
 import core.utils.components.draw.CoreAnimations;
 import core.utils.components.path.SimpleIPath;
 import java.io.IOException;
-import java.util.Random;
 import java.util.Set;
+import java.util.random.RandomGenerator;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 /** A utility class for building different miscellaneous entities in the game world. */
 public final class MiscFactory {
 
-  private static final Random RANDOM = new Random();
+  private static final RandomGenerator RANDOM = RandomService.stream(MiscFactory.class);
   private static final int DEFAULT_CHEST_SIZE = 12;
   private static final int MAX_AMOUNT_OF_ITEMS_ON_RANDOM = 5;
   private static final int MIN_AMOUNT_OF_ITEMS_ON_RANDOM = 1;
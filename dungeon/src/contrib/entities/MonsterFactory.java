@@ -1,7 +1,5 @@
 package contrib.entities;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.audio.Sound;
 import contrib.components.*;
 import contrib.item.Item;
 import contrib.utils.components.health.DamageType;
@@ -12,19 +10,21 @@ import core.Game;
 import core.components.DrawComponent;
 import core.components.PositionComponent;
 import core.components.VelocityComponent;
+import core.game.RandomService;
+import core.game.SoundService;
 import core.utils.components.MissingComponentException;
 import core.utils.components.path.IPath;
 import core.utils.components.path.SimpleIPath;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Random;
 import java.util.function.BiConsumer;
+import java.util.random.RandomGenerator;
 
 /** A utility class for building monster entities in the game world. */
 public final class MonsterFactory {
 
-  private static final Random RANDOM = new Random();
+  private static final RandomGenerator RANDOM = RandomService.stream(MonsterFactory.class);
 
   private static final IPath[] MONSTER_FILE_PATHS = {
     new SimpleIPath("character/monster/chort"),
@@ -121,25 +121,12 @@ public final class MonsterFactory {
     return randomItemGenerator;
   }
 
-  private static Sound randomMonsterDeathSound() {
-    if (Gdx.files == null)
-      return null; // This is a workaround for the Gdx.files being null in tests
-
+  private static IPath randomMonsterDeathSound() {
     List<String> deathSoundsPaths =
         Arrays.asList(
             "sounds/die_01.wav", "sounds/die_02.wav", "sounds/die_03.wav", "sounds/die_04.wav");
 
-    return Gdx.audio.newSound(
-        Gdx.files.internal(deathSoundsPaths.get(RANDOM.nextInt(deathSoundsPaths.size()))));
-  }
-
-  private static void playMonsterDieSound(Sound sound) {
-    if (sound == null) {
-      return;
-    }
-    long soundID = sound.play();
-    sound.setLooping(soundID, false);
-    sound.setVolume(soundID, 0.35f);
+    return new SimpleIPath(deathSoundsPaths.get(RANDOM.nextInt(deathSoundsPaths.size())));
   }
 
   private static IPath randomMonsterIdleSound() {
@@ -162,7 +149,8 @@ public final class MonsterFactory {
    * @param speed The speed of the monster.
    * @param itemChance The chance that the monster will drop an item upon death. If 0, no item will
    *     be dropped. If 1, an item will always be dropped.
-   * @param deathSound The sound to play when the monster dies. If null, no sound will be played.
+   * @param deathSound The path to the sound to play when the monster dies. If null, no sound will
+   *     be played.
    * @param ai The AI component of the monster. If null, a random AI will be used.
    * @param collideDamage The damage the monster inflicts upon collision.
    * @param collideCooldown The cooldown time between monster's collision damage.
@@ -177,7 +165,7 @@ public final class MonsterFactory {
       int health,
       float speed,
       float itemChance,
-      Sound deathSound,
+      IPath deathSound,
       AIComponent ai,
       int collideDamage,
       int collideCooldown,
@@ -214,8 +202,8 @@ public final class MonsterFactory {
     return monster;
   }
 
-  private static void playDeathSoundIfNearby(Sound deathSound, Entity e) {
-    if (Game.hero().isEmpty()) return;
+  private static void playDeathSoundIfNearby(IPath deathSound, Entity e) {
+    if (deathSound == null || Game.hero().isEmpty()) return;
     Entity hero = Game.hero().get();
     PositionComponent pc =
         hero.fetch(PositionComponent.class)
@@ -224,7 +212,8 @@ public final class MonsterFactory {
         e.fetch(PositionComponent.class)
             .orElseThrow(() -> MissingComponentException.build(e, PositionComponent.class));
     if (pc.position().distance(monsterPc.position()) < MAX_DISTANCE_FOR_DEATH_SOUND) {
-      playMonsterDieSound(deathSound);
+      SoundService.playAt(
+          deathSound, monsterPc.position(), 0.35f, 1f, SoundService.PRIORITY_NORMAL);
     }
   }
 }
@@ -8,14 +8,15 @@ import contrib.entities.WorldItemBuilder;
 import contrib.item.concreteItem.*;
 import core.Entity;
 import core.Game;
+import core.game.RandomService;
 import core.level.elements.tile.FloorTile;
 import core.utils.Point;
 import core.utils.components.draw.Animation;
 import core.utils.logging.CustomLogLevel;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Random;
 import java.util.logging.Logger;
+import java.util.random.RandomGenerator;
 
 /**
  * Abstract class that represents every item in the game.
@@ -35,8 +36,8 @@ import java.util.logging.Logger;
 public class Item implements CraftingIngredient, CraftingResult {
   private static final Logger LOGGER = Logger.getLogger(Item.class.getSimpleName());
 
-  /** Random object used to generate random numbers for item related things. */
-  public static final Random RANDOM = new Random();
+  /** Random stream used to generate random numbers for item related things. */
+  public static final RandomGenerator RANDOM = RandomService.stream(Item.class);
 
   /**
    * Maps identifiers in crafting recipes (e.g. {@link ItemResourceBerry}) to their corresponding
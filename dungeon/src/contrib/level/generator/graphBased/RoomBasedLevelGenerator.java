@@ -8,6 +8,8 @@ import core.Entity;
 import core.Game;
 import core.components.DrawComponent;
 import core.components.PositionComponent;
+import core.game.RandomService;
+import core.level.PackedTileLevel;
 import core.level.Tile;
 import core.level.TileLevel;
 import core.level.elements.ILevel;
@@ -20,8 +22,10 @@ import core.utils.IVoidFunction;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.SplittableRandom;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
+import java.util.stream.IntStream;
 
 /**
  * This generator will use the {@link LevelGraphGenerator} and {@link RoomGenerator} to generate a
@@ -79,15 +83,18 @@ public final class RoomBasedLevelGenerator {
    * @return The generated level.
    */
   public static ILevel level(final LevelGraph graph, final DesignLabel designLabel) {
-    RoomGenerator roomG = new RoomGenerator();
     LOGGER.info(graph.toDot());
-    // generate TileLevel for each Node
-    graph
-        .nodes()
-        .forEach(
-            node ->
-                node.level(
-                    new TileLevel(roomG.layout(sizeFor(node), node.neighbours()), designLabel)));
+    // generate TileLevel for each Node; the seeds are drawn in order, so the result does not
+    // depend on the order in which the rooms are generated in parallel
+    List<LevelNode> nodes = new ArrayList<>(graph.nodes());
+    long[] seeds = nodes.stream().mapToLong(node -> ILevel.RANDOM.nextLong()).toArray();
+    List<LevelSize> sizes = nodes.stream().map(RoomBasedLevelGenerator::sizeFor).toList();
+    List<TileLevel> rooms =
+        IntStream.range(0, nodes.size())
+            .parallel()
+            .mapToObj(i -> room(sizes.get(i), seeds[i], nodes.get(i), designLabel))
+            .toList();
+    for (int i = 0; i < nodes.size(); i++) nodes.get(i).level(rooms.get(i));
 
     for (LevelNode node : graph.nodes()) {
       ILevel level = node.level();
@@ -100,6 +107,15 @@ public final class RoomBasedLevelGenerator {
     return graph.root().level();
   }
 
+  private static TileLevel room(
+      final LevelSize size, long seed, final LevelNode node, final DesignLabel designLabel) {
+    // the start and exit tile of the room are chosen with the seed of the room, too
+    LevelNode[] doors = node.neighbours();
+    return RandomService.supplyWith(
+        new SplittableRandom(seed),
+        () -> new PackedTileLevel(new RoomGenerator().layout(size, seed, doors), designLabel));
+  }
+
   private static LevelSize sizeFor(final LevelNode node) {
     AtomicInteger count = new AtomicInteger();
     node.entities()
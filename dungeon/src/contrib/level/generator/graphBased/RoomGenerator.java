@@ -80,6 +80,21 @@ public final class RoomGenerator {
     return generateRoom(size, RANDOM.nextLong(), doors);
   }
 
+  /**
+   * Generates a room layout from the given seed.
+   *
+   * <p>The same seed always generates the same room. An instance can only generate one room at a
+   * time; use one instance per thread to generate rooms in parallel.
+   *
+   * @param size Size of the room.
+   * @param seed Seed to initialize the random number generator.
+   * @param doors Array of DoorDirections to specify where doors should be generated.
+   * @return The generated room layout.
+   */
+  public LevelElement[][] layout(final LevelSize size, long seed, final LevelNode[] doors) {
+    return generateRoom(size, seed, doors);
+  }
+
   /**
    * Generates a room layout with the given parameters.
    *
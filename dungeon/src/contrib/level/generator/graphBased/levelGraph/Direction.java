@@ -1,6 +1,7 @@
 package contrib.level.generator.graphBased.levelGraph;
 
-import java.util.Random;
+import core.game.RandomService;
+import java.util.random.RandomGenerator;
 
 /** The different directions in which nodes can be connected to each other. */
 public enum Direction {
@@ -13,7 +14,7 @@ public enum Direction {
   /** WTF? . */
   WEST(3);
 
-  private static final Random RANDOM = new Random();
+  private static final RandomGenerator RANDOM = RandomService.stream(Direction.class);
   private final int value;
 
   Direction(int value) {
@@ -1,8 +1,10 @@
 package contrib.level.generator.graphBased.levelGraph;
 
 import core.Entity;
+import core.game.RandomService;
 import core.level.elements.ILevel;
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 /**
  * Node in the level graph.
@@ -25,6 +27,7 @@ import java.util.*;
 public class LevelNode {
 
   static final int MAX_NEIGHBOURS = Direction.values().length;
+  private static final RandomGenerator RANDOM = RandomService.stream(LevelNode.class);
 
   /**
    * A collection of entities stored in this node. Intended to be used to add new entities after
@@ -77,7 +80,7 @@ public class LevelNode {
   public boolean connect(final LevelNode other) {
     List<Direction> freeDirections = possibleConnectDirections(other);
     if (!freeDirections.isEmpty()) {
-      Collections.shuffle(freeDirections);
+      Collections.shuffle(freeDirections, RANDOM);
       if (other.connect(this, Direction.opposite(freeDirections.getFirst())))
         return connect(other, freeDirections.getFirst());
     }
@@ -9,6 +9,10 @@ import core.utils.components.MissingComponentException;
  * Controls the AI.
  *
  * <p>Entities with the {@link AIComponent} will be processed by this system.
+ *
+ * <p>The AI of every entity is executed in every tick. The system has no {@link #entityBudget()
+ * entity budget}, since spreading the entities over several ticks would make the monsters slower
+ * to react, the more monsters there are.
  */
 public final class AISystem extends System {
 
@@ -71,6 +71,16 @@ public final class HealthBarSystem extends System {
     LOGGER.info("HealthBarSystem created");
   }
 
+  /**
+   * The HealthBarSystem only shows the health bars.
+   *
+   * @return true
+   */
+  @Override
+  public boolean isRenderSystem() {
+    return true;
+  }
+
   @Override
   public void execute() {
     filteredEntityStream(DrawComponent.class, HealthComponent.class, PositionComponent.class)
@@ -89,6 +89,16 @@ public final class HudSystem extends System {
     }
   }
 
+  /**
+   * The HudSystem only shows the HUD.
+   *
+   * @return true
+   */
+  @Override
+  public boolean isRenderSystem() {
+    return true;
+  }
+
   @Override
   public void execute() {
     if (filteredEntityStream(UIComponent.class).anyMatch(this::pausesGame)) pauseGame();
@@ -1,15 +1,13 @@
 package contrib.systems;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.audio.Sound;
 import contrib.components.IdleSoundComponent;
 import core.Entity;
 import core.Game;
 import core.System;
 import core.components.PositionComponent;
+import core.game.SoundService;
 import core.utils.Point;
 import core.utils.components.MissingComponentException;
-import java.util.Random;
 
 /**
  * Works on Entities that contain the {@link IdleSoundComponent} and plays the stored sound effect
@@ -21,12 +19,14 @@ import java.util.Random;
  */
 public final class IdleSoundSystem extends System {
 
-  private static final Random RANDOM = new Random();
   private static final float DISTANCE_THRESHOLD = 10.0f;
+  // idle sounds are not urgent, so a few nearby entities per frame are enough
+  private static final int ENTITY_BUDGET = 16;
 
   /** Create a new {@link IdleSoundSystem}. */
   public IdleSoundSystem() {
     super(IdleSoundComponent.class);
+    entityBudget(ENTITY_BUDGET);
   }
 
   private static boolean isEntityNearby(Point heroPos, Entity entity) {
@@ -42,30 +42,45 @@ public final class IdleSoundSystem extends System {
     return distance < DISTANCE_THRESHOLD;
   }
 
+  /**
+   * The IdleSoundSystem only plays sounds.
+   *
+   * @return true
+   */
+  @Override
+  public boolean isRenderSystem() {
+    return true;
+  }
+
   @Override
   public void execute() {
     Point heroPos =
         Game.hero()
             .flatMap(e -> e.fetch(PositionComponent.class).map(PositionComponent::position))
             .orElse(null);
-    filteredEntityStream(IdleSoundComponent.class)
-        .filter(e -> isEntityNearby(heroPos, e))
-        .forEach(
-            e ->
-                playSound(
-                    e.fetch(IdleSoundComponent.class)
-                        .orElseThrow(
-                            () -> MissingComponentException.build(e, IdleSoundComponent.class))));
+    forEachWithinBudget(
+        filteredEntityStream(IdleSoundComponent.class).filter(e -> isEntityNearby(heroPos, e)),
+        e ->
+            playSound(
+                e,
+                e.fetch(IdleSoundComponent.class)
+                    .orElseThrow(
+                        () -> MissingComponentException.build(e, IdleSoundComponent.class))));
   }
 
-  private void playSound(final IdleSoundComponent component) {
+  private void playSound(final Entity entity, final IdleSoundComponent component) {
     float chanceToPlaySound = 0.001f;
-    if (RANDOM.nextFloat(0f, 1f) < chanceToPlaySound) {
-      Sound soundEffect =
-          Gdx.audio.newSound(Gdx.files.internal(component.soundEffect().pathString()));
-      long soundID = soundEffect.play();
-      soundEffect.setLooping(soundID, false);
-      soundEffect.setVolume(soundID, 0.35f);
+    if (random().nextFloat(0f, 1f) < chanceToPlaySound) {
+      entity
+          .fetch(PositionComponent.class)
+          .ifPresent(
+              pc ->
+                  SoundService.playAt(
+                      component.soundEffect(),
+                      pc.position(),
+                      0.35f,
+                      1f,
+                      SoundService.PRIORITY_LOW));
     }
   }
 }
@@ -1,6 +1,5 @@
 package contrib.utils.components;
 
-import com.badlogic.gdx.Gdx;
 import contrib.components.AIComponent;
 import contrib.components.CollideComponent;
 import contrib.components.HealthComponent;
@@ -16,6 +15,7 @@ import core.Game;
 import core.components.DrawComponent;
 import core.components.PositionComponent;
 import core.components.VelocityComponent;
+import core.game.Replay;
 import core.level.Tile;
 import core.level.utils.Coordinate;
 import core.level.utils.LevelSize;
@@ -208,23 +208,23 @@ public class Debugger {
    * function if detected.
    */
   public void execute() {
-    if (Gdx.input.isKeyJustPressed(KeyboardConfig.DEBUG_ZOOM_OUT.value()))
+    if (Replay.isJustPressed(KeyboardConfig.DEBUG_ZOOM_OUT.value()))
       Debugger.ZOOM_CAMERA(-0.2f);
-    if (Gdx.input.isKeyJustPressed(KeyboardConfig.DEBUG_ZOOM_IN.value()))
+    if (Replay.isJustPressed(KeyboardConfig.DEBUG_ZOOM_IN.value()))
       Debugger.ZOOM_CAMERA(0.2f);
-    if (Gdx.input.isKeyJustPressed(KeyboardConfig.DEBUG_TELEPORT_TO_CURSOR.value()))
+    if (Replay.isJustPressed(KeyboardConfig.DEBUG_TELEPORT_TO_CURSOR.value()))
       Debugger.TELEPORT_TO_CURSOR();
-    if (Gdx.input.isKeyJustPressed(KeyboardConfig.DEBUG_TELEPORT_TO_END.value()))
+    if (Replay.isJustPressed(KeyboardConfig.DEBUG_TELEPORT_TO_END.value()))
       Debugger.TELEPORT_TO_END();
-    if (Gdx.input.isKeyJustPressed(KeyboardConfig.DEBUG_TELEPORT_TO_START.value()))
+    if (Replay.isJustPressed(KeyboardConfig.DEBUG_TELEPORT_TO_START.value()))
       Debugger.TELEPORT_TO_START();
-    if (Gdx.input.isKeyJustPressed(KeyboardConfig.DEBUG_TELEPORT_ON_END.value()))
+    if (Replay.isJustPressed(KeyboardConfig.DEBUG_TELEPORT_ON_END.value()))
       Debugger.LOAD_NEXT_LEVEL();
-    if (Gdx.input.isKeyJustPressed(KeyboardConfig.DEBUG_TOGGLE_LEVELSIZE.value()))
+    if (Replay.isJustPressed(KeyboardConfig.DEBUG_TOGGLE_LEVELSIZE.value()))
       Debugger.TOGGLE_LEVEL_SIZE();
-    if (Gdx.input.isKeyJustPressed(KeyboardConfig.DEBUG_SPAWN_MONSTER.value()))
+    if (Replay.isJustPressed(KeyboardConfig.DEBUG_SPAWN_MONSTER.value()))
       Debugger.SPAWN_MONSTER_ON_CURSOR();
-    if (Gdx.input.isKeyJustPressed(core.configuration.KeyboardConfig.PAUSE.value()))
+    if (Replay.isJustPressed(core.configuration.KeyboardConfig.PAUSE.value()))
       Debugger.PAUSE_GAME();
   }
 }
@@ -5,14 +5,15 @@ import contrib.utils.components.ai.AIUtils;
 import core.Entity;
 import core.Game;
 import core.components.PositionComponent;
+import core.game.RandomService;
 import core.level.Tile;
 import core.level.utils.LevelUtils;
 import core.utils.Point;
 import core.utils.components.MissingComponentException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 import java.util.function.Consumer;
+import java.util.random.RandomGenerator;
 
 /**
  * Implements an idle AI that lets the entity walk a specific path.
@@ -22,7 +23,7 @@ import java.util.function.Consumer;
  */
 public final class PatrolWalk implements Consumer<Entity> {
 
-  private static final Random RANDOM = new Random();
+  private static final RandomGenerator RANDOM = RandomService.stream(PatrolWalk.class);
   private final List<Tile> checkpoints = new ArrayList<>();
   private final int numberCheckpoints;
   private final int pauseFrames;
@@ -122,8 +123,7 @@ public final class PatrolWalk implements Consumer<Entity> {
 
     switch (mode) {
       case RANDOM -> {
-        Random rnd = new Random();
-        currentCheckpoint = rnd.nextInt(checkpoints.size());
+        currentCheckpoint = RANDOM.nextInt(checkpoints.size());
         currentPath =
             LevelUtils.calculatePath(
                 position.position(), this.checkpoints.get(currentCheckpoint).position());
@@ -4,9 +4,11 @@ import contrib.item.HealthPotionType;
 import contrib.item.Item;
 import contrib.item.concreteItem.ItemDefault;
 import contrib.item.concreteItem.ItemPotionHealth;
+import core.game.RandomService;
 import java.lang.reflect.InvocationTargetException;
 import java.util.*;
 import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
 
 /**
  * A flexible random item generator that allows for custom weighting of items.
@@ -18,13 +20,13 @@ import java.util.function.Supplier;
  * @see contrib.entities.MiscFactory#generateRandomItems(int, int) generateRandomItems
  */
 public class ItemGenerator {
-  private final Random random;
+  private final RandomGenerator random;
   private final Map<Supplier<Item>, Double> weightedItems;
   private double totalWeight;
 
-  /** Constructs an ItemRandomGenerator with a random seed. */
+  /** Constructs an ItemRandomGenerator that uses the random stream of the {@link RandomService}. */
   public ItemGenerator() {
-    this.random = new Random();
+    this.random = RandomService.stream(ItemGenerator.class);
     this.weightedItems = new HashMap<>();
     this.totalWeight = 0.0;
   }
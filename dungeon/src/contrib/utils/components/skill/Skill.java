@@ -1,8 +1,7 @@
 package contrib.utils.components.skill;
 
 import core.Entity;
-import java.time.Duration;
-import java.time.Instant;
+import core.game.FixedTimestep;
 import java.util.function.Consumer;
 
 /**
@@ -12,6 +11,9 @@ import java.util.function.Consumer;
  * functionality of the skill, saving the time when the skill was last used and (re)activate the
  * cool down timer.
  *
+ * <p>The times are measured in game time (see {@link FixedTimestep#gameTimeMillis()}), so the cool
+ * down lasts the same number of ticks in the live game and in a replay.
+ *
  * <p>{@link #canBeUsedAgain()} checks if the time between the last use and now is enough to use the
  * skill again.
  *
@@ -22,8 +24,8 @@ public class Skill {
 
   private final Consumer<Entity> skillFunction;
   private long coolDownInMilliSeconds;
-  private Instant lastUsed;
-  private Instant nextUsableAt = Instant.now();
+  private long lastUsed;
+  private long nextUsableAt = FixedTimestep.gameTimeMillis();
 
   /**
    * Create a new {@link Skill}.
@@ -48,7 +50,7 @@ public class Skill {
   public void execute(final Entity entity) {
     if (canBeUsedAgain()) {
       skillFunction.accept(entity);
-      lastUsed = Instant.now();
+      lastUsed = FixedTimestep.gameTimeMillis();
       activateCoolDown();
     }
   }
@@ -59,9 +61,7 @@ public class Skill {
    * @return true if the specified time (coolDownInSeconds) has passed.
    */
   public boolean canBeUsedAgain() {
-    // check if the cool down is active, return the negated result (this avoids some problems in
-    // nano-sec range)
-    return !(Duration.between(Instant.now(), nextUsableAt).toMillis() > 0);
+    return FixedTimestep.gameTimeMillis() >= nextUsableAt;
   }
 
   /**
@@ -87,7 +87,7 @@ public class Skill {
    * be used again.
    */
   private void activateCoolDown() {
-    nextUsableAt = lastUsed.plusMillis(coolDownInMilliSeconds);
+    nextUsableAt = lastUsed + coolDownInMilliSeconds;
   }
 
   /**
@@ -96,7 +96,7 @@ public class Skill {
    * <p>This method is used to reset the cool down of the skill.
    */
   public void setLastUsedToNow() {
-    this.lastUsed = Instant.now();
+    this.lastUsed = FixedTimestep.gameTimeMillis();
     activateCoolDown();
   }
 }
@@ -1,6 +1,5 @@
 package dsl.interpreter;
 
-import dsl.parser.DungeonASTConverter;
 import dsl.parser.ast.*;
 import dsl.semanticanalysis.environment.GameEnvironment;
 import dsl.semanticanalysis.symbol.Symbol;
@@ -9,7 +8,7 @@ import dsl.semanticanalysis.typesystem.typebuilding.type.IType;
 import entrypoint.*;
 import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,7 +18,6 @@ public class DSLEntryPointFinder implements AstVisitor<Object> {
   private ParsedFile parsedFile;
   private final GameEnvironment environment;
   private AggregateType questConfigDataType;
-  private final HashMap<Path, ParsedFile> parsedFiles;
 
   /**
    * Constructor.
@@ -28,7 +26,6 @@ public class DSLEntryPointFinder implements AstVisitor<Object> {
    */
   public DSLEntryPointFinder() {
     this.environment = new GameEnvironment();
-    this.parsedFiles = new HashMap<>();
     var symbols = environment.getGlobalScope().getSymbols();
     for (Symbol symbol : symbols) {
       if (symbol instanceof AggregateType aggregateType) {
@@ -48,30 +45,37 @@ public class DSLEntryPointFinder implements AstVisitor<Object> {
    *     quest_config definitions, the list of found quest_config objects otherwise
    */
   public Optional<List<DSLEntryPoint>> getEntryPoints(Path filePath) {
-    Node programAST;
-    if (this.parsedFiles.containsKey(filePath)) {
-      this.parsedFile = this.parsedFiles.get(filePath);
-      programAST = parsedFile.rootASTNode();
-    } else {
-      String content = DSLFileLoader.fileToString(filePath);
-      programAST = DungeonASTConverter.getProgramAST(content);
-      ParsedFile parsedFile = new ParsedFile(filePath, programAST);
-      this.parsedFiles.put(filePath, parsedFile);
-      this.parsedFile = parsedFile;
-    }
     // we don't want to do the whole interpretation here...
     // we only want to know, which (well formed) entry points exist
     // would be enough to do this in a light AST-Visitor..
-    List<DSLEntryPoint> list = findEntryPoints(programAST);
+    List<DSLEntryPoint> list = findEntryPoints(ParsedFileCache.parse(filePath));
     if (list.size() != 0) {
       return Optional.of(list);
     }
     return Optional.empty();
   }
 
-  private List<DSLEntryPoint> findEntryPoints(Node programAST) {
+  /**
+   * Creates the ASTs for the files of the passed filePaths (in parallel, see {@link
+   * ParsedFileCache#parseAll(Collection)}), searches them for quest_config definitions and creates
+   * {@link DSLEntryPoint} instances for each one.
+   *
+   * @param filePaths the paths of the files to search for quest_config definitions in
+   * @return the list of found quest_config objects of all files, in the iteration order of the
+   *     passed filePaths
+   */
+  public List<DSLEntryPoint> getEntryPoints(Collection<Path> filePaths) {
+    List<DSLEntryPoint> list = new ArrayList<>();
+    for (ParsedFile file : ParsedFileCache.parseAll(filePaths)) {
+      list.addAll(findEntryPoints(file));
+    }
+    return list;
+  }
+
+  private List<DSLEntryPoint> findEntryPoints(ParsedFile file) {
+    this.parsedFile = file;
     this.entryPoints = new ArrayList<>();
-    programAST.accept(this);
+    file.rootASTNode().accept(this);
     return entryPoints;
   }
 
@@ -22,6 +22,7 @@ import dsl.semanticanalysis.symbol.PropertySymbol;
 import dsl.semanticanalysis.symbol.ScopedSymbol;
 import dsl.semanticanalysis.symbol.Symbol;
 import dsl.semanticanalysis.typesystem.callbackadapter.CallbackAdapter;
+import dsl.semanticanalysis.typesystem.callbackadapter.CallbackScheduler;
 import dsl.semanticanalysis.typesystem.instantiation.TypeInstantiator;
 import dsl.semanticanalysis.typesystem.typebuilding.type.*;
 import entrypoint.DSLEntryPoint;
@@ -44,11 +45,11 @@ import task.tasktype.Quiz;
 @SuppressWarnings({"methodcount", "classdataabstractioncoupling"})
 public class DSLInterpreter implements AstVisitor<Object> {
   private RuntimeEnvironment environment;
-  private final ArrayDeque<IMemorySpace> memoryStack;
+  private ArrayDeque<IMemorySpace> memoryStack;
   private final ArrayDeque<IMemorySpace> instanceMemoryStack;
   private IMemorySpace globalSpace;
 
-  private SymbolTable symbolTable() {
+  SymbolTable symbolTable() {
     return environment.getSymbolTable();
   }
 
@@ -70,12 +71,18 @@ public class DSLInterpreter implements AstVisitor<Object> {
     return this.instanceMemoryStack.peek();
   }
 
-  private final ArrayDeque<Node> statementStack;
+  private ArrayDeque<Node> statementStack;
 
   private static final String RETURN_VALUE_NAME = "$return_value$";
 
   private final ScenarioBuilderStorage scenarioBuilderStorage;
 
+  private final FunctionCompiler functionCompiler;
+  private final Map<FunctionSymbol, FunctionCompiler.CompiledStatement> compiledFunctions;
+  private boolean compileFunctions = true;
+  private final Map<PrototypeValue, PrototypeTemplate> prototypeTemplates;
+  private final CallbackScheduler callbackScheduler;
+
   /** Constructor. WTF? . */
   public DSLInterpreter() {
     memoryStack = new ArrayDeque<>();
@@ -83,9 +90,26 @@ public class DSLInterpreter implements AstVisitor<Object> {
     globalSpace = new MemorySpace();
     statementStack = new ArrayDeque<>();
     scenarioBuilderStorage = new ScenarioBuilderStorage();
+    functionCompiler = new FunctionCompiler(this);
+    compiledFunctions = new HashMap<>();
+    prototypeTemplates = new IdentityHashMap<>();
+    callbackScheduler = new CallbackScheduler(this);
     memoryStack.push(globalSpace);
   }
 
+  /**
+   * Configure, how the bodies of user defined functions are executed.
+   *
+   * <p>If enabled (the default), the body of a function is compiled on its first call (see {@link
+   * FunctionCompiler}) and the compiled body is executed on each call. If disabled, the statements
+   * are executed with the statement stack of this interpreter.
+   *
+   * @param compileFunctions true, if the bodies of user defined functions should be compiled
+   */
+  public void compileFunctions(boolean compileFunctions) {
+    this.compileFunctions = compileFunctions;
+  }
+
   /**
    * Create a {@link DungeonConfig} instance for given {@link DSLEntryPoint}, this will reset the
    * environment of this {@link DSLInterpreter}.
@@ -106,6 +130,15 @@ public class DSLInterpreter implements AstVisitor<Object> {
     return generateQuestConfig(entryPoint.configDefinitionNode());
   }
 
+  /**
+   * Get the {@link CallbackScheduler}, which executes the budgeted callbacks of this interpreter.
+   *
+   * @return the callback scheduler
+   */
+  public CallbackScheduler getCallbackScheduler() {
+    return callbackScheduler;
+  }
+
   /**
    * WTF? .
    *
@@ -194,7 +227,7 @@ public class DSLInterpreter implements AstVisitor<Object> {
   }
 
   private PrototypeValue createItemPrototype(ItemPrototypeDefinitionNode node) {
-    var itemPrototypeDefinitionSymbol = this.symbolTable().getSymbolsForAstNode(node).get(0);
+    var itemPrototypeDefinitionSymbol = this.symbolTable().getSymbolForAstNode(node);
     assert itemPrototypeDefinitionSymbol instanceof AggregateType;
     AggregateType itemType = (AggregateType) itemPrototypeDefinitionSymbol;
 
@@ -211,7 +244,7 @@ public class DSLInterpreter implements AstVisitor<Object> {
 
       // get type of lhs (the assignee)
       var propertyName = propertyDefNode.getIdName();
-      Symbol propertySymbol = symbolTable().getSymbolsForAstNode(propDef).get(0);
+      Symbol propertySymbol = symbolTable().getSymbolForAstNode(propDef);
       if (propertySymbol.equals(Symbol.NULL)) {
         throw new RuntimeException(
             "Property of name '"
@@ -241,7 +274,7 @@ public class DSLInterpreter implements AstVisitor<Object> {
   }
 
   private PrototypeValue createComponentPrototype(AggregateValueDefinitionNode node) {
-    var componentSymbol = this.symbolTable().getSymbolsForAstNode(node).get(0);
+    var componentSymbol = this.symbolTable().getSymbolForAstNode(node);
     assert componentSymbol.getDataType() instanceof AggregateType;
 
     // the Prototype for a component does only live inside the
@@ -387,6 +420,10 @@ public class DSLInterpreter implements AstVisitor<Object> {
     this.memoryStack.push(this.globalSpace);
 
     this.environment = new RuntimeEnvironment(environment, this);
+    this.compiledFunctions.clear();
+    this.prototypeTemplates.clear();
+    this.callbackScheduler.cancelAll();
+    this.callbackScheduler.selectFunctions(this.environment.getGlobalScope());
 
     evaluateGlobalSymbols();
     initializeScenarioBuilderStorage();
@@ -454,7 +491,7 @@ public class DSLInterpreter implements AstVisitor<Object> {
     }
   }
 
-  private Value bindFromSymbol(Symbol symbol, IMemorySpace ms) {
+  Value bindFromSymbol(Symbol symbol, IMemorySpace ms) {
     if (!(symbol instanceof IType) && !(symbol instanceof PropertySymbol)) {
       var value = createDefaultValue(symbol.getDataType());
       ms.bindValue(symbol.getName(), value);
@@ -589,38 +626,27 @@ public class DSLInterpreter implements AstVisitor<Object> {
   /**
    * Instantiate a dsl prototype (which is an aggregate type with defaults) as a new Value.
    *
+   * <p>The instantiation of each prototype is prepared once and prepared again, if a default value
+   * of the prototype was replaced (see {@link PrototypeTemplate}).
+   *
    * @param prototype the {@link PrototypeValue} to instantiate
    * @return A new {@link Value} created from the {@link PrototypeValue}
    */
   public Value instantiateDSLValue(PrototypeValue prototype) {
-    // create memory space to store the values in
-    AggregateValue instance = new AggregateValue(prototype, getCurrentMemorySpace());
-
     // TODO: how to handle function calls here?
     //  we should evaluate functions as soon as possible, and only allow
     //  functions as objects to be passed to members, which actually expect a
     //  callback function
-    IMemorySpace memorySpace = instance.getMemorySpace();
-    this.memoryStack.push(memorySpace);
-    var internalType = (AggregateType) prototype.getInternalType();
-    for (var member : internalType.getSymbols()) {
-      // check, if type defines default for member
-      var defaultValue = prototype.getDefaultValue(member.getName());
-      if (defaultValue instanceof PrototypeValue) {
-        defaultValue = instantiateDSLValue((PrototypeValue) defaultValue);
-      } else if (!defaultValue.equals(Value.NONE)) {
-        // copy value (this is a copy of the DSL-Value, not the internal Object of the
-        // value)
-        defaultValue = (Value) defaultValue.clone();
-      } else {
-        // no default value, generate default ourselves
-        defaultValue = createDefaultValue(member.getDataType());
-      }
-      memorySpace.bindValue(member.getName(), defaultValue);
-    }
-    this.memoryStack.pop();
+    return prototypeTemplate(prototype).instantiate();
+  }
 
-    return instance;
+  PrototypeTemplate prototypeTemplate(PrototypeValue prototype) {
+    PrototypeTemplate template = prototypeTemplates.get(prototype);
+    if (template == null || !template.isUpToDate()) {
+      template = new PrototypeTemplate(this, prototype);
+      prototypeTemplates.put(prototype, template);
+    }
+    return template;
   }
 
   /**
@@ -773,7 +799,7 @@ public class DSLInterpreter implements AstVisitor<Object> {
   // this is used for resolving object references
   @Override
   public Object visit(IdNode node) {
-    var symbol = this.symbolTable().getSymbolsForAstNode(node).get(0);
+    var symbol = this.symbolTable().getSymbolForAstNode(node);
     if (symbol instanceof NativeFunction nativeFunction) {
       return new FunctionValue(nativeFunction.getFunctionType(), nativeFunction);
     }
@@ -787,7 +813,7 @@ public class DSLInterpreter implements AstVisitor<Object> {
   @Override
   public Object visit(FuncDefNode node) {
     // return function reference as value
-    var symbol = this.symbolTable().getSymbolsForAstNode(node).get(0);
+    var symbol = this.symbolTable().getSymbolForAstNode(node);
     return new Value(symbol.getDataType(), symbol);
   }
 
@@ -824,7 +850,7 @@ public class DSLInterpreter implements AstVisitor<Object> {
   public Object visit(FuncCallNode node) {
     var funcName = node.getIdName();
 
-    var symbol = this.symbolTable().getSymbolsForAstNode(node).get(0);
+    var symbol = this.symbolTable().getSymbolForAstNode(node);
 
     if (!(symbol instanceof ICallable callable)) {
       throw new RuntimeException("Symbol for name '" + funcName + "' is not callable!");
@@ -837,7 +863,26 @@ public class DSLInterpreter implements AstVisitor<Object> {
   @Override
   public Object visit(ReturnStmtNode node) {
     Value value = (Value) node.getInnerStmtNode().accept(this);
+    setReturnValue(value);
 
+    // unroll the statement stack until we find a return mark
+    while (statementStack.peek() != null && statementStack.peek().type != Node.Type.ReturnMark) {
+      // we still need to clean up the memory stack, if we find a ScopeExitMark
+      Node poppedNode = statementStack.pop();
+      if (poppedNode.type.equals(Node.Type.ScopeExitMark)) {
+        poppedNode.accept(this);
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * Set the return value of the function, which is currently executed.
+   *
+   * @param value the evaluated expression of the return statement
+   */
+  void setReturnValue(Value value) {
     if (value != Value.NONE) {
       // walk the memorystack, find the first return value
       // and set it according to the evaluated value
@@ -849,17 +894,6 @@ public class DSLInterpreter implements AstVisitor<Object> {
         }
       }
     }
-
-    // unroll the statement stack until we find a return mark
-    while (statementStack.peek() != null && statementStack.peek().type != Node.Type.ReturnMark) {
-      // we still need to clean up the memory stack, if we find a ScopeExitMark
-      Node poppedNode = statementStack.pop();
-      if (poppedNode.type.equals(Node.Type.ScopeExitMark)) {
-        poppedNode.accept(this);
-      }
-    }
-
-    return null;
   }
 
   @Override
@@ -924,9 +958,9 @@ public class DSLInterpreter implements AstVisitor<Object> {
       lhs = ((MemberAccessNode) currentNode).getLhs();
       rhs = ((MemberAccessNode) currentNode).getRhs();
 
-      Symbol lhsSymbol = symbolTable().getSymbolsForAstNode(lhs).get(0);
+      Symbol lhsSymbol = symbolTable().getSymbolForAstNode(lhs);
       if (lhsSymbol != Symbol.NULL && lhsSymbol instanceof EnumType enumType) {
-        Symbol rhsSymbol = symbolTable().getSymbolsForAstNode(rhs).get(0);
+        Symbol rhsSymbol = symbolTable().getSymbolForAstNode(rhs);
         if (rhsSymbol == Symbol.NULL) {
           throw new RuntimeException("Could not find enum variant for Node: " + rhs);
         }
@@ -980,7 +1014,7 @@ public class DSLInterpreter implements AstVisitor<Object> {
     } else {
       // get variable symbol
       // Node variableIdentifierNode = node.getIdentifier();
-      Symbol variableSymbol = symbolTable().getSymbolsForAstNode(node).get(0);
+      Symbol variableSymbol = symbolTable().getSymbolForAstNode(node);
       value = bindFromSymbol(variableSymbol, this.getCurrentMemorySpace());
     }
     return value;
@@ -988,44 +1022,58 @@ public class DSLInterpreter implements AstVisitor<Object> {
 
   @Override
   public Object visit(LogicOrNode node) {
-    // TODO: implement
-    throw new UnsupportedOperationException();
+    boolean result =
+        isBooleanTrue((Value) node.getLhs().accept(this))
+            || isBooleanTrue((Value) node.getRhs().accept(this));
+    return new Value(BuiltInType.boolType, result);
   }
 
   @Override
   public Object visit(LogicAndNode node) {
-    // TODO: implement
-    throw new UnsupportedOperationException();
+    boolean result =
+        isBooleanTrue((Value) node.getLhs().accept(this))
+            && isBooleanTrue((Value) node.getRhs().accept(this));
+    return new Value(BuiltInType.boolType, result);
   }
 
   @Override
   public Object visit(EqualityNode node) {
-    // TODO: implement
-    throw new UnsupportedOperationException();
+    Value lhs = (Value) node.getLhs().accept(this);
+    Value rhs = (Value) node.getRhs().accept(this);
+    boolean equal = Operators.equal(lhs, rhs);
+    return new Value(
+        BuiltInType.boolType,
+        node.getEqualityType() == EqualityNode.EqualityType.equals ? equal : !equal);
   }
 
   @Override
   public Object visit(ComparisonNode node) {
-    // TODO: implement
-    throw new UnsupportedOperationException();
+    Value lhs = (Value) node.getLhs().accept(this);
+    Value rhs = (Value) node.getRhs().accept(this);
+    return new Value(BuiltInType.boolType, Operators.compare(node.getComparisonType(), lhs, rhs));
   }
 
   @Override
   public Object visit(TermNode node) {
-    // TODO: implement
-    throw new UnsupportedOperationException();
+    Value lhs = (Value) node.getLhs().accept(this);
+    Value rhs = (Value) node.getRhs().accept(this);
+    return Operators.term(node.getTermType(), lhs, rhs);
   }
 
   @Override
   public Object visit(FactorNode node) {
-    // TODO: implement
-    throw new UnsupportedOperationException();
+    Value lhs = (Value) node.getLhs().accept(this);
+    Value rhs = (Value) node.getRhs().accept(this);
+    return Operators.factor(node.getFactorType(), lhs, rhs);
   }
 
   @Override
   public Object visit(UnaryNode node) {
-    // TODO: implement
-    throw new UnsupportedOperationException();
+    Value value = (Value) node.getInnerNode().accept(this);
+    if (node.getUnaryType() == UnaryNode.UnaryType.not) {
+      return new Value(BuiltInType.boolType, !isBooleanTrue(value));
+    }
+    return Operators.negate(value);
   }
 
   @Override
@@ -1231,7 +1279,7 @@ public class DSLInterpreter implements AstVisitor<Object> {
     return true;
   }
 
-  private boolean setValue(Value assignee, Value valueToAssign) {
+  boolean setValue(Value assignee, Value valueToAssign) {
     if (assignee == Value.NONE) {
       return false;
     }
@@ -1285,20 +1333,7 @@ public class DSLInterpreter implements AstVisitor<Object> {
 
     // evaluate iterable expression
     Value iterableValue = (Value) forLoopStmtNode.getIterableIdNode().accept(this);
-    IType iterableType = iterableValue.getDataType();
-
-    Iterator<Value> internalIterator;
-    if (iterableType.getTypeKind().equals(IType.Kind.ListType)) {
-      var listValue = (ListValue) iterableValue;
-      List<Value> internalList = listValue.internalList();
-      internalIterator = internalList.iterator();
-    } else if (iterableType.getTypeKind().equals(IType.Kind.SetType)) {
-      var setValue = (SetValue) iterableValue;
-      Set<Value> internalSet = setValue.internalSet();
-      internalIterator = internalSet.iterator();
-    } else {
-      throw new RuntimeException("Non iterable type '" + iterableType + "' used in for loop!");
-    }
+    Iterator<Value> internalIterator = iteratorOf(iterableValue);
 
     // create new loop-variable in surrounding (or loops?) memoryspace
     MemorySpace loopMemorySpace = new MemorySpace(this.getCurrentMemorySpace());
@@ -1306,13 +1341,13 @@ public class DSLInterpreter implements AstVisitor<Object> {
 
     // get the symbol for the loop variable
     Node variableIdNode = forLoopStmtNode.getVarIdNode();
-    Symbol variableSymbol = this.symbolTable().getSymbolsForAstNode(variableIdNode).get(0);
+    Symbol variableSymbol = this.symbolTable().getSymbolForAstNode(variableIdNode);
 
     Symbol counterVariableSymbol = Symbol.NULL;
     if (node.loopType().equals(LoopStmtNode.LoopType.countingForLoop)) {
       // get the symbol for the counter variable
       Node counterIdNode = ((CountingLoopStmtNode) node).getCounterIdNode();
-      counterVariableSymbol = this.symbolTable().getSymbolsForAstNode(counterIdNode).get(0);
+      counterVariableSymbol = this.symbolTable().getSymbolForAstNode(counterIdNode);
       // initialize counter variable
       Value counterValue = bindFromSymbol(counterVariableSymbol, loopMemorySpace);
       counterValue.setInternalValue(-1);
@@ -1337,6 +1372,27 @@ public class DSLInterpreter implements AstVisitor<Object> {
     return null;
   }
 
+  /**
+   * Get an iterator over the entries of the iterable value of a for loop.
+   *
+   * @param iterableValue the evaluated iterable expression of the loop
+   * @return an iterator over the entries of the list or set
+   */
+  Iterator<Value> iteratorOf(Value iterableValue) {
+    IType iterableType = iterableValue.getDataType();
+    if (iterableType.getTypeKind().equals(IType.Kind.ListType)) {
+      var listValue = (ListValue) iterableValue;
+      List<Value> internalList = listValue.internalList();
+      return internalList.iterator();
+    } else if (iterableType.getTypeKind().equals(IType.Kind.SetType)) {
+      var setValue = (SetValue) iterableValue;
+      Set<Value> internalSet = setValue.internalSet();
+      return internalSet.iterator();
+    } else {
+      throw new RuntimeException("Non iterable type '" + iterableType + "' used in for loop!");
+    }
+  }
+
   protected void updateForLoopState(
       IMemorySpace previosIterationsLoopMemorySpace, LoopBottomMark node) {
     LoopStmtNode loopNode = node.getLoopStmtNode();
@@ -1609,6 +1665,11 @@ public class DSLInterpreter implements AstVisitor<Object> {
    * @param symbol The symbol representing the function definition
    */
   private void executeUserDefinedFunctionBody(FunctionSymbol symbol) {
+    if (compileFunctions) {
+      compiledFunctions.computeIfAbsent(symbol, functionCompiler::compile).execute();
+      return;
+    }
+
     // add return mark
     statementStack.addFirst(new Node(Node.Type.ReturnMark));
 
@@ -1629,6 +1690,79 @@ public class DSLInterpreter implements AstVisitor<Object> {
     statementStack.pop();
   }
 
+  /**
+   * Start a call of a user defined function, which is executed in slices (see {@link
+   * SuspendableCall}). No statement of the function is executed by this method.
+   *
+   * <p>The statements are always executed with a statement stack, even if functions are compiled
+   * (see {@link #compileFunctions(boolean)}); functions called by the function are compiled as
+   * usual.
+   *
+   * @param symbol The symbol corresponding to the function to call
+   * @param parameterObjects The concrete raw objects to use as parameters of the function call
+   * @return the started call
+   */
+  public SuspendableCall startSuspendableCall(
+      FunctionSymbol symbol, List<Object> parameterObjects) {
+    IMemorySpace functionMemorySpace = createFunctionMemorySpace(symbol);
+    setupFunctionParametersRaw(symbol, functionMemorySpace, parameterObjects);
+
+    ArrayDeque<IMemorySpace> callMemoryStack = new ArrayDeque<>(memoryStack);
+    callMemoryStack.push(functionMemorySpace);
+
+    ArrayDeque<Node> callStatementStack = new ArrayDeque<>();
+    callStatementStack.addFirst(new Node(Node.Type.ReturnMark));
+    var stmtBlock = symbol.getAstRootNode().getStmtBlock();
+    if (stmtBlock != Node.NONE) {
+      callStatementStack.addFirst(stmtBlock);
+    }
+    return new SuspendableCall(this, callStatementStack, callMemoryStack);
+  }
+
+  /**
+   * Execute statements of a {@link SuspendableCall}, until the return mark at its bottom is reached
+   * or the budget is used up.
+   *
+   * <p>The given stacks replace the stacks of this interpreter for the time of the execution.
+   *
+   * @param statements the statement stack of the call
+   * @param memorySpaces the memory stack of the call
+   * @param statementBudget the maximum number of statements to execute
+   * @return true, if the return mark was reached, false otherwise
+   */
+  boolean executeStatements(
+      ArrayDeque<Node> statements, ArrayDeque<IMemorySpace> memorySpaces, int statementBudget) {
+    ArrayDeque<Node> previousStatements = statementStack;
+    ArrayDeque<IMemorySpace> previousMemorySpaces = memoryStack;
+    statementStack = statements;
+    memoryStack = memorySpaces;
+    try {
+      for (int i = 0; i < statementBudget && !isReturnMark(statementStack.peek()); i++) {
+        statementStack.pop().accept(this);
+      }
+      return isReturnMark(statementStack.peek());
+    } finally {
+      statementStack = previousStatements;
+      memoryStack = previousMemorySpaces;
+    }
+  }
+
+  private static boolean isReturnMark(Node node) {
+    return node == null || node.type == Node.Type.ReturnMark;
+  }
+
+  void pushMemorySpace(IMemorySpace memorySpace) {
+    this.memoryStack.push(memorySpace);
+  }
+
+  void popMemorySpace() {
+    this.memoryStack.pop();
+  }
+
+  Symbol symbolForAstNode(Node node) {
+    return symbolTable().getSymbolForAstNode(node);
+  }
+
   // endregion
 
   // region ASTVisitor implementation for nodes which do not need to be interpreted
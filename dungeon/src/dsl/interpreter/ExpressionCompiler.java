@@ -0,0 +1,346 @@
+package dsl.interpreter;
+
+import dsl.parser.ast.*;
+import dsl.runtime.callable.ICallable;
+import dsl.runtime.value.Value;
+import dsl.semanticanalysis.SymbolTable;
+import dsl.semanticanalysis.analyzer.ExpressionTypes;
+import dsl.semanticanalysis.symbol.PropertySymbol;
+import dsl.semanticanalysis.symbol.Symbol;
+import dsl.semanticanalysis.typesystem.typebuilding.type.BuiltInType;
+import dsl.semanticanalysis.typesystem.typebuilding.type.IType;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Compiles expressions of {@code int}, {@code float} and {@code bool} type into closures, which
+ * evaluate them on unboxed values.
+ *
+ * <p>The {@link DSLInterpreter} creates a new {@link Value} for the result of each operator, so
+ * the condition {@code i < n * 2} allocates three Values. An expression, which only consists of
+ * number and bool literals, variables of type {@code int}, {@code float} or {@code bool} and
+ * operators, has a type known before its evaluation. Such an expression is compiled to an {@link
+ * IntExpression}, {@link FloatExpression} or {@link BoolExpression}, which computes the result
+ * without any intermediate Values (the values of variables are read from the current memory space
+ * of the interpreter).
+ *
+ * <p>The semantics are the same as the ones of {@link Operators}.
+ */
+final class ExpressionCompiler {
+
+  /** An expression of type {@code int}. */
+  @FunctionalInterface
+  interface IntExpression {
+    /**
+     * Evaluate the expression.
+     *
+     * @return the result
+     */
+    int evaluate();
+  }
+
+  /** An expression of type {@code float}. */
+  @FunctionalInterface
+  interface FloatExpression {
+    /**
+     * Evaluate the expression.
+     *
+     * @return the result
+     */
+    float evaluate();
+  }
+
+  /** An expression of type {@code bool} (or an expression used as condition). */
+  @FunctionalInterface
+  interface BoolExpression {
+    /**
+     * Evaluate the expression.
+     *
+     * @return the result
+     */
+    boolean evaluate();
+  }
+
+  /** An expression, which creates a {@link Value} for its result. */
+  @FunctionalInterface
+  interface ValueExpression {
+    /**
+     * Evaluate the expression.
+     *
+     * @return the result
+     */
+    Value evaluate();
+  }
+
+  private final DSLInterpreter interpreter;
+
+  /**
+   * Constructor.
+   *
+   * @param interpreter the {@link DSLInterpreter} to read the values of variables from
+   */
+  ExpressionCompiler(DSLInterpreter interpreter) {
+    this.interpreter = interpreter;
+  }
+
+  /**
+   * Get the type of an expression, if it can be compiled.
+   *
+   * <p>The type is the static type of the expression (see {@link ExpressionTypes#typeOf(Node,
+   * SymbolTable)}), the semantic analyzer reports operators applied to operands of other types.
+   *
+   * @param node the root node of the expression
+   * @return {@code int}, {@code float} or {@code bool}, if the expression can be compiled; null
+   *     otherwise
+   */
+  IType primitiveType(Node node) {
+    if (!isCompilable(node)) {
+      return null;
+    }
+    IType type = ExpressionTypes.typeOf(node, interpreter.symbolTable());
+    return ExpressionTypes.isNumberType(type) || BuiltInType.boolType.equals(type) ? type : null;
+  }
+
+  /**
+   * Check, if an expression only consists of number and bool literals, variables and operators,
+   * whose operands can be compiled.
+   *
+   * @param node the root node of the expression
+   * @return true, if the expression can be compiled, false otherwise
+   */
+  private boolean isCompilable(Node node) {
+    if (node instanceof NumNode || node instanceof DecNumNode || node instanceof BoolNode) {
+      return true;
+    } else if (node instanceof IdNode) {
+      Symbol symbol = interpreter.symbolForAstNode(node);
+      if (symbol instanceof IType
+          || symbol instanceof ICallable
+          || symbol instanceof PropertySymbol) {
+        return false;
+      }
+      IType type = symbol.getDataType();
+      return ExpressionTypes.isNumberType(type) || BuiltInType.boolType.equals(type);
+    } else if (node instanceof EqualityNode equalityNode) {
+      // numbers are only compared with numbers, bools with bools (see Operators::equal)
+      IType lhsType = primitiveType(equalityNode.getLhs());
+      IType rhsType = primitiveType(equalityNode.getRhs());
+      return lhsType != null
+          && rhsType != null
+          && ExpressionTypes.isNumberType(lhsType) == ExpressionTypes.isNumberType(rhsType);
+    } else if (node instanceof TermNode
+        || node instanceof FactorNode
+        || node instanceof ComparisonNode
+        || node instanceof LogicAndNode
+        || node instanceof LogicOrNode) {
+      BinaryNode binaryNode = (BinaryNode) node;
+      return primitiveType(binaryNode.getLhs()) != null
+          && primitiveType(binaryNode.getRhs()) != null;
+    } else if (node instanceof UnaryNode unaryNode) {
+      return primitiveType(unaryNode.getInnerNode()) != null;
+    }
+    return false;
+  }
+
+  /**
+   * Compile an expression, which is evaluated as condition. Expressions without a {@link
+   * #primitiveType(Node)} are evaluated by the interpreter.
+   *
+   * @param node the root node of the expression
+   * @return the compiled expression
+   */
+  BoolExpression compileCondition(Node node) {
+    if (primitiveType(node) != null) {
+      return compileBool(node);
+    }
+    return () -> DSLInterpreter.isBooleanTrue((Value) node.accept(interpreter));
+  }
+
+  /**
+   * Compile an operator expression, which has a {@link #primitiveType(Node)}, to an expression
+   * creating a single {@link Value} for its result.
+   *
+   * @param node the root node of the expression
+   * @return the compiled expression, or null if the node is not an operator or has no primitive
+   *     type
+   */
+  ValueExpression compileOperatorValue(Node node) {
+    if (!isOperator(node)) {
+      return null;
+    }
+    IType type = primitiveType(node);
+    if (BuiltInType.intType.equals(type)) {
+      IntExpression expression = compileInt(node);
+      return () -> new Value(BuiltInType.intType, expression.evaluate());
+    } else if (BuiltInType.floatType.equals(type)) {
+      FloatExpression expression = compileFloat(node);
+      return () -> new Value(BuiltInType.floatType, expression.evaluate());
+    } else if (BuiltInType.boolType.equals(type)) {
+      BoolExpression expression = compileBool(node);
+      return () -> new Value(BuiltInType.boolType, expression.evaluate());
+    }
+    return null;
+  }
+
+  private IntExpression compileInt(Node node) {
+    if (node instanceof NumNode numNode) {
+      int value = numNode.getValue();
+      return () -> value;
+    } else if (node instanceof IdNode idNode) {
+      String name = idNode.getName();
+      return () -> ((Number) variable(name)).intValue();
+    } else if (node instanceof TermNode termNode) {
+      IntExpression lhs = compileInt(termNode.getLhs());
+      IntExpression rhs = compileInt(termNode.getRhs());
+      return termNode.getTermType() == TermNode.TermType.plus
+          ? () -> lhs.evaluate() + rhs.evaluate()
+          : () -> lhs.evaluate() - rhs.evaluate();
+    } else if (node instanceof FactorNode factorNode) {
+      IntExpression lhs = compileInt(factorNode.getLhs());
+      IntExpression rhs = compileInt(factorNode.getRhs());
+      return factorNode.getFactorType() == FactorNode.FactorType.multiply
+          ? () -> lhs.evaluate() * rhs.evaluate()
+          : () -> lhs.evaluate() / rhs.evaluate();
+    } else if (node instanceof UnaryNode unaryNode) {
+      IntExpression inner = compileInt(unaryNode.getInnerNode());
+      return () -> -inner.evaluate();
+    }
+    throw new IllegalStateException("Not an int expression: " + node.type);
+  }
+
+  private FloatExpression compileFloat(Node node) {
+    if (BuiltInType.intType.equals(primitiveType(node))) {
+      // the int result is converted, like an int operand of a float operation
+      IntExpression expression = compileInt(node);
+      return expression::evaluate;
+    } else if (node instanceof DecNumNode decNumNode) {
+      float value = decNumNode.getValue();
+      return () -> value;
+    } else if (node instanceof IdNode idNode) {
+      String name = idNode.getName();
+      return () -> ((Number) variable(name)).floatValue();
+    } else if (node instanceof TermNode termNode) {
+      FloatExpression lhs = compileFloat(termNode.getLhs());
+      FloatExpression rhs = compileFloat(termNode.getRhs());
+      return termNode.getTermType() == TermNode.TermType.plus
+          ? () -> lhs.evaluate() + rhs.evaluate()
+          : () -> lhs.evaluate() - rhs.evaluate();
+    } else if (node instanceof FactorNode factorNode) {
+      FloatExpression lhs = compileFloat(factorNode.getLhs());
+      FloatExpression rhs = compileFloat(factorNode.getRhs());
+      return factorNode.getFactorType() == FactorNode.FactorType.multiply
+          ? () -> lhs.evaluate() * rhs.evaluate()
+          : () -> lhs.evaluate() / rhs.evaluate();
+    } else if (node instanceof UnaryNode unaryNode) {
+      FloatExpression inner = compileFloat(unaryNode.getInnerNode());
+      return () -> -inner.evaluate();
+    }
+    throw new IllegalStateException("Not a float expression: " + node.type);
+  }
+
+  private BoolExpression compileBool(Node node) {
+    IType type = primitiveType(node);
+    if (BuiltInType.intType.equals(type)) {
+      // numbers are true, if they are not zero (see DSLInterpreter::isBooleanTrue)
+      IntExpression expression = compileInt(node);
+      return () -> expression.evaluate() != 0;
+    } else if (BuiltInType.floatType.equals(type)) {
+      FloatExpression expression = compileFloat(node);
+      return () -> expression.evaluate() != 0.0;
+    } else if (node instanceof BoolNode boolNode) {
+      boolean value = boolNode.getValue();
+      return () -> value;
+    } else if (node instanceof IdNode idNode) {
+      // like in the interpreter, a variable without value is false
+      String name = idNode.getName();
+      return () -> DSLInterpreter.isBooleanTrue(variableValue(name));
+    } else if (node instanceof UnaryNode unaryNode) {
+      BoolExpression inner = compileBool(unaryNode.getInnerNode());
+      return () -> !inner.evaluate();
+    } else if (node instanceof LogicAndNode logicAndNode) {
+      BoolExpression lhs = compileBool(logicAndNode.getLhs());
+      BoolExpression rhs = compileBool(logicAndNode.getRhs());
+      return () -> lhs.evaluate() && rhs.evaluate();
+    } else if (node instanceof LogicOrNode logicOrNode) {
+      BoolExpression lhs = compileBool(logicOrNode.getLhs());
+      BoolExpression rhs = compileBool(logicOrNode.getRhs());
+      return () -> lhs.evaluate() || rhs.evaluate();
+    } else if (node instanceof ComparisonNode comparisonNode) {
+      return compileComparison(comparisonNode);
+    } else if (node instanceof EqualityNode equalityNode) {
+      return compileEquality(equalityNode);
+    }
+    throw new IllegalStateException("Not a bool expression: " + node.type);
+  }
+
+  private BoolExpression compileComparison(ComparisonNode node) {
+    Node lhsNode = node.getLhs();
+    Node rhsNode = node.getRhs();
+    IType type = ExpressionTypes.numberType(primitiveType(lhsNode), primitiveType(rhsNode));
+    if (BuiltInType.floatType.equals(type)) {
+      FloatExpression lhs = compileFloat(lhsNode);
+      FloatExpression rhs = compileFloat(rhsNode);
+      return switch (node.getComparisonType()) {
+        case greaterThan -> () -> Float.compare(lhs.evaluate(), rhs.evaluate()) > 0;
+        case greaterEquals -> () -> Float.compare(lhs.evaluate(), rhs.evaluate()) >= 0;
+        case lessThan -> () -> Float.compare(lhs.evaluate(), rhs.evaluate()) < 0;
+        case lessEquals -> () -> Float.compare(lhs.evaluate(), rhs.evaluate()) <= 0;
+      };
+    }
+    IntExpression lhs = compileInt(lhsNode);
+    IntExpression rhs = compileInt(rhsNode);
+    return switch (node.getComparisonType()) {
+      case greaterThan -> () -> lhs.evaluate() > rhs.evaluate();
+      case greaterEquals -> () -> lhs.evaluate() >= rhs.evaluate();
+      case lessThan -> () -> lhs.evaluate() < rhs.evaluate();
+      case lessEquals -> () -> lhs.evaluate() <= rhs.evaluate();
+    };
+  }
+
+  private BoolExpression compileEquality(EqualityNode node) {
+    Node lhsNode = node.getLhs();
+    Node rhsNode = node.getRhs();
+    IType type = ExpressionTypes.numberType(primitiveType(lhsNode), primitiveType(rhsNode));
+    BoolExpression equal;
+    if (BuiltInType.floatType.equals(type)) {
+      FloatExpression lhs = compileFloat(lhsNode);
+      FloatExpression rhs = compileFloat(rhsNode);
+      equal = () -> lhs.evaluate() == rhs.evaluate();
+    } else if (BuiltInType.intType.equals(type)) {
+      IntExpression lhs = compileInt(lhsNode);
+      IntExpression rhs = compileInt(rhsNode);
+      equal = () -> lhs.evaluate() == rhs.evaluate();
+    } else {
+      // bools are compared by their internal values (see Operators::equal), so a variable without
+      // value is not equal to any bool
+      Supplier<Object> lhs = compileBoolOperand(lhsNode);
+      Supplier<Object> rhs = compileBoolOperand(rhsNode);
+      equal = () -> Objects.equals(lhs.get(), rhs.get());
+    }
+    if (node.getEqualityType() == EqualityNode.EqualityType.equals) {
+      return equal;
+    }
+    return () -> !equal.evaluate();
+  }
+
+  private Supplier<Object> compileBoolOperand(Node node) {
+    if (node instanceof IdNode idNode) {
+      String name = idNode.getName();
+      return () -> variable(name);
+    }
+    // the result is boxed to the cached Boolean instances
+    BoolExpression expression = compileBool(node);
+    return expression::evaluate;
+  }
+
+  private Object variable(String name) {
+    return variableValue(name).getInternalValue();
+  }
+
+  private Value variableValue(String name) {
+    return interpreter.getCurrentMemorySpace().resolve(name, true);
+  }
+
+  private static boolean isOperator(Node node) {
+    return node instanceof BinaryNode || node instanceof UnaryNode;
+  }
+}
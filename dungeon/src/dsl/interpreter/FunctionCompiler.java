@@ -0,0 +1,239 @@
+package dsl.interpreter;
+
+import dsl.interpreter.ExpressionCompiler.BoolExpression;
+import dsl.interpreter.ExpressionCompiler.ValueExpression;
+import dsl.parser.ast.*;
+import dsl.runtime.memoryspace.MemorySpace;
+import dsl.runtime.value.Value;
+import dsl.semanticanalysis.symbol.FunctionSymbol;
+import dsl.semanticanalysis.symbol.Symbol;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Compiles the bodies of user defined DSL functions into trees of closures.
+ *
+ * <p>The {@link DSLInterpreter} executes the statements of a function by pushing them (and marks
+ * for the exit of scopes, the bottom of loops and the return of the function) on a statement stack
+ * and popping them one by one. This allocates a mark node for each block and each loop, and
+ * dispatches every statement through the visitor.
+ *
+ * <p>A compiled function is a tree of {@link CompiledStatement}s, which is built once per {@link
+ * FunctionSymbol}. The control flow (blocks, conditionals, loops and returns) is executed directly
+ * in Java, with the same memory spaces as the statement stack would create. Expressions are still
+ * evaluated by the {@link DSLInterpreter}, so the semantics of values, assignments and calls stay
+ * the same. Only conditions and the operator expressions of assignments and returns, whose type is
+ * known to be {@code int}, {@code float} or {@code bool}, are compiled by the {@link
+ * ExpressionCompiler}.
+ *
+ * <p>The statement stack stays in place as reference implementation; see {@link
+ * DSLInterpreter#compileFunctions(boolean)}.
+ */
+final class FunctionCompiler {
+
+  /** A compiled statement. */
+  @FunctionalInterface
+  interface CompiledStatement {
+    /**
+     * Execute the statement.
+     *
+     * @return true, if a return statement was executed, false otherwise
+     */
+    boolean execute();
+  }
+
+  private static final CompiledStatement EMPTY = () -> false;
+
+  private final DSLInterpreter interpreter;
+  private final ExpressionCompiler expressionCompiler;
+
+  /**
+   * Constructor.
+   *
+   * @param interpreter the {@link DSLInterpreter} to evaluate expressions with
+   */
+  FunctionCompiler(DSLInterpreter interpreter) {
+    this.interpreter = interpreter;
+    this.expressionCompiler = new ExpressionCompiler(interpreter);
+  }
+
+  /**
+   * Compile the body of a user defined function.
+   *
+   * @param symbol the symbol of the function definition
+   * @return the compiled body
+   */
+  CompiledStatement compile(FunctionSymbol symbol) {
+    Node stmtBlock = symbol.getAstRootNode().getStmtBlock();
+    if (stmtBlock == Node.NONE) {
+      return EMPTY;
+    }
+    return compileStatement(stmtBlock);
+  }
+
+  private CompiledStatement compileStatement(Node stmt) {
+    return switch (stmt.type) {
+      case Block -> compileBlock((StmtBlockNode) stmt);
+      case ConditionalStmtIf -> compileIf((ConditionalStmtNodeIf) stmt);
+      case ConditionalStmtIfElse -> compileIfElse((ConditionalStmtNodeIfElse) stmt);
+      case ReturnStmt -> compileReturn((ReturnStmtNode) stmt);
+      case LoopStmtNode -> compileLoop((LoopStmtNode) stmt);
+      default -> compileExpressionStatement(stmt);
+    };
+  }
+
+  private CompiledStatement compileBlock(StmtBlockNode node) {
+    List<Node> stmtNodes = node.getStmts();
+    CompiledStatement[] stmts = new CompiledStatement[stmtNodes.size()];
+    for (int i = 0; i < stmts.length; i++) {
+      stmts[i] = compileStatement(stmtNodes.get(i));
+    }
+    return () -> {
+      interpreter.pushMemorySpace(new MemorySpace(interpreter.getCurrentMemorySpace()));
+      try {
+        for (CompiledStatement stmt : stmts) {
+          if (stmt.execute()) {
+            return true;
+          }
+        }
+        return false;
+      } finally {
+        interpreter.popMemorySpace();
+      }
+    };
+  }
+
+  /**
+   * Compile the statement of a conditional or a loop. If the statement is not a block, it gets its
+   * own memory space (like a block).
+   */
+  private CompiledStatement compileScopedStatement(Node stmt) {
+    CompiledStatement compiled = compileStatement(stmt);
+    if (stmt.type.equals(Node.Type.Block)) {
+      return compiled;
+    }
+    return () -> {
+      interpreter.pushMemorySpace(new MemorySpace(interpreter.getCurrentMemorySpace()));
+      try {
+        return compiled.execute();
+      } finally {
+        interpreter.popMemorySpace();
+      }
+    };
+  }
+
+  private CompiledStatement compileIf(ConditionalStmtNodeIf node) {
+    BoolExpression condition = expressionCompiler.compileCondition(node.getCondition());
+    CompiledStatement ifStmt = compileScopedStatement(node.getIfStmt());
+    return () -> condition.evaluate() && ifStmt.execute();
+  }
+
+  private CompiledStatement compileIfElse(ConditionalStmtNodeIfElse node) {
+    BoolExpression condition = expressionCompiler.compileCondition(node.getCondition());
+    CompiledStatement ifStmt = compileScopedStatement(node.getIfStmt());
+    CompiledStatement elseStmt = compileScopedStatement(node.getElseStmt());
+    return () -> condition.evaluate() ? ifStmt.execute() : elseStmt.execute();
+  }
+
+  private CompiledStatement compileReturn(ReturnStmtNode node) {
+    Node innerStmt = node.getInnerStmtNode();
+    ValueExpression value = expressionCompiler.compileOperatorValue(innerStmt);
+    if (value != null) {
+      return () -> {
+        interpreter.setReturnValue(value.evaluate());
+        return true;
+      };
+    }
+    return () -> {
+      interpreter.setReturnValue(evaluate(innerStmt));
+      return true;
+    };
+  }
+
+  private CompiledStatement compileLoop(LoopStmtNode node) {
+    return switch (node.loopType()) {
+      case whileLoop -> compileWhileLoop((WhileLoopStmtNode) node);
+      case forLoop, countingForLoop -> compileForLoop((ForLoopStmtNode) node);
+    };
+  }
+
+  private CompiledStatement compileWhileLoop(WhileLoopStmtNode node) {
+    BoolExpression condition = expressionCompiler.compileCondition(node.getExpressionNode());
+    CompiledStatement body = compileStatement(node.getStmtNode());
+    return () -> {
+      while (condition.evaluate()) {
+        // each iteration gets a new memory space
+        interpreter.pushMemorySpace(new MemorySpace(interpreter.getCurrentMemorySpace()));
+        try {
+          if (body.execute()) {
+            return true;
+          }
+        } finally {
+          interpreter.popMemorySpace();
+        }
+      }
+      return false;
+    };
+  }
+
+  private CompiledStatement compileForLoop(ForLoopStmtNode node) {
+    Node iterableNode = node.getIterableIdNode();
+    Symbol variableSymbol = interpreter.symbolForAstNode(node.getVarIdNode());
+    Symbol counterSymbol =
+        node instanceof CountingLoopStmtNode countingLoop
+            ? interpreter.symbolForAstNode(countingLoop.getCounterIdNode())
+            : Symbol.NULL;
+    CompiledStatement body = compileStatement(node.getStmtNode());
+    return () -> {
+      Iterator<Value> iterator = interpreter.iteratorOf(evaluate(iterableNode));
+      Value counterValue = Value.NONE;
+      if (counterSymbol != Symbol.NULL) {
+        counterValue = interpreter.bindFromSymbol(counterSymbol, new MemorySpace());
+        counterValue.setInternalValue(-1);
+      }
+      while (iterator.hasNext()) {
+        // each iteration gets a new memory space, which holds the loop variable (and counter)
+        MemorySpace iterationMemorySpace = new MemorySpace(interpreter.getCurrentMemorySpace());
+        Value loopValue = interpreter.bindFromSymbol(variableSymbol, iterationMemorySpace);
+        interpreter.setValue(loopValue, iterator.next());
+        if (counterSymbol != Symbol.NULL) {
+          counterValue.setInternalValue((Integer) counterValue.getInternalValue() + 1);
+          iterationMemorySpace.bindValue(counterSymbol.getName(), counterValue);
+        }
+
+        interpreter.pushMemorySpace(iterationMemorySpace);
+        try {
+          if (body.execute()) {
+            return true;
+          }
+        } finally {
+          interpreter.popMemorySpace();
+        }
+      }
+      return false;
+    };
+  }
+
+  private CompiledStatement compileExpressionStatement(Node stmt) {
+    if (stmt instanceof AssignmentNode assignmentNode) {
+      ValueExpression value = expressionCompiler.compileOperatorValue(assignmentNode.getRhs());
+      if (value != null) {
+        Node lhs = assignmentNode.getLhs();
+        return () -> {
+          // same order of evaluation as DSLInterpreter::visit(AssignmentNode)
+          Value lhsValue = evaluate(lhs);
+          interpreter.setValue(lhsValue, value.evaluate());
+          return false;
+        };
+      }
+    }
+    return () -> {
+      stmt.accept(interpreter);
+      return false;
+    };
+  }
+
+  private Value evaluate(Node node) {
+    return (Value) node.accept(interpreter);
+  }
+}
@@ -0,0 +1,165 @@
+package dsl.interpreter;
+
+import dsl.parser.ast.ComparisonNode;
+import dsl.parser.ast.FactorNode;
+import dsl.parser.ast.TermNode;
+import dsl.runtime.value.Value;
+import dsl.semanticanalysis.analyzer.ExpressionTypes;
+import dsl.semanticanalysis.typesystem.typebuilding.type.BuiltInType;
+import dsl.semanticanalysis.typesystem.typebuilding.type.IType;
+import java.util.Objects;
+
+/**
+ * The semantics of the arithmetic, comparison and equality operators of the DSL on {@link Value}s.
+ *
+ * <p>Arithmetic and comparison operators are defined for {@code int} and {@code float} values. If
+ * one operand is a {@code float}, both operands are converted to {@code float}; otherwise the
+ * operation is performed on {@code int}s (so {@code /} is an integer division). The equality
+ * operators compare numbers by their value and all other values by their internal objects.
+ *
+ * <p>{@link ExpressionCompiler} implements the same semantics on unboxed values.
+ */
+final class Operators {
+
+  private Operators() {}
+
+  /**
+   * Check, if the value is an {@code int} or a {@code float}.
+   *
+   * @param value the value to check
+   * @return true, if the value is a number, false otherwise
+   */
+  static boolean isNumber(Value value) {
+    return ExpressionTypes.isNumberType(value.getDataType());
+  }
+
+  /**
+   * Perform the operation of a {@link TermNode}.
+   *
+   * @param type the operation
+   * @param lhs the left operand
+   * @param rhs the right operand
+   * @return the result of the operation
+   */
+  static Value term(TermNode.TermType type, Value lhs, Value rhs) {
+    String operator = type == TermNode.TermType.plus ? "+" : "-";
+    requireNumbers(operator, lhs, rhs);
+    if (isFloat(lhs) || isFloat(rhs)) {
+      float l = floatValue(lhs);
+      float r = floatValue(rhs);
+      return new Value(BuiltInType.floatType, type == TermNode.TermType.plus ? l + r : l - r);
+    }
+    int l = intValue(lhs);
+    int r = intValue(rhs);
+    return new Value(BuiltInType.intType, type == TermNode.TermType.plus ? l + r : l - r);
+  }
+
+  /**
+   * Perform the operation of a {@link FactorNode}.
+   *
+   * @param type the operation
+   * @param lhs the left operand
+   * @param rhs the right operand
+   * @return the result of the operation
+   */
+  static Value factor(FactorNode.FactorType type, Value lhs, Value rhs) {
+    String operator = type == FactorNode.FactorType.multiply ? "*" : "/";
+    requireNumbers(operator, lhs, rhs);
+    if (isFloat(lhs) || isFloat(rhs)) {
+      float l = floatValue(lhs);
+      float r = floatValue(rhs);
+      return new Value(
+          BuiltInType.floatType, type == FactorNode.FactorType.multiply ? l * r : l / r);
+    }
+    int l = intValue(lhs);
+    int r = intValue(rhs);
+    return new Value(BuiltInType.intType, type == FactorNode.FactorType.multiply ? l * r : l / r);
+  }
+
+  /**
+   * Negate a number.
+   *
+   * @param value the number to negate
+   * @return the negated number
+   */
+  static Value negate(Value value) {
+    if (!isNumber(value)) {
+      throw new RuntimeException(
+          "Operator '-' is not defined for type '" + value.getDataType().getName() + "'");
+    }
+    if (isFloat(value)) {
+      return new Value(BuiltInType.floatType, -floatValue(value));
+    }
+    return new Value(BuiltInType.intType, -intValue(value));
+  }
+
+  /**
+   * Perform the comparison of a {@link ComparisonNode}.
+   *
+   * @param type the comparison
+   * @param lhs the left operand
+   * @param rhs the right operand
+   * @return the result of the comparison
+   */
+  static boolean compare(ComparisonNode.ComparisonType type, Value lhs, Value rhs) {
+    String operator =
+        switch (type) {
+          case greaterThan -> ">";
+          case greaterEquals -> ">=";
+          case lessThan -> "<";
+          case lessEquals -> "<=";
+        };
+    requireNumbers(operator, lhs, rhs);
+    int comparison =
+        isFloat(lhs) || isFloat(rhs)
+            ? Float.compare(floatValue(lhs), floatValue(rhs))
+            : Integer.compare(intValue(lhs), intValue(rhs));
+    return switch (type) {
+      case greaterThan -> comparison > 0;
+      case greaterEquals -> comparison >= 0;
+      case lessThan -> comparison < 0;
+      case lessEquals -> comparison <= 0;
+    };
+  }
+
+  /**
+   * Check, if two values are equal.
+   *
+   * @param lhs the left operand
+   * @param rhs the right operand
+   * @return true, if the values are equal, false otherwise
+   */
+  static boolean equal(Value lhs, Value rhs) {
+    if (isNumber(lhs) && isNumber(rhs)) {
+      return isFloat(lhs) || isFloat(rhs)
+          ? floatValue(lhs) == floatValue(rhs)
+          : intValue(lhs) == intValue(rhs);
+    }
+    return Objects.equals(lhs.getInternalValue(), rhs.getInternalValue());
+  }
+
+  private static void requireNumbers(String operator, Value lhs, Value rhs) {
+    if (!isNumber(lhs) || !isNumber(rhs)) {
+      throw new RuntimeException(
+          "Operator '"
+              + operator
+              + "' is not defined for types '"
+              + lhs.getDataType().getName()
+              + "' and '"
+              + rhs.getDataType().getName()
+              + "'");
+    }
+  }
+
+  private static boolean isFloat(Value value) {
+    return BuiltInType.floatType.equals(value.getDataType());
+  }
+
+  private static int intValue(Value value) {
+    return ((Number) value.getInternalValue()).intValue();
+  }
+
+  private static float floatValue(Value value) {
+    return ((Number) value.getInternalValue()).floatValue();
+  }
+}
@@ -0,0 +1,117 @@
+package dsl.interpreter;
+
+import dsl.runtime.memoryspace.IMemorySpace;
+import dsl.runtime.value.AggregateValue;
+import dsl.runtime.value.PrototypeValue;
+import dsl.runtime.value.Value;
+import dsl.semanticanalysis.symbol.Symbol;
+import dsl.semanticanalysis.typesystem.typebuilding.type.AggregateType;
+import dsl.semanticanalysis.typesystem.typebuilding.type.IType;
+import java.util.List;
+
+/**
+ * The instantiation of a {@link PrototypeValue}, prepared once.
+ *
+ * <p>Instantiating a prototype copies the members of its type, looks up the default value of each
+ * member by name and checks, how the value of the member is created. A template does this once for
+ * each member and stores the result, so {@link #instantiate()} only has to create the values:
+ *
+ * <ul>
+ *   <li>members with a prototype as default (e.g. the components of an entity type) are
+ *       instantiated with the current template of that prototype,
+ *   <li>members with a default value get a copy of the default value (which shares the internal
+ *       object of the default value, see {@link Value#clone()}),
+ *   <li>all other members get a new default value of their type.
+ * </ul>
+ *
+ * <p>Templates are built and cached by the {@link DSLInterpreter} (see {@link
+ * DSLInterpreter#instantiateDSLValue(PrototypeValue)}). A template stores the {@link
+ * PrototypeValue#defaultValuesVersion() version} of the default values it was built from; if a
+ * default value of the prototype is replaced, the template is outdated (see {@link #isUpToDate()})
+ * and the interpreter builds a new one. Default values, which are changed in place, are copied with
+ * their current internal value, so they do not outdate the template.
+ */
+final class PrototypeTemplate {
+
+  private final DSLInterpreter interpreter;
+  private final PrototypeValue prototype;
+  private final int version;
+  private final String[] names;
+  private final PrototypeValue[] nestedPrototypes;
+  private final Value[] defaultValues;
+  private final IType[] types;
+
+  /**
+   * Constructor.
+   *
+   * @param interpreter the {@link DSLInterpreter} to create default values with
+   * @param prototype the prototype to instantiate
+   */
+  PrototypeTemplate(DSLInterpreter interpreter, PrototypeValue prototype) {
+    this.interpreter = interpreter;
+    this.prototype = prototype;
+    this.version = prototype.defaultValuesVersion();
+
+    AggregateType internalType = prototype.getInternalType();
+    List<Symbol> members = internalType.getSymbols();
+    int memberCount = members.size();
+    this.names = new String[memberCount];
+    this.nestedPrototypes = new PrototypeValue[memberCount];
+    this.defaultValues = new Value[memberCount];
+    this.types = new IType[memberCount];
+    for (int i = 0; i < memberCount; i++) {
+      Symbol member = members.get(i);
+      names[i] = member.getName();
+      Value defaultValue = prototype.getDefaultValue(member.getName());
+      if (defaultValue instanceof PrototypeValue nestedPrototype) {
+        nestedPrototypes[i] = nestedPrototype;
+      } else if (!defaultValue.equals(Value.NONE)) {
+        defaultValues[i] = defaultValue;
+      } else {
+        types[i] = member.getDataType();
+      }
+    }
+  }
+
+  /**
+   * Check, if the default values of the prototype were not replaced since the template was built.
+   *
+   * @return true, if the template can be used to instantiate the prototype, false otherwise
+   */
+  boolean isUpToDate() {
+    return version == prototype.defaultValuesVersion();
+  }
+
+  /**
+   * Instantiate the prototype as a new {@link AggregateValue}.
+   *
+   * <p>The memory space of the new value is a child of the current memory space of the interpreter.
+   *
+   * @return the new value
+   */
+  AggregateValue instantiate() {
+    // create memory space to store the values in
+    AggregateValue instance = new AggregateValue(prototype, interpreter.getCurrentMemorySpace());
+
+    IMemorySpace memorySpace = instance.getMemorySpace();
+    interpreter.pushMemorySpace(memorySpace);
+    try {
+      for (int i = 0; i < names.length; i++) {
+        Value value;
+        if (nestedPrototypes[i] != null) {
+          value = interpreter.prototypeTemplate(nestedPrototypes[i]).instantiate();
+        } else if (defaultValues[i] != null) {
+          // copy value (this is a copy of the DSL-Value, not the internal Object of the value)
+          value = (Value) defaultValues[i].clone();
+        } else {
+          // no default value, generate default ourselves
+          value = interpreter.createDefaultValue(types[i]);
+        }
+        memorySpace.bindValue(names[i], value);
+      }
+    } finally {
+      interpreter.popMemorySpace();
+    }
+    return instance;
+  }
+}
@@ -0,0 +1,70 @@
+package dsl.interpreter;
+
+import dsl.parser.ast.Node;
+import dsl.runtime.memoryspace.IMemorySpace;
+import java.util.ArrayDeque;
+
+/**
+ * A call of a user defined function, which is executed in slices.
+ *
+ * <p>The {@link DSLInterpreter} executes the statements of a function with a statement stack. A
+ * suspendable call has its own statement stack and memory stack, so its execution can be stopped
+ * between two statements and resumed later (e.g. in the next frame), while the interpreter executes
+ * other functions in the meantime. Functions called by the suspendable call are executed
+ * completely within a single statement.
+ *
+ * <p>Suspendable calls are created with {@link DSLInterpreter#startSuspendableCall}.
+ */
+public final class SuspendableCall {
+
+  private final DSLInterpreter interpreter;
+  private final ArrayDeque<Node> statementStack;
+  private final ArrayDeque<IMemorySpace> memoryStack;
+  private boolean finished;
+
+  /**
+   * Constructor.
+   *
+   * @param interpreter the {@link DSLInterpreter} to execute the statements with
+   * @param statementStack the statements of the function body, on top of a return mark
+   * @param memoryStack the memory spaces, with the memory space of the function on top
+   */
+  SuspendableCall(
+      DSLInterpreter interpreter,
+      ArrayDeque<Node> statementStack,
+      ArrayDeque<IMemorySpace> memoryStack) {
+    this.interpreter = interpreter;
+    this.statementStack = statementStack;
+    this.memoryStack = memoryStack;
+  }
+
+  /**
+   * Execute the next statements of the call.
+   *
+   * <p>If a statement throws, the call is finished and the exception is passed on.
+   *
+   * @param statementBudget the maximum number of statements to execute
+   * @return true, if the call is finished, false otherwise
+   */
+  public boolean resume(int statementBudget) {
+    if (!finished) {
+      try {
+        finished = interpreter.executeStatements(statementStack, memoryStack, statementBudget);
+      } catch (RuntimeException e) {
+        finished = true;
+        throw e;
+      }
+    }
+    return finished;
+  }
+
+  /**
+   * Check, if the call is finished.
+   *
+   * @return true, if all statements of the call were executed (or a statement threw), false
+   *     otherwise
+   */
+  public boolean isFinished() {
+    return finished;
+  }
+}
@@ -9,6 +9,7 @@ import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Stack;
+import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.ParserRuleContext;
@@ -48,7 +49,16 @@ public class DungeonASTConverter implements antlr.main.DungeonDSLListener {
    * @return foo
    */
   public static Node getProgramAST(String program) {
-    var stream = CharStreams.fromString(program);
+    return getProgramAST(CharStreams.fromString(program));
+  }
+
+  /**
+   * Parse a program from the passed {@link CharStream} and create its AST.
+   *
+   * @param stream the source of the program
+   * @return Root Node of the AST.
+   */
+  public static Node getProgramAST(CharStream stream) {
     var lexer = new DungeonDSLLexer(stream);
 
     var tokenStream = new CommonTokenStream(lexer);
@@ -505,7 +515,7 @@ public class DungeonASTConverter implements antlr.main.DungeonDSLListener {
 
       var leftStmt = astStack.pop();
 
-      var childList = new ArrayList<Node>(rhsList.getChildren().size() + 1);
+      var childList = new ArrayList<Node>(rhsList.getChildCount() + 1);
       childList.add(leftStmt);
       childList.addAll(rhsList.getChildren());
 
@@ -610,7 +620,7 @@ public class DungeonASTConverter implements antlr.main.DungeonDSLListener {
       var leftParamDef = astStack.pop();
       assert (leftParamDef.type == Node.Type.ParamDef);
 
-      var childList = new ArrayList<Node>(rhsList.getChildren().size() + 1);
+      var childList = new ArrayList<Node>(rhsList.getChildCount() + 1);
       childList.add(leftParamDef);
       childList.addAll(rhsList.getChildren());
 
@@ -683,7 +693,7 @@ public class DungeonASTConverter implements antlr.main.DungeonDSLListener {
       var leftComponentDef = astStack.pop();
       assert (leftComponentDef.type == Node.Type.AggregateValueDefinition);
 
-      var childList = new ArrayList<Node>(rhsList.getChildren().size() + 1);
+      var childList = new ArrayList<Node>(rhsList.getChildCount() + 1);
       childList.add(leftComponentDef);
       childList.addAll(rhsList.getChildren());
 
@@ -759,7 +769,7 @@ public class DungeonASTConverter implements antlr.main.DungeonDSLListener {
       var leftPropertyDef = astStack.pop();
       assert (leftPropertyDef.type == Node.Type.PropertyDefinition);
 
-      var childList = new ArrayList<Node>(rhsList.getChildren().size() + 1);
+      var childList = new ArrayList<Node>(rhsList.getChildCount() + 1);
       childList.add(leftPropertyDef);
       childList.addAll(rhsList.getChildren());
 
@@ -824,7 +834,7 @@ public class DungeonASTConverter implements antlr.main.DungeonDSLListener {
       assert (rhsList.type == Node.Type.ParamList);
 
       var leftParam = astStack.pop();
-      var childList = new ArrayList<Node>(rhsList.getChildren().size() + 1);
+      var childList = new ArrayList<Node>(rhsList.getChildCount() + 1);
       childList.add(leftParam);
       childList.addAll(rhsList.getChildren());
 
@@ -917,7 +927,7 @@ public class DungeonASTConverter implements antlr.main.DungeonDSLListener {
     Node lhsStmt = astStack.pop();
 
     // flatten list, condense all stmt's to one list
-    ArrayList<Node> stmtListChildren = new ArrayList<>(rhsStmtList.getChildren().size() + 1);
+    ArrayList<Node> stmtListChildren = new ArrayList<>(rhsStmtList.getChildCount() + 1);
     stmtListChildren.add(lhsStmt);
     stmtListChildren.addAll(rhsStmtList.getChildren());
 
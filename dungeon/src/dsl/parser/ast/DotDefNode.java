@@ -32,7 +32,7 @@ public class DotDefNode extends Node {
    * @return all dot statements in the graph definition as a list
    */
   public List<Node> getStmtNodes() {
-    return this.getChildren().subList(dotStmtStartIdx, this.getChildren().size());
+    return this.getChildren().subList(dotStmtStartIdx, this.getChildCount());
   }
 
   /**
@@ -42,9 +42,15 @@ public class DotDefNode extends Node {
    * @param dotStmts A list of all dot statements in the definition
    */
   public DotDefNode(Node graphId, ArrayList<Node> dotStmts) {
-    super(Node.Type.DotDefinition, new ArrayList<>(dotStmts.size() + 1));
-    this.addChild(graphId);
-    dotStmts.forEach(this::addChild);
+    super(Node.Type.DotDefinition, children(graphId, dotStmts));
+  }
+
+  private static ArrayList<Node> children(Node graphId, ArrayList<Node> dotStmts) {
+    // pass all children at once, instead of adding them one by one
+    ArrayList<Node> children = new ArrayList<>(dotStmts.size() + 1);
+    children.add(graphId);
+    children.addAll(dotStmts);
+    return children;
   }
 
   @Override
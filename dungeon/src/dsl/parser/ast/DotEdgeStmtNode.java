@@ -20,7 +20,7 @@ public class DotEdgeStmtNode extends Node {
   public DotEdgeStmtNode(List<Node> idGroups, Node attrList) {
     super(Type.DotEdgeStmt, new ArrayList<>());
     idGroups.forEach(this::addChild);
-    this.attrListIdx = this.getChildren().size();
+    this.attrListIdx = this.getChildCount();
     this.addChild(attrList);
   }
 
@@ -45,7 +45,7 @@ public class FuncCallNode extends Node {
    * @param paramList The AstNode corresponding to the parameter list of the function call
    */
   public FuncCallNode(Node id, Node paramList) {
-    super(Type.FuncCall, new ArrayList<>(paramList.getChildren().size() + 1));
+    super(Type.FuncCall, new ArrayList<>(paramList.getChildCount() + 1));
 
     this.addChild(id);
     this.addChild(paramList);
@@ -12,7 +12,9 @@ public class IdNode extends Node {
    */
   public IdNode(String name, SourceFileReference sourceFileReference) {
     super(Type.Identifier, sourceFileReference);
-    this.name = name;
+    // identifiers repeat throughout a program, so all IdNodes (and the symbols named after them)
+    // share one String per identifier
+    this.name = name.intern();
   }
 
   /**
@@ -24,7 +26,7 @@ public class IdNode extends Node {
    */
   protected IdNode(Type nodeType, String name, SourceFileReference sourceFileReference) {
     super(nodeType, sourceFileReference);
-    this.name = name;
+    this.name = name.intern();
   }
 
   /**
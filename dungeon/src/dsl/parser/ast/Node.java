@@ -1,11 +1,17 @@
 package dsl.parser.ast;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /** WTF? . */
 public class Node {
-  // used for running index to give every Node a unique identifier
-  private static int _idx;
+  // used for running index to give every Node a unique identifier (files may be parsed in
+  // parallel, see ParsedFileCache)
+  private static final AtomicInteger NEXT_IDX = new AtomicInteger();
+
+  // shared by all nodes without children (most nodes of an AST are leaves)
+  private static final Node[] NO_CHILDREN = new Node[0];
 
   /**
    * WTF? .
@@ -143,7 +149,8 @@ public class Node {
   /** WTF? . */
   public static Node NONE = new Node(Type.NONE, new ArrayList<>());
 
-  private ArrayList<Node> children;
+  // exactly sized, so the AST does not keep the spare capacity of the lists it was built from
+  private Node[] children;
 
   /** WTF? . */
   public final Type type;
@@ -159,11 +166,10 @@ public class Node {
    * @param nodeChildren List of children of the node
    */
   public Node(Type nodeType, ArrayList<Node> nodeChildren) {
-    _idx++;
-    idx = _idx;
+    idx = NEXT_IDX.incrementAndGet();
 
     type = nodeType;
-    children = nodeChildren;
+    children = nodeChildren.isEmpty() ? NO_CHILDREN : nodeChildren.toArray(NO_CHILDREN);
     parent = NONE;
 
     for (var child : nodeChildren) {
@@ -177,11 +183,10 @@ public class Node {
    * @param nodeType The {@link Type} of the node
    */
   public Node(Type nodeType) {
-    _idx++;
-    idx = _idx;
+    idx = NEXT_IDX.incrementAndGet();
 
     type = nodeType;
-    children = new ArrayList<>();
+    children = NO_CHILDREN;
     parent = NONE;
   }
 
@@ -192,11 +197,10 @@ public class Node {
    * @param sourceReference The {@link SourceFileReference} for the new node
    */
   public Node(Type nodeType, SourceFileReference sourceReference) {
-    _idx++;
-    idx = _idx;
+    idx = NEXT_IDX.incrementAndGet();
 
     type = nodeType;
-    children = new ArrayList<>();
+    children = NO_CHILDREN;
     sourceFileReference = sourceReference;
     parent = NONE;
   }
@@ -208,11 +212,11 @@ public class Node {
    * @return The child with index
    */
   public Node getChild(int idx) {
-    if (idx >= children.size()) {
+    if (idx >= children.length) {
       return Node.NONE;
     }
 
-    return children.get(idx);
+    return children[idx];
   }
 
   /**
@@ -221,7 +225,8 @@ public class Node {
    * @param node
    */
   public void addChild(Node node) {
-    this.children.add(node);
+    this.children = Arrays.copyOf(this.children, this.children.length + 1);
+    this.children[this.children.length - 1] = node;
     node.parent = this;
   }
 
@@ -240,7 +245,16 @@ public class Node {
    * @return List of all children of the node.
    */
   public ArrayList<Node> getChildren() {
-    return new ArrayList<>(children);
+    return new ArrayList<>(Arrays.asList(children));
+  }
+
+  /**
+   * Get the number of children of this node, without copying them (see {@link #getChildren()}).
+   *
+   * @return the number of children of the node
+   */
+  public int getChildCount() {
+    return children.length;
   }
 
   /**
@@ -256,7 +270,7 @@ public class Node {
   public SourceFileReference getSourceFileReference() {
     if (sourceFileReference != SourceFileReference.NULL) {
       return sourceFileReference;
-    } else if (children.size() > 0) {
+    } else if (children.length > 0) {
       for (var child : children) {
         var childrensSourceFileReference = child.getSourceFileReference();
         if (childrensSourceFileReference != SourceFileReference.NULL) {
@@ -78,7 +78,7 @@ public class ObjectDefNode extends Node {
    * @param propertyDefList The AstNode corresponding to the property definition list
    */
   public ObjectDefNode(Node typeSpecifier, Node id, Node propertyDefList) {
-    super(Node.Type.ObjectDefinition, new ArrayList<>(propertyDefList.getChildren().size() + 2));
+    super(Node.Type.ObjectDefinition, new ArrayList<>(propertyDefList.getChildCount() + 2));
 
     this.addChild(typeSpecifier);
     this.addChild(id);
@@ -8,6 +8,7 @@ import dsl.semanticanalysis.environment.IEnvironment;
 import dsl.semanticanalysis.symbol.PropertySymbol;
 import dsl.semanticanalysis.symbol.Symbol;
 import dsl.semanticanalysis.typesystem.extension.IDSLExtensionProperty;
+import dsl.semanticanalysis.typesystem.instantiation.FieldAccessor;
 import dsl.semanticanalysis.typesystem.typebuilding.type.AggregateType;
 import dsl.semanticanalysis.typesystem.typebuilding.type.BuiltInType;
 import dsl.semanticanalysis.typesystem.typebuilding.type.IType;
@@ -68,9 +69,8 @@ public class EncapsulatedObject extends Value implements IMemorySpace {
     Field correspondingField = this.type.getTypeMemberToField().getOrDefault(name, null);
     if (correspondingField != null) {
       // read field value
-      correspondingField.setAccessible(true);
       try {
-        var fieldValue = correspondingField.get(this.getInternalValue());
+        var fieldValue = FieldAccessor.of(correspondingField).get(this.getInternalValue());
 
         // handle null
         if (fieldValue == null) {
@@ -175,9 +175,8 @@ public class EncapsulatedObject extends Value implements IMemorySpace {
     } else {
       // TODO: this should only be possible for PODs
       // read field value
-      correspondingField.setAccessible(true);
       try {
-        correspondingField.set(this.getInternalValue(), value.getInternalValue());
+        FieldAccessor.of(correspondingField).set(this.getInternalValue(), value.getInternalValue());
       } catch (IllegalAccessException e) {
         // TODO: handle
         return false;
@@ -1,16 +1,31 @@
 package dsl.runtime.memoryspace;
 
 import dsl.runtime.value.Value;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 
-/** WTF? . */
+/**
+ * WTF? .
+ *
+ * <p>The values are stored in slots (two parallel arrays for the names and the values), in the
+ * order in which they were bound. Most memory spaces (blocks, loop iterations, function calls) only
+ * hold a few values, so a linear scan over the slots is faster than hashing the name and creating a
+ * memory space is cheap.
+ */
 public class MemorySpace implements IMemorySpace {
+  // declared before NONE, which is initialized with them
+  private static final String[] NO_NAMES = new String[0];
+  private static final Value[] NO_VALUES = new Value[0];
+  private static final int INITIAL_CAPACITY = 4;
+
   /** WTF? . */
   public static MemorySpace NONE = new MemorySpace();
 
-  private final HashMap<String, Value> values = new HashMap<>();
+  private String[] names = NO_NAMES;
+  private Value[] values = NO_VALUES;
+  private int size;
   // TODO: is this really needed?!
   private final IMemorySpace parent;
 
@@ -34,7 +49,7 @@ public class MemorySpace implements IMemorySpace {
    * @return A Set containing all entries from the value Map
    */
   public Set<Map.Entry<String, Value>> getAllValues() {
-    return values.entrySet();
+    return getValueSet();
   }
 
   @Override
@@ -42,12 +57,18 @@ public class MemorySpace implements IMemorySpace {
     if (value.equals(Value.NONE)) {
       return false;
     }
-    if (values.containsKey(name)) {
+    if (slotOf(name) >= 0) {
       return false;
-    } else {
-      values.put(name, value);
-      return true;
     }
+    if (size == names.length) {
+      int capacity = Math.max(INITIAL_CAPACITY, size * 2);
+      names = Arrays.copyOf(names, capacity);
+      values = Arrays.copyOf(values, capacity);
+    }
+    names[size] = name;
+    values[size] = value;
+    size++;
+    return true;
   }
 
   /**
@@ -72,18 +93,35 @@ public class MemorySpace implements IMemorySpace {
    */
   @Override
   public Value resolve(String name, boolean resolveInParent) {
-    if (this.values.containsKey(name)) {
-      return this.values.get(name);
-    } else if (this.parent != MemorySpace.NONE && this.parent != null && resolveInParent) {
-      return this.parent.resolve(name, true);
-    } else {
-      return Value.NONE;
+    // walk the chain of MemorySpaces iteratively, other IMemorySpaces resolve on their own
+    MemorySpace memorySpace = this;
+    while (true) {
+      int slot = memorySpace.slotOf(name);
+      if (slot >= 0) {
+        return memorySpace.values[slot];
+      }
+      IMemorySpace next = memorySpace.parent;
+      if (next == MemorySpace.NONE || next == null || !resolveInParent) {
+        return Value.NONE;
+      }
+      if (!(next instanceof MemorySpace nextMemorySpace)) {
+        return next.resolve(name, true);
+      }
+      memorySpace = nextMemorySpace;
     }
   }
 
   @Override
   public void delete(String name) {
-    this.values.remove(name);
+    int slot = slotOf(name);
+    if (slot < 0) {
+      return;
+    }
+    size--;
+    System.arraycopy(names, slot + 1, names, slot, size - slot);
+    System.arraycopy(values, slot + 1, values, slot, size - slot);
+    names[size] = null;
+    values[size] = null;
   }
 
   @Override
@@ -98,6 +136,19 @@ public class MemorySpace implements IMemorySpace {
 
   @Override
   public Set<Map.Entry<String, Value>> getValueSet() {
-    return this.values.entrySet();
+    Map<String, Value> entries = new LinkedHashMap<>(size * 2);
+    for (int i = 0; i < size; i++) {
+      entries.put(names[i], values[i]);
+    }
+    return entries.entrySet();
+  }
+
+  private int slotOf(String name) {
+    for (int i = 0; i < size; i++) {
+      if (names[i].equals(name)) {
+        return i;
+      }
+    }
+    return -1;
   }
 }
@@ -1,11 +1,12 @@
 package dsl.runtime.value;
 
+import dsl.semanticanalysis.typesystem.instantiation.FieldAccessor;
 import dsl.semanticanalysis.typesystem.typebuilding.type.IType;
 import java.lang.reflect.Field;
 
 /** WTF? . */
 public class EncapsulatedField extends Value {
-  private final Field field;
+  private final FieldAccessor field;
 
   /**
    * WTF? .
@@ -16,7 +17,7 @@ public class EncapsulatedField extends Value {
    */
   public EncapsulatedField(IType type, Field field, Object object) {
     super(type, object, true);
-    this.field = field;
+    this.field = FieldAccessor.of(field);
   }
 
   @Override
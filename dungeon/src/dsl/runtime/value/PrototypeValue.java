@@ -5,6 +5,7 @@ import dsl.semanticanalysis.symbol.Symbol;
 import dsl.semanticanalysis.typesystem.typebuilding.type.AggregateType;
 import dsl.semanticanalysis.typesystem.typebuilding.type.BuiltInType;
 import dsl.semanticanalysis.typesystem.typebuilding.type.IType;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -25,6 +26,7 @@ public class PrototypeValue extends Value implements IType {
   private final AggregateType internalType;
 
   private final HashMap<String, Value> defaultValues;
+  private int defaultValuesVersion = 0;
 
   /**
    * Constructor.
@@ -83,6 +85,7 @@ public class PrototypeValue extends Value implements IType {
     } else {
       // TODO: typecheck?
       defaultValues.put(name, value);
+      defaultValuesVersion++;
       return true;
     }
   }
@@ -100,9 +103,21 @@ public class PrototypeValue extends Value implements IType {
   /**
    * WTF? .
    *
-   * @return Set of all default values (as combination of name and value)
+   * @return Set of all default values (as combination of name and value), which can not be
+   *     modified
    */
   public Set<Map.Entry<String, Value>> getDefaultValues() {
-    return this.defaultValues.entrySet();
+    return Collections.unmodifiableMap(this.defaultValues).entrySet();
+  }
+
+  /**
+   * Get the version of the default values, which is increased by each call of {@link
+   * #addDefaultValue(String, Value)}, which stores a value. Caches of the default values compare
+   * the version to detect changes.
+   *
+   * @return the version of the default values
+   */
+  public int defaultValuesVersion() {
+    return defaultValuesVersion;
   }
 }
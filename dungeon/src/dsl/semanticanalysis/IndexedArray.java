@@ -0,0 +1,99 @@
+package dsl.semanticanalysis;
+
+/**
+ * An array, which maps the indices of AST nodes or symbols (see {@link
+ * dsl.parser.ast.Node#getIdx()} and {@link dsl.semanticanalysis.symbol.Symbol#getIdx()}) to
+ * values.
+ *
+ * <p>The indices are unique in the whole process and the indices used in one {@link SymbolTable}
+ * are dense ranges (e.g. the nodes of one file), which can lie far apart (e.g. the nodes of a file
+ * parsed at startup and the nodes of a file parsed later). The array is therefore split into pages
+ * of fixed size, which are only allocated, if a value with an index in their range is stored. The
+ * pages are kept in a hash table with open addressing, keyed by the page number, so the memory
+ * used only depends on the number of allocated pages and not on the highest index. In contrast to
+ * a {@code HashMap<Integer, T>}, no key is boxed and no entry object is allocated.
+ *
+ * @param <T> the type of the values
+ */
+final class IndexedArray<T> {
+  private static final int PAGE_BITS = 10;
+  private static final int PAGE_SIZE = 1 << PAGE_BITS;
+  private static final int PAGE_MASK = PAGE_SIZE - 1;
+  private static final int INITIAL_CAPACITY = 8;
+
+  // slot i holds the page with the number pageNumbers[i], if pages[i] is not null
+  private int[] pageNumbers = new int[INITIAL_CAPACITY];
+  private Object[][] pages = new Object[INITIAL_CAPACITY][];
+  private int pageCount = 0;
+
+  /**
+   * Get the value stored for an index.
+   *
+   * @param idx the index
+   * @return the value stored for the index, or null, if no value is stored for it
+   */
+  @SuppressWarnings("unchecked")
+  T get(int idx) {
+    if (idx < 0) {
+      return null;
+    }
+    Object[] page = pages[slotOf(idx >>> PAGE_BITS)];
+    return page == null ? null : (T) page[idx & PAGE_MASK];
+  }
+
+  /**
+   * Store a value for an index. A previously stored value is replaced.
+   *
+   * @param idx the index, must not be negative
+   * @param value the value to store
+   */
+  void set(int idx, T value) {
+    if (idx < 0) {
+      throw new IllegalArgumentException("Negative index: " + idx);
+    }
+    int pageNumber = idx >>> PAGE_BITS;
+    int slot = slotOf(pageNumber);
+    if (pages[slot] == null) {
+      // keep at least half of the slots free, so the probe sequences stay short
+      if (2 * (pageCount + 1) > pages.length) {
+        grow();
+        slot = slotOf(pageNumber);
+      }
+      pageNumbers[slot] = pageNumber;
+      pages[slot] = new Object[PAGE_SIZE];
+      pageCount++;
+    }
+    pages[slot][idx & PAGE_MASK] = value;
+  }
+
+  /**
+   * Find the slot of a page: the slot holding the page, or the free slot, in which it would be
+   * stored.
+   *
+   * @param pageNumber the number of the page
+   * @return the index of the slot
+   */
+  private int slotOf(int pageNumber) {
+    int mask = pages.length - 1;
+    int hash = pageNumber * 0x9E3779B9;
+    int slot = (hash ^ (hash >>> 16)) & mask;
+    while (pages[slot] != null && pageNumbers[slot] != pageNumber) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  private void grow() {
+    int[] oldPageNumbers = pageNumbers;
+    Object[][] oldPages = pages;
+    pageNumbers = new int[oldPages.length * 2];
+    pages = new Object[oldPages.length * 2][];
+    for (int i = 0; i < oldPages.length; i++) {
+      if (oldPages[i] != null) {
+        int slot = slotOf(oldPageNumbers[i]);
+        pageNumbers[slot] = oldPageNumbers[i];
+        pages[slot] = oldPages[i];
+      }
+    }
+  }
+}
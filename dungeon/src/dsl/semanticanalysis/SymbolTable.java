@@ -25,30 +25,39 @@ import dsl.parser.ast.Node;
 import dsl.semanticanalysis.scope.IScope;
 import dsl.semanticanalysis.symbol.Symbol;
 import java.util.ArrayList;
-import java.util.HashMap;
 
-/** The results of semantic analysis done by SymbolTableParser. */
+/**
+ * The results of semantic analysis done by SymbolTableParser.
+ *
+ * <p>The relations between AST nodes and symbols are stored in {@link IndexedArray}s, indexed by
+ * the index of the node (or symbol), so a lookup is an array access and large programs do not
+ * need a map entry (and boxed keys) per node.
+ */
 public class SymbolTable {
   /** The global scope of the program. */
   IScope globalScope;
 
-  /** Store all symbols in a key-value store for easy referencing by their index. */
-  private final HashMap<Integer, Symbol> symbolIdxToSymbol;
+  /** Store all symbols by their index for easy referencing. */
+  private final IndexedArray<Symbol> symbolIdxToSymbol;
 
-  /** Store all referenced astNodes in a key-value store for easy referencing by their index. */
-  private final HashMap<Integer, Node> astNodeIdxToAstNode;
+  /**
+   * Creates an association between a specific AST node (by index) and a symbol -> e.g. "which
+   * symbol is referenced by the identifier in a specific AST node?". Only stores the first symbol,
+   * which was associated with a node.
+   */
+  private final IndexedArray<Symbol> astNodeSymbolRelation;
 
   /**
-   * Creates an association between a specific AST node (by index) and a symbol (by index) -> e.g.
-   * "which symbol is referenced by the identifier in a specific AST node?".
+   * The symbols, which were associated with an AST node (by index) after the first one (see {@link
+   * #astNodeSymbolRelation}).
    */
-  private final HashMap<Integer, ArrayList<Integer>> astNodeSymbolRelation;
+  private final IndexedArray<ArrayList<Symbol>> astNodeFurtherSymbolsRelation;
 
   /**
-   * Creates an association between a specific symbol (by Idx) and an ast node (by index) -> e.g.
-   * "by which ast node was this symbol created?".
+   * Creates an association between a specific symbol (by Idx) and an ast node -> e.g. "by which ast
+   * node was this symbol created?".
    */
-  private final HashMap<Integer, Integer> symbolToAstNodeRelation;
+  private final IndexedArray<Node> symbolToAstNodeRelation;
 
   /**
    * Getter for the global {@link IScope}, which is the topmost scope in the scope stack.
@@ -68,27 +77,26 @@ public class SymbolTable {
    * @param isNodeCreationNode foo
    */
   public void addSymbolNodeRelation(Symbol symbol, Node nodeOfSymbol, boolean isNodeCreationNode) {
-    if (!astNodeSymbolRelation.containsKey(nodeOfSymbol.getIdx())) {
-      astNodeSymbolRelation.put(nodeOfSymbol.getIdx(), new ArrayList<>());
+    int nodeIdx = nodeOfSymbol.getIdx();
+    if (astNodeSymbolRelation.get(nodeIdx) == null) {
+      astNodeSymbolRelation.set(nodeIdx, symbol);
+    } else {
+      // TODO: are there situations, in which multiple symbols are associated with the same
+      // AST-Node?
+      //  if not, this could be simplified
+      ArrayList<Symbol> furtherSymbols = astNodeFurtherSymbolsRelation.get(nodeIdx);
+      if (furtherSymbols == null) {
+        furtherSymbols = new ArrayList<>();
+        astNodeFurtherSymbolsRelation.set(nodeIdx, furtherSymbols);
+      }
+      furtherSymbols.add(symbol);
     }
 
-    // TODO: are there situations, in which multiple symbols are associated with the same
-    // AST-Node?
-    //  if not, this could be simplified
-    astNodeSymbolRelation.get(nodeOfSymbol.getIdx()).add(symbol.getIdx());
-
     if (isNodeCreationNode) {
       setCreationAstNode(symbol, nodeOfSymbol);
     }
 
-    /*
-    // treat the first astNodeToSymbol relation as the creationASTNode
-    if (!symbolIdxToSymbol.containsKey(symbol.getIdx())) {
-        symbolToAstNodeRelation.put(symbol.getIdx(), nodeOfSymbol.getIdx());
-    }*/
-
-    symbolIdxToSymbol.put(symbol.getIdx(), symbol);
-    astNodeIdxToAstNode.put(nodeOfSymbol.getIdx(), nodeOfSymbol);
+    symbolIdxToSymbol.set(symbol.getIdx(), symbol);
   }
 
   /**
@@ -98,30 +106,42 @@ public class SymbolTable {
    * @return The Symbol referenced by node, or Symbol.NULL, if no Symbol could be found
    */
   public ArrayList<Symbol> getSymbolsForAstNode(Node node) {
-    if (!astNodeSymbolRelation.containsKey(node.getIdx())) {
+    var returnList = new ArrayList<Symbol>();
+    Symbol symbol = astNodeSymbolRelation.get(node.getIdx());
+    if (symbol == null) {
       // TODO: just empty list?
-      var list = new ArrayList<Symbol>();
-      list.add(Symbol.NULL);
-      return list;
+      returnList.add(Symbol.NULL);
+      return returnList;
     }
 
-    var symbolIdxs = astNodeSymbolRelation.get(node.getIdx());
-    var returnList = new ArrayList<Symbol>();
-    for (int idx : symbolIdxs) {
-      if (symbolIdxToSymbol.containsKey(idx)) {
-        var symbol = symbolIdxToSymbol.get(idx);
-        // TODO: why is this a list? if every AST-Node is ever associated with at most one
-        //  symbol, this could be simplified -> not to be confused with the likely reference
-        // of one symbol by
-        //  multiple AST-Nodes
-        returnList.add(symbol);
-      }
+    // TODO: why is this a list? if every AST-Node is ever associated with at most one
+    //  symbol, this could be simplified -> not to be confused with the likely reference
+    // of one symbol by
+    //  multiple AST-Nodes
+    returnList.add(symbol);
+    ArrayList<Symbol> furtherSymbols = astNodeFurtherSymbolsRelation.get(node.getIdx());
+    if (furtherSymbols != null) {
+      returnList.addAll(furtherSymbols);
     }
     return returnList;
   }
 
+  /**
+   * Get the Symbol referenced by a specific AST node.
+   *
+   * <p>This is the first element of {@link #getSymbolsForAstNode(Node)}, but does not allocate a
+   * list.
+   *
+   * @param node The AST node
+   * @return The first Symbol referenced by node, or Symbol.NULL, if no Symbol could be found
+   */
+  public Symbol getSymbolForAstNode(Node node) {
+    Symbol symbol = astNodeSymbolRelation.get(node.getIdx());
+    return symbol == null ? Symbol.NULL : symbol;
+  }
+
   private void setCreationAstNode(Symbol symbol, Node creationNode) {
-    symbolToAstNodeRelation.put(symbol.getIdx(), creationNode.getIdx());
+    symbolToAstNodeRelation.set(symbol.getIdx(), creationNode);
   }
 
   /**
@@ -135,16 +155,8 @@ public class SymbolTable {
    * @return The creation AST node or Node.NONE, if none could be found for the passed symbol
    */
   public Node getCreationAstNode(Symbol symbol) {
-    if (!symbolToAstNodeRelation.containsKey(symbol.getIdx())) {
-      return Node.NONE;
-    }
-
-    var astNodeIdx = symbolToAstNodeRelation.get(symbol.getIdx());
-    if (!astNodeIdxToAstNode.containsKey(astNodeIdx)) {
-      return Node.NONE;
-    }
-
-    return astNodeIdxToAstNode.get(astNodeIdx);
+    Node creationNode = symbolToAstNodeRelation.get(symbol.getIdx());
+    return creationNode == null ? Node.NONE : creationNode;
   }
 
   /**
@@ -155,7 +167,8 @@ public class SymbolTable {
    *     exists
    */
   public Symbol getSymbolByIdx(int idx) {
-    return symbolIdxToSymbol.getOrDefault(idx, Symbol.NULL);
+    Symbol symbol = symbolIdxToSymbol.get(idx);
+    return symbol == null ? Symbol.NULL : symbol;
   }
 
   /**
@@ -165,9 +178,9 @@ public class SymbolTable {
    */
   public SymbolTable(IScope globalScope) {
     this.globalScope = globalScope;
-    astNodeSymbolRelation = new HashMap<>();
-    symbolIdxToSymbol = new HashMap<>();
-    astNodeIdxToAstNode = new HashMap<>();
-    symbolToAstNodeRelation = new HashMap<>();
+    astNodeSymbolRelation = new IndexedArray<>();
+    astNodeFurtherSymbolsRelation = new IndexedArray<>();
+    symbolIdxToSymbol = new IndexedArray<>();
+    symbolToAstNodeRelation = new IndexedArray<>();
   }
 }
@@ -0,0 +1,122 @@
+package dsl.semanticanalysis.analyzer;
+
+import dsl.parser.ast.*;
+import dsl.semanticanalysis.SymbolTable;
+import dsl.semanticanalysis.symbol.Symbol;
+import dsl.semanticanalysis.typesystem.typebuilding.type.BuiltInType;
+import dsl.semanticanalysis.typesystem.typebuilding.type.IType;
+
+/**
+ * The static types of DSL expressions.
+ *
+ * <p>The type of an expression is known before its evaluation, if it is a literal, a variable or an
+ * operator expression whose operands have known types. Arithmetic and comparison operators are
+ * defined for {@code int} and {@code float} operands: if one operand is a {@code float}, the result
+ * of an arithmetic operator is a {@code float}, otherwise an {@code int}. The equality and logic
+ * operators accept operands of all types (every value can be used as a truth value) and result in a
+ * {@code bool}.
+ *
+ * <p>The {@link SemanticAnalyzer} reports operands with a type, for which their operator is not
+ * defined. The interpreter uses the types to evaluate expressions on unboxed values.
+ */
+public final class ExpressionTypes {
+
+  private ExpressionTypes() {}
+
+  /**
+   * Get the static type of an expression.
+   *
+   * @param node the root node of the expression
+   * @param symbolTable the symbol table, which holds the symbols of the variables in the expression
+   * @return the type of the expression, or null, if the type is not known before the evaluation or
+   *     an operator is applied to operands of the wrong type
+   */
+  public static IType typeOf(Node node, SymbolTable symbolTable) {
+    if (node instanceof NumNode) {
+      return BuiltInType.intType;
+    } else if (node instanceof DecNumNode) {
+      return BuiltInType.floatType;
+    } else if (node instanceof BoolNode) {
+      return BuiltInType.boolType;
+    } else if (node instanceof StringNode) {
+      return BuiltInType.stringType;
+    } else if (node instanceof IdNode) {
+      Symbol symbol = symbolTable.getSymbolForAstNode(node);
+      if (symbol.equals(Symbol.NULL) || symbol instanceof IType) {
+        // unresolved name or name of a type, which has no value
+        return null;
+      }
+      IType type = symbol.getDataType();
+      return BuiltInType.noType.equals(type) ? null : type;
+    } else if (node instanceof TermNode || node instanceof FactorNode) {
+      BinaryNode binaryNode = (BinaryNode) node;
+      return numberType(
+          typeOf(binaryNode.getLhs(), symbolTable), typeOf(binaryNode.getRhs(), symbolTable));
+    } else if (node instanceof UnaryNode unaryNode) {
+      if (unaryNode.getUnaryType() == UnaryNode.UnaryType.not) {
+        return BuiltInType.boolType;
+      }
+      IType innerType = typeOf(unaryNode.getInnerNode(), symbolTable);
+      return isNumberType(innerType) ? innerType : null;
+    } else if (node instanceof ComparisonNode comparisonNode) {
+      IType lhsType = typeOf(comparisonNode.getLhs(), symbolTable);
+      IType rhsType = typeOf(comparisonNode.getRhs(), symbolTable);
+      return numberType(lhsType, rhsType) == null ? null : BuiltInType.boolType;
+    } else if (node instanceof EqualityNode
+        || node instanceof LogicAndNode
+        || node instanceof LogicOrNode) {
+      return BuiltInType.boolType;
+    }
+    return null;
+  }
+
+  /**
+   * Check, if the type is {@code int} or {@code float}.
+   *
+   * @param type the type to check
+   * @return true, if the type is a number type, false otherwise
+   */
+  public static boolean isNumberType(IType type) {
+    return BuiltInType.intType.equals(type) || BuiltInType.floatType.equals(type);
+  }
+
+  /**
+   * Get the type of the result of an arithmetic operation.
+   *
+   * @param lhsType the type of the left operand
+   * @param rhsType the type of the right operand
+   * @return {@code float}, if one operand is a float, {@code int}, if both are ints, null otherwise
+   */
+  public static IType numberType(IType lhsType, IType rhsType) {
+    if (!isNumberType(lhsType) || !isNumberType(rhsType)) {
+      return null;
+    }
+    if (BuiltInType.floatType.equals(lhsType) || BuiltInType.floatType.equals(rhsType)) {
+      return BuiltInType.floatType;
+    }
+    return BuiltInType.intType;
+  }
+
+  /**
+   * Check, if a value of a basic type can be assigned to a variable of a basic type. An {@code int}
+   * can be assigned to a {@code float}, all other types only to their own type.
+   *
+   * @param variableType the type of the variable
+   * @param valueType the type of the value
+   * @return true, if the value can be assigned or if one of the types is not a basic type, false
+   *     otherwise
+   */
+  public static boolean isAssignable(IType variableType, IType valueType) {
+    if (!isBasicValueType(variableType) || !isBasicValueType(valueType)) {
+      return true;
+    }
+    return variableType.equals(valueType)
+        || (BuiltInType.floatType.equals(variableType) && BuiltInType.intType.equals(valueType));
+  }
+
+  private static boolean isBasicValueType(IType type) {
+    return isNumberType(type)
+        || BuiltInType.boolType.equals(type)
+        || BuiltInType.stringType.equals(type);
+  }
+}
@@ -383,7 +383,7 @@ public class SemanticAnalyzer implements AstVisitor<Void> {
       // requires
       // resolving in the datatype of the preceding member-access expression
     } else {
-      Symbol funcSymbol = this.symbolTable.getSymbolsForAstNode(node).get(0);
+      Symbol funcSymbol = this.symbolTable.getSymbolForAstNode(node);
       if (funcSymbol == Symbol.NULL) {
         String funcName = node.getIdName();
         funcSymbol = currentScope().resolve(funcName, true);
@@ -576,54 +576,108 @@ public class SemanticAnalyzer implements AstVisitor<Void> {
 
   @Override
   public Void visit(LogicOrNode node) {
-    // TODO: implement
-    throw new UnsupportedOperationException();
+    // operands of all types are allowed, each value is a truth value
+    visitChildren(node);
+    return null;
   }
 
   @Override
   public Void visit(LogicAndNode node) {
-    // TODO: implement
-    throw new UnsupportedOperationException();
+    // operands of all types are allowed, each value is a truth value
+    visitChildren(node);
+    return null;
   }
 
   @Override
   public Void visit(EqualityNode node) {
-    // TODO: implement
-    throw new UnsupportedOperationException();
+    // values of all types can be compared for equality
+    visitChildren(node);
+    return null;
   }
 
   @Override
   public Void visit(ComparisonNode node) {
-    // TODO: implement
-    throw new UnsupportedOperationException();
+    visitChildren(node);
+    String operator =
+        switch (node.getComparisonType()) {
+          case greaterThan -> ">";
+          case greaterEquals -> ">=";
+          case lessThan -> "<";
+          case lessEquals -> "<=";
+        };
+    checkNumberOperands(node, operator, node.getLhs(), node.getRhs());
+    return null;
   }
 
   @Override
   public Void visit(TermNode node) {
-    // TODO: implement
-    throw new UnsupportedOperationException();
+    visitChildren(node);
+    String operator = node.getTermType() == TermNode.TermType.plus ? "+" : "-";
+    checkNumberOperands(node, operator, node.getLhs(), node.getRhs());
+    return null;
   }
 
   @Override
   public Void visit(FactorNode node) {
-    // TODO: implement
-    throw new UnsupportedOperationException();
+    visitChildren(node);
+    String operator = node.getFactorType() == FactorNode.FactorType.multiply ? "*" : "/";
+    checkNumberOperands(node, operator, node.getLhs(), node.getRhs());
+    return null;
   }
 
   @Override
   public Void visit(UnaryNode node) {
-    // TODO: implement
-    throw new UnsupportedOperationException();
+    visitChildren(node);
+    if (node.getUnaryType() == UnaryNode.UnaryType.minus) {
+      checkNumberOperands(node, "-", node.getInnerNode());
+    }
+    return null;
   }
 
   @Override
   public Void visit(AssignmentNode node) {
-    // TODO: typechcking
-
     visitChildren(node);
+    IType variableType = ExpressionTypes.typeOf(node.getLhs(), symbolTable);
+    IType valueType = ExpressionTypes.typeOf(node.getRhs(), symbolTable);
+    if (variableType != null
+        && valueType != null
+        && !ExpressionTypes.isAssignable(variableType, valueType)) {
+      errorStringBuilder.append(
+          "Can not assign value of type '"
+              + valueType.getName()
+              + "' to variable of type '"
+              + variableType.getName()
+              + "' at: "
+              + node.getSourceFileReference()
+              + "\n");
+    }
     return null;
   }
 
+  /**
+   * Report each operand, whose type is known and not a number type (see {@link
+   * ExpressionTypes#typeOf(Node, SymbolTable)}).
+   *
+   * @param node the operator node
+   * @param operator the operator, for the error message
+   * @param operands the operands of the operator
+   */
+  private void checkNumberOperands(Node node, String operator, Node... operands) {
+    for (Node operand : operands) {
+      IType type = ExpressionTypes.typeOf(operand, symbolTable);
+      if (type != null && !ExpressionTypes.isNumberType(type)) {
+        errorStringBuilder.append(
+            "Operator '"
+                + operator
+                + "' is not defined for type '"
+                + type.getName()
+                + "' at: "
+                + node.getSourceFileReference()
+                + "\n");
+      }
+    }
+  }
+
   @Override
   public Void visit(ListTypeIdentifierNode node) {
     return null;
@@ -9,6 +9,7 @@ import core.Entity;
 import core.components.DrawComponent;
 import core.components.PositionComponent;
 import core.components.VelocityComponent;
+import core.game.RandomService;
 import core.level.Tile;
 import dsl.annotation.DSLExtensionMethod;
 import dsl.interpreter.DSLInterpreter;
@@ -170,12 +171,34 @@ public class GameEnvironment implements IEnvironment {
   /**
    * Constructor. Creates fresh global scope and symbol table and binds built in types and native
    * functions.
+   *
+   * <p>Building the built in types reflects over all built in classes and type adapters, so this is
+   * only done once per JVM: a {@link GameEnvironment} (but not a subclass, which may bind other
+   * types) binds the types and native functions of a shared, fully built {@link GameEnvironment}
+   * in its own global scope and copies its {@link TypeBuilder}. The shared types and functions are
+   * not modified after they are built, so they can be used by multiple environments and threads.
    */
   public GameEnvironment() {
-    this.typeBuilder = new TypeBuilder();
+    this(true);
+  }
+
+  private GameEnvironment(boolean useSharedBuiltIns) {
     this.globalScope = new Scope();
     this.symbolTable = new SymbolTable(this.globalScope);
 
+    if (useSharedBuiltIns && getClass() == GameEnvironment.class) {
+      GameEnvironment builtIns = SharedBuiltIns.ENVIRONMENT;
+      this.typeBuilder = new TypeBuilder(builtIns.typeBuilder);
+      for (Symbol symbol : builtIns.globalScope.getSymbols()) {
+        this.globalScope.bind(symbol);
+      }
+      registerDefaultRuntimeObjectTranslators();
+      this.NATIVE_FUNCTIONS = new ArrayList<>(builtIns.NATIVE_FUNCTIONS);
+      return;
+    }
+
+    this.typeBuilder = new TypeBuilder();
+
     bindBuiltInTypes();
 
     registerDefaultTypeAdapters();
@@ -190,6 +213,11 @@ public class GameEnvironment implements IEnvironment {
     bindNativeFunctions();
   }
 
+  /** Holds the shared built in types and native functions; built on first use. */
+  private static final class SharedBuiltIns {
+    private static final GameEnvironment ENVIRONMENT = new GameEnvironment(false);
+  }
+
   protected void registerDefaultTypeAdapters() {
     typeBuilder.registerTypeAdapter(DrawComponentAdapter.class, this.globalScope);
     typeBuilder.registerTypeAdapter(AIComponentAdapter.class, this.globalScope);
@@ -875,8 +903,7 @@ public class GameEnvironment implements IEnvironment {
     public Object call(DSLInterpreter interpreter, List<Node> parameters) {
       assert parameters != null && parameters.size() > 0;
 
-      Random rand = new Random();
-      int randVal = rand.nextInt();
+      int randVal = RandomService.stream(GenerateRandomFillerContent.class).nextInt();
       Entity randomContent = null;
       try {
         if (randVal % 2 == 0) {
@@ -0,0 +1,46 @@
+package dsl.semanticanalysis.typesystem.callbackadapter;
+
+import dsl.interpreter.DSLInterpreter;
+import dsl.runtime.environment.RuntimeEnvironment;
+import dsl.semanticanalysis.symbol.FunctionSymbol;
+import java.util.Arrays;
+
+/**
+ * A {@link CallbackAdapter}, which schedules the execution of its function with a {@link
+ * CallbackScheduler} instead of executing it directly.
+ */
+public class BudgetedCallbackAdapter extends CallbackAdapter {
+
+  private final FunctionSymbol function;
+  private final CallbackScheduler scheduler;
+
+  /**
+   * Constructor.
+   *
+   * @param rtEnv the runtime environment of the interpreter
+   * @param function the user defined function to call
+   * @param interpreter the interpreter to execute the function with
+   * @param scheduler the scheduler to schedule the calls with
+   */
+  BudgetedCallbackAdapter(
+      RuntimeEnvironment rtEnv,
+      FunctionSymbol function,
+      DSLInterpreter interpreter,
+      CallbackScheduler scheduler) {
+    super(rtEnv, function, interpreter);
+    this.function = function;
+    this.scheduler = scheduler;
+  }
+
+  /**
+   * Schedule a call of the function. The function is not executed by this method.
+   *
+   * @param params the parameters of the call
+   * @return null, the function has no return value
+   */
+  @Override
+  public Object call(Object... params) {
+    scheduler.schedule(function, Arrays.asList(params));
+    return null;
+  }
+}
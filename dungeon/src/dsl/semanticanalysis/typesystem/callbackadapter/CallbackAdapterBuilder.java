@@ -2,6 +2,7 @@ package dsl.semanticanalysis.typesystem.callbackadapter;
 
 import dsl.interpreter.DSLInterpreter;
 import dsl.runtime.callable.ICallable;
+import dsl.semanticanalysis.symbol.FunctionSymbol;
 import dsl.semanticanalysis.typesystem.typebuilding.type.BuiltInType;
 import dsl.semanticanalysis.typesystem.typebuilding.type.FunctionType;
 
@@ -25,6 +26,9 @@ public class CallbackAdapterBuilder {
    * Build a {@link CallbackAdapter} for a concrete DSL function for assigning to a callback-Field
    * in a Component of the Dungeons ECS.
    *
+   * <p>Callbacks without return value of functions selected in the {@link CallbackScheduler} of the
+   * interpreter are executed in slices (see {@link BudgetedCallbackAdapter}).
+   *
    * @param callable The {@link ICallable} representing the function
    * @return The created {@link CallbackAdapter}
    */
@@ -38,6 +42,12 @@ public class CallbackAdapterBuilder {
         && functionType.getParameterTypes().size() == 2) {
       return new BiFunctionCallbackAdapter(
           interpreter.getRuntimeEnvironment(), callable, interpreter);
+    } else if (interpreter.getCallbackScheduler().isBudgeted(callable)) {
+      return new BudgetedCallbackAdapter(
+          interpreter.getRuntimeEnvironment(),
+          (FunctionSymbol) callable,
+          interpreter,
+          interpreter.getCallbackScheduler());
     } else {
       return new CallbackAdapter(interpreter.getRuntimeEnvironment(), callable, interpreter);
     }
@@ -0,0 +1,222 @@
+package dsl.semanticanalysis.typesystem.callbackadapter;
+
+import dsl.interpreter.DSLInterpreter;
+import dsl.interpreter.SuspendableCall;
+import dsl.runtime.callable.ICallable;
+import dsl.semanticanalysis.scope.IScope;
+import dsl.semanticanalysis.symbol.FunctionSymbol;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Executes selected DSL callbacks in slices, so a long running callback does not stop the game for
+ * the time of its execution.
+ *
+ * <p>A callback of a selected function (see {@link #runBudgeted(FunctionSymbol)} and {@link
+ * #runBudgeted(String)}) does not execute the function when it is called, but starts a {@link
+ * SuspendableCall} and schedules it. Each call
+ * to {@link #executeFrame()} executes at most {@link #statementBudget()} statements of each
+ * scheduled call; unfinished calls are resumed in the next frame. As the calls are executed in the
+ * game loop (see {@code dslinterop.DSLCallbackSystem}), they can access the ECS as every other
+ * callback.
+ *
+ * <p>The calls of a function are grouped by their first parameter (the entity of the callback).
+ * Per function and entity, one call runs at a time: if the callback is called again while a call
+ * is running, the new call waits and is started, when the running call is finished. Waiting calls
+ * are started in the order, in which they were made. A call with the same parameters as a call,
+ * which is already waiting, is dropped, as it would do the same. So a callback, which is called in
+ * every frame with the same parameters (e.g. the idle behaviour of a monster), does not pile up
+ * calls, if its execution takes longer than a frame, while the calls of an event callback with
+ * different parameters (e.g. the collisions with different entities) are all executed.
+ *
+ * <p>Only callbacks without a return value can be budgeted, because the caller does not wait for
+ * the execution of the function.
+ *
+ * <p>Each {@link DSLInterpreter} has its own scheduler (see {@link
+ * DSLInterpreter#getCallbackScheduler()}).
+ */
+public final class CallbackScheduler {
+
+  /** The default number of statements executed per call and frame. */
+  public static final int DEFAULT_STATEMENT_BUDGET = 1000;
+
+  private final DSLInterpreter interpreter;
+  private final Set<FunctionSymbol> budgetedFunctions = new HashSet<>();
+  private final Set<String> budgetedFunctionNames = new HashSet<>();
+  // in the order, in which the calls were scheduled
+  private final Map<CallKey, ScheduledCall> scheduledCalls = new LinkedHashMap<>();
+  private int statementBudget = DEFAULT_STATEMENT_BUDGET;
+
+  /**
+   * Constructor.
+   *
+   * @param interpreter the interpreter to start the calls with
+   */
+  public CallbackScheduler(DSLInterpreter interpreter) {
+    this.interpreter = interpreter;
+  }
+
+  /**
+   * Select a user defined DSL function, whose callbacks are executed in slices.
+   *
+   * <p>Only affects callbacks, which are created after this call.
+   *
+   * @param function the symbol of the DSL function
+   */
+  public void runBudgeted(FunctionSymbol function) {
+    budgetedFunctions.add(function);
+  }
+
+  /**
+   * Select the user defined DSL functions with the given name, whose callbacks are executed in
+   * slices.
+   *
+   * <p>The name is resolved in each program, for which the runtime of the interpreter is
+   * initialized afterwards (see {@link #selectFunctions(IScope)}). Programs without a user defined
+   * function of this name are not affected.
+   *
+   * @param functionName the name of the DSL function
+   */
+  public void runBudgeted(String functionName) {
+    budgetedFunctionNames.add(functionName);
+  }
+
+  /**
+   * Select the user defined functions of a program, whose names were selected with {@link
+   * #runBudgeted(String)}. Called by the interpreter, when its runtime is initialized.
+   *
+   * @param globalScope the global scope of the program
+   */
+  public void selectFunctions(IScope globalScope) {
+    for (String functionName : budgetedFunctionNames) {
+      if (globalScope.resolve(functionName) instanceof FunctionSymbol function) {
+        runBudgeted(function);
+      }
+    }
+  }
+
+  /**
+   * Check, if the callbacks of a function are executed in slices.
+   *
+   * @param callable the function of the callback
+   * @return true, if the function is a user defined function selected with {@link
+   *     #runBudgeted(FunctionSymbol)} or {@link #runBudgeted(String)}, false otherwise
+   */
+  public boolean isBudgeted(ICallable callable) {
+    return callable instanceof FunctionSymbol functionSymbol
+        && budgetedFunctions.contains(functionSymbol);
+  }
+
+  /**
+   * Get the number of statements executed per call and frame.
+   *
+   * @return the statement budget
+   */
+  public int statementBudget() {
+    return statementBudget;
+  }
+
+  /**
+   * Set the number of statements executed per call and frame.
+   *
+   * @param statementBudget the statement budget, must be positive
+   */
+  public void statementBudget(int statementBudget) {
+    if (statementBudget <= 0) {
+      throw new IllegalArgumentException("The statement budget must be positive");
+    }
+    this.statementBudget = statementBudget;
+  }
+
+  /**
+   * Schedule a call of a function for execution in the next frames.
+   *
+   * <p>If a call of the function with the same first parameter is running, the call waits until
+   * the running call and the calls, which waited before, are finished. If a call with the same
+   * parameters is already waiting, the call is dropped.
+   *
+   * @param function the function to call
+   * @param parameters the parameters of the call
+   */
+  void schedule(FunctionSymbol function, List<Object> parameters) {
+    CallKey key = new CallKey(function, parameters.isEmpty() ? null : parameters.get(0));
+    ScheduledCall scheduledCall = scheduledCalls.get(key);
+    if (scheduledCall == null) {
+      scheduledCalls.put(key, new ScheduledCall(key, start(function, parameters)));
+    } else if (!scheduledCall.waitingParameters.contains(parameters)) {
+      scheduledCall.waitingParameters.add(parameters);
+    }
+  }
+
+  /**
+   * Execute the next slice of each scheduled call. Finished calls are removed and the next waiting
+   * call of the same function and entity is started.
+   *
+   * <p>Calls scheduled or started during the execution are executed in the next frame. If a
+   * statement throws, its call is removed and the exception is passed on.
+   */
+  public void executeFrame() {
+    for (ScheduledCall scheduledCall : new ArrayList<>(scheduledCalls.values())) {
+      boolean finished;
+      try {
+        finished = scheduledCall.running.resume(statementBudget);
+      } catch (RuntimeException e) {
+        finish(scheduledCall);
+        throw e;
+      }
+      if (finished) {
+        finish(scheduledCall);
+      }
+    }
+  }
+
+  private void finish(ScheduledCall scheduledCall) {
+    List<Object> waitingParameters = scheduledCall.waitingParameters.poll();
+    if (waitingParameters == null) {
+      scheduledCalls.remove(scheduledCall.key);
+    } else {
+      scheduledCall.running = start(scheduledCall.key.function(), waitingParameters);
+    }
+  }
+
+  private SuspendableCall start(FunctionSymbol function, List<Object> parameters) {
+    return interpreter.startSuspendableCall(function, parameters);
+  }
+
+  /**
+   * Get the number of scheduled, unfinished calls (running and waiting).
+   *
+   * @return the number of scheduled calls
+   */
+  public int scheduledCalls() {
+    int count = scheduledCalls.size();
+    for (ScheduledCall scheduledCall : scheduledCalls.values()) {
+      count += scheduledCall.waitingParameters.size();
+    }
+    return count;
+  }
+
+  /** Remove all scheduled calls without executing them. */
+  public void cancelAll() {
+    scheduledCalls.clear();
+  }
+
+  private record CallKey(FunctionSymbol function, Object entity) {}
+
+  private static final class ScheduledCall {
+    private final CallKey key;
+    private SuspendableCall running;
+    private final Deque<List<Object>> waitingParameters = new ArrayDeque<>();
+
+    private ScheduledCall(CallKey key, SuspendableCall running) {
+      this.key = key;
+      this.running = running;
+    }
+  }
+}
@@ -0,0 +1,267 @@
+package dsl.semanticanalysis.typesystem.instantiation;
+
+import dsl.annotation.DSLCallback;
+import dsl.annotation.DSLContextMember;
+import dsl.annotation.DSLTypeMember;
+import dsl.annotation.DSLTypeNameMember;
+import dsl.semanticanalysis.typesystem.typebuilding.TypeBuilder;
+import dsl.semanticanalysis.typesystem.typebuilding.type.AggregateType;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The reflective information the {@link TypeInstantiator} needs to create an object of a Java class
+ * (or to call the builder method of an adapted type).
+ *
+ * <p>Without a plan, each instantiation searches the constructors, reads the annotations of all
+ * parameters and fields and calls the constructor and the fields through core reflection. A plan
+ * is built once per class (or builder method) and holds the DSL names of the parameters and
+ * fields, a {@link MethodHandle} for the constructor (or builder method) and a {@link
+ * FieldAccessor} for each field the DSL sets.
+ *
+ * <p>Plans only contain information of the Java class, so they are shared between all {@link
+ * TypeInstantiator}s.
+ */
+final class AccessorPlan {
+  private static final ClassValue<AccessorPlan> CLASS_PLANS =
+      new ClassValue<>() {
+        @Override
+        protected AccessorPlan computeValue(Class<?> type) {
+          return new AccessorPlan(type);
+        }
+      };
+  private static final Map<Method, AccessorPlan> BUILDER_PLANS = new ConcurrentHashMap<>();
+
+  /** The kind of value passed to a parameter. */
+  enum Kind {
+    /** The parameter gets an object from the context of the {@link TypeInstantiator}. */
+    CONTEXT_MEMBER,
+    /** The parameter gets the converted value of a member from the memory space. */
+    TYPE_MEMBER,
+    /** The parameter gets a callback adapter for a function from the memory space. */
+    CALLBACK,
+    /** The parameter is not marked, no value can be passed to it. */
+    UNMARKED
+  }
+
+  /**
+   * A parameter of the constructor (or builder method).
+   *
+   * @param kind the kind of value passed to the parameter
+   * @param name the name of the context member or the DSL name of the member
+   * @param javaName the Java name of the parameter (or of the record field)
+   */
+  record ParameterPlan(Kind kind, String name, String javaName) {}
+
+  /**
+   * A field, which is set after the construction of an object.
+   *
+   * @param name the DSL name of the field
+   * @param typeMember true, if the field is marked with {@link DSLTypeMember}
+   * @param callback true, if the field is marked with {@link DSLCallback}
+   * @param accessor the accessor to set the field with
+   */
+  record FieldPlan(String name, boolean typeMember, boolean callback, FieldAccessor accessor) {}
+
+  private final Executable executable;
+  private final List<ParameterPlan> parameters;
+  private final List<FieldPlan> fields;
+  private final NoSuchFieldException missingRecordField;
+  private volatile MethodHandle invoker;
+
+  private AccessorPlan(Class<?> type) {
+    Constructor<?> ctor = findConstructor(type);
+    this.executable = ctor;
+    this.parameters = new ArrayList<>();
+    this.fields = new ArrayList<>();
+
+    NoSuchFieldException missingField = null;
+    if (ctor != null && type.isRecord()) {
+      // the record-field corresponding to the constructor-parameter decides, which value is passed
+      try {
+        for (Parameter param : ctor.getParameters()) {
+          Field field = type.getDeclaredField(param.getName());
+          Kind kind;
+          if (field.isAnnotationPresent(DSLTypeMember.class)) {
+            kind = Kind.TYPE_MEMBER;
+          } else if (field.isAnnotationPresent(DSLCallback.class)) {
+            kind = Kind.CALLBACK;
+          } else {
+            kind = Kind.UNMARKED;
+          }
+          String name = TypeBuilder.getDSLFieldName(field);
+          parameters.add(new ParameterPlan(kind, name, field.getName()));
+        }
+      } catch (NoSuchFieldException e) {
+        missingField = e;
+      }
+    } else if (ctor != null) {
+      for (Parameter param : ctor.getParameters()) {
+        parameters.add(contextMemberParameter(param));
+      }
+    }
+    this.missingRecordField = missingField;
+
+    if (!type.isRecord()) {
+      for (Field field : type.getDeclaredFields()) {
+        boolean typeMember = field.isAnnotationPresent(DSLTypeMember.class);
+        boolean callback = field.isAnnotationPresent(DSLCallback.class);
+        if (typeMember || callback) {
+          fields.add(
+              new FieldPlan(
+                  TypeBuilder.getDSLFieldName(field),
+                  typeMember,
+                  callback,
+                  FieldAccessor.of(field)));
+        }
+      }
+    }
+  }
+
+  private AccessorPlan(Method builderMethod) {
+    this.executable = builderMethod;
+    this.parameters = new ArrayList<>();
+    this.fields = List.of();
+    this.missingRecordField = null;
+
+    for (Parameter param : builderMethod.getParameters()) {
+      if (param.isAnnotationPresent(DSLContextMember.class)) {
+        parameters.add(contextMemberParameter(param));
+      } else if (param.isAnnotationPresent(DSLTypeNameMember.class)) {
+        parameters.add(
+            new ParameterPlan(Kind.TYPE_MEMBER, AggregateType.NAME_SYMBOL_NAME, param.getName()));
+      } else {
+        parameters.add(
+            new ParameterPlan(
+                Kind.TYPE_MEMBER, TypeBuilder.getDSLParameterName(param), param.getName()));
+      }
+    }
+  }
+
+  /**
+   * Get the plan to instantiate a Java class.
+   *
+   * @param type the class to instantiate
+   * @return the (cached) plan for the class
+   */
+  static AccessorPlan forClass(Class<?> type) {
+    return CLASS_PLANS.get(type);
+  }
+
+  /**
+   * Get the plan to call the builder method of an adapted type.
+   *
+   * @param builderMethod the static builder method
+   * @return the (cached) plan for the builder method
+   */
+  static AccessorPlan forBuilder(Method builderMethod) {
+    return BUILDER_PLANS.computeIfAbsent(builderMethod, AccessorPlan::new);
+  }
+
+  /**
+   * Check, if a constructor was found.
+   *
+   * @return true, if the class has a constructor to instantiate it with
+   */
+  boolean hasConstructor() {
+    return executable != null;
+  }
+
+  /**
+   * Get the parameters of the constructor (or builder method).
+   *
+   * @return the parameters
+   * @throws RuntimeException if a parameter of the record constructor has no corresponding field
+   */
+  List<ParameterPlan> parameters() {
+    if (missingRecordField != null) {
+      throw new RuntimeException(missingRecordField);
+    }
+    return parameters;
+  }
+
+  /**
+   * Get the fields marked with {@link DSLTypeMember} or {@link DSLCallback}.
+   *
+   * @return the fields, which are set after construction
+   */
+  List<FieldPlan> fields() {
+    return fields;
+  }
+
+  /**
+   * Call the constructor (or builder method).
+   *
+   * @param arguments the arguments, in order of the parameters
+   * @return the created object
+   * @throws RuntimeException if the call fails or throws
+   */
+  Object invoke(Object[] arguments) {
+    try {
+      return (Object) invoker().invokeExact(arguments);
+    } catch (Throwable t) {
+      throw new RuntimeException(t);
+    }
+  }
+
+  private MethodHandle invoker() throws IllegalAccessException {
+    MethodHandle handle = invoker;
+    if (handle == null) {
+      executable.setAccessible(true);
+      MethodHandles.Lookup lookup = MethodHandles.lookup();
+      handle =
+          executable instanceof Constructor<?> ctor
+              ? lookup.unreflectConstructor(ctor)
+              : lookup.unreflect((Method) executable);
+      int parameterCount = executable.getParameterCount();
+      handle =
+          handle
+              .asFixedArity()
+              .asType(MethodType.genericMethodType(parameterCount))
+              .asSpreader(Object[].class, parameterCount);
+      invoker = handle;
+    }
+    return handle;
+  }
+
+  private static ParameterPlan contextMemberParameter(Parameter param) {
+    DSLContextMember contextMember = param.getAnnotation(DSLContextMember.class);
+    return contextMember == null
+        ? new ParameterPlan(Kind.UNMARKED, param.getName(), param.getName())
+        : new ParameterPlan(Kind.CONTEXT_MEMBER, contextMember.name(), param.getName());
+  }
+
+  /**
+   * Find the constructor to instantiate a class with: the first constructor, whose parameters are
+   * all marked with {@link DSLContextMember}, or the last declared constructor, if there is none.
+   */
+  private static Constructor<?> findConstructor(Class<?> type) {
+    Constructor<?> ctor = null;
+    for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+      ctor = constructor;
+      boolean unmarkedCtorParameter = false;
+      for (var parameter : ctor.getParameters()) {
+        if (!parameter.isAnnotationPresent(DSLContextMember.class)) {
+          unmarkedCtorParameter = true;
+          break;
+        }
+      }
+
+      if (!unmarkedCtorParameter) {
+        break;
+      }
+    }
+
+    return ctor;
+  }
+}
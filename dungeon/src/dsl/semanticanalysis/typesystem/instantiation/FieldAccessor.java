@@ -0,0 +1,100 @@
+package dsl.semanticanalysis.typesystem.instantiation;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reads and writes a field of a Java object through {@link MethodHandle}s.
+ *
+ * <p>The DSL accesses the fields of encapsulated objects and sets the fields of instantiated
+ * objects very often. Core reflection ({@link Field#get(Object)} and {@link Field#set(Object,
+ * Object)}) checks the access and the types on every call. The handles of a {@link FieldAccessor}
+ * are resolved once per field (on first use) and can be inlined by the JIT.
+ *
+ * <p>Accessors are shared between all environments; use {@link #of(Field)} to get the accessor for
+ * a field.
+ */
+public final class FieldAccessor {
+  private static final Map<Field, FieldAccessor> ACCESSORS = new ConcurrentHashMap<>();
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+  private static final MethodType SETTER_TYPE =
+      MethodType.methodType(void.class, Object.class, Object.class);
+
+  private final Field field;
+  private volatile MethodHandle getter;
+  private volatile MethodHandle setter;
+
+  private FieldAccessor(Field field) {
+    this.field = field;
+  }
+
+  /**
+   * Get the accessor for a field.
+   *
+   * @param field the field to access
+   * @return the (cached) accessor for the field
+   */
+  public static FieldAccessor of(Field field) {
+    return ACCESSORS.computeIfAbsent(field, FieldAccessor::new);
+  }
+
+  /**
+   * Get the accessed field.
+   *
+   * @return the accessed field
+   */
+  public Field field() {
+    return field;
+  }
+
+  /**
+   * Read the value of the field.
+   *
+   * @param instance the object to read the field from
+   * @return the value of the field; primitive values are boxed
+   * @throws IllegalAccessException if the field can not be read
+   */
+  public Object get(Object instance) throws IllegalAccessException {
+    MethodHandle handle = getter;
+    if (handle == null) {
+      field.setAccessible(true);
+      handle = MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE);
+      getter = handle;
+    }
+    try {
+      return (Object) handle.invokeExact(instance);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new RuntimeException(t);
+    }
+  }
+
+  /**
+   * Write the value of the field.
+   *
+   * @param instance the object to write the field of
+   * @param value the new value of the field; primitive values are unboxed
+   * @throws IllegalAccessException if the field can not be written (e.g. if it is a final field of
+   *     a record)
+   */
+  public void set(Object instance, Object value) throws IllegalAccessException {
+    MethodHandle handle = setter;
+    if (handle == null) {
+      field.setAccessible(true);
+      handle = MethodHandles.lookup().unreflectSetter(field).asType(SETTER_TYPE);
+      setter = handle;
+    }
+    try {
+      handle.invokeExact(instance, value);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new RuntimeException(t);
+    }
+  }
+}
@@ -1,9 +1,6 @@
 package dsl.semanticanalysis.typesystem.instantiation;
 
-import dsl.annotation.DSLCallback;
 import dsl.annotation.DSLContextMember;
-import dsl.annotation.DSLTypeMember;
-import dsl.annotation.DSLTypeNameMember;
 import dsl.interpreter.DSLInterpreter;
 import dsl.runtime.callable.ICallable;
 import dsl.runtime.memoryspace.EncapsulatedObject;
@@ -14,14 +11,10 @@ import dsl.semanticanalysis.symbol.PropertySymbol;
 import dsl.semanticanalysis.typesystem.callbackadapter.CallbackAdapter;
 import dsl.semanticanalysis.typesystem.callbackadapter.CallbackAdapterBuilder;
 import dsl.semanticanalysis.typesystem.extension.IDSLExtensionProperty;
-import dsl.semanticanalysis.typesystem.typebuilding.*;
 import dsl.semanticanalysis.typesystem.typebuilding.type.AggregateType;
 import dsl.semanticanalysis.typesystem.typebuilding.type.AggregateTypeAdapter;
 import dsl.semanticanalysis.typesystem.typebuilding.type.EnumType;
 import dsl.semanticanalysis.typesystem.typebuilding.type.IType;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.util.*;
 
 /** WTF? . */
@@ -240,27 +233,20 @@ public class TypeInstantiator {
           // call builder -> store values from memory space in order of parameters
           // of builder-method
           var adaptedType = (AggregateTypeAdapter) valuesType;
-          var method = adaptedType.builderMethod();
-          var parameters = new ArrayList<>(method.getParameterCount());
-          for (var parameter : method.getParameters()) {
-            String memberName;
-            if (parameter.isAnnotationPresent(DSLTypeNameMember.class)) {
-              memberName = AggregateType.NAME_SYMBOL_NAME;
+          AccessorPlan plan = AccessorPlan.forBuilder(adaptedType.builderMethod());
+          List<AccessorPlan.ParameterPlan> parameters = plan.parameters();
+          Object[] arguments = new Object[parameters.size()];
+          for (int i = 0; i < arguments.length; i++) {
+            AccessorPlan.ParameterPlan parameter = parameters.get(i);
+            if (parameter.kind() == AccessorPlan.Kind.CONTEXT_MEMBER) {
+              arguments[i] = context.get(parameter.name());
             } else {
-              memberName = TypeBuilder.getDSLParameterName(parameter);
+              Value memberValue = aggregateFieldValue.getMemorySpace().resolve(parameter.name());
+              arguments[i] = convertValueToObject(memberValue);
             }
-            Value memberValue = aggregateFieldValue.getMemorySpace().resolve(memberName);
-            Object internalObject;
-            if (parameter.isAnnotationPresent(DSLContextMember.class)) {
-              String name = parameter.getAnnotation(DSLContextMember.class).name();
-              internalObject = context.get(name);
-            } else {
-              internalObject = convertValueToObject(memberValue);
-            }
-            parameters.add(internalObject);
           }
 
-          convertedObject = method.invoke(null, parameters.toArray());
+          convertedObject = plan.invoke(arguments);
         }
       } else if (valuesType.getTypeKind().equals(IType.Kind.ListType)) {
         convertedObject = instantiateList((ListValue) value);
@@ -294,7 +280,7 @@ public class TypeInstantiator {
           }
         }
       }
-    } catch (InvocationTargetException | IllegalArgumentException | IllegalAccessException e) {
+    } catch (IllegalArgumentException e) {
       throw new RuntimeException(e);
     }
     return convertedObject;
@@ -303,58 +289,47 @@ public class TypeInstantiator {
   private Object instantiateRecord(Class<?> originalJavaClass, Value value) {
     IMemorySpace ms = value.getMemorySpace();
 
-    Constructor<?> ctor = getConstructor(originalJavaClass);
-    if (null == ctor) {
+    AccessorPlan plan = AccessorPlan.forClass(originalJavaClass);
+    if (!plan.hasConstructor()) {
       throw new RuntimeException(
           "Could not find a suitable constructor to instantiate record "
               + originalJavaClass.getName());
     }
 
-    try {
-      // find the corresponding record-field to the constructor-parameter, get the according
-      // value from the memory space and pass it as a parameter to the constructor
-      ArrayList<Object> parameters = new ArrayList<>(ctor.getParameters().length);
-      for (var param : ctor.getParameters()) {
-        var field = originalJavaClass.getDeclaredField(param.getName());
-        if (field.isAnnotationPresent(DSLTypeMember.class)) {
-          String fieldName = TypeBuilder.getDSLFieldName(field);
-          var fieldValue = ms.resolve(fieldName);
-
-          // if a certain value is not found in the memory space,
-          // the record cannot be instantiated -> early return
-          if (fieldValue == null || fieldValue == Value.NONE) {
-            throw new RuntimeException(
-                "The name of field "
-                    + field.getName()
-                    + " cannot be resolved in the supplied memory space");
-          } else {
-            Object internalValue = convertValueToObject(fieldValue);
-            parameters.add(internalValue);
-          }
-        } else if (field.isAnnotationPresent(DSLCallback.class)) {
-          String fieldName = TypeBuilder.getDSLFieldName(field);
-          var fieldValue = ms.resolve(fieldName);
-
-          assert fieldValue.getDataType().getTypeKind() == IType.Kind.FunctionType;
-          assert fieldValue.getInternalValue() instanceof FunctionSymbol;
-
-          CallbackAdapter adapter =
-              callbackAdapterBuilder.buildAdapter((FunctionSymbol) fieldValue.getInternalValue());
-          parameters.add(adapter);
-        } else {
+    // get the value of the record-field corresponding to the constructor-parameter from the
+    // memory space and pass it as a parameter to the constructor
+    List<AccessorPlan.ParameterPlan> parameters = plan.parameters();
+    Object[] arguments = new Object[parameters.size()];
+    for (int i = 0; i < arguments.length; i++) {
+      AccessorPlan.ParameterPlan parameter = parameters.get(i);
+      if (parameter.kind() == AccessorPlan.Kind.TYPE_MEMBER) {
+        var fieldValue = ms.resolve(parameter.name());
+
+        // if a certain value is not found in the memory space,
+        // the record cannot be instantiated -> early return
+        if (fieldValue == null || fieldValue == Value.NONE) {
           throw new RuntimeException(
-              "Instantiating a record using the TypeInstantiator requires that all "
-                  + "record members must be marked with @DSLTypeMember. Otherwise, no constructor invocation is possible");
+              "The name of field "
+                  + parameter.javaName()
+                  + " cannot be resolved in the supplied memory space");
+        } else {
+          arguments[i] = convertValueToObject(fieldValue);
         }
+      } else if (parameter.kind() == AccessorPlan.Kind.CALLBACK) {
+        var fieldValue = ms.resolve(parameter.name());
+
+        assert fieldValue.getDataType().getTypeKind() == IType.Kind.FunctionType;
+        assert fieldValue.getInternalValue() instanceof FunctionSymbol;
+
+        arguments[i] =
+            callbackAdapterBuilder.buildAdapter((FunctionSymbol) fieldValue.getInternalValue());
+      } else {
+        throw new RuntimeException(
+            "Instantiating a record using the TypeInstantiator requires that all "
+                + "record members must be marked with @DSLTypeMember. Otherwise, no constructor invocation is possible");
       }
-      ctor.setAccessible(true);
-      return ctor.newInstance(parameters.toArray());
-    } catch (NoSuchFieldException
-        | InvocationTargetException
-        | InstantiationException
-        | IllegalAccessException e) {
-      throw new RuntimeException(e);
     }
+    return plan.invoke(arguments);
   }
 
   private Object instantiateAggregateValueAsClass(AggregateType type, AggregateValue value) {
@@ -366,52 +341,46 @@ public class TypeInstantiator {
       throw new RuntimeException("Cannot instantiate an inner class");
     }
 
-    Constructor<?> ctor = getConstructor(originalJavaClass);
-    if (null == ctor) {
+    AccessorPlan plan = AccessorPlan.forClass(originalJavaClass);
+    if (!plan.hasConstructor()) {
       throw new RuntimeException(
           "Could not find a suitable constructor to instantiate class "
               + originalJavaClass.getName());
     }
 
-    Object instance;
-    try {
-      // get constructor
-      ctor.setAccessible(true);
-      ArrayList<Object> parameterValues = new ArrayList<>(ctor.getParameterCount());
-      for (var param : ctor.getParameters()) {
-        if (param.isAnnotationPresent(DSLContextMember.class)) {
-          String contextMemberName = param.getAnnotation(DSLContextMember.class).name();
-          Object contextMember = context.get(contextMemberName);
-          parameterValues.add(contextMember);
-        } else {
-          throw new RuntimeException(
-              "Constructor parameter with name "
-                  + param.getName()
-                  + " is not marked as context parameter, cannot "
-                  + "instantiate class "
-                  + originalJavaClass.getName());
-        }
+    List<AccessorPlan.ParameterPlan> parameters = plan.parameters();
+    Object[] arguments = new Object[parameters.size()];
+    for (int i = 0; i < arguments.length; i++) {
+      AccessorPlan.ParameterPlan parameter = parameters.get(i);
+      if (parameter.kind() == AccessorPlan.Kind.CONTEXT_MEMBER) {
+        arguments[i] = context.get(parameter.name());
+      } else {
+        throw new RuntimeException(
+            "Constructor parameter with name "
+                + parameter.javaName()
+                + " is not marked as context parameter, cannot "
+                + "instantiate class "
+                + originalJavaClass.getName());
       }
+    }
 
-      instance = ctor.newInstance(parameterValues.toArray());
+    Object instance = plan.invoke(arguments);
 
-      // set values of the fields marked as DSLTypeMembers to corresponding values from
-      // the memory space
-      IMemorySpace ms = value.getMemorySpace();
-      for (Field field : originalJavaClass.getDeclaredFields()) {
-        String fieldName = TypeBuilder.getDSLFieldName(field);
-        var fieldValue = ms.resolve(fieldName);
-        if (field.isAnnotationPresent(DSLTypeMember.class)) {
+    // set values of the fields marked as DSLTypeMembers to corresponding values from
+    // the memory space
+    IMemorySpace ms = value.getMemorySpace();
+    try {
+      for (AccessorPlan.FieldPlan field : plan.fields()) {
+        var fieldValue = ms.resolve(field.name());
+        if (field.typeMember()) {
           // we only should set the field value explicitly,
           // if it was set in the program (indicated by the dirty-flag)
           if (fieldValue != Value.NONE && fieldValue.isDirty()) {
             Object internalValue = convertValueToObject(fieldValue);
-
-            field.setAccessible(true);
-            field.set(instance, internalValue);
+            field.accessor().set(instance, internalValue);
           }
         }
-        if (field.isAnnotationPresent(DSLCallback.class)) {
+        if (field.callback()) {
           if (fieldValue != Value.NONE
               && fieldValue != FunctionValue.NONE
               && fieldValue instanceof FunctionValue funcValue
@@ -422,35 +391,14 @@ public class TypeInstantiator {
                   "Usage of non-FunctionSymbol callables as DSLCallback currently not supported");
             } else {
               CallbackAdapter adapter = callbackAdapterBuilder.buildAdapter(functionSymbol);
-              field.setAccessible(true);
-              field.set(instance, adapter);
+              field.accessor().set(instance, adapter);
             }
           }
         }
       }
-    } catch (InvocationTargetException | InstantiationException | IllegalAccessException e) {
+    } catch (IllegalAccessException e) {
       throw new RuntimeException(e);
     }
     return instance;
   }
-
-  private Constructor<?> getConstructor(Class<?> originalJavaClass) {
-    Constructor<?> ctor = null;
-    for (Constructor<?> constructor : originalJavaClass.getDeclaredConstructors()) {
-      ctor = constructor;
-      boolean unmarkedCtorParameter = false;
-      for (var parameter : ctor.getParameters()) {
-        if (!parameter.isAnnotationPresent(DSLContextMember.class)) {
-          unmarkedCtorParameter = true;
-          break;
-        }
-      }
-
-      if (!unmarkedCtorParameter) {
-        break;
-      }
-    }
-
-    return ctor;
-  }
 }
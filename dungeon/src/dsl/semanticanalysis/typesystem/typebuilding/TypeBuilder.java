@@ -36,6 +36,23 @@ public class TypeBuilder {
     setupFunctionTypeBuilders();
   }
 
+  /**
+   * Copy constructor. The copy knows all types and type adapters of the other TypeBuilder; types
+   * created by the copy are not known to the other TypeBuilder (and vice versa).
+   *
+   * @param other the TypeBuilder to copy
+   */
+  public TypeBuilder(TypeBuilder other) {
+    this.typeAdapters = new HashMap<>();
+    other.typeAdapters.forEach(
+        (forType, adapters) -> this.typeAdapters.put(forType, new ArrayList<>(adapters)));
+    this.javaTypeToDSLType = new HashMap<>(other.javaTypeToDSLType);
+    this.currentLookedUpTypes = new HashSet<>();
+    this.functionTypeBuilders = new HashMap<>();
+
+    setupFunctionTypeBuilders();
+  }
+
   private void setupFunctionTypeBuilders() {
     functionTypeBuilders.put(Consumer.class, ConsumerFunctionTypeBuilder.instance);
     functionTypeBuilders.put(TriConsumer.class, ConsumerFunctionTypeBuilder.instance);
@@ -0,0 +1,35 @@
+package dslinterop;
+
+import core.System;
+import dsl.semanticanalysis.typesystem.callbackadapter.CallbackScheduler;
+
+/**
+ * Executes the next slice of each budgeted DSL callback once per frame.
+ *
+ * <p>Callbacks of functions selected with {@link CallbackScheduler#runBudgeted} (in the dungeon,
+ * with the config key {@code dsl.budgeted_callbacks}, see {@link starter.DSLConfig}) are not
+ * executed when they are called, but scheduled in the {@link CallbackScheduler} of the interpreter.
+ * This system resumes them with the statement budget of the scheduler, so a long running callback
+ * is spread over several frames. The system does not process entities.
+ *
+ * @see CallbackScheduler
+ */
+public final class DSLCallbackSystem extends System {
+
+  private final CallbackScheduler scheduler;
+
+  /**
+   * Create a new DSLCallbackSystem.
+   *
+   * @param scheduler the scheduler of the interpreter, which created the callbacks
+   */
+  public DSLCallbackSystem(CallbackScheduler scheduler) {
+    super();
+    this.scheduler = scheduler;
+  }
+
+  @Override
+  public void execute() {
+    scheduler.executeFrame();
+  }
+}
@@ -1,6 +1,7 @@
 package entrypoint;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
 import java.util.Enumeration;
 import java.util.HashSet;
@@ -14,6 +15,10 @@ import java.util.jar.JarFile;
  * <p>Use {@link #processArguments(String[])} to read all DSL files in the given paths. Basically,
  * use this function to parse the command line arguments and extract all DSL file paths.
  *
+ * <p>Use {@link #openSources()} to stream the exact content of DSL files, also if they are in a
+ * jar; each jar is opened once for all of its files. {@link #openStream(Path)} streams a single
+ * file. The content is not kept in memory by this class.
+ *
  * <p>Note: Always use "/" as the file separator; do not use the typical Windows "\\" file
  * separator.
  */
@@ -76,8 +81,7 @@ public class DSLFileLoader {
         String entryName = entry.getName();
 
         if (entryName.startsWith(SCRIPT_FOLDER) && entryName.endsWith(DSL_FILE_ENDING)) {
-          Path entryPath = Paths.get(jarPath + File.separator + entryName);
-          dngPaths.add(entryPath);
+          dngPaths.add(Paths.get(jarPath + File.separator + entryName));
         }
       }
     } catch (IOException e) {
@@ -129,37 +133,96 @@ public class DSLFileLoader {
    * @return Read-in string.
    */
   public static String fileToStringFromJar(Path path) {
+    try {
+      return new String(readBytes(path), StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      e.printStackTrace();
+    }
 
-    String jarFilePath =
-        path.toString().split(JAR_FILE_ENDING)[0] + JAR_FILE_ENDING.replace("\\", "/");
-    String jarFileContent =
-        path.toString().split(JAR_FILE_ENDING)[1].replace("\\", "/").substring(1);
-
-    try (JarFile jarFile = new JarFile(jarFilePath)) {
-      Enumeration<JarEntry> entries = jarFile.entries();
-
-      while (entries.hasMoreElements()) {
-        JarEntry entry = entries.nextElement();
-        String entryName = entry.getName();
+    return null;
+  }
 
-        if (entryName.equals(jarFileContent)) {
+  /**
+   * Read the exact content of the DSL file at the given path.
+   *
+   * @param path Path to file to read.
+   * @return The bytes of the file.
+   * @throws IOException If the file can not be read.
+   * @see #openStream(Path)
+   */
+  public static byte[] readBytes(Path path) throws IOException {
+    try (InputStream inputStream = openStream(path)) {
+      return inputStream.readAllBytes();
+    }
+  }
 
-          try (InputStream inputStream = jarFile.getInputStream(entry);
-              BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream))) {
-            StringBuilder stringBuilder = new StringBuilder();
-            String line;
+  /**
+   * Open a {@link DSLSourceProvider}, which streams the exact content of DSL files in the file
+   * system and in jars (like the paths returned by {@link #processArguments(String[])}).
+   *
+   * <p>Each jar is opened once, when the first of its files is streamed, and closed together with
+   * the provider. So use one provider to read all files of a load.
+   *
+   * @return The new provider. The caller has to close it.
+   */
+  public static DSLSourceProvider openSources() {
+    return new JarSharingSourceProvider();
+  }
 
-            while ((line = reader.readLine()) != null) {
-              stringBuilder.append(line);
-            }
-            return stringBuilder.toString();
+  /**
+   * Open a stream of the exact content of the DSL file at the given path.
+   *
+   * <p>If the path points into a JAR file (like the paths returned by {@link
+   * #processArguments(String[])}), the entry is looked up in the JAR directly and streamed from it;
+   * the JAR is closed together with the returned stream. To read several files, use {@link
+   * #openSources()}, which opens each JAR only once.
+   *
+   * @param path Path to file to read.
+   * @return The stream of the content of the file. The caller has to close it.
+   * @throws IOException If the file can not be opened.
+   */
+  public static InputStream openStream(Path path) throws IOException {
+    DSLSourceProvider sources = openSources();
+    try {
+      return new FilterInputStream(sources.openStream(path)) {
+        @Override
+        public void close() throws IOException {
+          try {
+            super.close();
+          } finally {
+            sources.close();
           }
         }
-      }
-    } catch (IOException e) {
-      e.printStackTrace();
+      };
+    } catch (IOException | RuntimeException e) {
+      sources.close();
+      throw e;
     }
+  }
 
-    return null;
+  /**
+   * A path of a file in a JAR, split into the path of the JAR and the name of the entry.
+   *
+   * @param jarFile Path of the JAR file.
+   * @param entryName Name of the entry in the JAR, with "/" as separator.
+   */
+  record JarEntryPath(String jarFile, String entryName) {
+
+    /**
+     * Split the given path into the path of the JAR and the name of the entry.
+     *
+     * @param path Path of a file.
+     * @return The split path, or null if the path does not point into a JAR.
+     */
+    static JarEntryPath of(Path path) {
+      String pathString = path.toString();
+      // split at the end of the jar file name (not with String::split, which takes a regex)
+      int jarIndex = pathString.indexOf(JAR_FILE_ENDING);
+      if (jarIndex < 0) return null;
+      int jarEnd = jarIndex + JAR_FILE_ENDING.length();
+      if (jarEnd >= pathString.length()) return null;
+      return new JarEntryPath(
+          pathString.substring(0, jarEnd), pathString.substring(jarEnd + 1).replace("\\", "/"));
+    }
   }
 }
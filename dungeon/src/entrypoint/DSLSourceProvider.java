@@ -0,0 +1,36 @@
+package entrypoint;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+/**
+ * Provides the content of DSL files for one load of DSL files (e.g., parsing all files of the
+ * command line, see {@link ParsedFileCache#parseAll(java.util.Collection)}).
+ *
+ * <p>The provider may keep resources open for the whole load (e.g., the jars containing the files),
+ * so close it after the load. The streams of a provider can be used in parallel.
+ *
+ * @see DSLFileLoader#openSources()
+ */
+public interface DSLSourceProvider extends Closeable {
+
+  /**
+   * Open a stream of the exact content of the DSL file at the given path.
+   *
+   * @param path Path to the file, as returned by {@link DSLFileLoader#processArguments(String[])}.
+   * @return The stream of the content of the file. The caller has to close it.
+   * @throws IOException If the file can not be opened.
+   */
+  InputStream openStream(Path path) throws IOException;
+
+  /**
+   * Close the resources of this provider. Streams opened by this provider can not be read after
+   * this call.
+   *
+   * @throws IOException If a resource can not be closed.
+   */
+  @Override
+  void close() throws IOException;
+}
@@ -0,0 +1,62 @@
+package entrypoint;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * A {@link DSLSourceProvider} for files in the file system and in jars.
+ *
+ * <p>Each jar is opened once, when the first of its entries is requested, and kept open until the
+ * provider is closed. The entries are looked up by name in the central directory of the jar, which
+ * the {@link JarFile} reads once, and streamed from it; their content is not kept in memory.
+ */
+final class JarSharingSourceProvider implements DSLSourceProvider {
+
+  private final Map<String, JarFile> jarFiles = new HashMap<>();
+  private boolean closed = false;
+
+  @Override
+  public InputStream openStream(Path path) throws IOException {
+    DSLFileLoader.JarEntryPath jarEntryPath = DSLFileLoader.JarEntryPath.of(path);
+    if (jarEntryPath == null) return Files.newInputStream(path);
+
+    JarFile jarFile = jarFile(jarEntryPath.jarFile());
+    JarEntry entry = jarFile.getJarEntry(jarEntryPath.entryName());
+    if (entry == null) throw new NoSuchFileException(path.toString());
+    // a JarFile can be read by several threads at the same time
+    return jarFile.getInputStream(entry);
+  }
+
+  private synchronized JarFile jarFile(String jarFilePath) throws IOException {
+    if (closed) throw new IOException("The source provider is closed.");
+    JarFile jarFile = jarFiles.get(jarFilePath);
+    if (jarFile == null) {
+      jarFile = new JarFile(jarFilePath);
+      jarFiles.put(jarFilePath, jarFile);
+    }
+    return jarFile;
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    closed = true;
+    IOException exception = null;
+    for (JarFile jarFile : jarFiles.values()) {
+      try {
+        jarFile.close();
+      } catch (IOException e) {
+        if (exception == null) exception = e;
+        else exception.addSuppressed(e);
+      }
+    }
+    jarFiles.clear();
+    if (exception != null) throw exception;
+  }
+}
@@ -0,0 +1,132 @@
+package entrypoint;
+
+import dsl.parser.DungeonASTConverter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+
+/**
+ * Parses DSL files and caches the resulting {@link ParsedFile}s.
+ *
+ * <p>Parsing a DSL file with ANTLR is the expensive part of reading a file. The cache stores the
+ * parsed file for each path together with a hash of the file content. If a file is requested again,
+ * its content is read and hashed; the file is only parsed again, if the content changed.
+ *
+ * <p>The content of the file is streamed (see {@link DSLSourceProvider}) and hashed while it is
+ * decoded into the {@link CharStream} of the parser, with the path of the file as source name. So
+ * the bytes of the file are read once and not kept.
+ *
+ * <p>{@link #parseAll(Collection)} parses independent files in parallel and reads them with one
+ * {@link DSLSourceProvider}, so each jar is opened once for all of its files.
+ */
+public final class ParsedFileCache {
+
+  private record Entry(String contentHash, ParsedFile parsedFile) {}
+
+  private static final Map<Path, Entry> CACHE = new ConcurrentHashMap<>();
+  private static final int STREAM_BUFFER_SIZE = 4096;
+
+  private ParsedFileCache() {}
+
+  /**
+   * Get the {@link ParsedFile} for the file at the given path.
+   *
+   * <p>The file is read on each call; it is only parsed, if it was not parsed before or its
+   * content changed since.
+   *
+   * @param filePath the path of the DSL file
+   * @return the parsed file
+   * @throws UncheckedIOException if the file can not be read
+   */
+  public static ParsedFile parse(Path filePath) {
+    try (DSLSourceProvider sources = DSLFileLoader.openSources()) {
+      return parse(filePath, sources);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Get the {@link ParsedFile} for the file at the given path (see {@link #parse(Path)}), read
+   * with the given provider.
+   *
+   * @param filePath the path of the DSL file
+   * @param sources the provider to read the file with
+   * @return the parsed file
+   * @throws UncheckedIOException if the file can not be read
+   */
+  public static ParsedFile parse(Path filePath, DSLSourceProvider sources) {
+    try {
+      MessageDigest digest = sha256();
+      CharStream content;
+      try (InputStream inputStream = new DigestInputStream(sources.openStream(filePath), digest)) {
+        content = charStream(inputStream, filePath);
+      }
+      String contentHash = HexFormat.of().formatHex(digest.digest());
+      Entry entry = CACHE.get(filePath);
+      if (entry == null || !entry.contentHash().equals(contentHash)) {
+        var programAST = DungeonASTConverter.getProgramAST(content);
+        entry = new Entry(contentHash, new ParsedFile(filePath, programAST));
+        CACHE.put(filePath, entry);
+      }
+      return entry.parsedFile();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Get the {@link ParsedFile}s for all given paths (see {@link #parse(Path)}). The files are
+   * parsed in parallel and read with one {@link DSLSourceProvider}.
+   *
+   * @param filePaths the paths of the DSL files
+   * @return the parsed files, in the iteration order of the given paths
+   * @throws UncheckedIOException if a file can not be read
+   */
+  public static List<ParsedFile> parseAll(Collection<Path> filePaths) {
+    try (DSLSourceProvider sources = DSLFileLoader.openSources()) {
+      return filePaths.parallelStream().map(filePath -> parse(filePath, sources)).toList();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /** Remove all parsed files from the cache. */
+  public static void clear() {
+    CACHE.clear();
+  }
+
+  private static CharStream charStream(InputStream inputStream, Path filePath) throws IOException {
+    // the size of the content is unknown, the buffer of the CharStream grows as needed
+    return CharStreams.fromChannel(
+        Channels.newChannel(inputStream),
+        StandardCharsets.UTF_8,
+        STREAM_BUFFER_SIZE,
+        CodingErrorAction.REPLACE,
+        filePath.toString(),
+        -1);
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      // every Java platform is required to support SHA-256
+      throw new IllegalStateException(e);
+    }
+  }
+}
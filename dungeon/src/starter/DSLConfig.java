@@ -0,0 +1,16 @@
+package starter;
+
+import core.configuration.ConfigKey;
+import core.configuration.ConfigMap;
+import core.configuration.values.ConfigStringValue;
+
+/** Configuration of the DSL interpreter for the dungeon-package. */
+@ConfigMap(path = {"dsl"})
+public class DSLConfig {
+  /**
+   * Comma separated names of the DSL functions, whose callbacks are executed in slices over several
+   * frames (see {@link dsl.semanticanalysis.typesystem.callbackadapter.CallbackScheduler}).
+   */
+  public static final ConfigKey<String> BUDGETED_CALLBACKS =
+      new ConfigKey<>(new String[] {"budgeted_callbacks"}, new ConfigStringValue(""));
+}
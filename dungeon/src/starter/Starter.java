@@ -15,6 +15,7 @@ import core.utils.components.MissingComponentException;
 import core.utils.components.path.SimpleIPath;
 import dsl.interpreter.DSLEntryPointFinder;
 import dsl.interpreter.DSLInterpreter;
+import dslinterop.DSLCallbackSystem;
 import entrypoint.DSLEntryPoint;
 import entrypoint.DSLFileLoader;
 import entrypoint.DungeonConfig;
@@ -221,10 +222,9 @@ public class Starter {
   }
 
   private static Set<DSLEntryPoint> processCLIArguments(String[] args) throws ParseException {
-    Set<DSLEntryPoint> entryPoints = new HashSet<>();
     DSLEntryPointFinder finder = new DSLEntryPointFinder();
-    DSLFileLoader.processArguments(args)
-        .forEach(path -> finder.getEntryPoints(path).ifPresent(entryPoints::addAll)); // WTF?
+    Set<DSLEntryPoint> entryPoints =
+        new HashSet<>(finder.getEntryPoints(DSLFileLoader.processArguments(args)));
 
     if (entryPoints.isEmpty()) throw new ParseException("No entry points found.", 0);
     else return entryPoints;
@@ -261,7 +261,13 @@ public class Starter {
         new SimpleIPath("dungeon_config.json"),
         contrib.configuration.KeyboardConfig.class,
         core.configuration.KeyboardConfig.class,
-        starter.KeyboardConfig.class);
+        starter.KeyboardConfig.class,
+        DSLConfig.class);
+    for (String functionName : DSLConfig.BUDGETED_CALLBACKS.value().split(",")) {
+      if (!functionName.isBlank()) {
+        dslInterpreter.getCallbackScheduler().runBudgeted(functionName.strip());
+      }
+    }
   }
 
   private static void createSystems() {
@@ -274,6 +280,7 @@ public class Starter {
     Game.add(new HudSystem());
     Game.add(new SpikeSystem());
     Game.add(new IdleSoundSystem());
+    Game.add(new DSLCallbackSystem(dslInterpreter.getCallbackScheduler()));
   }
 
   private static void setupMusic() {
@@ -54,6 +54,25 @@ public class AISystemTest {
     assertEquals(1, updateCounter);
   }
 
+  /** The AI of every entity is executed in every tick, no matter how many entities there are. */
+  @Test
+  public void update_allEntities() {
+    for (int i = 0; i < 100; i++) {
+      Entity other = new Entity();
+      other.add(
+          new AIComponent(
+              null,
+              e -> {},
+              e -> {
+                updateCounter++;
+                return false;
+              }));
+      Game.add(other);
+    }
+    system.execute();
+    assertEquals(101, updateCounter);
+  }
+
   /** WTF? . */
   @Test
   public void update_executeFight() {
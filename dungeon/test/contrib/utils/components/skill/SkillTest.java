@@ -4,10 +4,13 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import core.Entity;
 import core.Game;
+import core.game.FixedTimestep;
 import java.util.function.Consumer;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
 
 /** WTF? . */
 public class SkillTest {
@@ -52,14 +55,19 @@ public class SkillTest {
 
   /** WTF? . */
   @Test
-  public void executeWhenCoolDownExpired() throws InterruptedException {
+  public void executeWhenCoolDownExpired() {
     final long baseCoolDown = 1;
-    skill = new Skill(skillFunction, baseCoolDown);
-    skill.execute(entity);
-    assertEquals(1, value);
-    Thread.sleep(5);
-    assertTrue(skill.canBeUsedAgain());
-    skill.execute(entity);
-    assertEquals(2, value);
+    try (MockedStatic<FixedTimestep> time = Mockito.mockStatic(FixedTimestep.class)) {
+      time.when(FixedTimestep::gameTimeMillis).thenReturn(100L);
+      skill = new Skill(skillFunction, baseCoolDown);
+      skill.execute(entity);
+      assertEquals(1, value);
+      assertFalse(skill.canBeUsedAgain());
+      // the cool down is measured in game time, which only advances with the ticks
+      time.when(FixedTimestep::gameTimeMillis).thenReturn(105L);
+      assertTrue(skill.canBeUsedAgain());
+      skill.execute(entity);
+      assertEquals(2, value);
+    }
   }
 }
@@ -0,0 +1,127 @@
+package dsl.interpreter;
+
+import dsl.helpers.Helpers;
+import dsl.interpreter.mockecs.Entity;
+import dsl.interpreter.mockecs.TestComponent1;
+import dsl.interpreter.mockecs.TestComponent2;
+import dsl.runtime.memoryspace.IMemorySpace;
+import dsl.runtime.value.AggregateValue;
+import dsl.runtime.value.PrototypeValue;
+import dsl.runtime.value.Value;
+import dsl.semanticanalysis.typesystem.typebuilding.type.AggregateType;
+import java.util.function.Function;
+
+/**
+ * Micro-benchmark for the instantiation of DSL prototypes, e.g. when a level spawns many entities
+ * of the same {@code entity_type}.
+ *
+ * <p>The instantiation with the cached {@link PrototypeTemplate} (see {@link
+ * DSLInterpreter#instantiateDSLValue(PrototypeValue)}) is compared with the previous
+ * implementation, which looked up the members and their default values for each instance again
+ * (see {@link #instantiateWithoutTemplate(DSLInterpreter, PrototypeValue)}). Only the DSL values
+ * are created, the translation to the game objects is not part of the benchmark.
+ *
+ * <p>This is not a unit test. Start this with ./gradlew runPrototypeTemplateBenchmark
+ */
+public class PrototypeTemplateBenchmark {
+
+  private static final int WARMUP_SPAWNS = 200_000;
+  private static final int MEASURED_SPAWNS = 1_000_000;
+
+  private static final String PROGRAM =
+      """
+      entity_type monster {
+          test_component1 {
+              member1: 42,
+              member2: 12.34
+          },
+          test_component2 {
+              member1: "Hallo",
+              member2: 123
+          }
+      }
+
+      quest_config config {
+          entity: instantiate(monster)
+      }
+      """;
+
+  /**
+   * Main method.
+   *
+   * @param args the command line arguments
+   */
+  public static void main(String[] args) {
+    var env = new TestEnvironment();
+    env.getTypeBuilder().bindProperty(env.getGlobalScope(), Entity.TestComponent1Property.instance);
+    env.getTypeBuilder().bindProperty(env.getGlobalScope(), Entity.TestComponent2Property.instance);
+    DSLInterpreter interpreter = new DSLInterpreter();
+    Helpers.generateQuestConfigWithCustomTypes(
+        PROGRAM, env, interpreter, Entity.class, TestComponent1.class, TestComponent2.class);
+    PrototypeValue prototype = interpreter.getRuntimeEnvironment().lookupPrototype("monster");
+
+    run(
+        "without template",
+        prototype,
+        p -> (AggregateValue) instantiateWithoutTemplate(interpreter, p));
+    run("with template", prototype, p -> (AggregateValue) interpreter.instantiateDSLValue(p));
+  }
+
+  private static void run(
+      final String name,
+      final PrototypeValue prototype,
+      final Function<PrototypeValue, AggregateValue> instantiate) {
+    spawn(prototype, instantiate, WARMUP_SPAWNS);
+    long start = System.nanoTime();
+    long checksum = spawn(prototype, instantiate, MEASURED_SPAWNS);
+    long duration = System.nanoTime() - start;
+
+    System.out.printf(
+        "%s: %d spawns, %.1f ns per spawn (checksum %d)%n",
+        name, MEASURED_SPAWNS, (double) duration / MEASURED_SPAWNS, checksum);
+  }
+
+  private static long spawn(
+      final PrototypeValue prototype,
+      final Function<PrototypeValue, AggregateValue> instantiate,
+      int spawns) {
+    long checksum = 0;
+    for (int i = 0; i < spawns; i++) {
+      AggregateValue instance = instantiate.apply(prototype);
+      var component = (AggregateValue) instance.getMemorySpace().resolve("test_component1");
+      checksum += (int) component.getMemorySpace().resolve("member1").getInternalValue();
+    }
+    return checksum;
+  }
+
+  /**
+   * The instantiation of a prototype as it was done before the {@link PrototypeTemplate} was
+   * introduced.
+   *
+   * @param interpreter the interpreter to create the values with
+   * @param prototype the prototype to instantiate
+   * @return the new value
+   */
+  private static Value instantiateWithoutTemplate(
+      final DSLInterpreter interpreter, final PrototypeValue prototype) {
+    AggregateValue instance = new AggregateValue(prototype, interpreter.getCurrentMemorySpace());
+
+    IMemorySpace memorySpace = instance.getMemorySpace();
+    interpreter.pushMemorySpace(memorySpace);
+    var internalType = (AggregateType) prototype.getInternalType();
+    for (var member : internalType.getSymbols()) {
+      var defaultValue = prototype.getDefaultValue(member.getName());
+      if (defaultValue instanceof PrototypeValue) {
+        defaultValue = instantiateWithoutTemplate(interpreter, (PrototypeValue) defaultValue);
+      } else if (!defaultValue.equals(Value.NONE)) {
+        defaultValue = (Value) defaultValue.clone();
+      } else {
+        defaultValue = interpreter.createDefaultValue(member.getDataType());
+      }
+      memorySpace.bindValue(member.getName(), defaultValue);
+    }
+    interpreter.popMemorySpace();
+
+    return instance;
+  }
+}
@@ -22,6 +22,7 @@ import dsl.semanticanalysis.analyzer.SemanticAnalyzer;
 import dsl.semanticanalysis.environment.GameEnvironment;
 import dsl.semanticanalysis.symbol.FunctionSymbol;
 import dsl.semanticanalysis.typesystem.ComponentWithExternalTypeMember;
+import dsl.semanticanalysis.typesystem.callbackadapter.CallbackScheduler;
 import dsl.semanticanalysis.typesystem.typebuilding.type.BuiltInType;
 import dsl.semanticanalysis.typesystem.typebuilding.type.IType;
 import dsl.semanticanalysis.typesystem.typebuilding.type.ListType;
@@ -36,6 +37,7 @@ import java.io.PrintStream;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -492,6 +494,87 @@ public class TestDSLInterpreter {
     assertEquals(42, internalValue);
   }
 
+  /** Instances of a prototype do not share their values with each other or the prototype. */
+  @Test
+  public void prototypeInstancesAreIndependent() {
+    String program =
+        """
+                entity_type my_obj {
+                    test_component1 {
+                        member1: 42,
+                        member2: 12.34
+                    }
+                }
+
+                quest_config config {
+                    entity: instantiate(my_obj)
+                }
+                """;
+
+    var env = new TestEnvironment();
+    env.getTypeBuilder().bindProperty(env.getGlobalScope(), Entity.TestComponent1Property.instance);
+
+    var interpreter = new DSLInterpreter();
+    Helpers.generateQuestConfigWithCustomTypes(
+        program, env, interpreter, Entity.class, TestComponent1.class);
+
+    PrototypeValue prototype = interpreter.getRuntimeEnvironment().lookupPrototype("my_obj");
+    var first = (AggregateValue) interpreter.instantiateDSLValue(prototype);
+    var second = (AggregateValue) interpreter.instantiateDSLValue(prototype);
+    assertNotSame(first, second);
+
+    var firstComp1 = (AggregateValue) first.getMemorySpace().resolve("test_component1");
+    var secondComp1 = (AggregateValue) second.getMemorySpace().resolve("test_component1");
+    assertNotSame(firstComp1, secondComp1);
+    firstComp1.getMemorySpace().resolve("member1").setInternalValue(123);
+
+    assertEquals(42, secondComp1.getMemorySpace().resolve("member1").getInternalValue());
+    var compPrototype = (PrototypeValue) prototype.getDefaultValue("test_component1");
+    assertEquals(42, compPrototype.getDefaultValue("member1").getInternalValue());
+    var third = (AggregateValue) interpreter.instantiateDSLValue(prototype);
+    var thirdComp1 = (AggregateValue) third.getMemorySpace().resolve("test_component1");
+    assertEquals(42, thirdComp1.getMemorySpace().resolve("member1").getInternalValue());
+  }
+
+  /** Instances of a prototype use the default values, which are set at their instantiation. */
+  @Test
+  public void prototypeInstancesUseChangedDefaultValues() {
+    String program =
+        """
+                entity_type my_obj {
+                    test_component1 {
+                        member1: 42,
+                        member2: 12.34
+                    }
+                }
+
+                quest_config config {
+                    entity: instantiate(my_obj)
+                }
+                """;
+
+    var env = new TestEnvironment();
+    env.getTypeBuilder().bindProperty(env.getGlobalScope(), Entity.TestComponent1Property.instance);
+
+    var interpreter = new DSLInterpreter();
+    Helpers.generateQuestConfigWithCustomTypes(
+        program, env, interpreter, Entity.class, TestComponent1.class);
+
+    PrototypeValue prototype = interpreter.getRuntimeEnvironment().lookupPrototype("my_obj");
+    var first = (AggregateValue) interpreter.instantiateDSLValue(prototype);
+    var firstComp1 = (AggregateValue) first.getMemorySpace().resolve("test_component1");
+    assertEquals(42, firstComp1.getMemorySpace().resolve("member1").getInternalValue());
+
+    // replace the default value of the nested prototype after its first instantiation
+    var compPrototype = (PrototypeValue) prototype.getDefaultValue("test_component1");
+    compPrototype.addDefaultValue("member1", new Value(BuiltInType.intType, 7));
+
+    var second = (AggregateValue) interpreter.instantiateDSLValue(prototype);
+    var secondComp1 = (AggregateValue) second.getMemorySpace().resolve("test_component1");
+    assertEquals(7, secondComp1.getMemorySpace().resolve("member1").getInternalValue());
+    assertEquals(42, firstComp1.getMemorySpace().resolve("member1").getInternalValue());
+  }
+
   /** WTF? . */
   @Test
   public void aggregateTypeInstancingNonSupportedExternalType() {
@@ -3429,6 +3512,386 @@ public class TestDSLInterpreter {
         output);
   }
 
+  /**
+   * Test, if a callback of a budgeted function is not executed on its call, but spread over the
+   * frames of the {@link CallbackScheduler}.
+   */
+  @Test
+  public void testBudgetedCallback() {
+    String program =
+        """
+                entity_type my_type {
+                    test_component1 {},
+                    test_component_with_callback {
+                        consumer: func
+                    }
+                }
+
+                fn func(entity ent) {
+                    var i : int;
+                    while i < 3 {
+                        print(i);
+                        i = i + 1;
+                    }
+                }
+
+                quest_config c {
+                    entity: instantiate(my_type)
+                }
+                """;
+
+    // print currently just prints to system.out, so we need to
+    // check the contents for the printed string
+    var outputStream = new ByteArrayOutputStream();
+    System.setOut(new PrintStream(outputStream));
+
+    DSLInterpreter interpreter = new DSLInterpreter();
+    CallbackScheduler scheduler = interpreter.getCallbackScheduler();
+    scheduler.statementBudget(2);
+    Entity entity = budgetedCallbackEntity(program, interpreter);
+    Consumer<Entity> consumer = consumerCallback(entity);
+
+    consumer.accept(entity);
+    assertEquals("", outputStream.toString());
+    assertEquals(1, scheduler.scheduledCalls());
+
+    int frames = 0;
+    while (scheduler.scheduledCalls() > 0 && frames < 100) {
+      scheduler.executeFrame();
+      frames++;
+    }
+
+    assertEquals(0, scheduler.scheduledCalls());
+    assertTrue(frames > 1);
+    assertEquals(
+        "0" + System.lineSeparator() + "1" + System.lineSeparator() + "2" + System.lineSeparator(),
+        outputStream.toString());
+  }
+
+  /**
+   * Test, if the calls of a budgeted callback for the same entity with the same parameters, which
+   * are made while a call is running, are coalesced into a single waiting call.
+   */
+  @Test
+  public void testBudgetedCallbackCalledWhileRunning() {
+    String program =
+        """
+                entity_type my_type {
+                    test_component1 {},
+                    test_component_with_callback {
+                        consumer: func
+                    }
+                }
+
+                fn func(entity ent) {
+                    var i : int;
+                    print("start");
+                    while i < 3 {
+                        i = i + 1;
+                    }
+                    print("end");
+                }
+
+                quest_config c {
+                    entity: instantiate(my_type)
+                }
+                """;
+
+    // print currently just prints to system.out, so we need to
+    // check the contents for the printed string
+    var outputStream = new ByteArrayOutputStream();
+    System.setOut(new PrintStream(outputStream));
+
+    DSLInterpreter interpreter = new DSLInterpreter();
+    CallbackScheduler scheduler = interpreter.getCallbackScheduler();
+    scheduler.statementBudget(2);
+    Entity entity = budgetedCallbackEntity(program, interpreter);
+    Consumer<Entity> consumer = consumerCallback(entity);
+
+    consumer.accept(entity);
+    scheduler.executeFrame();
+    assertEquals("start" + System.lineSeparator(), outputStream.toString());
+
+    // the first call is still running, the next calls wait for it
+    consumer.accept(entity);
+    consumer.accept(entity);
+    consumer.accept(entity);
+    assertEquals(2, scheduler.scheduledCalls());
+
+    int frames = 0;
+    while (scheduler.scheduledCalls() > 0 && frames < 100) {
+      scheduler.executeFrame();
+      frames++;
+    }
+
+    assertEquals(0, scheduler.scheduledCalls());
+    String expected =
+        String.join(System.lineSeparator(), "start", "end", "start", "end")
+            + System.lineSeparator();
+    assertEquals(expected, outputStream.toString());
+  }
+
+  /**
+   * Test, if the calls of a budgeted callback for the same entity with different parameters, which
+   * are made while a call is running, are all executed in the order of the calls.
+   */
+  @Test
+  public void testBudgetedCallbackWithDifferentParameters() {
+    String program =
+        """
+                entity_type my_type {
+                    test_component_with_tri_consumer_callback {
+                        on_interaction: func
+                    }
+                }
+
+                fn func(entity ent, entity other, bool flag) {
+                    var i : int;
+                    while i < 3 {
+                        i = i + 1;
+                    }
+                    print(flag);
+                }
+
+                quest_config c {
+                    entity: instantiate(my_type)
+                }
+                """;
+
+    // print currently just prints to system.out, so we need to
+    // check the contents for the printed string
+    var outputStream = new ByteArrayOutputStream();
+    System.setOut(new PrintStream(outputStream));
+
+    DSLInterpreter interpreter = new DSLInterpreter();
+    CallbackScheduler scheduler = interpreter.getCallbackScheduler();
+    scheduler.statementBudget(2);
+    Entity entity =
+        budgetedCallbackEntity(program, interpreter, TestComponentWithTriConsumerCallback.class);
+    var component = (TestComponentWithTriConsumerCallback) entity.components.get(0);
+    Entity first = new Entity();
+    Entity second = new Entity();
+
+    component.executeCallback(first, true);
+    scheduler.executeFrame();
+    // the first call is still running, the next calls wait for it; the repeated call is dropped
+    component.executeCallback(second, false);
+    component.executeCallback(second, false);
+    component.executeCallback(first, true);
+    assertEquals(3, scheduler.scheduledCalls());
+
+    int frames = 0;
+    while (scheduler.scheduledCalls() > 0 && frames < 100) {
+      scheduler.executeFrame();
+      frames++;
+    }
+
+    assertEquals(0, scheduler.scheduledCalls());
+    String expected =
+        String.join(System.lineSeparator(), "true", "false", "true") + System.lineSeparator();
+    assertEquals(expected, outputStream.toString());
+  }
+
+  /**
+   * Analyze the program, select {@code func} for budgeted execution and interpret the program.
+   *
+   * @param program the program, which defines the function {@code func} and instantiates an entity
+   *     in the quest config
+   * @param interpreter the interpreter to use
+   * @param componentClasses the component classes used in the program, if not given, the classes
+   *     of {@code test_component1} and {@code test_component_with_callback}
+   * @return the entity of the quest config
+   */
+  private static Entity budgetedCallbackEntity(
+      String program, DSLInterpreter interpreter, Class<?>... componentClasses) {
+    if (componentClasses.length == 0) {
+      componentClasses =
+          new Class<?>[] {TestComponentEntityConsumerCallback.class, TestComponent1.class};
+    }
+    TestEnvironment env = new TestEnvironment();
+    env.getTypeBuilder().createDSLTypeForJavaTypeInScope(env.getGlobalScope(), Entity.class);
+    for (Class<?> componentClass : componentClasses) {
+      env.getTypeBuilder().createDSLTypeForJavaTypeInScope(env.getGlobalScope(), componentClass);
+    }
+
+    var ast = Helpers.getASTFromString(program);
+    SemanticAnalyzer semanticAnalyzer = new SemanticAnalyzer();
+    semanticAnalyzer.setup(env);
+    semanticAnalyzer.walk(ast);
+
+    // the selected name is resolved, when the runtime is initialized; the callbacks are built
+    // while the quest config is generated
+    interpreter.getCallbackScheduler().runBudgeted("func");
+    interpreter.initializeRuntime(env);
+    var config = (Value) interpreter.generateQuestConfig(ast);
+    return ((CustomQuestConfig) config.getInternalValue()).entity();
+  }
+
+  private static Consumer<Entity> consumerCallback(Entity entity) {
+    return entity.components.stream()
+        .filter(c -> c instanceof TestComponentEntityConsumerCallback)
+        .map(c -> ((TestComponentEntityConsumerCallback) c).consumer)
+        .findFirst()
+        .orElseThrow();
+  }
+
+  /**
+   * Test, if compiled functions (see {@link FunctionCompiler}) produce the same output as functions
+   * executed with the statement stack.
+   */
+  @Test
+  public void testCompiledFunctionsMatchStatementStack() {
+    String program =
+        """
+                fn greeting(bool formal) -> string {
+                    if formal {
+                        return "Good day";
+                    } else return "Hi";
+                }
+
+                fn test_func() {
+                    var my_list : int[];
+                    my_list.add(1);
+                    my_list.add(2);
+                    my_list.add(0);
+
+                    var list_entry : int;
+                    list_entry = my_list.get(0);
+                    while list_entry {
+                        print(list_entry);
+                        list_entry = my_list.get(list_entry);
+                    }
+                    for int entry in my_list count i {
+                        if entry print(i);
+                        else print(greeting(true));
+                    }
+                    print(greeting(false));
+                }
+
+                quest_config c {
+                    test: test_func()
+                }
+                """;
+
+    String compiledOutput = runWithCompiledFunctions(program, true);
+    String statementStackOutput = runWithCompiledFunctions(program, false);
+
+    String expected =
+        String.join(System.lineSeparator(), "1", "2", "0", "1", "Good day", "Hi")
+            + System.lineSeparator();
+    assertEquals(expected, statementStackOutput);
+    assertEquals(statementStackOutput, compiledOutput);
+  }
+
+  /**
+   * Test, if arithmetic, comparison and logic operators produce the same results in compiled
+   * functions (see {@link ExpressionCompiler}) and with the statement stack.
+   */
+  @Test
+  public void testOperatorsInCompiledFunctions() {
+    String program =
+        """
+                fn scale(int x) -> int {
+                    return x * 3 - 1;
+                }
+
+                fn half(float x) -> float {
+                    return x / 2.0;
+                }
+
+                fn test_func() {
+                    var i : int;
+                    var sum : int;
+                    var avg : float;
+                    var even : bool;
+                    var stop : bool;
+                    while i < 6 and !stop {
+                        even = i / 2 * 2 == i;
+                        if even and i != 4 {
+                            sum = sum + scale(i);
+                        } else if i >= 5 or -i < -2 {
+                            print(i);
+                        }
+                        i = i + 1;
+                        stop = i > 10;
+                    }
+                    avg = half(sum + 0.5);
+                    print(sum);
+                    print(avg);
+                    print(i != 6);
+                    print(1.5 * 2 <= 3);
+                }
+
+                quest_config c {
+                    test: test_func()
+                }
+                """;
+
+    String compiledOutput = runWithCompiledFunctions(program, true);
+    String statementStackOutput = runWithCompiledFunctions(program, false);
+
+    String expected =
+        String.join(System.lineSeparator(), "3", "4", "5", "4", "2.25", "false", "true")
+            + System.lineSeparator();
+    assertEquals(expected, statementStackOutput);
+    assertEquals(statementStackOutput, compiledOutput);
+  }
+
+  /**
+   * Test, if a bool variable without value is false in compiled functions (see {@link
+   * ExpressionCompiler}), like with the statement stack.
+   */
+  @Test
+  public void testUnsetBoolVariableInCompiledFunctions() {
+    String program =
+        """
+                fn check(bool b) {
+                    var same : bool;
+                    if b {
+                        print("set");
+                    } else {
+                        print("unset");
+                    }
+                    if !b {
+                        print("not set");
+                    }
+                    same = b == false;
+                    print(same);
+                }
+
+                fn test_func() {
+                    check();
+                    check(true);
+                }
+
+                quest_config c {
+                    test: test_func()
+                }
+                """;
+
+    String compiledOutput = runWithCompiledFunctions(program, true);
+    String statementStackOutput = runWithCompiledFunctions(program, false);
+
+    String expected =
+        String.join(System.lineSeparator(), "unset", "not set", "false", "set", "false")
+            + System.lineSeparator();
+    assertEquals(expected, statementStackOutput);
+    assertEquals(statementStackOutput, compiledOutput);
+  }
+
+  private static String runWithCompiledFunctions(String program, boolean compileFunctions) {
+    // print currently just prints to system.out, so we need to
+    // check the contents for the printed string
+    var outputStream = new ByteArrayOutputStream();
+    System.setOut(new PrintStream(outputStream));
+
+    TestEnvironment env = new TestEnvironment();
+    DSLInterpreter interpreter = new DSLInterpreter();
+    interpreter.compileFunctions(compileFunctions);
+    Helpers.generateQuestConfigWithCustomFunctions(program, env, interpreter);
+    return outputStream.toString();
+  }
+
   /** WTF? . */
   @Test
   public void testItemTypeInstantiationSingleChoice() {
@@ -1,9 +1,11 @@
 package dsl.interpreter;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import entrypoint.DSLEntryPoint;
 import entrypoint.DungeonConfig;
+import entrypoint.ParsedFileCache;
 import graph.taskdependencygraph.TaskNode;
 import java.net.URISyntaxException;
 import java.net.URL;
@@ -120,4 +122,27 @@ public class TetsDSLEntryPointFinder {
     task = taskNode.task();
     assertEquals("Kuckuck2", task.taskText());
   }
+
+  /** Entry points of several files are found in the order of the files; parsed files are cached. */
+  @Test
+  public void testReadEntryPointsOfFiles() throws URISyntaxException {
+    URL resource1 = getClass().getClassLoader().getResource("config1.dng");
+    URL resource2 = getClass().getClassLoader().getResource("config2.dng");
+    assert resource1 != null && resource2 != null;
+    Path firstPath = Path.of(resource1.toURI());
+    Path secondPath = Path.of(resource2.toURI());
+
+    DSLEntryPointFinder finder = new DSLEntryPointFinder();
+    List<DSLEntryPoint> entryPoints = finder.getEntryPoints(List.of(firstPath, secondPath));
+
+    assertEquals(4, entryPoints.size());
+    assertEquals("This is my config 1", entryPoints.get(0).displayName());
+    assertEquals("my_other_config", entryPoints.get(1).displayName());
+    assertEquals("This is my config 2", entryPoints.get(2).displayName());
+    assertEquals("my_completely_other_config", entryPoints.get(3).displayName());
+    assertEquals(secondPath, entryPoints.get(3).file().filePath());
+
+    // the content did not change, so the file is not parsed again
+    assertSame(entryPoints.get(0).file(), ParsedFileCache.parse(firstPath));
+  }
 }
@@ -29,4 +29,14 @@ public class TestComponentWithTriConsumerCallback extends Component {
   public Entity getEntity() {
     return entity;
   }
+
+  /**
+   * WTF? .
+   *
+   * @param other foo
+   * @param flag foo
+   */
+  public void executeCallback(Entity other, boolean flag) {
+    onInteraction.accept(entity, other, flag);
+  }
 }
@@ -1,10 +1,17 @@
 package dsl.runtime;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import dsl.interpreter.mockecs.*;
 import dsl.semanticanalysis.environment.GameEnvironment;
 import dsl.semanticanalysis.scope.Scope;
+import dsl.semanticanalysis.symbol.Symbol;
+import dsl.semanticanalysis.typesystem.typebuilding.type.BuiltInType;
+import dsl.semanticanalysis.typesystem.typebuilding.type.SetType;
 import org.junit.jupiter.api.Test;
 
 /** WTF? . */
@@ -37,4 +44,22 @@ public class TestGameEnvironment {
           env.loadTypes(externalComponentType, adapterType, otherAdapterType);
         });
   }
+
+  /** Built in types are shared between environments, but each environment has its own scope. */
+  @Test
+  public void sharedBuiltInTypes() {
+    var env = new GameEnvironment();
+    var otherEnv = new GameEnvironment();
+
+    Symbol entityType = env.getGlobalScope().resolve("entity");
+    assertNotEquals(Symbol.NULL, entityType);
+    assertSame(entityType, otherEnv.getGlobalScope().resolve("entity"));
+    assertEquals(env.getFunctions().length, otherEnv.getFunctions().length);
+
+    assertNotSame(env.getGlobalScope(), otherEnv.getGlobalScope());
+    assertNotSame(env.getTypeBuilder(), otherEnv.getTypeBuilder());
+    var intSetType = new SetType(BuiltInType.intType, env.getGlobalScope());
+    env.getGlobalScope().bind(intSetType);
+    assertEquals(Symbol.NULL, otherEnv.getGlobalScope().resolve(intSetType.getName()));
+  }
 }
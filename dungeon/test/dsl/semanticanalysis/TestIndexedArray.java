@@ -0,0 +1,40 @@
+package dsl.semanticanalysis;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link IndexedArray}. */
+public class TestIndexedArray {
+
+  /** Test, if values with indices far apart are stored and replaced. */
+  @Test
+  public void testDistantIndices() {
+    IndexedArray<String> array = new IndexedArray<>();
+    array.set(Integer.MAX_VALUE, "max");
+    array.set(0, "zero");
+    array.set(1_000_000, "million");
+    array.set(1_000_000, "replaced");
+
+    assertEquals("max", array.get(Integer.MAX_VALUE));
+    assertEquals("zero", array.get(0));
+    assertEquals("replaced", array.get(1_000_000));
+    assertNull(array.get(1));
+    assertNull(array.get(500_000));
+    assertNull(array.get(-1));
+    assertThrows(IllegalArgumentException.class, () -> array.set(-1, "negative"));
+  }
+
+  /** Test, if the values are kept, when more pages are allocated than fit in the initial table. */
+  @Test
+  public void testManyPages() {
+    IndexedArray<Integer> array = new IndexedArray<>();
+    for (int i = 0; i < 100; i++) {
+      array.set(i * 5000, i);
+    }
+    for (int i = 0; i < 100; i++) {
+      assertEquals(i, array.get(i * 5000));
+      assertNull(array.get(i * 5000 + 1));
+    }
+  }
+}
@@ -55,6 +55,29 @@ public class TestSemanticAnalyzer {
     assertEquals("c", symbolForObjDefNode.getName());
   }
 
+  /** Test, if the resolved symbol of an AST node is the first of its associated symbols. */
+  @Test
+  public void testResolvedSymbolForAstNode() {
+    String program =
+        """
+                graph g {
+                    A -> B
+                }
+                dungeon_config c {
+                    level_graph: g
+                }
+                """;
+
+    var ast = Helpers.getASTFromString(program);
+    var symbolTable = Helpers.getSymtableForAST(ast).symbolTable;
+
+    for (Node node : ast.getChildren()) {
+      assertSame(
+          symbolTable.getSymbolsForAstNode(node).get(0), symbolTable.getSymbolForAstNode(node));
+    }
+    assertEquals(Symbol.NULL, symbolTable.getSymbolForAstNode(Node.NONE));
+  }
+
   /**
    * Test, if the reference to a symbol is correctly resolved and that the symbol is linked to the
    * identifier.
@@ -1178,6 +1201,44 @@ public class TestSemanticAnalyzer {
     assertEquals(myListSymbol, expressionRefNode);
   }
 
+  /** Test, if operators and assignments with operands of matching types are not reported. */
+  @Test
+  public void testOperatorTypes() {
+    String program =
+        """
+                fn test(int i, float f, bool b, string s) {
+                    f = i * 2 + f / 2.0;
+                    b = -i < f and !s or s == b;
+                    s = "text";
+                }
+                """;
+
+    var result = Helpers.getSymtableForAST(Helpers.getASTFromString(program));
+    assertFalse(result.gotError, result.errorString);
+  }
+
+  /** Test, if operators and assignments with operands of the wrong type are reported. */
+  @Test
+  public void testOperatorTypeErrors() {
+    String program =
+        """
+                fn test(int i, bool b, string s) {
+                    i = i + s;
+                    b = -b;
+                    b = i < "text";
+                    i = 1.5;
+                }
+                """;
+
+    var result = Helpers.getSymtableForAST(Helpers.getASTFromString(program));
+    assertTrue(result.gotError);
+    assertTrue(result.errorString.contains("Operator '+' is not defined for type 'string'"));
+    assertTrue(result.errorString.contains("Operator '-' is not defined for type 'bool'"));
+    assertTrue(result.errorString.contains("Operator '<' is not defined for type 'string'"));
+    assertTrue(
+        result.errorString.contains("Can not assign value of type 'float' to variable of type"));
+  }
+
   @DSLType
   private record TestComponent(@DSLTypeMember TaskDependencyGraph levelGraph) {}
 }
@@ -0,0 +1,64 @@
+package dsl.semanticanalysis;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import dsl.parser.ast.Node;
+import dsl.semanticanalysis.scope.Scope;
+import dsl.semanticanalysis.symbol.Symbol;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/** Tests for {@link SymbolTable}. */
+public class TestSymbolTable {
+
+  /** Test, if relations between symbols and nodes with distant indices are stored. */
+  @Test
+  public void testSymbolNodeRelations() {
+    Scope scope = new Scope();
+    SymbolTable symbolTable = new SymbolTable(scope);
+
+    Node creationNode = new Node(Node.Type.Identifier);
+    // create enough nodes, so the indices of the nodes are not in the same page
+    for (int i = 0; i < 5000; i++) {
+      new Node(Node.Type.Identifier);
+    }
+    Node referenceNode = new Node(Node.Type.Identifier);
+    Node unrelatedNode = new Node(Node.Type.Identifier);
+
+    Symbol symbol = new Symbol("symbol", scope, null);
+    Symbol otherSymbol = new Symbol("other_symbol", scope, null);
+    symbolTable.addSymbolNodeRelation(symbol, creationNode, true);
+    symbolTable.addSymbolNodeRelation(symbol, referenceNode, false);
+    symbolTable.addSymbolNodeRelation(otherSymbol, referenceNode, false);
+
+    assertEquals(symbol, symbolTable.getSymbolForAstNode(creationNode));
+    assertEquals(symbol, symbolTable.getSymbolForAstNode(referenceNode));
+    assertEquals(List.of(symbol, otherSymbol), symbolTable.getSymbolsForAstNode(referenceNode));
+    assertEquals(creationNode, symbolTable.getCreationAstNode(symbol));
+    assertEquals(symbol, symbolTable.getSymbolByIdx(symbol.getIdx()));
+    assertEquals(otherSymbol, symbolTable.getSymbolByIdx(otherSymbol.getIdx()));
+
+    assertEquals(Symbol.NULL, symbolTable.getSymbolForAstNode(unrelatedNode));
+    assertEquals(List.of(Symbol.NULL), symbolTable.getSymbolsForAstNode(unrelatedNode));
+    assertEquals(Node.NONE, symbolTable.getCreationAstNode(otherSymbol));
+  }
+
+  /** Test, if all symbols associated with the same node are kept in order. */
+  @Test
+  public void testManySymbolsForOneNode() {
+    Scope scope = new Scope();
+    SymbolTable symbolTable = new SymbolTable(scope);
+    Node node = new Node(Node.Type.Identifier);
+
+    List<Symbol> symbols = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      Symbol symbol = new Symbol("symbol" + i, scope, null);
+      symbols.add(symbol);
+      symbolTable.addSymbolNodeRelation(symbol, node, false);
+    }
+
+    assertEquals(symbols, symbolTable.getSymbolsForAstNode(node));
+    assertEquals(symbols.get(0), symbolTable.getSymbolForAstNode(node));
+  }
+}
@@ -3,8 +3,12 @@ package dslToGame;
 import static org.junit.jupiter.api.Assertions.*;
 
 import entrypoint.DSLFileLoader;
+import entrypoint.DSLSourceProvider;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
@@ -143,4 +147,63 @@ public class TestDslFileLoader {
     String read = DSLFileLoader.fileToString(f);
     assertEquals(expectedContent, read);
   }
+
+  /** WTF? . */
+  @Test
+  public void jarFileToString() throws IOException {
+    String[] args = {PATH_TO_JAR_AS_STRING};
+    Set<Path> paths = DSLFileLoader.processArguments(args);
+    Path p =
+        paths.stream()
+            .filter(path -> path.endsWith(PATH_OF_FIRST_DNGFILE_IN_JAR.normalize()))
+            .findFirst()
+            .orElseThrow();
+
+    // the content is read exactly, including the line breaks
+    String expectedContent =
+        "some test text.\nsome test text, second line.\n\nsome test text, fourth line.\n";
+    assertEquals(expectedContent, DSLFileLoader.fileToString(p));
+    assertArrayEquals(expectedContent.getBytes(StandardCharsets.UTF_8), DSLFileLoader.readBytes(p));
+  }
+
+  /** A DSL file in a jar is streamed from the jar, also if the jar was not searched before. */
+  @Test
+  public void openStreamFromJar() throws IOException {
+    Path p = Paths.get(PATH_TO_JAR_AS_STRING, "scripts", "first.dng");
+
+    String expectedContent =
+        "some test text.\nsome test text, second line.\n\nsome test text, fourth line.\n";
+    byte[] expectedBytes = expectedContent.getBytes(StandardCharsets.UTF_8);
+    try (InputStream inputStream = DSLFileLoader.openStream(p)) {
+      assertArrayEquals(expectedBytes, inputStream.readAllBytes());
+    }
+    // the stream can be opened again after it was closed
+    assertArrayEquals(expectedBytes, DSLFileLoader.readBytes(p));
+    assertThrows(
+        NoSuchFileException.class,
+        () -> DSLFileLoader.openStream(Paths.get(PATH_TO_JAR_AS_STRING, "scripts", "none.dng")));
+  }
+
+  /** Test, if the files of a jar can be streamed with one source provider. */
+  @Test
+  public void openSourcesSharesJar() throws IOException {
+    Path first = Paths.get(PATH_TO_JAR_AS_STRING, "scripts", "first.dng");
+    Path second = Paths.get(PATH_TO_JAR_AS_STRING, "scripts", "sub", "sub", "second.dng");
+
+    DSLSourceProvider sources = DSLFileLoader.openSources();
+    try (sources) {
+      InputStream firstStream = sources.openStream(first);
+      try (InputStream secondStream = sources.openStream(second)) {
+        assertArrayEquals(DSLFileLoader.readBytes(second), secondStream.readAllBytes());
+      }
+      // closing the stream of one file does not close the shared jar
+      try (firstStream) {
+        assertArrayEquals(DSLFileLoader.readBytes(first), firstStream.readAllBytes());
+      }
+      assertThrows(
+          NoSuchFileException.class,
+          () -> sources.openStream(Paths.get(PATH_TO_JAR_AS_STRING, "scripts", "none.dng")));
+    }
+    assertThrows(IOException.class, () -> sources.openStream(first));
+  }
 }
@@ -6,6 +6,7 @@ import com.badlogic.gdx.scenes.scene2d.Stage;
 import core.components.PositionComponent;
 import core.game.ECSManagment;
 import core.game.GameLoop;
+import core.game.HeadlessGameLoop;
 import core.game.PreRunConfiguration;
 import core.level.Tile;
 import core.level.elements.ILevel;
@@ -54,9 +55,38 @@ public final class Game {
 
   private static final Logger LOGGER = Logger.getLogger(Game.class.getSimpleName());
 
-  /** Starts the dungeon and requires a {@link Game}. */
+  /**
+   * Starts the dungeon and requires a {@link Game}.
+   *
+   * <p>If {@link PreRunConfiguration#headless()} is set, the game runs without a window (see {@link
+   * HeadlessGameLoop}).
+   */
   public static void run() {
-    GameLoop.run();
+    if (PreRunConfiguration.headless()) HeadlessGameLoop.run();
+    else GameLoop.run();
+  }
+
+  /**
+   * Runs the dungeon without a window for the given number of ticks.
+   *
+   * <p>This method blocks until the simulation is done.
+   *
+   * @param ticks Maximum number of ticks to simulate.
+   * @return The number of executed ticks.
+   * @see HeadlessGameLoop
+   */
+  public static long runHeadless(long ticks) {
+    return HeadlessGameLoop.run(ticks);
+  }
+
+  /**
+   * Sets whether the game should run in headless mode.
+   *
+   * @param headless True to run the game without a window, false otherwise.
+   * @see PreRunConfiguration#headless(boolean)
+   */
+  public static void headless(boolean headless) {
+    PreRunConfiguration.headless(headless);
   }
 
   /**
@@ -113,6 +143,24 @@ public final class Game {
     PreRunConfiguration.frameRate(frameRate);
   }
 
+  /**
+   * Retrieves the tick rate from the pre-run configuration.
+   *
+   * @return The number of simulation ticks per second.
+   */
+  public static int tickRate() {
+    return PreRunConfiguration.tickRate();
+  }
+
+  /**
+   * Sets the tick rate in the pre-run configuration.
+   *
+   * @param tickRate The new number of simulation ticks per second.
+   */
+  public static void tickRate(int tickRate) {
+    PreRunConfiguration.tickRate(tickRate);
+  }
+
   /**
    * Sets the window title in the pre-run configuration.
    *
@@ -152,6 +200,9 @@ public final class Game {
   /**
    * Sets the user-defined function for frame updates in the pre-run configuration.
    *
+   * <p>The function is called once per tick, before the systems are executed, so it runs at the
+   * same rate in the live game and in headless mode.
+   *
    * @param userOnFrame The new user-defined function for frame updates.
    */
   public static void userOnFrame(final IVoidFunction userOnFrame) {
@@ -640,8 +691,13 @@ public final class Game {
     LevelSystem.levelSize(levelSize);
   }
 
-  /** Exits the GDX application. */
+  /**
+   * Exits the GDX application.
+   *
+   * <p>In headless mode, the simulation is stopped instead.
+   */
   public static void exit() {
-    Gdx.app.exit();
+    if (HeadlessGameLoop.isRunning()) HeadlessGameLoop.stop();
+    else Gdx.app.exit();
   }
 }
@@ -1,10 +1,13 @@
 package core;
 
+import core.game.RandomService;
+import core.level.elements.ILevel;
 import core.utils.EntitySystemMapper;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.logging.Logger;
+import java.util.random.RandomGenerator;
 import java.util.stream.Stream;
 
 /**
@@ -27,16 +30,30 @@ import java.util.stream.Stream;
  * #triggerOnAdd(Entity)} or {@link #triggerOnRemove(Entity)} will be called by the {@link
  * EntitySystemMapper}. Set the {@link #onEntityAdd} or {@link #onEntityRemove} attributes in the
  * inheriting System to implement the corresponding logic for these events.
+ *
+ * <p>The game loop has two phases. In the tick phase, {@link #execute()} is called a fixed number
+ * of times per second (see {@link core.game.FixedTimestep}); this is where the game state is
+ * changed. In the render phase, which runs once per rendered frame, {@link #render()} is called,
+ * and {@link #execute()} of render systems (see {@link #isRenderSystem()}).
+ *
+ * <p>Systems whose work can be spread over several frames can use {@link
+ * #forEachWithinBudget(Consumer)} to process only as many entities as the {@link #entityBudget()}
+ * allows and continue with the remaining entities in the next execution. Systems that are executed
+ * only every few frames (see {@link #executeEveryXFrames()}) are staggered by the game, so that
+ * they do not all run in the same frame.
  */
 public abstract class System {
   /**
    * Determines how many frames pass between two executions of the {@link #execute()}-loop.
    *
    * <p>The value 1 means that no frames are skipped, the {@link #execute()}-loop is executed every
-   * frame.
+   * frame. For systems that are not render systems, a frame is a tick.
    */
   public static final int DEFAULT_EVERY_FRAME_EXECUTE = 1;
 
+  /** Entity budget that means: process all entities in each execution. */
+  public static final int NO_BUDGET = 0;
+
   protected static final Logger LOGGER = Logger.getLogger(System.class.getSimpleName());
   private final Set<Class<? extends Component>> filterRules;
   private final int executeEveryXFrames;
@@ -63,6 +80,11 @@ public abstract class System {
   protected Consumer<Entity> onEntityRemove = (e) -> {};
 
   private int lastExecuteInFrames = 0;
+  private int entityBudget = NO_BUDGET;
+  private Entity[] budgetPass = new Entity[0];
+  private int budgetCursor = 0;
+  private ILevel budgetLevel;
+  private final Set<Entity> removedInPass = new HashSet<>();
 
   /**
    * Create a new system.
@@ -95,9 +117,24 @@ public abstract class System {
     this(DEFAULT_EVERY_FRAME_EXECUTE, filterRules);
   }
 
-  /** Implements the functionality of the system. */
+  /**
+   * Implements the functionality of the system.
+   *
+   * <p>Called once per tick, or once per rendered frame for render systems.
+   */
   public abstract void execute();
 
+  /**
+   * Draws the state of this system.
+   *
+   * <p>Called once per rendered frame after the ticks of the frame were executed, also if the
+   * system is paused. Use {@link core.game.FixedTimestep#alpha()} to interpolate between the last
+   * two ticks. Not called in headless mode.
+   *
+   * <p>The default implementation is just empty.
+   */
+  public void render() {}
+
   /**
    * Triggers the action associated with adding an Entity to this System's corresponding {@link
    * EntitySystemMapper}. This method calls the {@code onEntityAdd} Consumer, executing the logic
@@ -106,6 +143,7 @@ public abstract class System {
    * @param entity The Entity that was added to the Filter and is being processed by this System.
    */
   public void triggerOnAdd(Entity entity) {
+    removedInPass.remove(entity);
     onEntityAdd.accept(entity);
   }
 
@@ -118,6 +156,7 @@ public abstract class System {
    *     System.
    */
   public void triggerOnRemove(Entity entity) {
+    if (budgetCursor < budgetPass.length) removedInPass.add(entity);
     onEntityRemove.accept(entity);
   }
 
@@ -164,6 +203,20 @@ public abstract class System {
     return run;
   }
 
+  /**
+   * Check if this system only presents the game to the player (draws, plays sounds, or shows the
+   * HUD) and does not change the game state.
+   *
+   * <p>Render systems are executed once per rendered frame instead of once per tick, and they are
+   * not added to the game in headless mode (see {@link core.game.HeadlessGameLoop}). Override this
+   * method to mark a system as render system.
+   *
+   * @return true if this system is a render system, false if not.
+   */
+  public boolean isRenderSystem() {
+    return false;
+  }
+
   /**
    * Provides a stream of active entities that match the specified filter rules.
    *
@@ -214,6 +267,99 @@ public abstract class System {
     return filteredEntityStream(Set.of(filterRules));
   }
 
+  /**
+   * Execute the given action for the entities of this system, within the {@link #entityBudget()
+   * entity budget}.
+   *
+   * <p>At the start of a pass, the entities are taken in ascending order of their id. Each call
+   * processes the next entities of the pass, at most as many as the budget allows, and the next
+   * call continues after the last processed entity. A new pass starts after the last entity was
+   * processed, or if another level was loaded. Entities removed from this system during a pass are
+   * skipped; entities added during a pass are processed in the next pass.
+   *
+   * <p>The budget counts entities, not time, so the game behaves the same on every machine and in
+   * a replay. Without a budget, all entities are processed.
+   *
+   * @param action Action to execute for each entity.
+   * @return true if the last entity of the pass was processed in this call, false if there are
+   *     entities left for the next call.
+   */
+  protected final boolean forEachWithinBudget(final Consumer<Entity> action) {
+    return forEachWithinBudget(filteredEntityStream(), action);
+  }
+
+  /**
+   * Execute the given action for the given entities, within the {@link #entityBudget() entity
+   * budget}.
+   *
+   * <p>See {@link #forEachWithinBudget(Consumer)}. The stream is only consumed at the start of a
+   * pass.
+   *
+   * @param entities Entities to process.
+   * @param action Action to execute for each entity.
+   * @return true if the last entity of the pass was processed in this call, false if there are
+   *     entities left for the next call.
+   */
+  protected final boolean forEachWithinBudget(
+      final Stream<Entity> entities, final Consumer<Entity> action) {
+    if (entityBudget <= NO_BUDGET) {
+      entities.forEach(action);
+      return true;
+    }
+    if (budgetCursor >= budgetPass.length || budgetLevel != Game.currentLevel()) {
+      // sort once per pass, so the order does not depend on the hash order of the entities
+      budgetPass = entities.sorted().toArray(Entity[]::new);
+      budgetCursor = 0;
+      budgetLevel = Game.currentLevel();
+      removedInPass.clear();
+    }
+    int processed = 0;
+    while (budgetCursor < budgetPass.length && processed < entityBudget) {
+      Entity entity = budgetPass[budgetCursor++];
+      if (removedInPass.contains(entity)) continue;
+      action.accept(entity);
+      processed++;
+    }
+    while (budgetCursor < budgetPass.length && removedInPass.contains(budgetPass[budgetCursor])) {
+      budgetCursor++;
+    }
+    return budgetCursor >= budgetPass.length;
+  }
+
+  /**
+   * Get the number of entities per execution that {@link #forEachWithinBudget(Consumer)} may
+   * process.
+   *
+   * @return The budget in entities, or {@link #NO_BUDGET}.
+   */
+  public int entityBudget() {
+    return entityBudget;
+  }
+
+  /**
+   * Set the number of entities per execution that {@link #forEachWithinBudget(Consumer)} may
+   * process.
+   *
+   * @param entityBudget The budget in entities, or {@link #NO_BUDGET} to process all entities in
+   *     each execution.
+   */
+  public void entityBudget(int entityBudget) {
+    this.entityBudget = Math.max(NO_BUDGET, entityBudget);
+  }
+
+  /**
+   * Get the random stream of this system.
+   *
+   * <p>Each system class has its own stream (see {@link RandomService#stream(Class)}), so the
+   * random numbers drawn by one system do not change the numbers of another system, and a game
+   * with the same {@link RandomService#rootSeed() root seed} behaves the same.
+   *
+   * @return The random stream of this system.
+   */
+  protected final RandomGenerator random() {
+    return RandomService.stream(getClass());
+  }
+
   /**
    * @return the frame count the system should have between executes
    */
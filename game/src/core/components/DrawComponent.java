@@ -3,6 +3,7 @@ package core.components;
 import core.Component;
 import core.systems.VelocitySystem;
 import core.utils.components.draw.Animation;
+import core.utils.components.draw.AnimationClip;
 import core.utils.components.draw.CoreAnimations;
 import core.utils.components.path.IPath;
 import core.utils.components.path.SimpleIPath;
@@ -13,7 +14,7 @@ import java.io.IOException;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.util.*;
-import java.util.function.Consumer;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.logging.Logger;
@@ -33,6 +34,10 @@ import java.util.stream.Collectors;
  * queue. The {@link core.systems.DrawSystem} will always show the animation with the highest
  * priority in the queue.
  *
+ * <p>The queue holds at most one animation per priority and is kept sorted by priority in two small
+ * arrays, so the animation with the highest priority can be looked up in constant time and the
+ * remaining frame times can be reduced in place (see {@link #reduceQueueTimers()}).
+ *
  * <p>Use {@link #currentAnimation} to get the current active animation or use {@link #animation} to
  * get a specific animation.
  *
@@ -47,17 +52,36 @@ import java.util.stream.Collectors;
  * <p>Animations will be searched in the default asset directory. Normally, this is "game/assets",
  * but you can change it in the "gradle.build" file if you like.
  *
+ * <p>The frames found in an asset directory are read only once and are shared as {@link
+ * AnimationClip}s between all DrawComponents created for the same path. Each component still gets
+ * its own {@link Animation} instances, so the playback state and configuration of one entity does
+ * not affect other entities.
+ *
  * <p>Note: Each entity needs at least a {@link CoreAnimations#IDLE} Animation.
  *
  * @see Animation
  * @see IPath
  */
 public final class DrawComponent implements Component {
+  /** Already read animation directories, mapped by the asset path. */
+  private static final Map<String, Map<String, AnimationClip>> CLIP_CACHE =
+      new ConcurrentHashMap<>();
+
   private final Logger LOGGER = Logger.getLogger(this.getClass().getSimpleName());
 
-  /** Allows only one Element from a certain priority and orders them. */
-  private final Map<IPath, Integer> animationQueue =
-      new TreeMap<>(Comparator.comparingInt(IPath::priority));
+  /** Initial capacity of the animation queue. Entities rarely queue more than a few priorities. */
+  private static final int QUEUE_CAPACITY = 4;
+
+  /**
+   * Queued animations, ordered by descending priority. Allows only one Element from a certain
+   * priority.
+   */
+  private IPath[] queuedAnimations = new IPath[QUEUE_CAPACITY];
+
+  /** Remaining frames of the queued animation at the same index in {@link #queuedAnimations}. */
+  private int[] queuedFrames = new int[QUEUE_CAPACITY];
+
+  private int queueSize = 0;
 
   private Map<String, Animation> animationMap = null;
   private Animation currentAnimation;
@@ -125,10 +149,10 @@ public final class DrawComponent implements Component {
 
   /**
    * @param subDir in which to look for files for the animation
-   * @return a basic configured Animation
+   * @return the clip containing the frames of the animation
    */
-  private static Animation allFilesFromDirectory(final File subDir) {
-    return Animation.fromCollection(
+  private static AnimationClip allFilesFromDirectory(final File subDir) {
+    return AnimationClip.of(
         Arrays.stream(Objects.requireNonNull(subDir.listFiles()))
             // only look for direct Files no recursive search
             .filter(File::isFile)
@@ -206,9 +230,8 @@ public final class DrawComponent implements Component {
    * @param next List of potential next animations (represented via <code>IPath</code> objects)
    */
   public void queueAnimation(int forFrames, final IPath... next) {
-    Consumer<IPath> fn = path -> animationQueue.put(path, duration(path, forFrames));
-
-    queueAnimation(fn, next);
+    IPath path = firstExistingAnimation(next);
+    if (path != null) enqueue(path, duration(path, forFrames));
   }
 
   /**
@@ -222,26 +245,82 @@ public final class DrawComponent implements Component {
    * @param next List of potential next animations (represented via <code>IPath</code> objects)
    */
   public void queueAnimation(final IPath... next) {
-    Consumer<IPath> fn =
-        path -> animationQueue.put(path, duration(path, animation(path).orElseThrow().duration()));
-
-    queueAnimation(fn, next);
+    IPath path = firstExistingAnimation(next);
+    if (path != null)
+      enqueue(path, duration(path, animationMap.get(path.pathString()).duration()));
   }
 
   /**
-   * Enqueue the first existing animation in the queue of animations to be played next.
-   *
-   * <p>Animations to be considered are given as a number of {@link IPath} objects. The first
-   * actually existing animation will be added to the queue. The duration of the animation (i.e. how
-   * many frames should the animation be displayed) is specified in the given consumer function.
+   * Find the first animation in the given list that is stored in this component.
    *
    * <p>This is an internal auxiliary function.
    *
-   * @param fn Function to perform the actual enqueuing
    * @param next List of potential next animations (represented via <code>IPath</code> objects)
+   * @return The first existing animation, or null if none of the animations exist.
+   */
+  private IPath firstExistingAnimation(final IPath... next) {
+    for (IPath path : next) {
+      if (hasAnimation(path)) return path;
+    }
+    return null;
+  }
+
+  /**
+   * Put the given animation in the queue.
+   *
+   * <p>If an animation with the same priority is already queued, only its remaining frames are
+   * replaced; the queued animation itself stays the same. Otherwise, the animation is inserted at
+   * the position given by its priority.
+   *
+   * @param path IPath representing the animation
+   * @param forFrames Number of frames the animation is to be shown for
+   */
+  private void enqueue(final IPath path, int forFrames) {
+    int index = queueIndexOf(path.priority());
+    if (index >= 0) {
+      queuedFrames[index] = forFrames;
+      return;
+    }
+    if (queueSize == queuedAnimations.length) {
+      queuedAnimations = Arrays.copyOf(queuedAnimations, queueSize * 2);
+      queuedFrames = Arrays.copyOf(queuedFrames, queueSize * 2);
+    }
+    int insertAt = 0;
+    while (insertAt < queueSize && queuedAnimations[insertAt].priority() > path.priority()) {
+      insertAt++;
+    }
+    int moved = queueSize - insertAt;
+    System.arraycopy(queuedAnimations, insertAt, queuedAnimations, insertAt + 1, moved);
+    System.arraycopy(queuedFrames, insertAt, queuedFrames, insertAt + 1, moved);
+    queuedAnimations[insertAt] = path;
+    queuedFrames[insertAt] = forFrames;
+    queueSize++;
+  }
+
+  /**
+   * Remove the queued animation at the given index.
+   *
+   * @param index Index in the queue.
+   */
+  private void removeFromQueue(int index) {
+    int moved = queueSize - index - 1;
+    System.arraycopy(queuedAnimations, index + 1, queuedAnimations, index, moved);
+    System.arraycopy(queuedFrames, index + 1, queuedFrames, index, moved);
+    queueSize--;
+    queuedAnimations[queueSize] = null;
+  }
+
+  /**
+   * Get the index of the queued animation with the given priority.
+   *
+   * @param priority Priority to look for.
+   * @return Index in the queue, or -1 if no animation with this priority is queued.
    */
-  private void queueAnimation(final Consumer<IPath> fn, final IPath... next) {
-    Arrays.stream(next).filter(this::hasAnimation).findFirst().ifPresent(fn);
+  private int queueIndexOf(int priority) {
+    for (int i = 0; i < queueSize; i++) {
+      if (queuedAnimations[i].priority() == priority) return i;
+    }
+    return -1;
   }
 
   /**
@@ -256,7 +335,8 @@ public final class DrawComponent implements Component {
    * @return max(forFrames, current value) if already enqueued; forFrames otherwise
    */
   private int duration(IPath path, int forFrames) {
-    return Math.max(animationQueue.getOrDefault(path, 0), forFrames);
+    int index = queueIndexOf(path.priority());
+    return Math.max(index >= 0 ? queuedFrames[index] : 0, forFrames);
   }
 
   /**
@@ -267,7 +347,7 @@ public final class DrawComponent implements Component {
    * @param animation The path of the animation to remove from the queue.
    */
   public void deQueue(final IPath animation) {
-    animationQueue.remove(animation);
+    deQueueByPriority(animation.priority());
   }
 
   /**
@@ -279,7 +359,38 @@ public final class DrawComponent implements Component {
    * @param prio The priority of animations to remove.
    */
   public void deQueueByPriority(int prio) {
-    animationQueue.keySet().removeIf(e -> e.priority() == prio);
+    int index = queueIndexOf(prio);
+    if (index >= 0) removeFromQueue(index);
+  }
+
+  /**
+   * Reduce the remaining frame time of each queued animation by one and remove the animations that
+   * have a frame time < 0.
+   *
+   * <p>This is called by the {@link core.systems.DrawSystem} once per drawn frame.
+   */
+  public void reduceQueueTimers() {
+    int kept = 0;
+    for (int i = 0; i < queueSize; i++) {
+      int remaining = queuedFrames[i] - 1;
+      if (remaining >= 0) {
+        queuedAnimations[kept] = queuedAnimations[i];
+        queuedFrames[kept] = remaining;
+        kept++;
+      }
+    }
+    for (int i = kept; i < queueSize; i++) queuedAnimations[i] = null;
+    queueSize = kept;
+  }
+
+  /**
+   * Get the queued animation with the highest priority.
+   *
+   * @return The path of the queued animation with the highest priority, or null if the queue is
+   *     empty.
+   */
+  public IPath highestPriorityQueuedAnimation() {
+    return queueSize == 0 ? null : queuedAnimations[0];
   }
 
   /**
@@ -345,8 +456,8 @@ public final class DrawComponent implements Component {
    * @return true if the Animation is in the queue.
    */
   public boolean isAnimationQueued(final IPath requestedAnimation) {
-    for (Map.Entry<IPath, Integer> animationArr : animationQueue.entrySet()) {
-      if (animationArr.getKey().pathString().equals(requestedAnimation.pathString())) return true;
+    for (int i = 0; i < queueSize; i++) {
+      if (queuedAnimations[i].pathString().equals(requestedAnimation.pathString())) return true;
     }
     return false;
   }
@@ -357,7 +468,9 @@ public final class DrawComponent implements Component {
    * @return The entire queue of animations.
    */
   public Map<IPath, Integer> animationQueue() {
-    return new HashMap<>(animationQueue);
+    Map<IPath, Integer> queue = new HashMap<>();
+    for (int i = 0; i < queueSize; i++) queue.put(queuedAnimations[i], queuedFrames[i]);
+    return queue;
   }
 
   /**
@@ -389,8 +502,8 @@ public final class DrawComponent implements Component {
   /**
    * Loading animation assets.
    *
-   * <p>Checks if the game is running in a JAR or not and will execute the corresponding loading
-   * logic.
+   * <p>If the given path was already loaded, the cached clips will be used. Otherwise, checks if
+   * the game is running in a JAR or not and will execute the corresponding loading logic.
    *
    * <p>TODO: This is only a quick fix! We need to implement a proper way of loading assets. (See <a
    * href="https://github.com/Dungeon-CampusMinden/Dungeon/issues/1361">Issue #1361</a>)
@@ -398,6 +511,25 @@ public final class DrawComponent implements Component {
    * @param path The path of the animation assets.
    */
   private void loadAnimationAssets(final IPath path) throws IOException {
+    Map<String, AnimationClip> clips = CLIP_CACHE.get(path.pathString());
+    if (clips == null) {
+      clips = readAnimationClips(path);
+      // a missing directory will be reported by the caller, so only cache successful reads
+      if (clips != null) CLIP_CACHE.put(path.pathString(), clips);
+    }
+    if (clips != null) {
+      animationMap = new HashMap<>();
+      clips.forEach((name, clip) -> animationMap.put(name, Animation.fromClip(clip)));
+    }
+  }
+
+  /**
+   * Read the animation clips in the given path from the JAR or the asset directory.
+   *
+   * @param path The path of the animation assets.
+   * @return Map of animation names to their clips, or null if the path could not be read.
+   */
+  private Map<String, AnimationClip> readAnimationClips(final IPath path) throws IOException {
 
     Thread thread = Thread.currentThread();
     StackTraceElement[] stack = thread.getStackTrace();
@@ -424,8 +556,8 @@ public final class DrawComponent implements Component {
                 .getCodeSource()
                 .getLocation()
                 .getPath());
-    if (jarFile.isFile()) loadAnimationsFromJar(path, jarFile);
-    else loadAnimationsFromIDE(path);
+    if (jarFile.isFile()) return loadAnimationsFromJar(path, jarFile);
+    else return loadAnimationsFromIDE(path);
   }
 
   /**
@@ -434,13 +566,15 @@ public final class DrawComponent implements Component {
    * <p>This function will create a map of directories ({@link String}) and the files ({@link
    * LinkedList}) inside these directories. The map will be filled with the directories inside the
    * given path (e.g., "character/knight"). Ultimately, this function will manually create an
-   * Animation for each entry within this map.
+   * AnimationClip for each entry within this map.
    *
    * @param path Path to the assets.
    * @param jarFile Path to the JAR files.
+   * @return Map of animation names to their clips.
    * @throws IOException if the JAR file or the files in the JAR file cannot be read.
    */
-  private void loadAnimationsFromJar(final IPath path, final File jarFile) throws IOException {
+  private Map<String, AnimationClip> loadAnimationsFromJar(final IPath path, final File jarFile)
+      throws IOException {
 
     JarFile jar = new JarFile(jarFile);
     Enumeration<JarEntry> entries = jar.entries(); // gives ALL entries in jar
@@ -450,7 +584,7 @@ public final class DrawComponent implements Component {
     // Animation(LinkedList<String>) constructor.
 
     HashMap<String, List<IPath>> storage = new HashMap<>();
-    animationMap = new HashMap<>();
+    Map<String, AnimationClip> clips = new HashMap<>();
 
     // Iterate over each file and directory in the JAR.
 
@@ -500,10 +634,10 @@ public final class DrawComponent implements Component {
     // sort the files in lexicographic order (like the most os)
     // animations will be played in order
     storage.values().forEach(x -> x.sort(Comparator.comparing(IPath::pathString)));
-    // create animations
-    storage.forEach(
-        (name, textureSet) -> animationMap.put(name, Animation.fromCollection(textureSet)));
+    // create animation clips
+    storage.forEach((name, textureSet) -> clips.put(name, AnimationClip.of(textureSet)));
     jar.close();
+    return clips;
   }
 
   /**
@@ -530,17 +664,17 @@ public final class DrawComponent implements Component {
    * Load animations if the game is running in the IDE (or over the shell).
    *
    * @param path Path to the animations.
+   * @return Map of animation names to their clips, or null if the path could not be read.
    */
-  private void loadAnimationsFromIDE(final IPath path) {
+  private Map<String, AnimationClip> loadAnimationsFromIDE(final IPath path) {
     URL url = DrawComponent.class.getResource("/" + path.pathString());
     if (url != null) {
       try {
         try {
           File apps = new File(url.toURI());
-          animationMap =
-              Arrays.stream(Objects.requireNonNull(apps.listFiles()))
-                  .filter(File::isDirectory)
-                  .collect(Collectors.toMap(File::getName, DrawComponent::allFilesFromDirectory));
+          return Arrays.stream(Objects.requireNonNull(apps.listFiles()))
+              .filter(File::isDirectory)
+              .collect(Collectors.toMap(File::getName, DrawComponent::allFilesFromDirectory));
         } catch (IllegalArgumentException e) {
           LOGGER.log(
               CustomLogLevel.ERROR, "Could not load animations from directory: " + url.toURI(), e);
@@ -549,6 +683,7 @@ public final class DrawComponent implements Component {
         LOGGER.log(CustomLogLevel.ERROR, "Could not load animations from directory", e);
       }
     }
+    return null;
   }
 
   /**
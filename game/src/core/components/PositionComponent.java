@@ -1,6 +1,7 @@
 package core.components;
 
 import core.Component;
+import core.game.FixedTimestep;
 import core.level.Tile;
 import core.utils.Point;
 import dsl.annotation.DSLType;
@@ -22,6 +23,10 @@ import dsl.annotation.DSLType;
  *
  * <p>Use {@link #position()} to get a copy of the position.
  *
+ * <p>Use {@link #interpolatedPosition(float)} in the render phase to get a position between the
+ * positions of the last two ticks (see {@link FixedTimestep}), so movement looks smooth even if
+ * the window renders faster than the game ticks.
+ *
  * @see core.systems.PositionSystem
  * @see Point
  */
@@ -31,7 +36,15 @@ public final class PositionComponent implements Component {
   /** The position of the entity in the level. */
   public static final Point ILLEGAL_POSITION = new Point(Integer.MIN_VALUE, Integer.MIN_VALUE);
 
+  /**
+   * If an entity moved further than this (in tiles) in one tick, it was teleported and the position
+   * is not interpolated.
+   */
+  private static final float MAX_INTERPOLATION_DISTANCE = 2f;
+
   private Point position;
+  private Point previousPosition;
+  private long lastChangedInTick = -1;
 
   /**
    * Create a new PositionComponent with given position.
@@ -42,6 +55,7 @@ public final class PositionComponent implements Component {
    */
   public PositionComponent(final Point position) {
     this.position = position;
+    this.previousPosition = position;
   }
 
   /**
@@ -65,6 +79,7 @@ public final class PositionComponent implements Component {
    */
   public PositionComponent() {
     position = ILLEGAL_POSITION;
+    previousPosition = ILLEGAL_POSITION;
   }
 
   /**
@@ -82,9 +97,33 @@ public final class PositionComponent implements Component {
    * @param position new Position
    */
   public void position(final Point position) {
+    long tick = FixedTimestep.tickCount();
+    if (lastChangedInTick != tick) {
+      previousPosition = this.position;
+      lastChangedInTick = tick;
+    }
     this.position = new Point(position);
   }
 
+  /**
+   * Get the position between the position before and after the last tick.
+   *
+   * <p>If the position did not change in the last tick, or the entity was teleported, the current
+   * position is returned.
+   *
+   * @param alpha Fraction of a tick since the last tick, see {@link FixedTimestep#alpha()}.
+   * @return The interpolated position.
+   */
+  public Point interpolatedPosition(float alpha) {
+    if (lastChangedInTick != FixedTimestep.tickCount()
+        || previousPosition.distance(position) > MAX_INTERPOLATION_DISTANCE) {
+      return new Point(position);
+    }
+    return new Point(
+        previousPosition.x + (position.x - previousPosition.x) * alpha,
+        previousPosition.y + (position.y - previousPosition.y) * alpha);
+  }
+
   /**
    * Set the position.
    *
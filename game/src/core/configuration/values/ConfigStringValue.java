@@ -0,0 +1,42 @@
+package core.configuration.values;
+
+/**
+ * ConfigStringValue is a specialized configuration value class for storing string values.
+ *
+ * <p>This class extends {@link ConfigValue} and stores the string as it is.
+ *
+ * @see ConfigValue
+ */
+public final class ConfigStringValue extends ConfigValue<String> {
+
+  /**
+   * Creates a new ConfigValue of type String.
+   *
+   * @param value Value.
+   */
+  public ConfigStringValue(final String value) {
+    super(value);
+  }
+
+  /**
+   * Serialize the string value.
+   *
+   * @return The value.
+   */
+  @Override
+  public String serialize() {
+    return value;
+  }
+
+  /**
+   * Deserialize the string value.
+   *
+   * @param value The string to deserialize.
+   * @return The value.
+   */
+  @Override
+  public String deserialize(final String value) {
+    this.value = value;
+    return this.value;
+  }
+}
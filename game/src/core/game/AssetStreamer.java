@@ -0,0 +1,200 @@
+package core.game;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Texture;
+import core.level.Tile;
+import core.level.elements.ILevel;
+import core.utils.components.path.IPath;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * Loads assets (textures, sounds, ...) in the background with a libGDX {@link AssetManager}.
+ *
+ * <p>Use {@link #queue(IPath, Class)}, {@link #prefetch(Collection)} or {@link #prefetch(ILevel)}
+ * to request assets before they are needed. The files are read and decoded on a background
+ * thread of the {@link AssetManager}. The last step (e.g., uploading a texture to the GPU) has to
+ * happen on the render thread; the {@link GameLoop} calls {@link #update()} once per frame, which
+ * spends at most {@link #frameBudget()} milliseconds on it.
+ *
+ * <p>Assets can be queued from any thread.
+ *
+ * <p>Queued assets are picked up by the rest of the framework: the {@link
+ * core.utils.components.draw.TextureMap} uses a queued texture instead of loading the file again.
+ * If an asset is needed before it is finished, {@link #finishLoading(IPath, Class)} blocks until
+ * this single asset is loaded.
+ *
+ * <p>Use {@link #progress()} and {@link #isDone()} to show a loading screen (e.g., while the
+ * assets of a new level are loaded).
+ *
+ * <p>The {@link AssetManager} is created on the first request, so nothing is loaded (and no
+ * libGDX context is needed) as long as no asset is queued. In headless mode (see {@link
+ * HeadlessGameLoop}), requests are ignored.
+ */
+public final class AssetStreamer {
+  private static final Logger LOGGER = Logger.getLogger(AssetStreamer.class.getSimpleName());
+
+  /** Default time (in milliseconds) per frame that is spent on finishing queued assets. */
+  public static final int DEFAULT_FRAME_BUDGET = 4;
+
+  private static volatile AssetManager manager;
+  private static int frameBudget = DEFAULT_FRAME_BUDGET;
+
+  // for singleton
+  private AssetStreamer() {}
+
+  private static synchronized AssetManager manager() {
+    if (manager == null) manager = new AssetManager();
+    return manager;
+  }
+
+  /**
+   * Queue the asset at the given path to be loaded in the background.
+   *
+   * <p>If the asset is already loaded or queued, nothing happens.
+   *
+   * @param path Path to the asset file.
+   * @param type Type of the asset (e.g. {@link Texture} or {@link com.badlogic.gdx.audio.Sound}).
+   * @param <T> Type of the asset.
+   */
+  public static synchronized <T> void queue(final IPath path, final Class<T> type) {
+    if (PreRunConfiguration.headless()) return;
+    if (!manager().contains(path.pathString(), type)) manager().load(path.pathString(), type);
+  }
+
+  /**
+   * Queue the textures at the given paths to be loaded in the background.
+   *
+   * @param texturePaths Paths to the texture files.
+   */
+  public static void prefetch(final Collection<IPath> texturePaths) {
+    texturePaths.forEach(path -> queue(path, Texture.class));
+  }
+
+  /**
+   * Queue all textures of the tiles of the given level to be loaded in the background.
+   *
+   * <p>Use this for a level that will be loaded soon, so its textures are ready when the level is
+   * drawn for the first time.
+   *
+   * @param level Level to prefetch the textures for.
+   */
+  public static void prefetch(final ILevel level) {
+    Set<String> seen = new HashSet<>();
+    for (Tile[] row : level.layout()) {
+      for (Tile tile : row) {
+        if (seen.add(tile.texturePath().pathString())) queue(tile.texturePath(), Texture.class);
+      }
+    }
+  }
+
+  /**
+   * Check if the asset at the given path was queued (or is already loaded).
+   *
+   * @param path Path to the asset file.
+   * @param type Type of the asset.
+   * @return true if the asset is known to the streamer, false if not.
+   */
+  public static boolean contains(final IPath path, final Class<?> type) {
+    return manager != null && manager.contains(path.pathString(), type);
+  }
+
+  /**
+   * Get the asset at the given path, if it is completely loaded.
+   *
+   * @param path Path to the asset file.
+   * @param type Type of the asset.
+   * @param <T> Type of the asset.
+   * @return The loaded asset, or an empty Optional if the asset is not (yet) loaded.
+   */
+  public static <T> Optional<T> loaded(final IPath path, final Class<T> type) {
+    if (manager == null || !manager.isLoaded(path.pathString(), type)) return Optional.empty();
+    return Optional.of(manager.get(path.pathString(), type));
+  }
+
+  /**
+   * Get the asset at the given path, and load it on the calling thread if necessary.
+   *
+   * <p>This will only block until the requested asset is loaded, not until the whole queue is
+   * done. Must be called on the render thread.
+   *
+   * @param path Path to the asset file.
+   * @param type Type of the asset.
+   * @param <T> Type of the asset.
+   * @return The loaded asset.
+   */
+  public static <T> T finishLoading(final IPath path, final Class<T> type) {
+    queue(path, type);
+    return manager().finishLoadingAsset(path.pathString());
+  }
+
+  /**
+   * Unload the asset at the given path and dispose it.
+   *
+   * <p>Only use this if no one else uses the asset anymore.
+   *
+   * @param path Path to the asset file.
+   */
+  public static void unload(final IPath path) {
+    if (manager != null && manager.contains(path.pathString())) manager.unload(path.pathString());
+  }
+
+  /**
+   * Finish queued assets on the render thread, using at most {@link #frameBudget()} milliseconds.
+   *
+   * <p>This is called by the {@link GameLoop} once per frame.
+   *
+   * @return true if all queued assets are loaded, false if not.
+   */
+  public static boolean update() {
+    if (manager == null) return true;
+    try {
+      return manager.update(frameBudget);
+    } catch (RuntimeException e) {
+      // a broken file should not stop the game; the asset will be loaded on first use instead
+      LOGGER.warning("Could not load asset: " + e.getMessage());
+      return false;
+    }
+  }
+
+  /**
+   * Get the loading progress of the queued assets.
+   *
+   * @return Progress between 0 and 1 (1 if nothing is queued).
+   */
+  public static float progress() {
+    return manager == null ? 1f : manager.getProgress();
+  }
+
+  /**
+   * Check if all queued assets are loaded.
+   *
+   * @return true if no asset is left in the queue, false if not.
+   */
+  public static boolean isDone() {
+    return manager == null || manager.isFinished();
+  }
+
+  /**
+   * Get the time (in milliseconds) per frame that is spent on finishing queued assets.
+   *
+   * @return The frame budget in milliseconds.
+   */
+  public static int frameBudget() {
+    return frameBudget;
+  }
+
+  /**
+   * Set the time (in milliseconds) per frame that is spent on finishing queued assets.
+   *
+   * <p>A higher value loads assets faster, but can cause frame drops.
+   *
+   * @param millis The new frame budget in milliseconds.
+   */
+  public static void frameBudget(int millis) {
+    frameBudget = Math.max(1, millis);
+  }
+}
@@ -30,6 +30,7 @@ public final class ECSManagment {
   private static final Map<Class<? extends System>, System> SYSTEMS = new LinkedHashMap<>();
   private static final Map<ILevel, Set<EntitySystemMapper>> LEVEL_STORAGE_MAP = new HashMap<>();
   private static Set<EntitySystemMapper> activeEntityStorage = new HashSet<>();
+  private static int staggerCounter = 0;
 
   static {
     LEVEL_STORAGE_MAP.put(null, activeEntityStorage);
@@ -110,6 +111,12 @@ public final class ECSManagment {
    *
    * <p>The game can only store one system of each system type.
    *
+   * <p>In headless mode, render systems (see {@link System#isRenderSystem()}) will not be added.
+   *
+   * <p>Systems that are not executed every frame are staggered: each added system starts at a
+   * different offset, so systems with the same {@link System#executeEveryXFrames()} are spread
+   * across frames instead of running all in the same frame.
+   *
    * @param system the System to add
    * @return an optional that contains the previous existing system of the given system class, if
    *     one exists
@@ -117,8 +124,14 @@ public final class ECSManagment {
    * @see Optional
    */
   public static Optional<System> add(final System system) {
+    if (PreRunConfiguration.headless() && system.isRenderSystem()) {
+      LOGGER.info(system.getClass().getName() + " was not added, because the game is headless");
+      return Optional.ofNullable(SYSTEMS.get(system.getClass()));
+    }
     System currentSystem = SYSTEMS.get(system.getClass());
     SYSTEMS.put(system.getClass(), system);
+    if (system.executeEveryXFrames() > 1)
+      system.lastExecuteInFrames(staggerCounter++ % system.executeEveryXFrames());
     // add to existing filter or create new filter if no matching exists
     Optional<EntitySystemMapper> filter =
         activeEntityStorage.stream().filter(f -> f.equals(system.filterRules())).findFirst();
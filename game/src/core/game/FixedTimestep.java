@@ -0,0 +1,145 @@
+package core.game;
+
+/**
+ * Keeps the simulation of the game at a fixed rate, independent of the render frame rate.
+ *
+ * <p>The game state is advanced in ticks. Each tick executes the systems once and advances the game
+ * time by {@link #tickDelta()} seconds. The number of ticks per second is configured with {@link
+ * PreRunConfiguration#tickRate(int)}.
+ *
+ * <p>The {@link GameLoop} adds the time of each rendered frame to an accumulator and executes as
+ * many ticks as fit into it. If the window renders faster than the tick rate, some frames execute
+ * no tick at all; if it renders slower, a frame executes several ticks. The remaining fraction of a
+ * tick is available as {@link #alpha()}, so the render phase can interpolate between the last two
+ * ticks (see {@link core.components.PositionComponent#interpolatedPosition(float)}).
+ *
+ * <p>If the game can not keep up, at most {@link #MAX_TICKS_PER_FRAME} ticks are executed per frame
+ * and the remaining time is dropped, so the game slows down instead of freezing.
+ */
+public final class FixedTimestep {
+
+  /** Maximum number of ticks that are executed in one rendered frame. */
+  public static final int MAX_TICKS_PER_FRAME = 5;
+
+  private static double accumulator = 0;
+  private static float alpha = 1f;
+  private static int ticksInFrame = 0;
+  private static long tickCount = 0;
+  private static long gameTimeNanos = 0;
+  private static boolean active = false;
+
+  // for singleton
+  private FixedTimestep() {}
+
+  /**
+   * Get the game time (in seconds) that passes with each tick.
+   *
+   * @return The time step of a tick in seconds.
+   */
+  public static float tickDelta() {
+    return 1f / PreRunConfiguration.tickRate();
+  }
+
+  /**
+   * Add the time of a rendered frame and calculate how many ticks have to be executed.
+   *
+   * @param frameDelta Time since the last rendered frame in seconds.
+   * @return Number of ticks to execute in this frame.
+   */
+  static int advance(float frameDelta) {
+    active = true;
+    double tickDelta = tickDelta();
+    accumulator += frameDelta;
+    int ticks = (int) (accumulator / tickDelta);
+    if (ticks > MAX_TICKS_PER_FRAME) {
+      ticks = MAX_TICKS_PER_FRAME;
+      accumulator = 0;
+    } else {
+      accumulator -= ticks * tickDelta;
+    }
+    alpha = (float) (accumulator / tickDelta);
+    ticksInFrame = ticks;
+    return ticks;
+  }
+
+  /**
+   * Advance by exactly one tick, without interpolation.
+   *
+   * <p>Used by the {@link HeadlessGameLoop}, which does not render.
+   */
+  static void advanceOneTick() {
+    active = true;
+    accumulator = 0;
+    alpha = 1f;
+    ticksInFrame = 1;
+  }
+
+  /** Mark the simulation as stopped, e.g., after a headless run. */
+  static void deactivate() {
+    active = false;
+    accumulator = 0;
+    alpha = 1f;
+    ticksInFrame = 0;
+  }
+
+  /** Count a tick that is about to be executed and advance the game time by one tick. */
+  static void startTick() {
+    tickCount++;
+    gameTimeNanos += 1_000_000_000L / PreRunConfiguration.tickRate();
+  }
+
+  /**
+   * Check if a game loop drives the simulation with a fixed timestep.
+   *
+   * <p>If not (e.g., if systems are executed manually in tests), the systems should not scale by
+   * the {@link #tickDelta()}.
+   *
+   * @return true if a game loop is running, false if not.
+   */
+  public static boolean isActive() {
+    return active;
+  }
+
+  /**
+   * Get the fraction of a tick that has passed since the last executed tick.
+   *
+   * <p>Use this in the render phase to interpolate between the state of the last two ticks.
+   *
+   * @return Value between 0 (right after a tick) and 1 (right before the next tick).
+   */
+  public static float alpha() {
+    return alpha;
+  }
+
+  /**
+   * Get the number of ticks that were executed in the current frame.
+   *
+   * @return Number of ticks executed in the current frame.
+   */
+  public static int ticksInFrame() {
+    return ticksInFrame;
+  }
+
+  /**
+   * Get the number of ticks that were started since the game started.
+   *
+   * @return Number of ticks.
+   */
+  public static long tickCount() {
+    return tickCount;
+  }
+
+  /**
+   * Get the game time that has passed in the executed ticks.
+   *
+   * <p>The game time only advances with the ticks, by {@link #tickDelta()} per tick. Use it instead
+   * of the system clock for cool downs and other timers of the game logic, so they behave the same
+   * in the live game, in headless mode, and in a replay (see {@link Replay}), independent of the
+   * speed of the machine.
+   *
+   * @return Game time in milliseconds.
+   */
+  public static long gameTimeMillis() {
+    return gameTimeNanos / 1_000_000;
+  }
+}
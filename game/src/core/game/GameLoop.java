@@ -31,13 +31,15 @@ import java.util.logging.Logger;
  * flow, will execute the Systems, and triggers the event callbacks configured in the {@link
  * PreRunConfiguration}.
  *
- * <p>Use {@link #run()} to start the game.
+ * <p>Use {@link #run()} to start the game. Use {@link HeadlessGameLoop#run()} to start the game
+ * without a window.
  *
  * <p>All API methods can also be accessed via the {@link core.Game} class.
  */
 public final class GameLoop extends ScreenAdapter {
   private static final Logger LOGGER = Logger.getLogger(GameLoop.class.getSimpleName());
   private static Stage stage;
+  private final boolean headless;
   private boolean doSetup = true;
   private boolean newLevelWasLoadedInThisLoop = false;
 
@@ -51,10 +53,15 @@ public final class GameLoop extends ScreenAdapter {
    * level.
    *
    * <p>Will re-add the hero if they exist.
+   *
+   * <p>Will dispose the sounds that are no longer used (see {@link SoundService#onLevelLoad()})
+   * and reseed the random streams (see {@link RandomService#onLevelLoad()}).
    */
   private final IVoidFunction onLevelLoad =
       () -> {
         newLevelWasLoadedInThisLoop = true;
+        SoundService.onLevelLoad();
+        RandomService.onLevelLoad();
         Optional<Entity> hero = ECSManagment.hero();
         boolean firstLoad = !ECSManagment.levelStorageMap().containsKey(Game.currentLevel());
         hero.ifPresent(ECSManagment::remove);
@@ -80,7 +87,21 @@ public final class GameLoop extends ScreenAdapter {
       };
 
   // for singleton
-  private GameLoop() {}
+  private GameLoop(boolean headless) {
+    this.headless = headless;
+  }
+
+  /**
+   * Create a game loop that does not draw anything and does not need a window.
+   *
+   * <p>The loop has to be driven by calling {@link #tick()}.
+   *
+   * @return A new headless game loop.
+   * @see HeadlessGameLoop
+   */
+  static GameLoop headless() {
+    return new GameLoop(true);
+  }
 
   /** Starts the dungeon. */
   public static void run() {
@@ -102,7 +123,7 @@ public final class GameLoop extends ScreenAdapter {
         new com.badlogic.gdx.Game() {
           @Override
           public void create() {
-            setScreen(new GameLoop());
+            setScreen(new GameLoop(false));
           }
         },
         config);
@@ -138,7 +159,16 @@ public final class GameLoop extends ScreenAdapter {
    *
    * <p>Triggers the execution of the systems and the event callbacks.
    *
-   * <p>Will trigger {@link #frame} and {@link PreRunConfiguration#userOnFrame()}.
+   * <p>Will trigger {@link #frame} once per frame.
+   *
+   * <p>Then, the tick phase executes as many ticks as the {@link FixedTimestep} demands for the
+   * time since the last frame (possibly none). Each tick triggers {@link
+   * PreRunConfiguration#userOnFrame()} and executes all systems that are not render systems.
+   *
+   * <p>Then, the render phase calls {@link System#render()} of each system and executes the render
+   * systems (see {@link System#isRenderSystem()}) once.
+   *
+   * <p>Will give the {@link AssetStreamer} time to finish queued assets.
    *
    * <p>On the first frame, {@link #setup()} and {@link PreRunConfiguration#userOnSetup()} are
    * triggered.
@@ -150,21 +180,58 @@ public final class GameLoop extends ScreenAdapter {
     if (doSetup) setup();
     DrawSystem.batch().setProjectionMatrix(CameraSystem.camera().combined);
     frame();
+    int ticks = FixedTimestep.advance(delta);
+    for (int i = 0; i < ticks; i++) executeTick();
+    AssetStreamer.update();
     clearScreen();
+    executeRenderPhase();
+    CameraSystem.camera().update();
+    // stage logic
+    stage().ifPresent(GameLoop::updateStage);
+  }
+
+  /**
+   * Execute one tick of the game without drawing anything.
+   *
+   * <p>Will trigger {@link #frame} and {@link PreRunConfiguration#userOnFrame()} and execute the
+   * systems, like a frame of the normal game loop with exactly one tick.
+   *
+   * <p>On the first call, {@link #setup()} and {@link PreRunConfiguration#userOnSetup()} are
+   * triggered.
+   */
+  void tick() {
+    if (doSetup) setup();
+    frame();
+    FixedTimestep.advanceOneTick();
+    executeTick();
+  }
 
+  private void executeTick() {
+    FixedTimestep.startTick();
+    Replay.onTick();
+    // once per tick, so the callback runs at the same rate in the live game and in headless mode
+    PreRunConfiguration.userOnFrame().execute();
     for (System system : ECSManagment.systems().values()) {
       // if a new level was loaded, stop this loop-run
       if (newLevelWasLoadedInThisLoop) break;
-      system.lastExecuteInFrames(system.lastExecuteInFrames() + 1);
-      if (system.isRunning() && system.lastExecuteInFrames() >= system.executeEveryXFrames()) {
-        system.execute();
-        system.lastExecuteInFrames(0);
-      }
+      if (!system.isRenderSystem()) execute(system);
     }
     newLevelWasLoadedInThisLoop = false;
-    CameraSystem.camera().update();
-    // stage logic
-    stage().ifPresent(GameLoop::updateStage);
+  }
+
+  private void executeRenderPhase() {
+    for (System system : ECSManagment.systems().values()) {
+      if (system.isRenderSystem()) execute(system);
+      system.render();
+    }
+  }
+
+  private static void execute(final System system) {
+    system.lastExecuteInFrames(system.lastExecuteInFrames() + 1);
+    if (system.isRunning() && system.lastExecuteInFrames() >= system.executeEveryXFrames()) {
+      system.execute();
+      system.lastExecuteInFrames(0);
+    }
   }
 
   /**
@@ -174,12 +241,13 @@ public final class GameLoop extends ScreenAdapter {
    * game loop starts. This ensures the first level is set at the start of the game loop, even if
    * the {@link LevelSystem} is not executed as the first system in the game loop..
    *
-   * <p>Will perform some setup.
+   * <p>Will perform some setup. In headless mode, no {@link Stage} is created.
    */
   private void setup() {
     doSetup = false;
+    RandomService.logRootSeed();
     createSystems();
-    setupStage();
+    if (!headless) setupStage();
     PreRunConfiguration.userOnSetup().execute();
     Game.systems().get(LevelSystem.class).execute();
   }
@@ -188,11 +256,11 @@ public final class GameLoop extends ScreenAdapter {
    * Called at the beginning of each frame, before the entities are updated and the systems are
    * executed.
    *
-   * <p>This is the place to add basic logic that isn't part of any system.
+   * <p>This is the place to add basic logic that isn't part of any system and does not change the
+   * game state. In headless mode, each tick is a frame.
    */
   private void frame() {
-    fullscreenKey();
-    PreRunConfiguration.userOnFrame().execute();
+    if (!headless) fullscreenKey();
   }
 
   private void fullscreenKey() {
@@ -243,13 +311,19 @@ public final class GameLoop extends ScreenAdapter {
             });
   }
 
-  /** Create the systems. */
+  /**
+   * Create the systems.
+   *
+   * <p>In headless mode, the level will not be drawn.
+   */
   private void createSystems() {
     ECSManagment.add(new PositionSystem());
     ECSManagment.add(new CameraSystem());
     ECSManagment.add(
         new LevelSystem(
-            DrawSystem.painter(), new WallGenerator(new RandomWalkGenerator()), onLevelLoad));
+            headless ? null : DrawSystem.painter(),
+            new WallGenerator(new RandomWalkGenerator()),
+            onLevelLoad));
     ECSManagment.add(new DrawSystem());
     ECSManagment.add(new VelocitySystem());
     ECSManagment.add(new PlayerSystem());
@@ -0,0 +1,120 @@
+package core.game;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Files;
+import java.util.logging.Logger;
+
+/**
+ * Runs the game without a window, an OpenGL context, or audio.
+ *
+ * <p>Use this to simulate the dungeon on a server, e.g., to automatically grade solutions, to train
+ * agents, or for load tests.
+ *
+ * <p>The headless loop does not wait for the next frame. Each call of {@link GameLoop#tick()}
+ * executes the systems once and advances the game time by a fixed {@link
+ * FixedTimestep#tickDelta()}, so thousands of ticks per second are possible and a simulation runs
+ * the same way on every machine. There is no render phase, so {@link core.System#render()} is never
+ * called.
+ *
+ * <p>In headless mode:
+ *
+ * <ul>
+ *   <li>Render systems (see {@link core.System#isRenderSystem()}), like the {@link
+ *       core.systems.CameraSystem}, are not added to the game.
+ *   <li>The level is not drawn, no textures are loaded, and no {@link
+ *       com.badlogic.gdx.scenes.scene2d.Stage} is created.
+ *   <li>There is no audio backend, so the {@link SoundService} plays nothing.
+ *   <li>There is no keyboard or mouse input, unless a recording is replayed (see {@link Replay}).
+ * </ul>
+ *
+ * <p>Use {@link #run(long)} to simulate a fixed number of ticks, or {@link #run()} to simulate
+ * until {@link core.Game#exit()} is called. Setting {@link PreRunConfiguration#headless(boolean)}
+ * before calling {@link core.Game#run()} has the same effect as {@link #run()}.
+ *
+ * <p>All configured event callbacks in {@link PreRunConfiguration} are triggered as in the normal
+ * game loop.
+ */
+public final class HeadlessGameLoop {
+  private static final Logger LOGGER = Logger.getLogger(HeadlessGameLoop.class.getSimpleName());
+
+  private static volatile boolean running = false;
+  private static volatile boolean stopRequested = false;
+  private static long tickCount = 0;
+
+  // for singleton
+  private HeadlessGameLoop() {}
+
+  /**
+   * Run the game without a window until {@link #stop()} (or {@link core.Game#exit()}) is called.
+   *
+   * <p>This method blocks until the simulation is stopped.
+   *
+   * @return The number of executed ticks.
+   */
+  public static long run() {
+    return run(Long.MAX_VALUE);
+  }
+
+  /**
+   * Run the game without a window for the given number of ticks, or until {@link #stop()} (or
+   * {@link core.Game#exit()}) is called.
+   *
+   * <p>This method blocks until the simulation is done.
+   *
+   * @param maxTicks Maximum number of ticks to simulate.
+   * @return The number of executed ticks.
+   */
+  public static long run(long maxTicks) {
+    if (running) throw new IllegalStateException("The headless game loop is already running.");
+    PreRunConfiguration.headless(true);
+    // file access works without a window; everything else stays unset
+    if (Gdx.files == null) Gdx.files = new Lwjgl3Files();
+    running = true;
+    stopRequested = false;
+    tickCount = 0;
+    GameLoop loop = GameLoop.headless();
+    long start = System.nanoTime();
+    try {
+      while (!stopRequested && tickCount < maxTicks) {
+        loop.tick();
+        tickCount++;
+      }
+    } finally {
+      running = false;
+      FixedTimestep.deactivate();
+    }
+    double seconds = (System.nanoTime() - start) / 1e9;
+    LOGGER.info(
+        String.format(
+            "Simulated %d ticks in %.2f s (%.0f ticks/s)",
+            tickCount, seconds, tickCount / Math.max(seconds, 1e-9)));
+    return tickCount;
+  }
+
+  /**
+   * Stop the simulation after the current tick.
+   *
+   * <p>This is called by {@link core.Game#exit()} in headless mode.
+   */
+  public static void stop() {
+    stopRequested = true;
+  }
+
+  /**
+   * Check if the headless game loop is currently running.
+   *
+   * @return true if the simulation is running, false if not.
+   */
+  public static boolean isRunning() {
+    return running;
+  }
+
+  /**
+   * Get the number of ticks executed in the current (or last) simulation.
+   *
+   * @return The number of executed ticks.
+   */
+  public static long tickCount() {
+    return tickCount;
+  }
+}
@@ -0,0 +1,266 @@
+package core.game;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The input of a recorded game, which can be replayed with {@link Replay#play(InputRecording)}.
+ *
+ * <p>A recording contains everything that is needed to reproduce a game: the {@link
+ * RandomService#rootSeed() root seed}, the {@link PreRunConfiguration#tickRate() tick rate}, a
+ * description of the level source (e.g., the path of the level file) and, for each tick, the input
+ * events that happened in this tick.
+ *
+ * <p>Only changes are stored: a key event is stored when a key is pressed or released, not for
+ * each tick it is held down. Recordings can be saved in a compact binary format with {@link
+ * #write(OutputStream)} and loaded with {@link #read(InputStream)}.
+ */
+public final class InputRecording {
+
+  private static final int MAGIC = 0x44524550; // "DREP"
+  private static final byte VERSION = 1;
+  private static final byte KEY_DOWN = 0;
+  private static final byte KEY_UP = 1;
+  private static final byte ACTION = 2;
+
+  private final long rootSeed;
+  private final int tickRate;
+  private final String levelSource;
+  private final List<Event> events;
+  private long tickCount;
+
+  /**
+   * Create a new, empty recording.
+   *
+   * @param rootSeed The root seed of the recorded game.
+   * @param tickRate The tick rate of the recorded game.
+   * @param levelSource Description of the level source, e.g., the path of the level file.
+   */
+  public InputRecording(long rootSeed, int tickRate, final String levelSource) {
+    this(rootSeed, tickRate, levelSource, new ArrayList<>(), 0);
+  }
+
+  private InputRecording(
+      long rootSeed, int tickRate, final String levelSource, final List<Event> events, long ticks) {
+    this.rootSeed = rootSeed;
+    this.tickRate = tickRate;
+    this.levelSource = levelSource;
+    this.events = events;
+    this.tickCount = ticks;
+  }
+
+  /**
+   * Read a recording from the given file.
+   *
+   * @param path Path of the file.
+   * @return The recording.
+   * @throws IOException If the file can not be read or is not a recording.
+   */
+  public static InputRecording load(final Path path) throws IOException {
+    try (InputStream in = new BufferedInputStream(Files.newInputStream(path))) {
+      return read(in);
+    }
+  }
+
+  /**
+   * Read a recording in the binary format written by {@link #write(OutputStream)}.
+   *
+   * @param in Stream to read from; it is not closed.
+   * @return The recording.
+   * @throws IOException If the stream can not be read or does not contain a recording.
+   */
+  public static InputRecording read(final InputStream in) throws IOException {
+    DataInputStream data = new DataInputStream(in);
+    if (data.readInt() != MAGIC) throw new IOException("Not an input recording.");
+    byte version = data.readByte();
+    if (version != VERSION) throw new IOException("Unsupported recording version " + version);
+    long rootSeed = data.readLong();
+    int tickRate = data.readInt();
+    String levelSource = data.readUTF();
+    long tickCount = readVarLong(data);
+    int eventCount = (int) readVarLong(data);
+    List<Event> events = new ArrayList<>(eventCount);
+    long tick = 0;
+    for (int i = 0; i < eventCount; i++) {
+      tick += readVarLong(data);
+      byte type = data.readByte();
+      events.add(
+          switch (type) {
+            case KEY_DOWN -> new KeyEvent(tick, (int) readVarLong(data), true);
+            case KEY_UP -> new KeyEvent(tick, (int) readVarLong(data), false);
+            case ACTION -> new ActionEvent(tick, data.readUTF(), data.readUTF());
+            default -> throw new IOException("Unknown event type " + type);
+          });
+    }
+    return new InputRecording(rootSeed, tickRate, levelSource, events, tickCount);
+  }
+
+  /**
+   * Write this recording to the given file.
+   *
+   * @param path Path of the file; an existing file is overwritten.
+   * @throws IOException If the file can not be written.
+   */
+  public void save(final Path path) throws IOException {
+    try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(path))) {
+      write(out);
+    }
+  }
+
+  /**
+   * Write this recording in a compact binary format.
+   *
+   * <p>The ticks of the events are stored as the difference to the previous event, and all
+   * numbers as variable-length integers, so most key events only need three bytes.
+   *
+   * @param out Stream to write to; it is flushed but not closed.
+   * @throws IOException If the stream can not be written.
+   */
+  public void write(final OutputStream out) throws IOException {
+    DataOutputStream data = new DataOutputStream(out);
+    data.writeInt(MAGIC);
+    data.writeByte(VERSION);
+    data.writeLong(rootSeed);
+    data.writeInt(tickRate);
+    data.writeUTF(levelSource);
+    writeVarLong(data, tickCount);
+    writeVarLong(data, events.size());
+    long tick = 0;
+    for (Event event : events) {
+      writeVarLong(data, event.tick() - tick);
+      tick = event.tick();
+      switch (event) {
+        case KeyEvent key -> {
+          data.writeByte(key.pressed() ? KEY_DOWN : KEY_UP);
+          writeVarLong(data, key.key());
+        }
+        case ActionEvent action -> {
+          data.writeByte(ACTION);
+          data.writeUTF(action.channel());
+          data.writeUTF(action.payload());
+        }
+      }
+    }
+    data.flush();
+  }
+
+  private static void writeVarLong(final DataOutputStream data, long value) throws IOException {
+    while ((value & ~0x7FL) != 0) {
+      data.writeByte((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    data.writeByte((int) value);
+  }
+
+  private static long readVarLong(final DataInputStream data) throws IOException {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      byte b = data.readByte();
+      value |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) return value;
+    }
+    throw new IOException("Malformed variable-length number.");
+  }
+
+  /**
+   * Add an event at the end of the recording.
+   *
+   * @param event The event; its tick must not be before the tick of the last event.
+   */
+  void add(final Event event) {
+    events.add(event);
+  }
+
+  /**
+   * Set the number of recorded ticks.
+   *
+   * @param tickCount The number of ticks.
+   */
+  void tickCount(long tickCount) {
+    this.tickCount = tickCount;
+  }
+
+  /**
+   * Get the root seed of the recorded game.
+   *
+   * @return The root seed.
+   */
+  public long rootSeed() {
+    return rootSeed;
+  }
+
+  /**
+   * Get the tick rate of the recorded game.
+   *
+   * @return The tick rate.
+   */
+  public int tickRate() {
+    return tickRate;
+  }
+
+  /**
+   * Get the description of the level source, e.g., the path of the level file.
+   *
+   * @return The level source.
+   */
+  public String levelSource() {
+    return levelSource;
+  }
+
+  /**
+   * Get the number of recorded ticks.
+   *
+   * @return The number of ticks.
+   */
+  public long tickCount() {
+    return tickCount;
+  }
+
+  /**
+   * Get the recorded events, ordered by tick.
+   *
+   * @return Unmodifiable list of the events.
+   */
+  public List<Event> events() {
+    return Collections.unmodifiableList(events);
+  }
+
+  /** An input event that happened in a tick. */
+  public sealed interface Event permits KeyEvent, ActionEvent {
+    /**
+     * Get the tick the event happened in, counted from the start of the recording.
+     *
+     * @return The tick.
+     */
+    long tick();
+  }
+
+  /**
+   * A key (or mouse button) was pressed or released.
+   *
+   * @param tick The tick the event happened in.
+   * @param key The key code.
+   * @param pressed true if the key was pressed, false if it was released.
+   */
+  public record KeyEvent(long tick, int key, boolean pressed) implements Event {}
+
+  /**
+   * An action from an external source, e.g., a command of the Blockly frontend.
+   *
+   * @param tick The tick the event happened in.
+   * @param channel Name of the source; the action is handed to the handler registered for this
+   *     name with {@link Replay#onAction(String, java.util.function.Consumer)}.
+   * @param payload The action.
+   */
+  public record ActionEvent(long tick, String channel, String payload) implements Event {}
+}
@@ -26,10 +26,12 @@ public final class PreRunConfiguration {
   private static int WINDOW_WIDTH = 1280;
   private static int WINDOW_HEIGHT = 720;
   private static int FRAME_RATE = 30;
+  private static int TICK_RATE = 30;
   private static boolean FULL_SCREEN = false;
   private static String WINDOW_TITLE = "PM-Dungeon";
   private static IPath LOGO_PATH = new SimpleIPath("logo/cat_logo_35x35.png");
   private static boolean DISABLE_AUDIO = false;
+  private static boolean HEADLESS = false;
   private static IVoidFunction userOnFrame = () -> {};
   private static IVoidFunction userOnSetup = () -> {};
   private static Consumer<Boolean> userOnLevelLoad = (b) -> {};
@@ -88,6 +90,28 @@ public final class PreRunConfiguration {
     FRAME_RATE = frameRate;
   }
 
+  /**
+   * Gets the number of simulation ticks per second.
+   *
+   * @return The tick rate of the game.
+   * @see FixedTimestep
+   */
+  public static int tickRate() {
+    return TICK_RATE;
+  }
+
+  /**
+   * Sets the number of simulation ticks per second.
+   *
+   * <p>The systems are executed this often per second, independent of the {@link #frameRate()}.
+   *
+   * @param tickRate The tick rate of the game (at least 1).
+   * @see FixedTimestep
+   */
+  public static void tickRate(int tickRate) {
+    TICK_RATE = Math.max(1, tickRate);
+  }
+
   /**
    * Checks if the game is in full-screen mode.
    *
@@ -160,9 +184,35 @@ public final class PreRunConfiguration {
     DISABLE_AUDIO = disableAudio;
   }
 
+  /**
+   * Checks if the game runs in headless mode.
+   *
+   * @return True if the game runs without a window, false otherwise.
+   * @see HeadlessGameLoop
+   */
+  public static boolean headless() {
+    return HEADLESS;
+  }
+
+  /**
+   * Sets whether the game should run in headless mode.
+   *
+   * <p>In headless mode, {@link core.Game#run()} will start the {@link HeadlessGameLoop} instead
+   * of opening a window. Render systems (see {@link core.System#isRenderSystem()}) will not be
+   * added to the game.
+   *
+   * @param headless True to run the game without a window, false otherwise.
+   */
+  public static void headless(boolean headless) {
+    HEADLESS = headless;
+  }
+
   /**
    * Gets the user-defined function for frame logic.
    *
+   * <p>The function is called once per tick, before the systems are executed (see {@link
+   * FixedTimestep}), in the live game as well as in headless mode.
+   *
    * @return The user-defined function for frame logic.
    */
   public static IVoidFunction userOnFrame() {
@@ -172,6 +222,8 @@ public final class PreRunConfiguration {
   /**
    * Sets the user-defined function for frame logic.
    *
+   * <p>The function is called once per tick, before the systems are executed.
+   *
    * @param userOnFrame The user-defined function for frame logic.
    */
   public static void userOnFrame(final IVoidFunction userOnFrame) {
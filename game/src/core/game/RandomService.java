@@ -0,0 +1,210 @@
+package core.game;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import java.util.random.RandomGenerator;
+
+/**
+ * Central source of random numbers for the game.
+ *
+ * <p>All random numbers are derived from one root seed. If the same root seed is set (see {@link
+ * #rootSeed(long)}) and the same inputs are given, the game produces the same levels, monsters and
+ * decisions, so a game can be replayed or a simulation can be repeated. The root seed is logged
+ * when the game starts.
+ *
+ * <p>Each user of random numbers gets its own named stream (see {@link #stream(String)}), so the
+ * numbers drawn by one part of the game do not change the numbers of another part. The streams
+ * are reseeded from a per-level seed each time a new level is loaded (see {@link #onLevelLoad()}),
+ * so a level only depends on the root seed and the number of levels loaded before.
+ *
+ * <p>The streams are not thread-safe and should only be used on the game thread. Code that runs
+ * on other threads gets its own generator with {@link #split(String)}. If that code uses the
+ * streams itself (e.g., a level generator that runs in the background), run it with {@link
+ * #supplyWith(SplittableRandom, Supplier)}, so all streams draw from the split generator on that
+ * thread.
+ */
+public final class RandomService {
+  private static final Logger LOGGER = Logger.getLogger(RandomService.class.getSimpleName());
+
+  private static final Map<String, Stream> STREAMS = new ConcurrentHashMap<>();
+  private static final ThreadLocal<SplittableRandom> OVERRIDE = new ThreadLocal<>();
+  private static long rootSeed = mix(System.nanoTime());
+  private static int levelCount = 0;
+  private static long levelSeed = levelSeed(rootSeed, levelCount);
+
+  // for singleton
+  private RandomService() {}
+
+  /**
+   * Get the root seed all random numbers are derived from.
+   *
+   * <p>Record this value to reproduce a game.
+   *
+   * @return The root seed.
+   */
+  public static long rootSeed() {
+    return rootSeed;
+  }
+
+  /**
+   * Set the root seed all random numbers are derived from.
+   *
+   * <p>This resets the level count and reseeds all streams, so set the seed before the game starts
+   * (or before a simulation is run) to reproduce a game.
+   *
+   * @param seed The new root seed.
+   */
+  public static void rootSeed(long seed) {
+    rootSeed = seed;
+    levelCount = 0;
+    reseed();
+  }
+
+  /**
+   * Get the seed of the current level.
+   *
+   * @return The seed the streams were seeded with at the last level load.
+   */
+  public static long levelSeed() {
+    return levelSeed;
+  }
+
+  /**
+   * Reseed all streams with the seed of the next level.
+   *
+   * <p>This is called by the {@link GameLoop} each time a new level is loaded.
+   */
+  public static void onLevelLoad() {
+    levelCount++;
+    reseed();
+  }
+
+  /** Log the root seed, so a game can be reproduced. */
+  static void logRootSeed() {
+    LOGGER.info("Random root seed: " + rootSeed);
+  }
+
+  /**
+   * Get the random stream with the given name.
+   *
+   * <p>The same object is returned for the same name, and it stays valid if the streams are
+   * reseeded. Therefore, the stream can be stored in a static field.
+   *
+   * <p>The stream must only be used on the game thread.
+   *
+   * @param name Name of the stream, e.g., the name of the class that uses it.
+   * @return The random stream.
+   */
+  public static RandomGenerator stream(final String name) {
+    return STREAMS.computeIfAbsent(name, n -> new Stream(seedFor(n)));
+  }
+
+  /**
+   * Get the random stream for the given class.
+   *
+   * @param owner Class that uses the stream.
+   * @return The random stream.
+   * @see #stream(String)
+   */
+  public static RandomGenerator stream(final Class<?> owner) {
+    return stream(owner.getName());
+  }
+
+  /**
+   * Create a new, independent generator from the stream with the given name.
+   *
+   * <p>Use this to hand random numbers to code that runs on another thread. The returned generator
+   * is only used by the caller, so there is no contention between threads. As the generator is
+   * split from the named stream, its numbers are reproducible as long as {@code split} is called
+   * in the same order on the game thread.
+   *
+   * @param name Name of the stream to split from.
+   * @return A new generator.
+   */
+  public static SplittableRandom split(final String name) {
+    return ((Stream) stream(name)).random.split();
+  }
+
+  /**
+   * Run the given task with the given generator as source of all streams on the current thread.
+   *
+   * <p>While the task runs, every stream used on the current thread draws its numbers from the
+   * given generator. Use this to run code that uses the streams on another thread, e.g., to
+   * generate a level in the background. If the generator comes from {@link #split(String)}, the
+   * result is reproducible.
+   *
+   * @param random Generator to draw the numbers from.
+   * @param task Task to run.
+   * @param <T> Type of the result.
+   * @return The result of the task.
+   */
+  public static <T> T supplyWith(final SplittableRandom random, final Supplier<T> task) {
+    SplittableRandom previous = OVERRIDE.get();
+    OVERRIDE.set(random);
+    try {
+      return task.get();
+    } finally {
+      if (previous == null) {
+        OVERRIDE.remove();
+      } else {
+        OVERRIDE.set(previous);
+      }
+    }
+  }
+
+  private static void reseed() {
+    levelSeed = levelSeed(rootSeed, levelCount);
+    STREAMS.forEach((name, stream) -> stream.random = new SplittableRandom(seedFor(name)));
+  }
+
+  private static long levelSeed(long root, int level) {
+    return mix(root + level * 0x9E3779B97F4A7C15L);
+  }
+
+  private static long seedFor(final String name) {
+    return mix(levelSeed ^ name.hashCode());
+  }
+
+  /** The finalizer of SplitMix64, to spread similar seeds over the whole value range. */
+  private static long mix(long z) {
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+
+  private static final class Stream implements RandomGenerator {
+    private SplittableRandom random;
+
+    private Stream(long seed) {
+      random = new SplittableRandom(seed);
+    }
+
+    private SplittableRandom generator() {
+      SplittableRandom override = OVERRIDE.get();
+      return override != null ? override : random;
+    }
+
+    @Override
+    public long nextLong() {
+      return generator().nextLong();
+    }
+
+    @Override
+    public int nextInt() {
+      return generator().nextInt();
+    }
+
+    @Override
+    public int nextInt(int bound) {
+      return generator().nextInt(bound);
+    }
+
+    @Override
+    public int nextInt(int origin, int bound) {
+      return generator().nextInt(origin, bound);
+    }
+  }
+}
@@ -0,0 +1,319 @@
+package core.game;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+/**
+ * Records the input of a game and replays it deterministically.
+ *
+ * <p>Call {@link #startRecording(String)} before the game is started to record the root seed of
+ * the {@link RandomService}, the tick rate and, for each tick, the pressed keys and the actions of
+ * external sources (see {@link #submitAction(String, String)}). {@link #stopRecording()} returns
+ * the {@link InputRecording}, which can be saved to a file.
+ *
+ * <p>{@link #play(InputRecording)} runs the recorded game again in the {@link HeadlessGameLoop}, as
+ * fast as possible. Since the simulation runs with a fixed tick rate, all random numbers are
+ * derived from the recorded root seed, and the same input is given in the same tick, the replayed
+ * game behaves exactly like the recorded one. This makes a recording a repeatable workload for
+ * benchmarks and a way to reproduce bugs.
+ *
+ * <p>The {@link core.systems.PlayerSystem} reads the keys with {@link #isPressed(int)}, so the
+ * callbacks of the {@link core.components.PlayerComponent} (and the keys of the {@link
+ * core.configuration.KeyboardConfig} bound to them) are recorded. External sources, like the
+ * Blockly server, register a handler with {@link #onAction(String, Consumer)} and submit their
+ * actions with {@link #submitAction(String, String)}. The actions are executed and recorded on the
+ * game thread at the beginning of the next tick; during a replay, the recorded actions are handed
+ * to the handler instead.
+ */
+public final class Replay {
+  private static final Logger LOGGER = Logger.getLogger(Replay.class.getSimpleName());
+
+  private static final Map<String, Consumer<String>> ACTION_HANDLERS = new HashMap<>();
+  private static final Set<Integer> PRESSED = new HashSet<>();
+  private static final Queue<SubmittedAction> SUBMITTED_ACTIONS = new ConcurrentLinkedQueue<>();
+
+  private static Set<Integer> pressedInLastTick = new HashSet<>();
+  private static Set<Integer> pressedInThisTick = new HashSet<>();
+
+  private static Mode mode = Mode.OFF;
+  private static InputRecording recording;
+  private static volatile long tick = -1;
+  private static int nextEvent = 0;
+
+  // for singleton
+  private Replay() {}
+
+  /**
+   * Start to record the input of the game.
+   *
+   * <p>The recording starts with the next tick. To replay the recording, the game has to be
+   * recorded from its start, so call this before {@link core.Game#run()}. The streams of the {@link
+   * RandomService} are reseeded with the recorded root seed, so the recorded game starts with the
+   * same random numbers as the replay, even if numbers were drawn before.
+   *
+   * @param levelSource Description of the level source (e.g., the path of the level file), so the
+   *     same level can be loaded for the replay. See {@link #levelSource()}.
+   */
+  public static void startRecording(final String levelSource) {
+    if (mode == Mode.REPLAYING) throw new IllegalStateException("A replay is running.");
+    recording =
+        new InputRecording(RandomService.rootSeed(), PreRunConfiguration.tickRate(), levelSource);
+    mode = Mode.RECORDING;
+    reset();
+    RandomService.rootSeed(recording.rootSeed());
+    LOGGER.info("Recording input with root seed " + recording.rootSeed());
+  }
+
+  /**
+   * Stop the recording.
+   *
+   * @return The recorded input.
+   */
+  public static synchronized InputRecording stopRecording() {
+    if (mode != Mode.RECORDING) throw new IllegalStateException("Nothing is recorded.");
+    recording.tickCount(tick + 1);
+    mode = Mode.OFF;
+    return recording;
+  }
+
+  /**
+   * Replay the given recording in the {@link HeadlessGameLoop}.
+   *
+   * <p>Sets the recorded root seed and tick rate and simulates the recorded number of ticks. The
+   * configured tick rate is restored afterwards. The level source is available via {@link
+   * #levelSource()}, e.g., to load the level in {@link PreRunConfiguration#userOnSetup()}.
+   *
+   * <p>This method blocks until the replay is done.
+   *
+   * @param replay The recording to replay.
+   * @return The number of simulated ticks.
+   */
+  public static long play(final InputRecording replay) {
+    if (mode != Mode.OFF) throw new IllegalStateException("Already recording or replaying.");
+    recording = replay;
+    mode = Mode.REPLAYING;
+    reset();
+    RandomService.rootSeed(replay.rootSeed());
+    int tickRate = PreRunConfiguration.tickRate();
+    PreRunConfiguration.tickRate(replay.tickRate());
+    try {
+      return HeadlessGameLoop.run(replay.tickCount());
+    } finally {
+      mode = Mode.OFF;
+      PRESSED.clear();
+      PreRunConfiguration.tickRate(tickRate);
+    }
+  }
+
+  /**
+   * Register a handler for the actions of the given channel.
+   *
+   * <p>During a replay, each recorded action of the channel is handed to the handler at the
+   * beginning of the tick it was recorded in.
+   *
+   * @param channel Name of the source of the actions.
+   * @param handler Handler that executes an action.
+   */
+  public static void onAction(final String channel, final Consumer<String> handler) {
+    ACTION_HANDLERS.put(channel, handler);
+  }
+
+  /**
+   * Submit an action of an external source.
+   *
+   * <p>External sources, like the HTTP server of Blockly, run on their own thread. The action is
+   * therefore not executed directly, but handed to the game thread: at the beginning of the next
+   * tick, it is recorded (if the game is recorded) and passed to the handler of the channel. So the
+   * action changes the game state in the same tick in the live game and in the replay.
+   *
+   * <p>During a replay, submitted actions are dropped, as the recorded actions are executed. An
+   * action whose future was cancelled before the next tick (e.g., because the caller stopped
+   * waiting) is neither executed nor recorded.
+   *
+   * <p>This method can be called from any thread.
+   *
+   * @param channel Name of the source of the action, see {@link #onAction(String, Consumer)}.
+   * @param payload The action.
+   * @return A future that completes after the action was executed on the game thread, or
+   *     exceptionally with the exception thrown by the handler.
+   */
+  public static CompletableFuture<Void> submitAction(final String channel, final String payload) {
+    SubmittedAction action = new SubmittedAction(channel, payload, new CompletableFuture<>());
+    SUBMITTED_ACTIONS.add(action);
+    return action.done();
+  }
+
+  /**
+   * Check if the given key (or mouse button) is pressed in the current tick.
+   *
+   * <p>During a replay, the recorded state is returned. Otherwise, the input of libGDX is checked
+   * and, if the game is recorded, a change of the state is recorded.
+   *
+   * @param key The key code (see {@link Input.Keys} and {@link Input.Buttons}).
+   * @return true if the key is pressed, false if not (or if there is no input).
+   */
+  public static boolean isPressed(int key) {
+    if (mode == Mode.REPLAYING) return PRESSED.contains(key);
+    if (Gdx.input == null) return false;
+    boolean isMouseButton =
+        key == Input.Buttons.LEFT || key == Input.Buttons.RIGHT || key == Input.Buttons.MIDDLE;
+    boolean pressed = isMouseButton ? Gdx.input.isButtonPressed(key) : Gdx.input.isKeyPressed(key);
+    if (mode == Mode.RECORDING && pressed != PRESSED.contains(key)) {
+      if (pressed) {
+        PRESSED.add(key);
+      } else {
+        PRESSED.remove(key);
+      }
+      synchronized (Replay.class) {
+        recording.add(new InputRecording.KeyEvent(Math.max(tick, 0), key, pressed));
+      }
+    }
+    return pressed;
+  }
+
+  /**
+   * Check if the given key (or mouse button) was pressed in this tick, but not in the last one.
+   *
+   * <p>Use this instead of {@code Gdx.input.isKeyJustPressed} in the tick phase: libGDX resets the
+   * state once per frame, so a frame with several ticks would see the key in each of them, and a
+   * frame without a tick would lose it. The key is read with {@link #isPressed(int)}, so it is
+   * recorded and replayed. A key is only tracked while it is queried in every tick.
+   *
+   * @param key The key code (see {@link Input.Keys} and {@link Input.Buttons}).
+   * @return true if the key was pressed in this tick but not in the last tick, false if not.
+   */
+  public static boolean isJustPressed(int key) {
+    boolean pressed = isPressed(key);
+    if (pressed) pressedInThisTick.add(key);
+    return pressed && !pressedInLastTick.contains(key);
+  }
+
+  /**
+   * Check if there is input to read, either from libGDX or from a replay.
+   *
+   * @return true if there is input, false if not (e.g., in headless mode without a replay).
+   */
+  public static boolean hasInput() {
+    return mode == Mode.REPLAYING || Gdx.input != null;
+  }
+
+  /**
+   * Advance to the next tick.
+   *
+   * <p>This is called by the {@link GameLoop} at the beginning of each tick. The keys pressed in
+   * the last tick are kept for {@link #isJustPressed(int)}. During a replay, the events of the new
+   * tick are applied. Otherwise, the submitted actions are recorded and executed.
+   */
+  static void onTick() {
+    Set<Integer> swap = pressedInLastTick;
+    pressedInLastTick = pressedInThisTick;
+    pressedInThisTick = swap;
+    pressedInThisTick.clear();
+    if (mode != Mode.OFF) tick++;
+    if (mode == Mode.REPLAYING) {
+      applyRecordedEvents();
+    }
+    executeSubmittedActions();
+  }
+
+  private static void applyRecordedEvents() {
+    List<InputRecording.Event> events = recording.events();
+    while (nextEvent < events.size() && events.get(nextEvent).tick() <= tick) {
+      switch (events.get(nextEvent++)) {
+        case InputRecording.KeyEvent key -> {
+          if (key.pressed()) {
+            PRESSED.add(key.key());
+          } else {
+            PRESSED.remove(key.key());
+          }
+        }
+        case InputRecording.ActionEvent action -> handle(action.channel(), action.payload());
+      }
+    }
+  }
+
+  private static void executeSubmittedActions() {
+    SubmittedAction action;
+    while ((action = SUBMITTED_ACTIONS.poll()) != null) {
+      if (action.done().isCancelled()) continue;
+      if (mode == Mode.REPLAYING) {
+        action.done().complete(null);
+        continue;
+      }
+      if (mode == Mode.RECORDING) {
+        synchronized (Replay.class) {
+          recording.add(new InputRecording.ActionEvent(tick, action.channel(), action.payload()));
+        }
+      }
+      try {
+        handle(action.channel(), action.payload());
+        action.done().complete(null);
+      } catch (RuntimeException e) {
+        // the submitting thread gets the exception, the game keeps running
+        action.done().completeExceptionally(e);
+      }
+    }
+  }
+
+  private static void handle(final String channel, final String payload) {
+    Consumer<String> handler = ACTION_HANDLERS.get(channel);
+    if (handler != null) {
+      handler.accept(payload);
+    } else {
+      LOGGER.warning("No handler for actions of " + channel);
+    }
+  }
+
+  /**
+   * Check if the game is currently recorded.
+   *
+   * @return true if the input is recorded, false if not.
+   */
+  public static boolean isRecording() {
+    return mode == Mode.RECORDING;
+  }
+
+  /**
+   * Check if a recording is currently replayed.
+   *
+   * @return true if a replay is running, false if not.
+   */
+  public static boolean isReplaying() {
+    return mode == Mode.REPLAYING;
+  }
+
+  /**
+   * Get the level source of the current recording or replay.
+   *
+   * @return The level source, or an empty string if nothing is recorded or replayed.
+   */
+  public static String levelSource() {
+    return mode == Mode.OFF ? "" : recording.levelSource();
+  }
+
+  private static void reset() {
+    PRESSED.clear();
+    pressedInLastTick.clear();
+    pressedInThisTick.clear();
+    tick = -1;
+    nextEvent = 0;
+  }
+
+  private record SubmittedAction(String channel, String payload, CompletableFuture<Void> done) {}
+
+  private enum Mode {
+    OFF,
+    RECORDING,
+    REPLAYING
+  }
+}
@@ -0,0 +1,261 @@
+package core.game;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.audio.Sound;
+import core.components.PositionComponent;
+import core.utils.Point;
+import core.utils.components.path.IPath;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Plays sound effects.
+ *
+ * <p>Each sound file is decoded only once and then cached by its path. Use {@link #play(IPath,
+ * float)} or {@link #play(IPath, float, float, int)} to play a sound effect, and {@link
+ * #playAt(IPath, Point, float, float, int)} to play a sound effect at a position in the level. The
+ * volume of a positioned sound is reduced with the distance to the hero and the sound is panned to
+ * the side it comes from. Sounds that are too far away are not played at all.
+ *
+ * <p>At most {@link #maxVoices()} sound effects are played at the same time. If all voices are in
+ * use, the voice with the lowest priority (the oldest one, if several have the same priority) is
+ * stopped to play the new sound, as long as its priority is not higher than the priority of the new
+ * sound. Otherwise, the new sound is dropped.
+ *
+ * <p>If a new level is loaded, the sounds that were not played during the previous level are
+ * disposed (see {@link #onLevelLoad()}).
+ *
+ * <p>If there is no audio backend (e.g., in tests or if the audio is disabled), nothing is played.
+ */
+public final class SoundService {
+
+  /** Priority for ambient sounds that may be cut off first (e.g., idle sounds of monsters). */
+  public static final int PRIORITY_LOW = 0;
+
+  /** Priority for regular sound effects. */
+  public static final int PRIORITY_NORMAL = 100;
+
+  /** Priority for sound effects that should always be heard (e.g., the death of the hero). */
+  public static final int PRIORITY_HIGH = 200;
+
+  /** Default maximum number of sound effects that are played at the same time. */
+  public static final int DEFAULT_MAX_VOICES = 16;
+
+  /** Default distance (in tiles) to the hero from which on a positioned sound is not audible. */
+  public static final float DEFAULT_HEARING_DISTANCE = 15f;
+
+  /**
+   * Time (in milliseconds) a voice counts as playing. libGDX does not report when a sound has
+   * ended, and sound effects are short.
+   */
+  private static final long VOICE_DURATION = 2000;
+
+  private static final Map<String, CachedSound> SOUNDS = new HashMap<>();
+  private static Voice[] voices = new Voice[DEFAULT_MAX_VOICES];
+  private static float hearingDistance = DEFAULT_HEARING_DISTANCE;
+
+  // for singleton
+  private SoundService() {}
+
+  /**
+   * Play the sound effect at the given path with the normal priority.
+   *
+   * @param path Path to the sound file.
+   * @param volume Volume in the range [0,1].
+   * @return The id of the played sound instance, or -1 if the sound was not played.
+   */
+  public static long play(final IPath path, float volume) {
+    return play(path, volume, 1f, PRIORITY_NORMAL);
+  }
+
+  /**
+   * Play the sound effect at the given path.
+   *
+   * @param path Path to the sound file.
+   * @param volume Volume in the range [0,1].
+   * @param pitch Pitch multiplier, 1 for the default speed.
+   * @param priority Priority of the sound; higher priority sounds may cut off lower ones.
+   * @return The id of the played sound instance, or -1 if the sound was not played.
+   */
+  public static long play(final IPath path, float volume, float pitch, int priority) {
+    return play(path, volume, pitch, 0f, priority);
+  }
+
+  /**
+   * Play the sound effect at the given path as if it comes from the given position.
+   *
+   * <p>The volume is reduced linearly with the distance to the hero. If the position is further
+   * away than the {@link #hearingDistance()}, the sound is not played. If there is no hero, the
+   * sound is played with the given volume.
+   *
+   * @param path Path to the sound file.
+   * @param source Position in the level the sound comes from.
+   * @param volume Volume in the range [0,1] (right next to the hero).
+   * @param pitch Pitch multiplier, 1 for the default speed.
+   * @param priority Priority of the sound; higher priority sounds may cut off lower ones.
+   * @return The id of the played sound instance, or -1 if the sound was not played.
+   */
+  public static long playAt(
+      final IPath path, final Point source, float volume, float pitch, int priority) {
+    Optional<Point> heroPosition =
+        ECSManagment.hero()
+            .flatMap(hero -> hero.fetch(PositionComponent.class))
+            .map(PositionComponent::position);
+    if (heroPosition.isEmpty()) return play(path, volume, pitch, priority);
+
+    float distance = heroPosition.get().distance(source);
+    if (distance >= hearingDistance) return -1;
+    float attenuatedVolume = volume * (1f - distance / hearingDistance);
+    float pan = Math.max(-1f, Math.min(1f, (source.x - heroPosition.get().x) / hearingDistance));
+    return play(path, attenuatedVolume, pitch, pan, priority);
+  }
+
+  private static long play(final IPath path, float volume, float pitch, float pan, int priority) {
+    if (Gdx.audio == null || path.pathString().isEmpty()) return -1;
+    long now = System.currentTimeMillis();
+    int slot = freeVoice(priority, now);
+    if (slot < 0) return -1;
+
+    Sound sound = sound(path);
+    long id = sound.play(volume, pitch, pan);
+    if (id == -1) return -1;
+    // only cut off the voice once the new sound is actually playing
+    Voice stolen = voices[slot];
+    if (stolen != null && now - stolen.startedAt() < VOICE_DURATION) {
+      stolen.sound().stop(stolen.id());
+    }
+    voices[slot] = new Voice(sound, id, priority, now);
+    return id;
+  }
+
+  /**
+   * Find a voice to play a new sound with the given priority.
+   *
+   * <p>A voice that is not used (anymore) is preferred. Otherwise, the voice with the lowest
+   * priority (and the oldest one of those) is chosen, if its priority is not higher than the given
+   * one. The chosen voice is not stopped here; the caller stops it after the new sound started.
+   *
+   * @param priority Priority of the new sound.
+   * @param now Current time in milliseconds.
+   * @return Index of the voice to use, or -1 if no voice can be used.
+   */
+  private static int freeVoice(int priority, long now) {
+    int candidate = -1;
+    for (int i = 0; i < voices.length; i++) {
+      Voice voice = voices[i];
+      if (voice == null || now - voice.startedAt() >= VOICE_DURATION) return i;
+      if (candidate == -1
+          || voice.priority() < voices[candidate].priority()
+          || (voice.priority() == voices[candidate].priority()
+              && voice.startedAt() < voices[candidate].startedAt())) {
+        candidate = i;
+      }
+    }
+    if (candidate == -1 || voices[candidate].priority() > priority) return -1;
+    return candidate;
+  }
+
+  /**
+   * Get the decoded sound at the given path.
+   *
+   * <p>The file is only decoded the first time; afterward, the cached sound is returned. Do not
+   * dispose the returned sound, it is managed by this service.
+   *
+   * @param path Path to the sound file.
+   * @return The decoded sound.
+   */
+  public static Sound sound(final IPath path) {
+    CachedSound cached =
+        SOUNDS.computeIfAbsent(
+            path.pathString(),
+            p -> new CachedSound(Gdx.audio.newSound(Gdx.files.internal(path.pathString()))));
+    cached.usedInLevel = true;
+    return cached.sound;
+  }
+
+  /**
+   * Dispose all cached sounds that were not played since the last level was loaded.
+   *
+   * <p>This is called by the {@link GameLoop} each time a new level is loaded. Sounds that are used
+   * in every level (e.g., the door sound) stay cached.
+   */
+  public static void onLevelLoad() {
+    Iterator<CachedSound> iterator = SOUNDS.values().iterator();
+    while (iterator.hasNext()) {
+      CachedSound cached = iterator.next();
+      if (!cached.usedInLevel) {
+        releaseVoices(cached.sound);
+        cached.sound.dispose();
+        iterator.remove();
+      } else {
+        cached.usedInLevel = false;
+      }
+    }
+  }
+
+  /** Stop all sound effects and dispose all cached sounds. */
+  public static void dispose() {
+    SOUNDS.values().forEach(cached -> cached.sound.dispose());
+    SOUNDS.clear();
+    voices = new Voice[voices.length];
+  }
+
+  private static void releaseVoices(final Sound sound) {
+    for (int i = 0; i < voices.length; i++) {
+      if (voices[i] != null && voices[i].sound() == sound) voices[i] = null;
+    }
+  }
+
+  /**
+   * Get the maximum number of sound effects that are played at the same time.
+   *
+   * @return The maximum number of voices.
+   */
+  public static int maxVoices() {
+    return voices.length;
+  }
+
+  /**
+   * Set the maximum number of sound effects that are played at the same time.
+   *
+   * <p>Should not be higher than the number of simultaneous sources of the audio backend.
+   *
+   * @param maxVoices The new maximum number of voices (at least 1).
+   */
+  public static void maxVoices(int maxVoices) {
+    Voice[] newVoices = new Voice[Math.max(1, maxVoices)];
+    System.arraycopy(voices, 0, newVoices, 0, Math.min(voices.length, newVoices.length));
+    voices = newVoices;
+  }
+
+  /**
+   * Get the distance (in tiles) to the hero from which on a positioned sound is not audible.
+   *
+   * @return The hearing distance.
+   */
+  public static float hearingDistance() {
+    return hearingDistance;
+  }
+
+  /**
+   * Set the distance (in tiles) to the hero from which on a positioned sound is not audible.
+   *
+   * @param hearingDistance The new hearing distance.
+   */
+  public static void hearingDistance(float hearingDistance) {
+    SoundService.hearingDistance = hearingDistance;
+  }
+
+  private static final class CachedSound {
+    private final Sound sound;
+    private boolean usedInLevel = true;
+
+    private CachedSound(final Sound sound) {
+      this.sound = sound;
+    }
+  }
+
+  private record Voice(Sound sound, long id, int priority, long startedAt) {}
+}
@@ -0,0 +1,344 @@
+package core.level;
+
+import core.level.elements.tile.*;
+import core.level.utils.AutoTiler;
+import core.level.utils.Coordinate;
+import core.level.utils.DesignLabel;
+import core.level.utils.LevelElement;
+import core.utils.Tuple;
+import core.utils.components.path.IPath;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link TileLevel} that can be packed into primitive arrays while it is not played.
+ *
+ * <p>Each {@link Tile} is a full object with a coordinate, a texture path, a list of connections
+ * and a reference to its level. Since each level that was ever loaded stays in memory (see {@link
+ * core.game.ECSManagment#levelStorageMap()}), large levels add up. {@link #pack()} stores the
+ * state of the tiles in arrays (one byte for the element and one for the design of each tile, the
+ * tint colors and a bitset for the visibility) and drops the tile objects. The tiles are created
+ * again on demand, as soon as the level is accessed (e.g., with {@link #layout()}).
+ *
+ * <p>Doors, exits and pits have more state (e.g., a door is connected to a door of another level),
+ * so these tiles are kept while the level is packed and reused when it is unpacked. There are only
+ * a few of them in a level.
+ *
+ * <p>The {@link core.systems.LevelSystem} packs the current level when another level is loaded.
+ * References to tiles of a packed level that are kept elsewhere (other than to doors, exits and
+ * pits) are no longer part of the level.
+ */
+public class PackedTileLevel extends TileLevel {
+
+  private static final LevelElement[] ELEMENTS = LevelElement.values();
+  private static final DesignLabel[] DESIGNS = DesignLabel.values();
+  private static final int NO_TINT = -1;
+
+  private final int width;
+  private final int height;
+  private boolean packed;
+  private byte[] elements;
+  private byte[] designs;
+  private int[] tints;
+  private BitSet hidden;
+  private Map<Integer, IPath> textures;
+  private Map<Integer, Tile> keptTiles;
+  private int startIndex;
+
+  /**
+   * Create a new level.
+   *
+   * @param layout The layout of the level.
+   * @param designLabel The design the level should have.
+   */
+  public PackedTileLevel(LevelElement[][] layout, DesignLabel designLabel) {
+    super(layout, designLabel);
+    width = layout[0].length;
+    height = layout.length;
+  }
+
+  /**
+   * Pack the tiles of this level into primitive arrays and drop the tile objects.
+   *
+   * <p>Does nothing if the level is already packed. The tiles are unpacked when the level is
+   * accessed the next time.
+   */
+  public void pack() {
+    if (packed) return;
+    int size = width * height;
+    elements = new byte[size];
+    designs = new byte[size];
+    hidden = new BitSet(size);
+    textures = new HashMap<>();
+    keptTiles = new HashMap<>();
+    tints = null;
+    startIndex = startTile == null ? -1 : index(startTile.coordinate());
+    AutoTiler tiler = new AutoTiler(elementLayout());
+    for (int y = 0; y < height; y++) {
+      for (int x = 0; x < width; x++) {
+        Tile tile = layout[y][x];
+        int i = y * width + x;
+        elements[i] = (byte) tile.levelElement().ordinal();
+        designs[i] = (byte) tile.designLabel().ordinal();
+        if (tile instanceof DoorTile || tile instanceof ExitTile || tile instanceof PitTile) {
+          tile.connections().clear();
+          keptTiles.put(i, tile);
+          continue;
+        }
+        if (!tile.visible()) hidden.set(i);
+        if (tile.tintColor() != NO_TINT) {
+          if (tints == null) {
+            tints = new int[size];
+            Arrays.fill(tints, NO_TINT);
+          }
+          tints[i] = tile.tintColor();
+        }
+        IPath texture = tile.texturePath();
+        IPath tiled = tiler.texturePath(x, y, tile.designLabel());
+        if (!texture.pathString().equals(tiled.pathString())) textures.put(i, texture);
+      }
+    }
+    layout = null;
+    startTile = null;
+    nodeCount = 0;
+    floorTiles.clear();
+    wallTiles.clear();
+    holeTiles.clear();
+    doorTiles.clear();
+    exitTiles.clear();
+    skipTiles.clear();
+    pitTiles.clear();
+    floorTiles.trimToSize();
+    wallTiles.trimToSize();
+    holeTiles.trimToSize();
+    skipTiles.trimToSize();
+    packed = true;
+  }
+
+  /**
+   * Check if the level is currently packed.
+   *
+   * @return true if the tiles are stored in primitive arrays, false if the tile objects exist.
+   */
+  public boolean isPacked() {
+    return packed;
+  }
+
+  /**
+   * Get the element of the tile at the given coordinate, without unpacking the level.
+   *
+   * @param coordinate The coordinate of the tile.
+   * @return The element of the tile, or null if the coordinate is out of bounds.
+   */
+  public LevelElement elementAt(final Coordinate coordinate) {
+    if (coordinate.x < 0 || coordinate.y < 0 || coordinate.x >= width || coordinate.y >= height)
+      return null;
+    if (!packed) return layout[coordinate.y][coordinate.x].levelElement();
+    return ELEMENTS[elements[coordinate.y * width + coordinate.x]];
+  }
+
+  private void unpack() {
+    if (!packed) return;
+    packed = false;
+    AutoTiler tiler = new AutoTiler(elementLayout());
+    layout = new Tile[height][width];
+    for (int y = 0; y < height; y++) {
+      for (int x = 0; x < width; x++) {
+        int i = y * width + x;
+        Tile tile = keptTiles.get(i);
+        if (tile == null) {
+          DesignLabel design = DESIGNS[designs[i]];
+          IPath texture = textures.get(i);
+          if (texture == null) texture = tiler.texturePath(x, y, design);
+          Coordinate coordinate = new Coordinate(x, y);
+          tile = TileFactory.createTile(texture, coordinate, ELEMENTS[elements[i]], design);
+          tile.visible(!hidden.get(i));
+          if (tints != null) tile.tintColor(tints[i]);
+        }
+        layout[y][x] = tile;
+      }
+    }
+    for (Tile tile : keptTiles.values()) {
+      if (tile instanceof DoorTile door
+          && door.doorstep() != null
+          && door.doorstep().level() == this) {
+        door.doorstep(layout[door.doorstep().coordinate().y][door.doorstep().coordinate().x]);
+      }
+    }
+    putTilesInLists();
+    if (startIndex >= 0) startTile = layout[startIndex / width][startIndex % width];
+    elements = null;
+    designs = null;
+    tints = null;
+    hidden = null;
+    textures = null;
+    keptTiles = null;
+  }
+
+  private LevelElement[][] elementLayout() {
+    LevelElement[][] elementLayout = new LevelElement[height][width];
+    for (int y = 0; y < height; y++) {
+      for (int x = 0; x < width; x++) {
+        elementLayout[y][x] =
+            packed ? ELEMENTS[elements[y * width + x]] : layout[y][x].levelElement();
+      }
+    }
+    return elementLayout;
+  }
+
+  private int index(final Coordinate coordinate) {
+    return coordinate.y * width + coordinate.x;
+  }
+
+  @Override
+  public Tuple<Integer, Integer> size() {
+    return new Tuple<>(width, height);
+  }
+
+  @Override
+  public Tile[][] layout() {
+    unpack();
+    return super.layout();
+  }
+
+  @Override
+  public Tile startTile() {
+    unpack();
+    return super.startTile();
+  }
+
+  @Override
+  public void startTile(Tile start) {
+    unpack();
+    super.startTile(start);
+  }
+
+  @Override
+  public Tile endTile() {
+    unpack();
+    return super.endTile();
+  }
+
+  @Override
+  public int getNodeCount() {
+    unpack();
+    return super.getNodeCount();
+  }
+
+  @Override
+  public void addTile(Tile tile) {
+    unpack();
+    super.addTile(tile);
+  }
+
+  @Override
+  public void addFloorTile(FloorTile tile) {
+    unpack();
+    super.addFloorTile(tile);
+  }
+
+  @Override
+  public void addWallTile(WallTile tile) {
+    unpack();
+    super.addWallTile(tile);
+  }
+
+  @Override
+  public void addHoleTile(HoleTile tile) {
+    unpack();
+    super.addHoleTile(tile);
+  }
+
+  @Override
+  public void addDoorTile(DoorTile tile) {
+    unpack();
+    super.addDoorTile(tile);
+  }
+
+  @Override
+  public void addExitTile(ExitTile tile) {
+    unpack();
+    super.addExitTile(tile);
+  }
+
+  @Override
+  public void addSkipTile(SkipTile tile) {
+    unpack();
+    super.addSkipTile(tile);
+  }
+
+  @Override
+  public void addPitTile(PitTile tile) {
+    unpack();
+    super.addPitTile(tile);
+  }
+
+  @Override
+  public void addConnectionsToNeighbours(Tile checkTile) {
+    unpack();
+    super.addConnectionsToNeighbours(checkTile);
+  }
+
+  @Override
+  public void removeTile(Tile tile) {
+    unpack();
+    super.removeTile(tile);
+  }
+
+  @Override
+  public void addToPathfinding(Tile tile) {
+    unpack();
+    super.addToPathfinding(tile);
+  }
+
+  @Override
+  public void removeFromPathfinding(Tile tile) {
+    unpack();
+    super.removeFromPathfinding(tile);
+  }
+
+  @Override
+  public List<FloorTile> floorTiles() {
+    unpack();
+    return super.floorTiles();
+  }
+
+  @Override
+  public List<WallTile> wallTiles() {
+    unpack();
+    return super.wallTiles();
+  }
+
+  @Override
+  public List<HoleTile> holeTiles() {
+    unpack();
+    return super.holeTiles();
+  }
+
+  @Override
+  public List<DoorTile> doorTiles() {
+    unpack();
+    return super.doorTiles();
+  }
+
+  @Override
+  public List<ExitTile> exitTiles() {
+    unpack();
+    return super.exitTiles();
+  }
+
+  @Override
+  public List<SkipTile> skipTiles() {
+    unpack();
+    return super.skipTiles();
+  }
+
+  @Override
+  public List<PitTile> pitTiles() {
+    unpack();
+    return super.pitTiles();
+  }
+}
@@ -4,10 +4,10 @@ import core.level.elements.ILevel;
 import core.level.elements.astar.TileConnection;
 import core.level.elements.astar.TileHeuristic;
 import core.level.elements.tile.*;
+import core.level.utils.AutoTiler;
 import core.level.utils.Coordinate;
 import core.level.utils.DesignLabel;
 import core.level.utils.LevelElement;
-import core.level.utils.TileTextureFactory;
 import core.utils.IVoidFunction;
 import core.utils.components.path.IPath;
 import java.util.ArrayList;
@@ -77,12 +77,11 @@ public class TileLevel implements ILevel {
   private static Tile[][] convertLevelElementToTile(
       LevelElement[][] layout, DesignLabel designLabel) {
     Tile[][] tileLayout = new Tile[layout.length][layout[0].length];
+    AutoTiler tiler = new AutoTiler(layout);
     for (int y = 0; y < layout.length; y++) {
       for (int x = 0; x < layout[0].length; x++) {
         Coordinate coordinate = new Coordinate(x, y);
-        IPath texturePath =
-            TileTextureFactory.findTexturePath(
-                new TileTextureFactory.LevelPart(layout[y][x], designLabel, layout, coordinate));
+        IPath texturePath = tiler.texturePath(x, y, designLabel);
         tileLayout[y][x] =
             TileFactory.createTile(texturePath, coordinate, layout[y][x], designLabel);
       }
@@ -90,7 +89,8 @@ public class TileLevel implements ILevel {
     return tileLayout;
   }
 
-  private void putTilesInLists() {
+  /** Add each tile of the layout to this level, see {@link #addTile(Tile)}. */
+  protected void putTilesInLists() {
     for (Tile[] tiles : layout) {
       for (int x = 0; x < layout[0].length; x++) {
         addTile(tiles[x]);
@@ -8,6 +8,7 @@ import com.badlogic.gdx.ai.pfa.indexed.IndexedGraph;
 import com.badlogic.gdx.utils.Array;
 import core.Entity;
 import core.components.PositionComponent;
+import core.game.RandomService;
 import core.level.Tile;
 import core.level.elements.astar.TileHeuristic;
 import core.level.elements.tile.*;
@@ -21,8 +22,8 @@ import core.utils.components.MissingComponentException;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
-import java.util.Random;
 import java.util.function.Function;
+import java.util.random.RandomGenerator;
 
 /**
  * Defines the API for Levels in the dungeon.
@@ -36,8 +37,8 @@ import java.util.function.Function;
  */
 public interface ILevel extends IndexedGraph<Tile> {
 
-  /** Default random number generator (seeded with current time). */
-  Random RANDOM = new Random();
+  /** Random stream for level related things (see {@link RandomService}). */
+  RandomGenerator RANDOM = RandomService.stream(ILevel.class);
 
   /**
    * Marks a random tile as the start of the level.
@@ -1,6 +1,6 @@
 package core.level.generator.postGeneration;
 
-import core.level.TileLevel;
+import core.level.PackedTileLevel;
 import core.level.elements.ILevel;
 import core.level.generator.IGenerator;
 import core.level.utils.DesignLabel;
@@ -34,7 +34,7 @@ public class WallGenerator implements IGenerator {
   public ILevel level(DesignLabel designLabel, LevelSize size) {
     runPreGeneration(size);
     placeWalls();
-    return new TileLevel(layout, designLabel);
+    return new PackedTileLevel(layout, designLabel);
   }
 
   @Override
@@ -1,17 +1,18 @@
 package core.level.generator.randomwalk;
 
-import core.level.TileLevel;
+import core.game.RandomService;
+import core.level.PackedTileLevel;
 import core.level.elements.ILevel;
 import core.level.generator.IGenerator;
 import core.level.utils.Coordinate;
 import core.level.utils.DesignLabel;
 import core.level.utils.LevelElement;
 import core.level.utils.LevelSize;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /** Generates levels using random walk algorithm. */
 public class RandomWalkGenerator implements IGenerator {
-  private static final Random RANDOM = new Random();
+  private static final RandomGenerator RANDOM = RandomService.stream(RandomWalkGenerator.class);
   private static final int SMALL_MIN_X_SIZE = 10;
   private static final int SMALL_MIN_Y_SIZE = 10;
   private static final int SMALL_MAX_X_SIZE = 30;
@@ -29,7 +30,7 @@ public class RandomWalkGenerator implements IGenerator {
 
   @Override
   public ILevel level(DesignLabel designLabel, LevelSize size) {
-    return new TileLevel(layout(size), designLabel);
+    return new PackedTileLevel(layout(size), designLabel);
   }
 
   /**
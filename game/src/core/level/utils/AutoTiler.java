@@ -0,0 +1,317 @@
+package core.level.utils;
+
+import core.level.Tile;
+import core.utils.components.path.IPath;
+import core.utils.components.path.SimpleIPath;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Selects the texture of each tile of a level from its eight neighbours.
+ *
+ * <p>The texture of a tile depends on its own {@link LevelElement} and on the elements around it
+ * (see {@link TileTextureFactory}). Instead of evaluating the rules of the {@link
+ * TileTextureFactory} for each tile, the auto tiler packs the relevant properties of the eight
+ * neighbours (is it a wall, a door, accessible, or a hole) into one bitmask and looks up the
+ * texture in a table. The tables are computed once from the rules of the {@link
+ * TileTextureFactory}, so the result is the same. The texture paths are created once per {@link
+ * DesignLabel} and shared by all tiles.
+ *
+ * <p>Create an auto tiler for a whole layout to look up the textures of all tiles in one pass over
+ * a packed grid, and use {@link #set(int, int, LevelElement)} if a tile changes; only the textures
+ * of the changed tile and its neighbours change. Use {@link #texturePath(Tile[][], Coordinate,
+ * LevelElement, DesignLabel)} to get the texture of a single tile without creating a grid.
+ */
+public final class AutoTiler {
+
+  private static final int WALL = 1;
+  private static final int DOOR = 2;
+  private static final int ACCESSIBLE = 4;
+  private static final int HOLE = 8;
+  private static final int INSIDE = ACCESSIBLE | HOLE;
+
+  // positions of the neighbours in the bitmask, four bits each
+  private static final int ABOVE = 0;
+  private static final int BELOW = 1;
+  private static final int LEFT = 2;
+  private static final int RIGHT = 3;
+  private static final int UPPER_LEFT = 4;
+  private static final int UPPER_RIGHT = 5;
+  private static final int BOTTOM_LEFT = 6;
+  private static final int BOTTOM_RIGHT = 7;
+
+  private static final LevelElement[] ELEMENTS = LevelElement.values();
+
+  /** Flags of each element; index 0 is outside the level, index i + 1 is the i-th element. */
+  private static final int[] FLAGS = new int[ELEMENTS.length + 1];
+
+  /** Texture names (e.g., "wall/wall_right"), referenced by index from the tables. */
+  private static final List<String> TEXTURES = new ArrayList<>();
+
+  private static final Map<String, Integer> TEXTURE_INDEX = new HashMap<>();
+  private static final byte[] WALL_TABLE = new byte[1 << 12];
+  private static final byte[] DOOR_TABLE = new byte[1 << 4];
+  private static final IPath[][] PATHS;
+
+  private static final int EMPTY = texture("floor/empty");
+  private static final int FLOOR = texture("floor/floor_1");
+  private static final int LADDER = texture("floor/floor_ladder");
+  private static final int DAMAGED = texture("floor/floor_damaged");
+  private static final int HOLE_TOP = texture("floor/floor_hole");
+  private static final int HOLE_BELOW_HOLE = texture("floor/floor_hole1");
+
+  static {
+    for (LevelElement element : ELEMENTS) {
+      int flags = 0;
+      if (element == LevelElement.WALL) flags |= WALL;
+      if (element == LevelElement.DOOR) flags |= DOOR;
+      if (element.value() || element == LevelElement.PIT) flags |= ACCESSIBLE;
+      if (element == LevelElement.HOLE || element == LevelElement.PIT) flags |= HOLE;
+      FLAGS[element.ordinal() + 1] = flags;
+    }
+    buildTables();
+    PATHS = new IPath[DesignLabel.values().length][];
+    for (DesignLabel design : DesignLabel.values()) {
+      String prefix = "dungeon/" + design.name().toLowerCase() + "/";
+      PATHS[design.ordinal()] =
+          TEXTURES.stream()
+              .map(name -> new SimpleIPath(prefix + name + ".png"))
+              .toArray(IPath[]::new);
+    }
+  }
+
+  private final int width;
+  private final int height;
+  private final int stride;
+
+  /** Element ordinal + 1 of each tile, with a border of 0 (outside) around the level. */
+  private final byte[] grid;
+
+  /**
+   * Create an auto tiler for the given layout.
+   *
+   * @param layout The layout of the level, indexed by [y][x].
+   */
+  public AutoTiler(final LevelElement[][] layout) {
+    height = layout.length;
+    width = height == 0 ? 0 : layout[0].length;
+    stride = width + 2;
+    grid = new byte[stride * (height + 2)];
+    for (int y = 0; y < height; y++) {
+      for (int x = 0; x < width; x++) {
+        grid[index(x, y)] = (byte) (layout[y][x].ordinal() + 1);
+      }
+    }
+  }
+
+  /**
+   * Get the texture path of the tile at the given position.
+   *
+   * @param x The x coordinate of the tile.
+   * @param y The y coordinate of the tile.
+   * @param design The design of the level.
+   * @return Path to the texture.
+   */
+  public IPath texturePath(int x, int y, final DesignLabel design) {
+    int i = index(x, y);
+    int neighbours =
+        FLAGS[grid[i + stride]] << (ABOVE * 4)
+            | FLAGS[grid[i - stride]] << (BELOW * 4)
+            | FLAGS[grid[i - 1]] << (LEFT * 4)
+            | FLAGS[grid[i + 1]] << (RIGHT * 4)
+            | FLAGS[grid[i + stride - 1]] << (UPPER_LEFT * 4)
+            | FLAGS[grid[i + stride + 1]] << (UPPER_RIGHT * 4)
+            | FLAGS[grid[i - stride - 1]] << (BOTTOM_LEFT * 4)
+            | FLAGS[grid[i - stride + 1]] << (BOTTOM_RIGHT * 4);
+    return PATHS[design.ordinal()][textureIndex(ELEMENTS[grid[i] - 1], neighbours)];
+  }
+
+  /**
+   * Change the element of the tile at the given position.
+   *
+   * <p>Afterward, {@link #texturePath(int, int, DesignLabel)} returns the textures for the changed
+   * layout. Only the textures of the changed tile and its eight neighbours can change.
+   *
+   * @param x The x coordinate of the tile.
+   * @param y The y coordinate of the tile.
+   * @param element The new element of the tile.
+   */
+  public void set(int x, int y, final LevelElement element) {
+    grid[index(x, y)] = (byte) (element.ordinal() + 1);
+  }
+
+  private int index(int x, int y) {
+    if (x < 0 || y < 0 || x >= width || y >= height)
+      throw new IndexOutOfBoundsException("Position (" + x + "," + y + ") is not in the level.");
+    return (y + 1) * stride + x + 1;
+  }
+
+  /**
+   * Get the texture path of a single tile in the given layout.
+   *
+   * @param layout The layout of the level, indexed by [y][x].
+   * @param position The position of the tile.
+   * @param element The element of the tile (may differ from the element in the layout).
+   * @param design The design of the level.
+   * @return Path to the texture.
+   */
+  public static IPath texturePath(
+      final LevelElement[][] layout,
+      final Coordinate position,
+      final LevelElement element,
+      final DesignLabel design) {
+    int neighbours = 0;
+    for (int n = 0; n < 8; n++) {
+      int y = position.y + dy(n);
+      int x = position.x + dx(n);
+      if (y >= 0 && y < layout.length && x >= 0 && x < layout[y].length) {
+        neighbours |= FLAGS[layout[y][x].ordinal() + 1] << (n * 4);
+      }
+    }
+    return PATHS[design.ordinal()][textureIndex(element, neighbours)];
+  }
+
+  /**
+   * Get the texture path of a single tile in the given layout.
+   *
+   * <p>Only the eight neighbours of the tile are read, so this is cheap enough to call each time a
+   * tile changes.
+   *
+   * @param layout The tiles of the level, indexed by [y][x].
+   * @param position The position of the tile.
+   * @param element The element of the tile (may differ from the element in the layout).
+   * @param design The design of the level.
+   * @return Path to the texture.
+   */
+  public static IPath texturePath(
+      final Tile[][] layout,
+      final Coordinate position,
+      final LevelElement element,
+      final DesignLabel design) {
+    int neighbours = 0;
+    for (int n = 0; n < 8; n++) {
+      int y = position.y + dy(n);
+      int x = position.x + dx(n);
+      if (y >= 0 && y < layout.length && x >= 0 && x < layout[y].length) {
+        neighbours |= FLAGS[layout[y][x].levelElement().ordinal() + 1] << (n * 4);
+      }
+    }
+    return PATHS[design.ordinal()][textureIndex(element, neighbours)];
+  }
+
+  private static int textureIndex(final LevelElement element, int neighbours) {
+    return switch (element) {
+      case SKIP -> EMPTY;
+      case FLOOR -> FLOOR;
+      case EXIT -> LADDER;
+      case PIT -> DAMAGED;
+      case HOLE -> (flags(neighbours, ABOVE) & HOLE) != 0 ? HOLE_BELOW_HOLE : HOLE_TOP;
+      case DOOR -> {
+        int door = DOOR_TABLE[doorKey(neighbours)];
+        yield door >= 0 ? door : WALL_TABLE[wallKey(neighbours)];
+      }
+      case WALL -> WALL_TABLE[wallKey(neighbours)];
+    };
+  }
+
+  private static int flags(int neighbours, int neighbour) {
+    return (neighbours >>> (neighbour * 4)) & 0xF;
+  }
+
+  /** One bit per direct neighbour: is it accessible. */
+  private static int doorKey(int neighbours) {
+    int key = 0;
+    for (int n = ABOVE; n <= RIGHT; n++) {
+      if ((flags(neighbours, n) & ACCESSIBLE) != 0) key |= 1 << n;
+    }
+    return key;
+  }
+
+  /**
+   * Two bits per direct neighbour (nothing, wall, door, or inside) and one bit per diagonal
+   * neighbour (inside or not).
+   */
+  private static int wallKey(int neighbours) {
+    int key = 0;
+    for (int n = ABOVE; n <= RIGHT; n++) {
+      int flags = flags(neighbours, n);
+      int state = (flags & WALL) != 0 ? 1 : (flags & DOOR) != 0 ? 2 : (flags & INSIDE) != 0 ? 3 : 0;
+      key |= state << (n * 2);
+    }
+    for (int n = UPPER_LEFT; n <= BOTTOM_RIGHT; n++) {
+      if ((flags(neighbours, n) & INSIDE) != 0) key |= 1 << (8 + n - UPPER_LEFT);
+    }
+    return key;
+  }
+
+  /**
+   * Fill the tables by applying the rules of the {@link TileTextureFactory} to a 3x3 layout for
+   * each possible key.
+   */
+  private static void buildTables() {
+    LevelElement[] orthogonal = {
+      LevelElement.SKIP, LevelElement.WALL, LevelElement.DOOR, LevelElement.FLOOR
+    };
+    for (int key = 0; key < WALL_TABLE.length; key++) {
+      LevelElement[][] layout = emptyLayout();
+      for (int n = ABOVE; n <= RIGHT; n++) {
+        layout[1 + dy(n)][1 + dx(n)] = orthogonal[(key >>> (n * 2)) & 3];
+      }
+      for (int n = UPPER_LEFT; n <= BOTTOM_RIGHT; n++) {
+        boolean inside = (key & (1 << (8 + n - UPPER_LEFT))) != 0;
+        layout[1 + dy(n)][1 + dx(n)] = inside ? LevelElement.FLOOR : LevelElement.SKIP;
+      }
+      WALL_TABLE[key] = (byte) ruleTexture(LevelElement.WALL, layout);
+    }
+    for (int key = 0; key < DOOR_TABLE.length; key++) {
+      LevelElement[][] layout = emptyLayout();
+      for (int n = ABOVE; n <= RIGHT; n++) {
+        boolean accessible = (key & (1 << n)) != 0;
+        layout[1 + dy(n)][1 + dx(n)] = accessible ? LevelElement.FLOOR : LevelElement.SKIP;
+      }
+      String door = TileTextureFactory.doorTexture(new Coordinate(1, 1), layout);
+      DOOR_TABLE[key] = (byte) (door == null ? -1 : texture(door));
+    }
+  }
+
+  private static LevelElement[][] emptyLayout() {
+    LevelElement[][] layout = new LevelElement[3][3];
+    for (LevelElement[] row : layout) Arrays.fill(row, LevelElement.SKIP);
+    return layout;
+  }
+
+  private static int ruleTexture(final LevelElement element, final LevelElement[][] layout) {
+    Coordinate center = new Coordinate(1, 1);
+    return texture(
+        TileTextureFactory.ruleTexture(
+            new TileTextureFactory.LevelPart(element, DesignLabel.DEFAULT, layout, center)));
+  }
+
+  private static int texture(final String name) {
+    return TEXTURE_INDEX.computeIfAbsent(
+        name,
+        n -> {
+          TEXTURES.add(n);
+          return TEXTURES.size() - 1;
+        });
+  }
+
+  private static int dx(int neighbour) {
+    return switch (neighbour) {
+      case LEFT, UPPER_LEFT, BOTTOM_LEFT -> -1;
+      case RIGHT, UPPER_RIGHT, BOTTOM_RIGHT -> 1;
+      default -> 0;
+    };
+  }
+
+  private static int dy(int neighbour) {
+    return switch (neighbour) {
+      case ABOVE, UPPER_LEFT, UPPER_RIGHT -> 1;
+      case BELOW, BOTTOM_LEFT, BOTTOM_RIGHT -> -1;
+      default -> 0;
+    };
+  }
+}
@@ -1,8 +1,9 @@
 package core.level.utils;
 
+import core.game.RandomService;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /** Specifies which textures and layouts should be used for the room. */
 public enum DesignLabel {
@@ -21,7 +22,7 @@ public enum DesignLabel {
   /** WTF? . */
   RAINBOW(1); // 1% chance
 
-  private static final Random RANDOM = new Random();
+  private static final RandomGenerator RANDOM = RandomService.stream(DesignLabel.class);
   private static final List<DesignLabel> VALUES = new ArrayList<>();
 
   static {
@@ -1,7 +1,8 @@
 package core.level.utils;
 
+import core.game.RandomService;
 import java.util.List;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /** Specifies how large a level should be. Exact definition is interpreted by the generator. */
 public enum LevelSize {
@@ -14,7 +15,7 @@ public enum LevelSize {
 
   private static final List<LevelSize> VALUES = List.of(values());
   private static final int SIZE = VALUES.size();
-  private static final Random RANDOM = new Random();
+  private static final RandomGenerator RANDOM = RandomService.stream(LevelSize.class);
 
   /**
    * Get a random level size.
@@ -5,17 +5,19 @@ import com.badlogic.gdx.ai.pfa.GraphPath;
 import core.Entity;
 import core.Game;
 import core.components.PositionComponent;
+import core.game.RandomService;
 import core.level.Tile;
 import core.level.elements.tile.DoorTile;
 import core.utils.Point;
 import core.utils.Tuple;
 import core.utils.components.MissingComponentException;
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 /** Offers some utility functions to work on and with {@link core.level.elements.ILevel}. */
 public final class LevelUtils {
 
-  private static final Random RANDOM = new Random();
+  private static final RandomGenerator RANDOM = RandomService.stream(LevelUtils.class);
 
   /** These vectors can be used to calculate neighbor coordinates. */
   private static final Coordinate[] DELTA_VECTORS =
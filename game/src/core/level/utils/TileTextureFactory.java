@@ -9,39 +9,15 @@ public class TileTextureFactory {
   /**
    * Checks which texture must be used for the passed field based on the surrounding fields.
    *
+   * <p>The texture is looked up by the {@link AutoTiler}, which only reads the eight neighbours of
+   * the field.
+   *
    * @param levelPart a part of a level
    * @return Path to texture
    */
   public static IPath findTexturePath(LevelPart levelPart) {
-    String prefixPath = "dungeon/" + levelPart.design().name().toLowerCase() + "/";
-
-    IPath path = findTexturePathFloor(levelPart);
-    if (path != null) {
-      return new SimpleIPath(prefixPath + path.pathString() + ".png");
-    }
-
-    path = findTexturePathDoor(levelPart);
-    if (path != null) {
-      return new SimpleIPath(prefixPath + path.pathString() + ".png");
-    }
-
-    path = findTexturePathInnerCorner(levelPart);
-    if (path != null) {
-      return new SimpleIPath(prefixPath + path.pathString() + ".png");
-    }
-
-    path = findTexturePathOuterCorner(levelPart);
-    if (path != null) {
-      return new SimpleIPath(prefixPath + path.pathString() + ".png");
-    }
-
-    path = findTexturePathWall(levelPart);
-    if (path != null) {
-      return new SimpleIPath(prefixPath + path.pathString() + ".png");
-    }
-
-    // Error state
-    return new SimpleIPath(prefixPath + "floor/empty.png");
+    return AutoTiler.texturePath(
+        levelPart.layout(), levelPart.position(), levelPart.element(), levelPart.design());
   }
 
   /**
@@ -64,15 +40,7 @@ public class TileTextureFactory {
    * @return Path to texture
    */
   public static IPath findTexturePath(Tile element, Tile[][] layout, LevelElement elementType) {
-    LevelElement[][] elementLayout = new LevelElement[layout.length][layout[0].length];
-    for (int x = 0; x < layout[0].length; x++) {
-      for (int y = 0; y < layout.length; y++) {
-        elementLayout[y][x] = layout[y][x].levelElement();
-      }
-    }
-    elementLayout[element.coordinate().y][element.coordinate().x] = elementType;
-    return findTexturePath(
-        new LevelPart(elementType, element.designLabel(), elementLayout, element.coordinate()));
+    return AutoTiler.texturePath(layout, element.coordinate(), elementType, element.designLabel());
   }
 
   /**
@@ -107,79 +75,109 @@ public class TileTextureFactory {
     return new SimpleIPath(prefixPath + elementPath + ".png");
   }
 
-  private static IPath findTexturePathFloor(LevelPart levelPart) {
+  /**
+   * Applies the rules for the textures to the passed field.
+   *
+   * <p>This is the reference for the tables of the {@link AutoTiler}.
+   *
+   * @param levelPart a part of a level
+   * @return Name of the texture, relative to the directory of the design and without file ending
+   */
+  static String ruleTexture(LevelPart levelPart) {
+    String path = findTexturePathFloor(levelPart);
+    if (path != null) return path;
+    if (levelPart.element() == LevelElement.DOOR) {
+      path = doorTexture(levelPart.position(), levelPart.layout());
+      if (path != null) return path;
+    }
+    path = findTexturePathInnerCorner(levelPart);
+    if (path != null) return path;
+    path = findTexturePathOuterCorner(levelPart);
+    if (path != null) return path;
+    path = findTexturePathWall(levelPart);
+    if (path != null) return path;
+    // Error state
+    return "floor/empty";
+  }
+
+  private static String findTexturePathFloor(LevelPart levelPart) {
     if (levelPart.element() == LevelElement.SKIP) {
-      return new SimpleIPath("floor/empty");
+      return "floor/empty";
     } else if (levelPart.element() == LevelElement.FLOOR) {
-      return new SimpleIPath("floor/floor_1");
+      return "floor/floor_1";
     } else if (levelPart.element() == LevelElement.EXIT) {
-      return new SimpleIPath("floor/floor_ladder");
+      return "floor/floor_ladder";
     } else if (levelPart.element() == LevelElement.HOLE) {
       if (aboveIsHole(levelPart.position, levelPart.layout)) {
-        return new SimpleIPath("floor/floor_hole1");
+        return "floor/floor_hole1";
       } else {
-        return new SimpleIPath("floor/floor_hole");
+        return "floor/floor_hole";
       }
     } else if (levelPart.element() == LevelElement.PIT) {
-      return new SimpleIPath("floor/floor_damaged");
+      return "floor/floor_damaged";
     }
     return null;
   }
 
-  private static IPath findTexturePathDoor(LevelPart levelPart) {
-    if (levelPart.element() == LevelElement.DOOR) {
-      if (belowIsAccessible(levelPart.position, levelPart.layout)) {
-        return new SimpleIPath("door/top");
-      } else if (leftIsAccessible(levelPart.position, levelPart.layout)) {
-        return new SimpleIPath("door/right");
-      } else if (rightIsAccessible(levelPart.position, levelPart.layout)) {
-        return new SimpleIPath("door/left");
-      } else if (aboveIsAccessible(levelPart.position, levelPart.layout)) {
-        return new SimpleIPath("door/bottom");
-      }
+  /**
+   * Checks which texture must be used for a door based on the accessible fields next to it.
+   *
+   * @param p coordinate of the door
+   * @param layout The level
+   * @return Name of the texture, or null if no field next to the door is accessible
+   */
+  static String doorTexture(Coordinate p, LevelElement[][] layout) {
+    if (belowIsAccessible(p, layout)) {
+      return "door/top";
+    } else if (leftIsAccessible(p, layout)) {
+      return "door/right";
+    } else if (rightIsAccessible(p, layout)) {
+      return "door/left";
+    } else if (aboveIsAccessible(p, layout)) {
+      return "door/bottom";
     }
     return null;
   }
 
-  private static IPath findTexturePathWall(LevelPart levelPart) {
+  private static String findTexturePathWall(LevelPart levelPart) {
     if (isRightWall(levelPart.position(), levelPart.layout())) {
-      return new SimpleIPath("wall/wall_right");
+      return "wall/wall_right";
     } else if (isLeftWall(levelPart.position(), levelPart.layout())) {
-      return new SimpleIPath("wall/wall_left");
+      return "wall/wall_left";
     } else if (isTopWall(levelPart.position(), levelPart.layout())) {
-      return new SimpleIPath("wall/wall_top");
+      return "wall/wall_top";
     } else if (isBottomWall(levelPart.position(), levelPart.layout())) {
-      return new SimpleIPath("wall/wall_bottom");
+      return "wall/wall_bottom";
     }
     return null;
   }
 
-  private static IPath findTexturePathInnerCorner(LevelPart levelPart) {
+  private static String findTexturePathInnerCorner(LevelPart levelPart) {
     if (isCrossUpperLeftBottomRight(levelPart.position(), levelPart.layout())) {
-      return new SimpleIPath("wall/wall_cross_upper_left_bottom_right");
+      return "wall/wall_cross_upper_left_bottom_right";
     } else if (isCrossUpperRightBottomLeft(levelPart.position(), levelPart.layout())) {
-      return new SimpleIPath("wall/wall_cross_upper_right_bottom_left");
+      return "wall/wall_cross_upper_right_bottom_left";
     } else if (isBottomLeftInnerCorner(levelPart.position(), levelPart.layout())) {
-      return new SimpleIPath("wall/wall_inner_corner_bottom_left");
+      return "wall/wall_inner_corner_bottom_left";
     } else if (isBottomRightInnerCorner(levelPart.position(), levelPart.layout())) {
-      return new SimpleIPath("wall/wall_inner_corner_bottom_right");
+      return "wall/wall_inner_corner_bottom_right";
     } else if (isUpperRightInnerCorner(levelPart.position(), levelPart.layout())) {
-      return new SimpleIPath("wall/wall_inner_corner_upper_right");
+      return "wall/wall_inner_corner_upper_right";
     } else if (isUpperLeftInnerCorner(levelPart.position(), levelPart.layout())) {
-      return new SimpleIPath("wall/wall_inner_corner_upper_left");
+      return "wall/wall_inner_corner_upper_left";
     }
     return null;
   }
 
-  private static IPath findTexturePathOuterCorner(LevelPart levelPart) {
+  private static String findTexturePathOuterCorner(LevelPart levelPart) {
     if (isBottomLeftOuterCorner(levelPart.position(), levelPart.layout())) {
-      return new SimpleIPath("wall/wall_outer_corner_bottom_left");
+      return "wall/wall_outer_corner_bottom_left";
     } else if (isBottomRightOuterCorner(levelPart.position(), levelPart.layout())) {
-      return new SimpleIPath("wall/wall_outer_corner_bottom_right");
+      return "wall/wall_outer_corner_bottom_right";
     } else if (isUpperRightOuterCorner(levelPart.position(), levelPart.layout())) {
-      return new SimpleIPath("wall/wall_outer_corner_upper_right");
+      return "wall/wall_outer_corner_upper_right";
     } else if (isUpperLeftOuterCorner(levelPart.position(), levelPart.layout())) {
-      return new SimpleIPath("wall/wall_outer_corner_upper_left");
+      return "wall/wall_outer_corner_upper_left";
     }
     return null;
   }
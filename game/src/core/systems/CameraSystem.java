@@ -9,6 +9,7 @@ import core.Game;
 import core.System;
 import core.components.CameraComponent;
 import core.components.PositionComponent;
+import core.game.FixedTimestep;
 import core.game.PreRunConfiguration;
 import core.utils.Point;
 import core.utils.components.MissingComponentException;
@@ -23,6 +24,9 @@ import core.utils.components.MissingComponentException;
  * <p>In {@link #isPointInFrustum(float, float)} also checks if points are visible on screen and
  * should be rendered.
  *
+ * <p>This is a render system: it is executed once per rendered frame and follows the interpolated
+ * position of the entity (see {@link PositionComponent#interpolatedPosition(float)}).
+ *
  * @see CameraComponent
  */
 public final class CameraSystem extends System {
@@ -77,6 +81,16 @@ public final class CameraSystem extends System {
     return CAMERA;
   }
 
+  /**
+   * The CameraSystem only changes what is shown on the screen.
+   *
+   * @return true
+   */
+  @Override
+  public boolean isRenderSystem() {
+    return true;
+  }
+
   @Override
   public void execute() {
     filteredEntityStream(CameraComponent.class, PositionComponent.class)
@@ -105,7 +119,7 @@ public final class CameraSystem extends System {
         entity
             .fetch(PositionComponent.class)
             .orElseThrow(() -> MissingComponentException.build(entity, PositionComponent.class));
-    focus(pc.position());
+    focus(pc.interpolatedPosition(FixedTimestep.alpha()));
   }
 
   private void focus(Point point) {
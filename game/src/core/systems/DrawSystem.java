@@ -7,6 +7,7 @@ import core.System;
 import core.components.DrawComponent;
 import core.components.PlayerComponent;
 import core.components.PositionComponent;
+import core.game.FixedTimestep;
 import core.level.Tile;
 import core.utils.components.MissingComponentException;
 import core.utils.components.draw.Animation;
@@ -22,9 +23,11 @@ import java.util.stream.Collectors;
  * <p>Each entity with a {@link DrawComponent} and a {@link PositionComponent} will be drawn on the
  * screen.
  *
- * <p>The system will get the current animation from the {@link DrawComponent} and will get the next
- * animation frame from the {@link Animation}, and then draw it on the current position stored in
- * the {@link PositionComponent}.
+ * <p>In the tick phase ({@link #execute()}), the system will reduce the timers of the animation
+ * queue, select the current animation from the {@link DrawComponent}, and advance it to the next
+ * animation frame. In the render phase ({@link #render()}), it will draw the current frame on the
+ * position stored in the {@link PositionComponent}, interpolated between the last two ticks. This
+ * way, animations play with the same speed, regardless of the frame rate.
  *
  * <p>This system will not queue animations. This must be done by other systems. The system
  * evaluates the queue and draws the animation with the highest priority in the queue.
@@ -40,11 +43,14 @@ public final class DrawSystem extends System {
   /**
    * The batch is necessary to draw ALL the stuff. Every object that uses draw need to know the
    * batch.
+   *
+   * <p>Created on first use, because a {@link SpriteBatch} needs an OpenGL context, which does not
+   * exist in headless mode.
    */
-  private static final SpriteBatch BATCH = new SpriteBatch();
+  private static SpriteBatch BATCH;
 
   /** Draws objects. */
-  private static final Painter PAINTER = new Painter(BATCH);
+  private static Painter PAINTER;
 
   private final Map<IPath, PainterConfig> configs;
 
@@ -60,6 +66,7 @@ public final class DrawSystem extends System {
    * @return the {@link #PAINTER} of the DrawSystem
    */
   public static Painter painter() {
+    if (PAINTER == null) PAINTER = new Painter(batch());
     return PAINTER;
   }
 
@@ -69,9 +76,35 @@ public final class DrawSystem extends System {
    * @return the {@link #BATCH} of the DrawSystem
    */
   public static SpriteBatch batch() {
+    if (BATCH == null) BATCH = new SpriteBatch();
     return BATCH;
   }
 
+  /**
+   * Will update the animations of the entities.
+   *
+   * <p>Reduces the queue timers, selects the animation with the highest priority, and advances it
+   * by one step.
+   *
+   * @see DrawComponent
+   * @see Animation
+   */
+  @Override
+  public void execute() {
+    filteredEntityStream(DrawComponent.class, PositionComponent.class)
+        .forEach(
+            entity -> {
+              DrawComponent dc =
+                  entity
+                      .fetch(DrawComponent.class)
+                      .orElseThrow(
+                          () -> MissingComponentException.build(entity, DrawComponent.class));
+              reduceFrameTimer(dc);
+              setNextAnimation(dc);
+              dc.currentAnimation().update();
+            });
+  }
+
   /**
    * Will draw entities at their position with their current animation.
    *
@@ -81,7 +114,7 @@ public final class DrawSystem extends System {
    * @see Animation
    */
   @Override
-  public void execute() {
+  public void render() {
     Map<Boolean, List<Entity>> partitionedEntities =
         filteredEntityStream(DrawComponent.class, PositionComponent.class)
             .collect(Collectors.partitioningBy(entity -> entity.isPresent(PlayerComponent.class)));
@@ -125,10 +158,8 @@ public final class DrawSystem extends System {
   }
 
   private void draw(final DSData dsd) {
-    reduceFrameTimer(dsd.dc);
-    setNextAnimation(dsd.dc);
     final Animation animation = dsd.dc.currentAnimation();
-    IPath currentAnimationTexture = animation.nextAnimationTexturePath();
+    IPath currentAnimationTexture = animation.currentAnimationTexturePath();
     if (!configs.containsKey(currentAnimationTexture)) {
       configs.put(
           currentAnimationTexture,
@@ -136,7 +167,9 @@ public final class DrawSystem extends System {
     }
     PainterConfig conf = this.configs.get(currentAnimationTexture);
     conf.tintColor(dsd.dc.tintColor());
-    PAINTER.draw(dsd.pc.position(), currentAnimationTexture, conf);
+    painter()
+        .draw(
+            dsd.pc.interpolatedPosition(FixedTimestep.alpha()), currentAnimationTexture, conf);
   }
 
   /**
@@ -146,15 +179,7 @@ public final class DrawSystem extends System {
    * @param dc Component to iterate over
    */
   private void reduceFrameTimer(final DrawComponent dc) {
-    // iterate through animationQueue
-    for (Map.Entry<IPath, Integer> entry : dc.animationQueue().entrySet()) {
-      // reduce remaining frame time of animation by 1
-      entry.setValue(entry.getValue() - 1);
-    }
-    // remove animations when there is no remaining frame time
-    dc.animationQueue().entrySet().stream()
-        .filter(x -> x.getValue() < 0)
-        .forEach(x -> dc.deQueue(x.getKey()));
+    dc.reduceQueueTimers();
   }
 
   /**
@@ -164,18 +189,12 @@ public final class DrawSystem extends System {
    * @param dc DrawComponent to draw
    */
   private void setNextAnimation(final DrawComponent dc) {
-
-    Optional<Map.Entry<IPath, Integer>> highestFind =
-        dc.animationQueue().entrySet().stream()
-            .max(Comparator.comparingInt(x -> x.getKey().priority()));
+    IPath highestPrio = dc.highestPriorityQueuedAnimation();
 
     // when there is an animation load it
-    if (highestFind.isPresent()) {
-      IPath highestPrio = highestFind.get().getKey();
-      // making sure the animation exists
-      dc.animationMap().get(highestPrio.pathString());
+    if (highestPrio != null) {
       // changing the Animation
-      dc.currentAnimation(highestPrio);
+      dc.currentAnimation(highestPrio.pathString());
     }
   }
 
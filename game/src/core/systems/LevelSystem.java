@@ -1,12 +1,13 @@
 package core.systems;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.audio.Sound;
 import core.Entity;
 import core.Game;
 import core.System;
 import core.components.PlayerComponent;
 import core.components.PositionComponent;
+import core.game.RandomService;
+import core.game.SoundService;
+import core.level.PackedTileLevel;
 import core.level.Tile;
 import core.level.elements.ILevel;
 import core.level.elements.tile.DoorTile;
@@ -19,7 +20,11 @@ import core.utils.components.MissingComponentException;
 import core.utils.components.draw.Painter;
 import core.utils.components.draw.PainterConfig;
 import core.utils.components.path.IPath;
+import core.utils.components.path.SimpleIPath;
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Logger;
 
 /**
@@ -27,9 +32,9 @@ import java.util.logging.Logger;
  *
  * <p>The system will store the currently active level.
  *
- * <p>Each frame, this system will draw the level on the screen. The system will also check if one
- * of the entities managed by this system is positioned on the end tile of the level. If so, the
- * next level will be loaded.
+ * <p>Each frame, this system will draw the level on the screen (see {@link #render()}). Each tick,
+ * the system will check if one of the entities managed by this system is positioned on the end
+ * tile of the level. If so, the next level will be loaded.
  *
  * <p>The system uses the configured {@link IGenerator} to generate levels in the configured {@link
  * LevelSize}. Use {@link #generator(IGenerator)} to change the used level generator. Use {@link
@@ -38,6 +43,14 @@ import java.util.logging.Logger;
  * <p>If a new level is loaded, the system will trigger the onLevelLoad callback given in the
  * constructor of this system.
  *
+ * <p>While a level is played, the next level is generated on a background thread, so reaching the
+ * end tile does not freeze the game for the generation of a large level. The pre-generated level
+ * is used by {@link #loadLevel(LevelSize)} and {@link #loadLevel(LevelSize, DesignLabel)} if the
+ * generator and the configuration still match; otherwise, the level is generated synchronously.
+ * Nothing is pre-generated if a custom {@link #onEndTile(IVoidFunction)} function is set, as the
+ * next level is then not loaded from the generator. The background generation draws its random
+ * numbers from a generator split from the {@link RandomService}, so it is reproducible.
+ *
  * <p>An entity needs a {@link PositionComponent} and a {@link PlayerComponent} to be managed by
  * this system.
  *
@@ -56,7 +69,7 @@ public final class LevelSystem extends System {
    */
   private static final float Y_OFFSET = 0.25f;
 
-  private static final String SOUND_EFFECT = "sounds/enterDoor.wav";
+  private static final IPath SOUND_EFFECT = new SimpleIPath("sounds/enterDoor.wav");
 
   /** Currently used level-size configuration for generating new level. */
   private static LevelSize levelSize = LevelSize.MEDIUM;
@@ -67,6 +80,8 @@ public final class LevelSystem extends System {
   private final Logger levelAPI_logger = Logger.getLogger(this.getClass().getSimpleName());
   private IVoidFunction onEndTile;
   private IGenerator generator;
+  private boolean prefetchFromGenerator = true;
+  private PrefetchedLevel nextLevel;
 
   /**
    * Create a new {@link LevelSystem}.
@@ -75,7 +90,8 @@ public final class LevelSystem extends System {
    * DesignLabel)} if you want to trigger the load of a level manually; otherwise, the first level
    * will be loaded if this system's {@link #execute()} is executed.
    *
-   * @param painter The {@link Painter} to use to draw the level.
+   * @param painter The {@link Painter} to use to draw the level, or null if the level should not be
+   *     drawn (e.g., in headless mode).
    * @param generator Level generator to use to generate the level.
    * @param onLevelLoad Callback function that is called if a new level was loaded.
    */
@@ -119,9 +135,12 @@ public final class LevelSystem extends System {
    *
    * <p>Will trigger the onLevelLoad callback.
    *
+   * <p>If the previous level is a {@link PackedTileLevel}, it is packed.
+   *
    * @param level The level to be set.
    */
   public void loadLevel(final ILevel level) {
+    if (currentLevel != level && currentLevel instanceof PackedTileLevel previous) previous.pack();
     currentLevel = level;
     onLevelLoad.execute();
     levelAPI_logger.info("A new level was loaded.");
@@ -136,9 +155,7 @@ public final class LevelSystem extends System {
    * @param label The wanted design of the new level.
    */
   public void loadLevel(final LevelSize size, final DesignLabel label) {
-    currentLevel = generator.level(label, size);
-    onLevelLoad.execute();
-    levelAPI_logger.info("A new level was loaded.");
+    loadLevel(takePrefetchedLevel(size, label).orElseGet(() -> generator.level(label, size)));
   }
 
   /**
@@ -160,7 +177,12 @@ public final class LevelSystem extends System {
    * @param size Wanted size of the level.
    */
   public void loadLevel(final LevelSize size) {
-    loadLevel(size, DesignLabel.randomDesign());
+    Optional<ILevel> prefetched = takePrefetchedLevel(size, null);
+    if (prefetched.isEmpty()) {
+      loadLevel(size, DesignLabel.randomDesign());
+      return;
+    }
+    loadLevel(prefetched.get());
   }
 
   /**
@@ -169,10 +191,57 @@ public final class LevelSystem extends System {
    * <p>Will trigger the onLevelLoad callback.
    */
   public void loadLevel() {
-    loadLevel(levelSize(), DesignLabel.randomDesign());
+    loadLevel(levelSize());
+  }
+
+  /**
+   * Start to generate the next level on a background thread.
+   *
+   * <p>Does nothing if a level is already pre-generated.
+   */
+  private void prefetchNextLevel() {
+    if (!prefetchFromGenerator || nextLevel != null || currentLevel == null) return;
+    IGenerator nextGenerator = generator;
+    LevelSize size = levelSize;
+    DesignLabel label = DesignLabel.randomDesign();
+    SplittableRandom random = RandomService.split(LevelSystem.class.getName());
+    nextLevel =
+        new PrefetchedLevel(
+            nextGenerator,
+            size,
+            label,
+            CompletableFuture.supplyAsync(
+                () -> RandomService.supplyWith(random, () -> nextGenerator.level(label, size))));
+  }
+
+  /**
+   * Take the pre-generated level, if it matches the current generator and the given
+   * configuration.
+   *
+   * <p>The pre-generated level is discarded in any case. If it is not finished yet, this method
+   * waits for it.
+   *
+   * @param size Wanted size of the level.
+   * @param label Wanted design of the level, or null if any design is fine.
+   * @return The pre-generated level, or an empty optional if there is no matching level.
+   */
+  private Optional<ILevel> takePrefetchedLevel(final LevelSize size, final DesignLabel label) {
+    PrefetchedLevel prefetched = nextLevel;
+    nextLevel = null;
+    if (prefetched == null
+        || prefetched.generator() != generator
+        || prefetched.size() != size
+        || (label != null && prefetched.label() != label)) return Optional.empty();
+    try {
+      return Optional.ofNullable(prefetched.level().join());
+    } catch (CompletionException | CancellationException e) {
+      levelAPI_logger.warning("Failed to generate the next level: " + e.getMessage());
+      return Optional.empty();
+    }
   }
 
   private void drawLevel() {
+    if (painter == null) return;
     Map<IPath, PainterConfig> mapping = new HashMap<>();
 
     Tile[][] layout = currentLevel.layout();
@@ -222,6 +291,7 @@ public final class LevelSystem extends System {
    */
   public void generator(final IGenerator generator) {
     this.generator = generator;
+    nextLevel = null;
   }
 
   /**
@@ -265,18 +335,13 @@ public final class LevelSystem extends System {
   }
 
   private void playSound() {
-    Sound doorSound = Gdx.audio.newSound(Gdx.files.internal(SOUND_EFFECT));
-    long soundId = doorSound.play();
-    doorSound.setLooping(soundId, false);
-    doorSound.setVolume(soundId, 0.3f);
+    SoundService.play(SOUND_EFFECT, 0.3f);
   }
 
   /**
    * Execute the system logic.
    *
    * <p>Will load a new level if no level exists or one of the managed entities are on the end tile.
-   *
-   * <p>Will draw the level.
    */
   @Override
   public void execute() {
@@ -295,7 +360,13 @@ public final class LevelSystem extends System {
                           playSound();
                         });
               });
-    drawLevel();
+    prefetchNextLevel();
+  }
+
+  /** Will draw the level. */
+  @Override
+  public void render() {
+    if (currentLevel != null) drawLevel();
   }
 
   /**
@@ -305,6 +376,8 @@ public final class LevelSystem extends System {
    */
   public void onEndTile(IVoidFunction onEndTile) {
     this.onEndTile = onEndTile;
+    prefetchFromGenerator = false;
+    nextLevel = null;
   }
 
   /**
@@ -321,4 +394,7 @@ public final class LevelSystem extends System {
   public void stop() {
     run = true;
   }
+
+  private record PrefetchedLevel(
+      IGenerator generator, LevelSize size, DesignLabel label, CompletableFuture<ILevel> level) {}
 }
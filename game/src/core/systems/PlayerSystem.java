@@ -1,12 +1,13 @@
 package core.systems;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Input;
 import core.Entity;
 import core.System;
 import core.components.PlayerComponent;
+import core.game.Replay;
 import core.utils.components.MissingComponentException;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Controls the Player.
@@ -15,10 +16,18 @@ import java.util.Map;
  *
  * <p>This System will check for each registered callback in the {@link PlayerComponent} if the Key
  * is pressed, and if so, will execute the Callback.
+ *
+ * <p>Whether a key was just pressed is decided per tick, by comparing with the keys that were
+ * pressed in the previous tick. libGDX decides this per rendered frame, which would lose key
+ * presses in frames without a tick, or repeat them if a frame executes several ticks.
+ *
+ * <p>The keys are read with {@link Replay#isPressed(int)}, so they can be recorded and replayed.
  */
 public final class PlayerSystem extends System {
 
   private boolean running = true;
+  private Set<Integer> pressedInLastTick = new HashSet<>();
+  private Set<Integer> pressedInThisTick = new HashSet<>();
 
   /** WTF? . */
   public PlayerSystem() {
@@ -27,7 +36,13 @@ public final class PlayerSystem extends System {
 
   @Override
   public void execute() {
+    // there is no input in headless mode, unless a recording is replayed
+    if (!Replay.hasInput()) return;
     filteredEntityStream(PlayerComponent.class).forEach(this::execute);
+    Set<Integer> swap = pressedInLastTick;
+    pressedInLastTick = pressedInThisTick;
+    pressedInThisTick = swap;
+    pressedInThisTick.clear();
   }
 
   private void execute(final Entity entity) {
@@ -66,19 +81,17 @@ public final class PlayerSystem extends System {
       boolean paused) {
     callbacks.forEach(
         (key, value) -> {
+          boolean isPressed = Replay.isPressed(key);
+          if (isPressed) pressedInThisTick.add(key);
           if (!paused || value.pauseable()) {
-            execute(entity, key, value);
+            execute(entity, key, value, isPressed);
           }
         });
   }
 
-  private void execute(final Entity entity, int key, final PlayerComponent.InputData data) {
-    boolean isMouseButton =
-        key == Input.Buttons.LEFT || key == Input.Buttons.RIGHT || key == Input.Buttons.MIDDLE;
-    boolean isPressed =
-        isMouseButton ? Gdx.input.isButtonPressed(key) : Gdx.input.isKeyPressed(key);
-    boolean isJustPressed =
-        isMouseButton ? Gdx.input.isButtonJustPressed(key) : Gdx.input.isKeyJustPressed(key);
+  private void execute(
+      final Entity entity, int key, final PlayerComponent.InputData data, boolean isPressed) {
+    boolean isJustPressed = isPressed && !pressedInLastTick.contains(key);
 
     if ((isJustPressed && !data.repeat()) || (isPressed && data.repeat())) {
       data.callback().accept(entity);
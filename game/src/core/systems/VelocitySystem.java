@@ -1,6 +1,5 @@
 package core.systems;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.math.Vector2;
 import core.Entity;
 import core.Game;
@@ -8,6 +7,7 @@ import core.System;
 import core.components.DrawComponent;
 import core.components.PositionComponent;
 import core.components.VelocityComponent;
+import core.game.FixedTimestep;
 import core.level.Tile;
 import core.level.utils.LevelElement;
 import core.utils.Point;
@@ -64,8 +64,10 @@ public final class VelocitySystem extends System {
       velocity.nor();
       velocity.scl(maxSpeed);
     }
-    if (Gdx.graphics != null) {
-      velocity.scl(Gdx.graphics.getDeltaTime());
+    // the game loop executes this system once per tick; if it is executed manually (e.g., in
+    // tests), the velocity is applied as it is
+    if (FixedTimestep.isActive()) {
+      velocity.scl(FixedTimestep.tickDelta());
     }
 
     float newX = vsd.pc.position().x + velocity.x;
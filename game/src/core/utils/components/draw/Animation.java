@@ -2,7 +2,6 @@ package core.utils.components.draw;
 
 import core.utils.components.path.IPath;
 import core.utils.components.path.SimpleIPath;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
@@ -27,6 +26,11 @@ import java.util.Set;
  * time between two frames. Use {@link #loop(boolean)} to define if the Animation stops at the last
  * frame or should loop (starts from the beginning, this is the default setting).
  *
+ * <p>The frames itself are stored in a shared, immutable {@link AnimationClip}. An Animation only
+ * holds its configuration and the playback position, so it is cheap to create one Animation per
+ * entity.
+ *
+ * @see AnimationClip
  * @see core.components.DrawComponent
  * @see IPath
  */
@@ -37,9 +41,7 @@ public final class Animation {
   private static final boolean DEFAULT_IS_LOOP = true;
   private static final int DEFAULT_PRIO = 200;
 
-  private final List<IPath> animationFrames;
-
-  private final int frames;
+  private final AnimationClip clip;
   private final int priority;
   private int timeBetweenFrames;
   private int currentFrameIndex = 0;
@@ -56,9 +58,19 @@ public final class Animation {
    */
   private Animation(
       final Collection<IPath> animationFrames, int frameTime, boolean looping, int prio) {
-    assert (animationFrames != null && !animationFrames.isEmpty());
-    this.animationFrames = new ArrayList<>(animationFrames);
-    frames = animationFrames.size();
+    this(AnimationClip.of(animationFrames), frameTime, looping, prio);
+  }
+
+  /**
+   * Creates an animation that plays the given clip.
+   *
+   * @param clip The shared frames of the animation.
+   * @param frameTime How many frames to wait, before switching to the next texture?
+   * @param looping should the Animation continue to repeat ?
+   * @param prio priority for playing this animation
+   */
+  private Animation(final AnimationClip clip, int frameTime, boolean looping, int prio) {
+    this.clip = clip;
     if (frameTime == 0) {
       throw new IllegalArgumentException(
           "Parameter frameTime is set to 0, frameTime must be greater than 0!");
@@ -109,6 +121,20 @@ public final class Animation {
     return new Animation(animationFrames, frameTime, looping, prio);
   }
 
+  /**
+   * Creates an animation with the default configuration that plays the given clip.
+   *
+   * <p>Use this to create a new Animation (with its own playback position) for frames that are
+   * already loaded.
+   *
+   * @param clip The shared frames of the animation.
+   * @return The created Animation instance
+   */
+  public static Animation fromClip(final AnimationClip clip) {
+    return new Animation(
+        clip, DEFAULT_FRAME_TIME, DEFAULT_IS_LOOP, CoreAnimationPriorities.DEFAULT.priority());
+  }
+
   /**
    * Create an animation from single frame and the default configuration.
    *
@@ -148,15 +174,32 @@ public final class Animation {
    * @return The texture of the next animation step (draw this).
    */
   public IPath nextAnimationTexturePath() {
-    if (isFinished()) {
-      return animationFrames.get(currentFrameIndex);
-    }
-    IPath pathToReturn = animationFrames.get(currentFrameIndex);
+    IPath pathToReturn = currentAnimationTexturePath();
+    update();
+    return pathToReturn;
+  }
+
+  /**
+   * Get the texture of the current animation step, without advancing the animation.
+   *
+   * @return The texture of the current animation step.
+   */
+  public IPath currentAnimationTexturePath() {
+    return clip.frame(currentFrameIndex);
+  }
+
+  /**
+   * Advance the animation by one step.
+   *
+   * <p>Every {@link #timeBetweenFrames(int) timeBetweenFrames} steps, the next frame is selected.
+   * A finished animation is not advanced.
+   */
+  public void update() {
+    if (isFinished()) return;
     frameTimeCounter = (frameTimeCounter + 1) % timeBetweenFrames;
     if (frameTimeCounter == 0) {
-      currentFrameIndex = (currentFrameIndex + 1) % frames;
+      currentFrameIndex = (currentFrameIndex + 1) % clip.frameCount();
     }
-    return pathToReturn;
   }
 
   /**
@@ -165,7 +208,7 @@ public final class Animation {
    * @return true when last frame and is not looping, otherwise false
    */
   public boolean isFinished() {
-    return !looping && currentFrameIndex == frames - 1;
+    return !looping && currentFrameIndex == clip.frameCount() - 1;
   }
 
   /**
@@ -180,10 +223,19 @@ public final class Animation {
   /**
    * Get the List of animation frames.
    *
-   * @return List containing the paths of the single frames of the animation.
+   * @return Unmodifiable list containing the paths of the single frames of the animation.
    */
   public List<IPath> animationFrames() {
-    return new ArrayList<>(animationFrames);
+    return clip.frames();
+  }
+
+  /**
+   * Get the shared frames of this animation.
+   *
+   * @return The {@link AnimationClip} this animation plays.
+   */
+  public AnimationClip clip() {
+    return clip;
   }
 
   /**
@@ -222,6 +274,6 @@ public final class Animation {
    * @return the amount of frames it would take to finish one loop of the Animation
    */
   public int duration() {
-    return timeBetweenFrames * animationFrames.size();
+    return timeBetweenFrames * clip.frameCount();
   }
 }
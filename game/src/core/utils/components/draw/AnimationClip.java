@@ -0,0 +1,81 @@
+package core.utils.components.draw;
+
+import core.utils.components.path.IPath;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The immutable part of an {@link Animation}: the ordered frames (texture paths) of the animation.
+ *
+ * <p>Clips are interned. Use {@link #of(Collection)} to get the clip for a list of frames; two
+ * calls with frames that have the same path strings will return the same instance. This way, every
+ * entity that uses e.g. the "idle_left" animation of a monster shares the same frame array, and
+ * only the small playback state in {@link Animation} is stored per entity.
+ *
+ * <p>Because {@link IPath} does not (and can not) override {@code equals}, the frames are compared
+ * by their {@link IPath#pathString()}.
+ *
+ * @see Animation
+ */
+public final class AnimationClip {
+
+  private static final Map<List<String>, AnimationClip> CLIPS = new ConcurrentHashMap<>();
+
+  private final IPath[] frames;
+  private final List<IPath> frameList;
+
+  private AnimationClip(final IPath[] frames) {
+    this.frames = frames;
+    this.frameList = Collections.unmodifiableList(Arrays.asList(frames));
+  }
+
+  /**
+   * Get the (shared) clip for the given frames.
+   *
+   * <p>If a clip with the same frames (compared by path string) was already created, that clip will
+   * be returned.
+   *
+   * @param animationFrames The list of textures that builds the animation. Must be in order.
+   * @return The interned clip for the given frames.
+   */
+  public static AnimationClip of(final Collection<IPath> animationFrames) {
+    assert (animationFrames != null && !animationFrames.isEmpty());
+    List<String> key = new ArrayList<>(animationFrames.size());
+    for (IPath frame : animationFrames) key.add(frame.pathString());
+    return CLIPS.computeIfAbsent(
+        key, k -> new AnimationClip(animationFrames.toArray(new IPath[0])));
+  }
+
+  /**
+   * Get the number of frames in this clip.
+   *
+   * @return The number of frames.
+   */
+  public int frameCount() {
+    return frames.length;
+  }
+
+  /**
+   * Get the frame at the given index.
+   *
+   * @param index Index of the frame.
+   * @return The path of the texture at the given index.
+   */
+  public IPath frame(int index) {
+    return frames[index];
+  }
+
+  /**
+   * Get the frames of this clip.
+   *
+   * @return Unmodifiable list containing the paths of the single frames of the clip.
+   */
+  public List<IPath> frames() {
+    return frameList;
+  }
+}
@@ -1,6 +1,7 @@
 package core.utils.components.draw;
 
 import com.badlogic.gdx.graphics.Texture;
+import core.game.AssetStreamer;
 import core.utils.components.path.IPath;
 import java.util.HashMap;
 
@@ -10,7 +11,11 @@ import java.util.HashMap;
  * <p>Use {@link #instance()} to get the only instance of the {@link TextureMap}, and use {@link
  * #textureAt(IPath)} to get the texture that is stored at the given path.
  *
+ * <p>Textures that were requested from the {@link AssetStreamer} are taken from there, so they are
+ * not loaded twice.
+ *
  * @see Painter
+ * @see AssetStreamer
  */
 public final class TextureMap extends HashMap<String, Texture> {
   private static final TextureMap INSTANCE = new TextureMap();
@@ -28,6 +33,9 @@ public final class TextureMap extends HashMap<String, Texture> {
    * Searches the HashMap for the matching texture and returns it. If the texture is not stored in
    * the HashMap, it is created and saved.
    *
+   * <p>If the texture was queued in the {@link AssetStreamer}, the streamed texture will be used
+   * (and finished if it is still loading). Otherwise, the texture is loaded synchronously.
+   *
    * @param path Path to the texture.
    * @return The Texture at the given path.
    */
@@ -38,7 +46,11 @@ public final class TextureMap extends HashMap<String, Texture> {
       // would add it twice in the map.
       // IPath cannot override the equals method because it's an interface, and it can't be
       // called. If it could be called, then the enums could not implement it.
-      put(path.pathString(), new Texture(path.pathString()));
+      Texture texture =
+          AssetStreamer.contains(path, Texture.class)
+              ? AssetStreamer.finishLoading(path, Texture.class)
+              : new Texture(path.pathString());
+      put(path.pathString(), texture);
     }
 
     return get(path.pathString());
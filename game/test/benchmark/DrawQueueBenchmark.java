@@ -0,0 +1,70 @@
+package benchmark;
+
+import core.components.DrawComponent;
+import core.utils.components.draw.CoreAnimationPriorities;
+import core.utils.components.draw.CoreAnimations;
+import core.utils.components.path.IPath;
+import core.utils.components.path.SimpleIPath;
+import java.io.IOException;
+
+/**
+ * Micro-benchmark for the per-entity animation queue work the {@link core.systems.DrawSystem} and
+ * the {@link core.systems.VelocitySystem} do each frame.
+ *
+ * <p>For every entity, the movement animation is re-queued (like the VelocitySystem does), the
+ * queue timers are reduced and the animation with the highest priority is selected (like the
+ * DrawSystem does). The actual drawing is not part of the benchmark, because it needs an OpenGL
+ * context.
+ *
+ * <p>This is not a unit test. Start this with ./gradlew runDrawQueueBenchmark
+ */
+public class DrawQueueBenchmark {
+
+  private static final int ENTITIES = 1_000;
+  private static final int WARMUP_FRAMES = 5_000;
+  private static final int MEASURED_FRAMES = 20_000;
+
+  /**
+   * Main method.
+   *
+   * @param args the command line arguments
+   * @throws IOException if the test textures can not be found
+   */
+  public static void main(String[] args) throws IOException {
+    DrawComponent[] components = new DrawComponent[ENTITIES];
+    for (int i = 0; i < ENTITIES; i++)
+      components[i] = new DrawComponent(new SimpleIPath("textures/test_hero"));
+
+    runFrames(components, WARMUP_FRAMES);
+    long start = System.nanoTime();
+    long checksum = runFrames(components, MEASURED_FRAMES);
+    long duration = System.nanoTime() - start;
+
+    System.out.printf(
+        "%d entities, %d frames: %.1f ns per entity and frame (checksum %d)%n",
+        ENTITIES, MEASURED_FRAMES, (double) duration / ENTITIES / MEASURED_FRAMES, checksum);
+  }
+
+  private static long runFrames(final DrawComponent[] components, int frames) {
+    long checksum = 0;
+    for (int frame = 0; frame < frames; frame++) {
+      boolean moving = (frame / 100) % 2 == 0;
+      for (DrawComponent dc : components) {
+        if (moving) {
+          dc.deQueueByPriority(CoreAnimationPriorities.RUN.priority());
+          dc.queueAnimation(CoreAnimations.RUN_RIGHT, CoreAnimations.RUN);
+          dc.deQueueByPriority(CoreAnimationPriorities.IDLE.priority());
+        } else {
+          dc.queueAnimation(2, CoreAnimations.IDLE_RIGHT, CoreAnimations.IDLE);
+        }
+        dc.reduceQueueTimers();
+        IPath next = dc.highestPriorityQueuedAnimation();
+        if (next != null) {
+          dc.currentAnimation(next.pathString());
+          checksum += next.priority();
+        }
+      }
+    }
+    return checksum;
+  }
+}
@@ -2,6 +2,7 @@ package core;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import org.junit.jupiter.api.AfterEach;
@@ -116,5 +117,62 @@ public class SystemTest {
     assertTrue(stream.contains(e2));
   }
 
+  /** Without a budget, all entities are processed at once. */
+  @Test
+  public void forEachWithinBudget_noBudget() {
+    List<Entity> entities = List.of(new Entity(), new Entity(), new Entity());
+    List<Entity> processed = new ArrayList<>();
+    assertTrue(testSystem.forEachWithinBudget(entities.stream(), processed::add));
+    assertEquals(3, processed.size());
+  }
+
+  /** With a budget, the processing resumes after the last processed entity. */
+  @Test
+  public void forEachWithinBudget_resumes() {
+    List<Entity> entities = List.of(new Entity(), new Entity(), new Entity());
+    List<Entity> processed = new ArrayList<>();
+    testSystem.entityBudget(1);
+
+    assertFalse(testSystem.forEachWithinBudget(entities.reversed().stream(), processed::add));
+    assertFalse(testSystem.forEachWithinBudget(entities.stream(), processed::add));
+    assertTrue(testSystem.forEachWithinBudget(entities.stream(), processed::add));
+    assertEquals(entities, processed);
+
+    // next pass starts from the beginning
+    assertFalse(testSystem.forEachWithinBudget(entities.stream(), processed::add));
+    assertEquals(entities.get(0), processed.get(3));
+  }
+
+  /** Entities removed from the system during a pass are skipped. */
+  @Test
+  public void forEachWithinBudget_skipsRemoved() {
+    List<Entity> entities = List.of(new Entity(), new Entity(), new Entity());
+    List<Entity> processed = new ArrayList<>();
+    testSystem.entityBudget(1);
+
+    assertFalse(testSystem.forEachWithinBudget(entities.stream(), processed::add));
+    testSystem.triggerOnRemove(entities.get(1));
+    assertTrue(testSystem.forEachWithinBudget(entities.stream(), processed::add));
+    assertEquals(List.of(entities.get(0), entities.get(2)), processed);
+  }
+
+  /** Systems that are not executed every frame get different offsets. */
+  @Test
+  public void stagger() {
+    System first =
+        new System(4) {
+          @Override
+          public void execute() {}
+        };
+    System second =
+        new System(4) {
+          @Override
+          public void execute() {}
+        };
+    Game.add(first);
+    Game.add(second);
+    assertNotEquals(first.lastExecuteInFrames(), second.lastExecuteInFrames());
+  }
+
   private static class DummyComponent implements Component {}
 }
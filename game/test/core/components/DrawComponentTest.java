@@ -1,6 +1,8 @@
 package core.components;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import core.utils.components.draw.CoreAnimations;
@@ -74,4 +76,40 @@ public class DrawComponentTest {
     assertTrue(animationComponent.hasAnimation(CoreAnimations.RUN_LEFT));
     assertFalse(animationComponent.hasAnimation(CoreAnimations.RUN_DOWN));
   }
+
+  /** The queued animation with the highest priority is returned, regardless of queue order. */
+  @Test
+  public void highestPriorityQueuedAnimation() {
+    assertNull(animationComponent.highestPriorityQueuedAnimation());
+    animationComponent.queueAnimation(10, CoreAnimations.RUN_LEFT);
+    animationComponent.queueAnimation(10, CoreAnimations.IDLE_LEFT);
+    assertEquals(CoreAnimations.RUN_LEFT, animationComponent.highestPriorityQueuedAnimation());
+    animationComponent.deQueueByPriority(CoreAnimations.RUN_LEFT.priority());
+    assertEquals(CoreAnimations.IDLE_LEFT, animationComponent.highestPriorityQueuedAnimation());
+  }
+
+  /** Only one animation per priority is queued; the first one stays, the time is the maximum. */
+  @Test
+  public void queueAnimationSamePriority() {
+    animationComponent.queueAnimation(10, CoreAnimations.RUN_LEFT);
+    animationComponent.queueAnimation(20, CoreAnimations.RUN_RIGHT);
+    animationComponent.queueAnimation(5, CoreAnimations.RUN_RIGHT);
+    assertEquals(1, animationComponent.animationQueue().size());
+    assertTrue(animationComponent.isAnimationQueued(CoreAnimations.RUN_LEFT));
+    assertEquals(20, animationComponent.animationQueue().get(CoreAnimations.RUN_LEFT));
+  }
+
+  /** Queued animations are removed once their frame time is used up. */
+  @Test
+  public void reduceQueueTimers() {
+    animationComponent.queueAnimation(1, CoreAnimations.RUN_LEFT);
+    animationComponent.queueAnimation(3, CoreAnimations.IDLE_LEFT);
+    animationComponent.reduceQueueTimers();
+    animationComponent.reduceQueueTimers();
+    assertFalse(animationComponent.isAnimationQueued(CoreAnimations.RUN_LEFT));
+    assertEquals(1, animationComponent.animationQueue().get(CoreAnimations.IDLE_LEFT));
+    animationComponent.reduceQueueTimers();
+    animationComponent.reduceQueueTimers();
+    assertNull(animationComponent.highestPriorityQueuedAnimation());
+  }
 }
@@ -1,5 +1,6 @@
 package core.components;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import core.utils.Point;
@@ -26,4 +27,22 @@ public class PositionComponentTest {
     positionComponent.position(newPoint);
     assertTrue(newPoint.equals(positionComponent.position()));
   }
+
+  /** The position between the last two ticks is interpolated. */
+  @Test
+  public void interpolatedPosition() {
+    positionComponent.position(new Point(4, 3));
+    Point interpolated = positionComponent.interpolatedPosition(0.5f);
+    assertEquals(3.5f, interpolated.x, 0.001);
+    assertEquals(3f, interpolated.y, 0.001);
+    assertTrue(new Point(4, 3).equals(positionComponent.interpolatedPosition(1f)));
+  }
+
+  /** A teleported entity is not interpolated. */
+  @Test
+  public void interpolatedPositionTeleport() {
+    Point target = new Point(30, 3);
+    positionComponent.position(target);
+    assertTrue(target.equals(positionComponent.interpolatedPosition(0.5f)));
+  }
 }
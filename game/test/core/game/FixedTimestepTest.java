@@ -0,0 +1,56 @@
+package core.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link FixedTimestep} class. */
+public class FixedTimestepTest {
+
+  /** Reset the timestep. */
+  @AfterEach
+  public void cleanup() {
+    FixedTimestep.deactivate();
+    PreRunConfiguration.tickRate(30);
+  }
+
+  /** Fast frames execute a tick only every few frames. */
+  @Test
+  public void fastFrames() {
+    PreRunConfiguration.tickRate(10);
+    assertEquals(0, FixedTimestep.advance(0.04f));
+    assertEquals(0.4f, FixedTimestep.alpha(), 0.001);
+    assertEquals(0, FixedTimestep.advance(0.04f));
+    assertEquals(1, FixedTimestep.advance(0.04f));
+    assertEquals(0.2f, FixedTimestep.alpha(), 0.001);
+  }
+
+  /** Slow frames execute several ticks. */
+  @Test
+  public void slowFrames() {
+    PreRunConfiguration.tickRate(100);
+    assertEquals(3, FixedTimestep.advance(0.035f));
+    assertEquals(0.5f, FixedTimestep.alpha(), 0.001);
+  }
+
+  /** If the game falls behind, the ticks per frame are limited. */
+  @Test
+  public void maxTicksPerFrame() {
+    PreRunConfiguration.tickRate(100);
+    assertEquals(FixedTimestep.MAX_TICKS_PER_FRAME, FixedTimestep.advance(1f));
+    assertEquals(0, FixedTimestep.advance(0.001f));
+  }
+
+  /** The game time advances only with the ticks. */
+  @Test
+  public void gameTime() {
+    PreRunConfiguration.tickRate(20);
+    long start = FixedTimestep.gameTimeMillis();
+    FixedTimestep.advance(1f);
+    assertEquals(start, FixedTimestep.gameTimeMillis());
+    FixedTimestep.startTick();
+    FixedTimestep.startTick();
+    assertEquals(start + 100, FixedTimestep.gameTimeMillis());
+  }
+}
@@ -0,0 +1,72 @@
+package core.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import core.Game;
+import core.systems.CameraSystem;
+import core.systems.LevelSystem;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link HeadlessGameLoop} class. */
+public class HeadlessGameLoopTest {
+
+  /** Load the natives for headless testing. */
+  @BeforeAll
+  public static void initGDX() {
+    GdxNativesLoader.load();
+  }
+
+  /** Reset the game. */
+  @AfterEach
+  public void cleanup() {
+    Game.removeAllEntities();
+    Game.removeAllSystems();
+    PreRunConfiguration.headless(false);
+    PreRunConfiguration.userOnFrame(() -> {});
+    PreRunConfiguration.userOnSetup(() -> {});
+    Gdx.files = null;
+  }
+
+  /** The loop runs the given number of ticks and triggers the callbacks. */
+  @Test
+  public void runTicks() {
+    AtomicInteger frames = new AtomicInteger();
+    AtomicInteger setups = new AtomicInteger();
+    Game.userOnFrame(frames::incrementAndGet);
+    Game.userOnSetup(setups::incrementAndGet);
+
+    assertEquals(100, Game.runHeadless(100));
+    assertEquals(100, frames.get());
+    assertEquals(1, setups.get());
+    assertEquals(100, HeadlessGameLoop.tickCount());
+    assertFalse(HeadlessGameLoop.isRunning());
+  }
+
+  /** Render systems are not added, but the level is loaded. */
+  @Test
+  public void noRenderSystems() {
+    Game.runHeadless(1);
+    assertTrue(PreRunConfiguration.headless());
+    assertFalse(Game.systems().containsKey(CameraSystem.class));
+    assertTrue(Game.systems().containsKey(LevelSystem.class));
+    assertNotNull(Game.currentLevel());
+  }
+
+  /** Exiting the game stops the simulation. */
+  @Test
+  public void exitStops() {
+    Game.userOnFrame(
+        () -> {
+          if (HeadlessGameLoop.tickCount() == 9) Game.exit();
+        });
+    assertEquals(10, Game.runHeadless(1000));
+  }
+}
@@ -0,0 +1,89 @@
+package core.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link RandomService} class. */
+public class RandomServiceTest {
+
+  /** Reset the seed, so other tests are not affected. */
+  @AfterEach
+  public void cleanup() {
+    RandomService.rootSeed(System.nanoTime());
+  }
+
+  /** The same root seed produces the same numbers. */
+  @Test
+  public void sameSeedSameNumbers() {
+    RandomGenerator stream = RandomService.stream("test");
+    RandomService.rootSeed(42);
+    long first = stream.nextLong();
+    int second = stream.nextInt(100);
+    RandomService.rootSeed(42);
+    assertEquals(first, stream.nextLong());
+    assertEquals(second, stream.nextInt(100));
+  }
+
+  /** The same name returns the same stream. */
+  @Test
+  public void streamIsShared() {
+    assertSame(RandomService.stream("test"), RandomService.stream("test"));
+    assertSame(RandomService.stream(RandomServiceTest.class), RandomService.stream(getClass()));
+  }
+
+  /** Drawing numbers from one stream does not change the numbers of another stream. */
+  @Test
+  public void streamsAreIndependent() {
+    RandomGenerator a = RandomService.stream("a");
+    RandomGenerator b = RandomService.stream("b");
+    RandomService.rootSeed(7);
+    long expected = b.nextLong();
+    RandomService.rootSeed(7);
+    a.nextLong();
+    a.nextLong();
+    assertEquals(expected, b.nextLong());
+  }
+
+  /** Each level gets a new seed, which only depends on the root seed and the level count. */
+  @Test
+  public void levelSeed() {
+    RandomService.rootSeed(7);
+    long first = RandomService.levelSeed();
+    RandomService.onLevelLoad();
+    long second = RandomService.levelSeed();
+    assertNotEquals(first, second);
+    RandomService.rootSeed(7);
+    assertEquals(first, RandomService.levelSeed());
+    RandomService.onLevelLoad();
+    assertEquals(second, RandomService.levelSeed());
+  }
+
+  /** Split generators are reproducible if they are split in the same order. */
+  @Test
+  public void split() {
+    RandomService.rootSeed(3);
+    SplittableRandom first = RandomService.split("worker");
+    SplittableRandom second = RandomService.split("worker");
+    long a = first.nextLong();
+    long b = second.nextLong();
+    assertNotEquals(a, b);
+    RandomService.rootSeed(3);
+    assertEquals(a, RandomService.split("worker").nextLong());
+    assertEquals(b, RandomService.split("worker").nextLong());
+  }
+
+  /** Streams used in a task draw their numbers from the given generator. */
+  @Test
+  public void supplyWith() {
+    RandomGenerator stream = RandomService.stream("test");
+    long expected = new SplittableRandom(5).nextLong();
+    long actual = RandomService.supplyWith(new SplittableRandom(5), stream::nextLong);
+    assertEquals(expected, actual);
+  }
+}
@@ -0,0 +1,151 @@
+package core.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import core.Entity;
+import core.Game;
+import core.components.PlayerComponent;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link Replay} and {@link InputRecording} classes. */
+public class ReplayTest {
+
+  /** Load the natives for headless testing. */
+  @BeforeAll
+  public static void initGDX() {
+    GdxNativesLoader.load();
+  }
+
+  /** Reset the game. */
+  @AfterEach
+  public void cleanup() {
+    Game.removeAllEntities();
+    Game.removeAllSystems();
+    PreRunConfiguration.headless(false);
+    PreRunConfiguration.userOnSetup(() -> {});
+    Gdx.files = null;
+  }
+
+  /** A recording is the same after writing and reading it. */
+  @Test
+  public void binaryFormat() throws IOException {
+    InputRecording recording = new InputRecording(42, 30, "maze.level");
+    recording.add(new InputRecording.KeyEvent(3, Input.Keys.W, true));
+    recording.add(new InputRecording.ActionEvent(3, "blockly", "oben();"));
+    recording.add(new InputRecording.KeyEvent(300, Input.Keys.W, false));
+    recording.tickCount(500);
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    recording.write(out);
+    InputRecording read = InputRecording.read(new ByteArrayInputStream(out.toByteArray()));
+
+    assertEquals(42, read.rootSeed());
+    assertEquals(30, read.tickRate());
+    assertEquals("maze.level", read.levelSource());
+    assertEquals(500, read.tickCount());
+    assertEquals(recording.events(), read.events());
+  }
+
+  /** Reading something that is not a recording fails. */
+  @Test
+  public void invalidFormat() {
+    assertThrows(
+        IOException.class, () -> InputRecording.read(new ByteArrayInputStream(new byte[8])));
+  }
+
+  /** The recorded keys and actions are applied in the recorded ticks. */
+  @Test
+  public void replay() {
+    PreRunConfiguration.tickRate(30);
+    InputRecording recording = new InputRecording(7, 60, "");
+    recording.add(new InputRecording.KeyEvent(2, Input.Keys.W, true));
+    recording.add(new InputRecording.ActionEvent(3, "test", "action"));
+    recording.add(new InputRecording.KeyEvent(5, Input.Keys.W, false));
+    recording.tickCount(10);
+
+    AtomicLong pressedTicks = new AtomicLong();
+    List<Long> actionTicks = new ArrayList<>();
+    Replay.onAction("test", payload -> actionTicks.add(HeadlessGameLoop.tickCount()));
+    Game.userOnSetup(
+        () -> {
+          Entity player = new Entity();
+          PlayerComponent pc = new PlayerComponent();
+          pc.registerCallback(Input.Keys.W, entity -> pressedTicks.incrementAndGet(), true);
+          player.add(pc);
+          Game.add(player);
+        });
+
+    assertEquals(10, Replay.play(recording));
+    assertEquals(3, pressedTicks.get());
+    assertEquals(List.of(3L), actionTicks);
+    assertEquals(7, RandomService.rootSeed());
+    assertEquals(30, PreRunConfiguration.tickRate());
+    assertFalse(Replay.isReplaying());
+  }
+
+  /** Submitted actions are executed and recorded on the game thread in the next tick. */
+  @Test
+  public void submitAction() throws Exception {
+    List<String> executed = new ArrayList<>();
+    Replay.onAction("test", executed::add);
+    Replay.startRecording("");
+    Replay.onTick();
+
+    CompletableFuture<Void> done =
+        CompletableFuture.supplyAsync(() -> Replay.submitAction("test", "action")).get();
+    assertFalse(done.isDone());
+    assertEquals(List.of(), executed);
+
+    Replay.onTick();
+    assertTrue(done.isDone());
+    assertEquals(List.of("action"), executed);
+    assertEquals(
+        List.of(new InputRecording.ActionEvent(1, "test", "action")),
+        Replay.stopRecording().events());
+  }
+
+  /** A recording starts with reseeded streams, even if random numbers were drawn before. */
+  @Test
+  public void startRecordingReseeds() {
+    RandomService.rootSeed(11);
+    int first = RandomService.stream("replay-test").nextInt();
+    RandomService.stream("replay-test").nextInt();
+
+    Replay.startRecording("");
+    int recorded = RandomService.stream("replay-test").nextInt();
+    Replay.stopRecording();
+
+    assertEquals(11, RandomService.rootSeed());
+    assertEquals(first, recorded);
+  }
+
+  /** A cancelled action is neither executed nor recorded. */
+  @Test
+  public void cancelledAction() {
+    List<String> executed = new ArrayList<>();
+    Replay.onAction("test", executed::add);
+    Replay.startRecording("");
+
+    CompletableFuture<Void> done = Replay.submitAction("test", "action");
+    done.cancel(false);
+    Replay.onTick();
+
+    assertEquals(List.of(), executed);
+    assertEquals(List.of(), Replay.stopRecording().events());
+  }
+}
@@ -0,0 +1,115 @@
+package core.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.badlogic.gdx.Audio;
+import com.badlogic.gdx.Files;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.audio.Sound;
+import core.utils.components.path.IPath;
+import core.utils.components.path.SimpleIPath;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link SoundService} class. */
+public class SoundServiceTest {
+
+  private static final IPath SOUND_A = new SimpleIPath("sounds/a.wav");
+  private static final IPath SOUND_B = new SimpleIPath("sounds/b.wav");
+
+  private Audio audio;
+
+  /** Mock the audio backend, so every decoded file is a new mocked sound. */
+  @BeforeEach
+  public void setup() {
+    audio = mock(Audio.class);
+    when(audio.newSound(null))
+        .thenAnswer(
+            invocation -> {
+              Sound sound = mock(Sound.class);
+              when(sound.play(anyFloat(), anyFloat(), anyFloat())).thenReturn(1L);
+              return sound;
+            });
+    Gdx.audio = audio;
+    Gdx.files = mock(Files.class);
+  }
+
+  /** Reset the service and the backend. */
+  @AfterEach
+  public void cleanup() {
+    SoundService.dispose();
+    SoundService.maxVoices(SoundService.DEFAULT_MAX_VOICES);
+    Gdx.audio = null;
+    Gdx.files = null;
+  }
+
+  /** A sound file is only decoded once. */
+  @Test
+  public void soundIsCached() {
+    Sound first = SoundService.sound(SOUND_A);
+    Sound second = SoundService.sound(SOUND_A);
+    assertSame(first, second);
+    assertNotSame(first, SoundService.sound(SOUND_B));
+    verify(audio, times(2)).newSound(null);
+  }
+
+  /** If all voices are used, the voice with the lowest priority is stopped. */
+  @Test
+  public void lowPriorityVoiceIsStolen() {
+    SoundService.maxVoices(1);
+    SoundService.play(SOUND_A, 1f, 1f, SoundService.PRIORITY_LOW);
+    long id = SoundService.play(SOUND_B, 1f, 1f, SoundService.PRIORITY_HIGH);
+    assertEquals(1L, id);
+    verify(SoundService.sound(SOUND_A)).stop(anyLong());
+  }
+
+  /** A voice is not stolen, if the new sound can not be played. */
+  @Test
+  public void voiceIsNotStolenForFailedPlay() {
+    SoundService.maxVoices(1);
+    SoundService.play(SOUND_A, 1f, 1f, SoundService.PRIORITY_LOW);
+    Sound failing = SoundService.sound(SOUND_B);
+    when(failing.play(anyFloat(), anyFloat(), anyFloat())).thenReturn(-1L);
+    long id = SoundService.play(SOUND_B, 1f, 1f, SoundService.PRIORITY_HIGH);
+    assertEquals(-1L, id);
+    verify(SoundService.sound(SOUND_A), never()).stop(anyLong());
+  }
+
+  /** A sound is dropped if all voices are used by sounds with a higher priority. */
+  @Test
+  public void lowPrioritySoundIsDropped() {
+    SoundService.maxVoices(1);
+    SoundService.play(SOUND_A, 1f, 1f, SoundService.PRIORITY_HIGH);
+    long id = SoundService.play(SOUND_B, 1f, 1f, SoundService.PRIORITY_LOW);
+    assertEquals(-1L, id);
+    verify(SoundService.sound(SOUND_A), never()).stop(anyLong());
+  }
+
+  /** Sounds that were not played since the last level load are disposed. */
+  @Test
+  public void unusedSoundsAreDisposedOnLevelLoad() {
+    Sound sound = SoundService.sound(SOUND_A);
+    SoundService.onLevelLoad();
+    verify(sound, never()).dispose();
+    SoundService.onLevelLoad();
+    verify(sound).dispose();
+    assertNotSame(sound, SoundService.sound(SOUND_A));
+  }
+
+  /** Without an audio backend nothing is played. */
+  @Test
+  public void noAudioBackend() {
+    Gdx.audio = null;
+    assertEquals(-1L, SoundService.play(SOUND_A, 1f));
+  }
+}
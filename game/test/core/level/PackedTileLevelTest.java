@@ -0,0 +1,102 @@
+package core.level;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import core.level.elements.tile.DoorTile;
+import core.level.elements.tile.FloorTile;
+import core.level.utils.Coordinate;
+import core.level.utils.DesignLabel;
+import core.level.utils.LevelElement;
+import core.utils.components.path.SimpleIPath;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link PackedTileLevel} class. */
+public class PackedTileLevelTest {
+
+  private static LevelElement[][] layout() {
+    LevelElement w = LevelElement.WALL;
+    LevelElement f = LevelElement.FLOOR;
+    return new LevelElement[][] {
+      {w, w, w, w, w},
+      {w, f, f, f, w},
+      {w, f, f, LevelElement.EXIT, LevelElement.DOOR},
+      {w, w, w, w, w},
+    };
+  }
+
+  /** The tiles have the same state after packing and unpacking. */
+  @Test
+  public void packAndUnpack() {
+    PackedTileLevel level = new PackedTileLevel(layout(), DesignLabel.DEFAULT);
+    Tile floor = level.tileAt(new Coordinate(1, 1));
+    floor.tintColor(0x00FF00FF);
+    level.tileAt(new Coordinate(2, 1)).visible(false);
+    level.tileAt(new Coordinate(0, 0)).texturePath(new SimpleIPath("custom.png"));
+    String[][] textures = textures(level);
+    Coordinate start = level.startTile().coordinate();
+    DoorTile door = level.doorTiles().get(0);
+    int nodeCount = level.getNodeCount();
+
+    level.pack();
+    assertTrue(level.isPacked());
+    assertEquals(LevelElement.DOOR, level.elementAt(new Coordinate(4, 2)));
+    assertEquals(5, level.size().a());
+    assertTrue(level.isPacked());
+
+    Tile unpacked = level.tileAt(new Coordinate(1, 1));
+    assertFalse(level.isPacked());
+    assertNotSame(floor, unpacked);
+    assertEquals(0x00FF00FF, unpacked.tintColor());
+    // an untinted tile in a level with tinted tiles has no tint
+    assertEquals(-1, level.tileAt(new Coordinate(2, 1)).tintColor());
+    assertSame(level, unpacked.level());
+    assertFalse(level.tileAt(new Coordinate(2, 1)).visible());
+    assertEquals(start, level.startTile().coordinate());
+    assertSame(door, level.doorTiles().get(0));
+    assertEquals(nodeCount, level.getNodeCount());
+    assertEquals(5, level.floorTiles().size());
+    for (int y = 0; y < textures.length; y++) {
+      for (int x = 0; x < textures[y].length; x++) {
+        assertEquals(textures[y][x], level.layout()[y][x].texturePath().pathString());
+      }
+    }
+  }
+
+  /** Adding a tile to a packed level unpacks the level first. */
+  @Test
+  public void addTileToPackedLevel() {
+    PackedTileLevel level = new PackedTileLevel(layout(), DesignLabel.DEFAULT);
+    level.pack();
+    FloorTile floor =
+        new FloorTile(new SimpleIPath("floor.png"), new Coordinate(1, 1), DesignLabel.DEFAULT);
+    level.addFloorTile(floor);
+    assertFalse(level.isPacked());
+    assertTrue(level.floorTiles().contains(floor));
+    assertEquals(6, level.floorTiles().size());
+  }
+
+  /** Pathfinding works after the level was unpacked. */
+  @Test
+  public void pathfinding() {
+    PackedTileLevel level = new PackedTileLevel(layout(), DesignLabel.DEFAULT);
+    level.pack();
+    Tile from = level.tileAt(new Coordinate(1, 1));
+    Tile to = level.tileAt(new Coordinate(3, 2));
+    assertEquals(4, level.findPath(from, to).getCount());
+  }
+
+  private static String[][] textures(final PackedTileLevel level) {
+    Tile[][] layout = level.layout();
+    String[][] textures = new String[layout.length][layout[0].length];
+    for (int y = 0; y < layout.length; y++) {
+      for (int x = 0; x < layout[0].length; x++) {
+        textures[y][x] = layout[y][x].texturePath().pathString();
+      }
+    }
+    return textures;
+  }
+}
@@ -170,7 +170,7 @@ public class TileLevelAPITest {
     when(level.layout()).thenReturn(layout);
 
     api.loadLevel(level);
-    api.execute();
+    api.render();
 
     verify(level).layout();
     verifyNoMoreInteractions(level);
@@ -245,6 +245,18 @@ public class TileLevelAPITest {
     verify(onLevelLoader, times(2)).execute();
   }
 
+  /** The next level is generated in the background and used by the next level load. */
+  @Test
+  public void test_execute_prefetchNextLevel() {
+    ILevel next = Mockito.mock(TileLevel.class);
+    when(generator.level(any(), any())).thenReturn(level, next);
+    api.loadLevel();
+    api.execute();
+    api.loadLevel();
+    assertEquals(next, LevelSystem.level());
+    verify(generator, times(2)).level(any(), eq(LevelSystem.levelSize()));
+  }
+
   /** WTF? . */
   @Test
   public void test_setLevel() {
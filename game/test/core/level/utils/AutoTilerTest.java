@@ -0,0 +1,85 @@
+package core.level.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+/** Tests for the {@link AutoTiler} class. */
+public class AutoTilerTest {
+
+  private static final LevelElement[] ELEMENTS = LevelElement.values();
+
+  /** The looked up textures are the same as the textures of the rules, for each tile. */
+  @Test
+  public void sameAsRules() {
+    SplittableRandom random = new SplittableRandom(42);
+    for (int i = 0; i < 50; i++) {
+      LevelElement[][] layout = randomLayout(random, 12, 9);
+      AutoTiler tiler = new AutoTiler(layout);
+      for (DesignLabel design : DesignLabel.values()) {
+        for (int y = 0; y < layout.length; y++) {
+          for (int x = 0; x < layout[0].length; x++) {
+            String actual = tiler.texturePath(x, y, design).pathString();
+            assertEquals(expected(layout, x, y, design), actual);
+          }
+        }
+      }
+    }
+  }
+
+  /** After a tile changes, the textures are the same as for a new layout. */
+  @Test
+  public void set() {
+    SplittableRandom random = new SplittableRandom(7);
+    LevelElement[][] layout = randomLayout(random, 10, 10);
+    AutoTiler tiler = new AutoTiler(layout);
+    for (int i = 0; i < 200; i++) {
+      int x = random.nextInt(10);
+      int y = random.nextInt(10);
+      layout[y][x] = ELEMENTS[random.nextInt(ELEMENTS.length)];
+      tiler.set(x, y, layout[y][x]);
+      for (int ny = Math.max(y - 1, 0); ny <= Math.min(y + 1, 9); ny++) {
+        for (int nx = Math.max(x - 1, 0); nx <= Math.min(x + 1, 9); nx++) {
+          assertEquals(
+              expected(layout, nx, ny, DesignLabel.DEFAULT),
+              tiler.texturePath(nx, ny, DesignLabel.DEFAULT).pathString());
+        }
+      }
+    }
+  }
+
+  /** Tiles with the same texture share the same path. */
+  @Test
+  public void sharedPaths() {
+    LevelElement[][] layout = new LevelElement[2][2];
+    for (LevelElement[] row : layout) Arrays.fill(row, LevelElement.FLOOR);
+    AutoTiler tiler = new AutoTiler(layout);
+    assertSame(
+        tiler.texturePath(0, 0, DesignLabel.FIRE), tiler.texturePath(1, 1, DesignLabel.FIRE));
+  }
+
+  private static String expected(LevelElement[][] layout, int x, int y, DesignLabel design) {
+    String texture =
+        TileTextureFactory.ruleTexture(
+            new TileTextureFactory.LevelPart(layout[y][x], design, layout, new Coordinate(x, y)));
+    return "dungeon/" + design.name().toLowerCase() + "/" + texture + ".png";
+  }
+
+  private static LevelElement[][] randomLayout(SplittableRandom random, int width, int height) {
+    LevelElement[][] layout = new LevelElement[height][width];
+    for (int y = 0; y < height; y++) {
+      for (int x = 0; x < width; x++) {
+        // mostly walls and floors, so the wall and corner rules are used often
+        int roll = random.nextInt(10);
+        layout[y][x] =
+            roll < 4
+                ? LevelElement.WALL
+                : roll < 7 ? LevelElement.FLOOR : ELEMENTS[random.nextInt(ELEMENTS.length)];
+      }
+    }
+    return layout;
+  }
+}
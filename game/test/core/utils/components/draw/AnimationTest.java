@@ -109,4 +109,29 @@ public class AnimationTest {
     assertEquals(testStrings.get(1), ta.nextAnimationTexturePath());
     assertEquals(testStrings.get(1), ta.nextAnimationTexturePath());
   }
+
+  /** Animations with the same frames share one clip, but keep their own playback position. */
+  @Test
+  public void sharedClip_independentPlayback() {
+    Animation first =
+        Animation.fromCollection(
+            Stream.of("x", "y").map(SimpleIPath::new).collect(Collectors.toList()), 1, 1);
+    Animation second =
+        Animation.fromCollection(
+            Stream.of("x", "y").map(SimpleIPath::new).collect(Collectors.toList()), 1, 1);
+    assertSame(first.clip(), second.clip());
+
+    assertEquals("x", first.nextAnimationTexturePath().pathString());
+    assertEquals("y", first.nextAnimationTexturePath().pathString());
+    assertEquals("x", second.nextAnimationTexturePath().pathString());
+  }
+
+  /** The frames of an animation can not be modified from the outside. */
+  @Test
+  public void animationFrames_unmodifiable() {
+    Animation animation = Animation.fromSingleImage(new SimpleIPath("a"));
+    assertThrows(
+        UnsupportedOperationException.class,
+        () -> animation.animationFrames().add(new SimpleIPath("b")));
+  }
 }